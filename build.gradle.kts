@@ -23,6 +23,7 @@ plugins {
     id("com.rameshkp.openapi-merger-gradle-plugin") version "1.0.4"
     id("org.eclipse.dataspaceconnector.module-names")
     id("com.autonomousapps.dependency-analysis") version "1.13.1" apply (false)
+    id("me.champeau.jmh") version "0.6.8" apply (false)
     id("org.gradle.crypto.checksum") version "1.4.0"
     id("io.github.gradle-nexus.publish-plugin") version "1.1.0"
     id("org.hidetake.swagger.generator") version "2.19.2"
@@ -12,6 +12,8 @@
  *
  */
 
+val micrometerVersion: String by project
+
 plugins {
     `java-library`
     `java-test-fixtures`
@@ -20,6 +22,7 @@ plugins {
 
 dependencies {
     api(project(":spi:common:core-spi"))
+    api("io.micrometer:micrometer-core:${micrometerVersion}")
 }
 
 publishing {
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.statemachine;
+
+import org.eclipse.dataspaceconnector.spi.entity.StatefulEntity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collects the updates made on the entities fetched by a state processor during one tick and stores them with a
+ * single store call once the tick is over, instead of one call per entity.
+ * <p>
+ * Updates on entities that are not part of a running tick (e.g. the ones made by asynchronous callbacks or commands)
+ * are stored right away. An action can be attached to every update, it is run once the entity has been stored, this
+ * is where the listeners that must observe the persisted state (e.g. completed, failed) are notified.
+ * <p>
+ * If the single store call fails, every entity of the tick is stored on its own, so that an entity that cannot be
+ * stored (e.g. its lease is now held by someone else) does not prevent the others from being stored. The actions of
+ * the stored entities are run, then the first failure is thrown.
+ *
+ * @param <T> the entity type
+ */
+public class BatchedEntityUpdates<T extends StatefulEntity<T>> {
+
+    private final Consumer<T> update;
+    private final Consumer<List<T>> updateAll;
+    private final Map<String, Batch> openBatches = new ConcurrentHashMap<>();
+
+    /**
+     * Create the batched updates.
+     *
+     * @param update stores a single entity, used when a tick updates only one entity and outside of ticks.
+     * @param updateAll stores all the entities updated in a tick with a single call.
+     */
+    public BatchedEntityUpdates(Consumer<T> update, Consumer<List<T>> updateAll) {
+        this.update = update;
+        this.updateAll = updateAll;
+    }
+
+    /**
+     * Create a {@link StateProcessor} that processes the supplied entities, partitioned by id, and flushes all their
+     * updates at the end of every tick.
+     */
+    public StateProcessor processor(Supplier<Collection<T>> entities, Function<T, Boolean> process) {
+        return new StateProcessor() {
+            @Override
+            public Long process() {
+                var batch = new Batch();
+                try {
+                    return new StateProcessorImpl<>(() -> batch.open(entities.get()), process).process();
+                } finally {
+                    batch.flush();
+                }
+            }
+
+            @Override
+            public Long process(EntityPartitions partitions) {
+                var batch = new Batch();
+                try {
+                    return new StateProcessorImpl<>(() -> batch.open(entities.get()), process, StatefulEntity::getId).process(partitions);
+                } finally {
+                    batch.flush();
+                }
+            }
+        };
+    }
+
+    /**
+     * Update an entity.
+     */
+    public void update(T entity) {
+        update(entity, () -> { });
+    }
+
+    /**
+     * Update an entity, then run the passed action once it has been stored.
+     */
+    public void update(T entity, Runnable afterUpdate) {
+        var batch = openBatches.get(entity.getId());
+        if (batch == null || !batch.add(entity, afterUpdate)) {
+            update.accept(entity);
+            afterUpdate.run();
+        }
+    }
+
+    private class Batch {
+        private final Map<String, T> entities = new LinkedHashMap<>();
+        private final Map<String, List<Runnable>> afterUpdates = new LinkedHashMap<>();
+        private final List<String> ids = new ArrayList<>();
+        private boolean flushed = false;
+
+        Collection<T> open(Collection<T> fetched) {
+            fetched.forEach(entity -> {
+                ids.add(entity.getId());
+                openBatches.put(entity.getId(), this);
+            });
+            return fetched;
+        }
+
+        /**
+         * Add the entity to the batch, the last update on the same entity wins.
+         *
+         * @return false if the batch has already been flushed.
+         */
+        synchronized boolean add(T entity, Runnable afterUpdate) {
+            if (flushed) {
+                return false;
+            }
+            entities.put(entity.getId(), entity);
+            afterUpdates.computeIfAbsent(entity.getId(), id -> new ArrayList<>()).add(afterUpdate);
+            return true;
+        }
+
+        void flush() {
+            List<T> toStore;
+            synchronized (this) {
+                ids.forEach(id -> openBatches.remove(id, this));
+                flushed = true;
+                toStore = new ArrayList<>(entities.values());
+            }
+
+            if (toStore.size() > 1) {
+                try {
+                    updateAll.accept(toStore);
+                    runAfterUpdates(toStore);
+                    return;
+                } catch (RuntimeException e) {
+                    // fall back on storing the entities one by one
+                }
+            }
+
+            var stored = new ArrayList<T>();
+            RuntimeException failure = null;
+            for (var entity : toStore) {
+                try {
+                    update.accept(entity);
+                    stored.add(entity);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            runAfterUpdates(stored);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private void runAfterUpdates(List<T> stored) {
+            stored.forEach(entity -> afterUpdates.get(entity.getId()).forEach(Runnable::run));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.statemachine;
+
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Set of single-threaded lanes on which entity processing is dispatched.
+ * The lane is chosen by hashing the entity key, so the same entity is always processed on the same thread and can
+ * never get two concurrent transitions, while different entities are processed in parallel.
+ */
+public class EntityPartitions {
+
+    private final List<ExecutorService> lanes;
+
+    public EntityPartitions(String name, int partitions, ExecutorInstrumentation instrumentation) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("Partitions must be at least 1");
+        }
+        lanes = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            var laneName = name + "-partition-" + i;
+            lanes.add(instrumentation.instrument(Executors.newSingleThreadExecutor(r -> {
+                var thread = Executors.defaultThreadFactory().newThread(r);
+                thread.setName("StateMachineManager-" + laneName);
+                return thread;
+            }), laneName));
+        }
+    }
+
+    /**
+     * Run the task on the lane the key belongs to.
+     *
+     * @param key  the entity key, usually its id.
+     * @param task the processing of the entity.
+     * @return a future that completes with the task result.
+     */
+    public CompletableFuture<Boolean> submit(String key, Supplier<Boolean> task) {
+        return CompletableFuture.supplyAsync(task, lanes.get(Math.floorMod(key.hashCode(), lanes.size())));
+    }
+
+    /**
+     * Number of lanes.
+     */
+    public int size() {
+        return lanes.size();
+    }
+
+    /**
+     * Shutdown all the lanes, already submitted tasks will be completed.
+     */
+    public void shutdown() {
+        lanes.forEach(ExecutorService::shutdown);
+    }
+}
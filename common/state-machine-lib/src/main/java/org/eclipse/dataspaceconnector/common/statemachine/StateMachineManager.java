@@ -14,76 +14,143 @@
 
 package org.eclipse.dataspaceconnector.common.statemachine;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * In parallel mode every processor runs in its own loop on a dedicated executor, so a slow processor does not stall
+ * the others. The executors are instrumented with the name of the processor, permitting to collect per-processor
+ * metrics. Optionally, the entities can be dispatched on {@link EntityPartitions} by their key, so that the same
+ * entity never gets two concurrent transitions. Every loop gets its own {@link WaitStrategy} from the supplier passed
+ * to the builder, as wait strategies keep the backoff state of the loop.
+ * <p>
+ * For every processor, the iteration time, the number of entities processed per iteration and the ratio of iterations
+ * in which no entity was processed are published to the {@link MeterRegistry}.
+ * <p>
+ * The wait applied when no entities are processed can be interrupted by calling {@link #wakeUp()}, e.g. when a store
+ * signals that an entity became eligible for processing, so the polling acts only as a safety net.
+ * <p>
+ * Stopping the manager shuts its executors down for good, a stopped manager cannot be started again: a new one has to
+ * be built instead.
  */
 public class StateMachineManager {
 
-    private final List<StateProcessor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final Map<String, StateProcessor> processors = new LinkedHashMap<>();
+    private final List<ProcessorLoop> loops = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
-    private final WaitStrategy waitStrategy;
+    private final AtomicBoolean stopped = new AtomicBoolean();
+    private final Supplier<WaitStrategy> waitStrategy;
     private final Monitor monitor;
+    private final ExecutorInstrumentation instrumentation;
     private final String name;
     private int shutdownTimeout = 10;
+    private boolean parallel = false;
+    private int partitions = 0;
+    private EntityPartitions entityPartitions;
+    private MeterRegistry meterRegistry = new CompositeMeterRegistry(); // registry without any backend, i.e. noop
 
-    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+    private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategy) {
         this.name = name;
         this.monitor = monitor;
+        this.instrumentation = instrumentation;
         this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
     }
 
     /**
      * Start the loop that will run processors until it's stopped
      *
      * @return a future that will complete when the loop starts
+     * @throws IllegalStateException if the manager has been stopped.
      */
     public Future<?> start() {
+        if (stopped.get()) {
+            throw new IllegalStateException(format("StateMachineManager [%s] has been stopped and cannot be started again", name));
+        }
         active.set(true);
-        return submit(0L);
+        if (loops.size() == 1) {
+            return loops.get(0).submit(0L);
+        }
+
+        var futures = loops.stream().map(loop -> loop.submit(0L)).collect(toList());
+        return CompletableFuture.runAsync(() -> futures.forEach(future -> {
+            try {
+                future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                monitor.severe(format("StateMachineManager [%s] start failed", name), e);
+            }
+        }));
     }
 
     /**
-     * Stop the loop gracefully
+     * Stop the loop gracefully. The executors are shut down, so the manager cannot be started again.
      *
      * @return a future that will complete when the loop is fully stopped. The content of the future will be true if stop happened before the timeout, false elsewhere.
      */
     public CompletableFuture<Boolean> stop() {
+        stopped.set(true);
         active.set(false);
+        loops.forEach(ProcessorLoop::shutdown);
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return executor.awaitTermination(shutdownTimeout, SECONDS);
-            } catch (InterruptedException e) {
-                monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
-                return false;
-            }
-        });
+        var terminations = loops.stream()
+                .map(loop -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return loop.executor.awaitTermination(shutdownTimeout, SECONDS);
+                    } catch (InterruptedException e) {
+                        monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
+                        return false;
+                    }
+                }))
+                .collect(toList());
+
+        // the loops could still be dispatching entities on the partitions until they terminate
+        return CompletableFuture.allOf(terminations.toArray(CompletableFuture[]::new))
+                .thenApply(v -> {
+                    if (entityPartitions != null) {
+                        entityPartitions.shutdown();
+                    }
+                    return terminations.stream().allMatch(CompletableFuture::join);
+                });
+    }
+
+    /**
+     * Wake up the loop if it's waiting, permitting entities that became eligible for processing to be processed
+     * immediately. If an iteration is running, another one will be executed without waiting right after it.
+     */
+    public void wakeUp() {
+        if (active.get()) {
+            loops.forEach(ProcessorLoop::wakeUp);
+        }
     }
 
     /**
@@ -95,57 +162,203 @@ public class StateMachineManager {
         return active.get();
     }
 
-    @NotNull
-    private Future<?> submit(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+    private void initialize() {
+        if (partitions > 0) {
+            entityPartitions = new EntityPartitions(name, partitions, instrumentation);
+        }
+
+        if (parallel) {
+            processors.forEach((processorName, processor) -> {
+                var loopName = name + "-" + processorName;
+                loops.add(new ProcessorLoop(loopName, List.of(new MeteredProcessor(processorName, processor))));
+            });
+        } else {
+            var meteredProcessors = new ArrayList<MeteredProcessor>();
+            processors.forEach((processorName, processor) -> meteredProcessors.add(new MeteredProcessor(processorName, processor)));
+            loops.add(new ProcessorLoop(name, meteredProcessors));
+        }
+    }
+
+    private ScheduledExecutorService createExecutor(String executorName) {
+        return instrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("StateMachineManager-" + executorName);
+                    return thread;
+                }), executorName);
     }
 
-    private Runnable loop() {
-        return () -> {
-            if (active.get()) {
-                long delay = performLogic();
+    /**
+     * Loop that runs a set of processors sequentially on its own executor.
+     */
+    private class ProcessorLoop {
+        private final String loopName;
+        private final List<MeteredProcessor> loopProcessors;
+        private final ScheduledExecutorService executor;
+        private final WaitStrategy loopWaitStrategy;
+        private ScheduledFuture<?> next;
+        private boolean wakeUpRequested = false;
+
+        ProcessorLoop(String loopName, List<MeteredProcessor> loopProcessors) {
+            this.loopName = loopName;
+            this.loopProcessors = loopProcessors;
+            this.executor = createExecutor(loopName);
+            this.loopWaitStrategy = waitStrategy.get();
+        }
+
+        @NotNull
+        private synchronized Future<?> submit(long delayMillis) {
+            if (executor.isShutdown()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            var delay = wakeUpRequested ? 0L : delayMillis;
+            wakeUpRequested = false;
+            next = executor.schedule(loop(), delay, MILLISECONDS);
+            return next;
+        }
 
-                // Submit next execution after delay
-                submit(delay);
+        /**
+         * Cancel the pending iteration and shutdown the executor, a running iteration completes without submitting
+         * a new one.
+         */
+        private synchronized void shutdown() {
+            if (next != null) {
+                next.cancel(false);
             }
-        };
+            executor.shutdown();
+        }
+
+        private synchronized void wakeUp() {
+            if (next == null || executor.isShutdown()) {
+                return;
+            }
+            if (next.getDelay(MILLISECONDS) > 0 && next.cancel(false)) {
+                next = executor.schedule(loop(), 0L, MILLISECONDS);
+            } else {
+                wakeUpRequested = true;
+            }
+        }
+
+        private Runnable loop() {
+            return () -> {
+                if (active.get()) {
+                    long delay = performLogic();
+
+                    // Submit next execution after delay
+                    submit(delay);
+                }
+            };
+        }
+
+        private long performLogic() {
+            try {
+                var processed = loopProcessors.stream()
+                        .mapToLong(MeteredProcessor::process)
+                        .sum();
+
+                loopWaitStrategy.success();
+
+                if (processed == 0) {
+                    return loopWaitStrategy.waitForMillis();
+                }
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", loopName), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", loopName), e);
+                return loopWaitStrategy.retryInMillis();
+            }
+            return 0;
+        }
     }
 
-    private long performLogic() {
-        try {
-            var processed = processors.stream()
-                    .mapToLong(StateProcessor::process)
-                    .sum();
+    /**
+     * Runs a processor recording its iteration time, the number of processed entities and whether the iteration was
+     * idle, i.e. no entity was processed.
+     */
+    private class MeteredProcessor {
+        private final StateProcessor processor;
+        private final Timer iterationTimer;
+        private final DistributionSummary entitiesSummary;
+        private final Counter idleCounter;
+        private final Counter busyCounter;
 
-            waitStrategy.success();
+        MeteredProcessor(String processorName, StateProcessor processor) {
+            this.processor = processor;
+            var tags = Tags.of("manager", name, "processor", processorName);
+            iterationTimer = Timer.builder("edc.statemachine.iteration")
+                    .description("Time spent by a processor on one iteration")
+                    .tags(tags)
+                    .register(meterRegistry);
+            entitiesSummary = DistributionSummary.builder("edc.statemachine.entities")
+                    .description("Entities processed by a processor on one iteration")
+                    .tags(tags)
+                    .register(meterRegistry);
+            idleCounter = Counter.builder("edc.statemachine.iterations")
+                    .tags(tags.and("idle", "true"))
+                    .register(meterRegistry);
+            busyCounter = Counter.builder("edc.statemachine.iterations")
+                    .tags(tags.and("idle", "false"))
+                    .register(meterRegistry);
+            Gauge.builder("edc.statemachine.idle.ratio", this, MeteredProcessor::idleRatio)
+                    .description("Ratio of the iterations in which a processor did not process any entity")
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
 
-            if (processed == 0) {
-                return waitStrategy.waitForMillis();
+        long process() {
+            var sample = Timer.start(meterRegistry);
+            long processed = 0;
+            try {
+                processed = entityPartitions == null ? processor.process() : processor.process(entityPartitions);
+                return processed;
+            } finally {
+                sample.stop(iterationTimer);
+                entitiesSummary.record(processed);
+                (processed == 0 ? idleCounter : busyCounter).increment();
             }
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            return waitStrategy.retryInMillis();
-        }
-        return 0;
+        }
+
+        private double idleRatio() {
+            var idle = idleCounter.count();
+            var total = idle + busyCounter.count();
+            return total == 0 ? 0 : idle / total;
+        }
     }
 
     public static class Builder {
 
         private final StateMachineManager loop;
 
-        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+        private Builder(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategy) {
             loop = new StateMachineManager(name, monitor, instrumentation, waitStrategy);
         }
 
-        public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
+        /**
+         * Create a builder in which every loop gets its own wait strategy from the supplier. A supplier returning the
+         * same instance makes the loops share it, in parallel mode the wait strategy must then be thread-safe.
+         */
+        public static Builder newInstance(String name, Monitor monitor, ExecutorInstrumentation instrumentation, Supplier<WaitStrategy> waitStrategy) {
             return new Builder(name, monitor, instrumentation, waitStrategy);
         }
 
         public Builder processor(StateProcessor processor) {
-            loop.processors.add(processor);
+            return processor(String.valueOf(loop.processors.size()), processor);
+        }
+
+        /**
+         * Add a named processor, the name is used to identify the processor executor in parallel mode.
+         */
+        public Builder processor(String name, StateProcessor processor) {
+            if (loop.processors.containsKey(name)) {
+                throw new IllegalArgumentException(format("Processor with name %s already registered", name));
+            }
+            loop.processors.put(name, processor);
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            loop.meterRegistry = meterRegistry;
             return this;
         }
 
@@ -154,7 +367,28 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Run every processor in its own loop on a dedicated executor instead of running all of them sequentially.
+         */
+        public Builder parallel(boolean parallel) {
+            loop.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * Number of partitions on which entities are dispatched by their key. 0 means that the entities are
+         * processed directly on the loop thread.
+         */
+        public Builder partitions(int partitions) {
+            if (partitions < 0) {
+                throw new IllegalArgumentException("Partitions cannot be negative");
+            }
+            loop.partitions = partitions;
+            return this;
+        }
+
         public StateMachineManager build() {
+            loop.initialize();
             return loop;
         }
     }
@@ -28,4 +28,15 @@ public interface StateProcessor {
      * @return the processed states count
      */
     Long process();
+
+    /**
+     * Process states dispatching every entity on its partition.
+     * By default, the partitions are ignored and the entities are processed on the caller thread.
+     *
+     * @param partitions the partitions on which the entities can be processed.
+     * @return the processed states count
+     */
+    default Long process(EntityPartitions partitions) {
+        return process();
+    }
 }
@@ -15,10 +15,14 @@
 package org.eclipse.dataspaceconnector.common.statemachine;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static java.util.stream.Collectors.toList;
+
 /**
  * Permits processing states on the entities that are supplied by a specific supplier,
  * that could be a query on an entity store.
@@ -27,6 +31,7 @@ import java.util.function.Supplier;
  * the scope of the function.
  * The run method returns the processed state count, this is used by the state machine to decide
  * to apply the wait strategy or not.
+ * If a partition key function is provided, the entities can be processed in parallel on {@link EntityPartitions}.
  *
  * @param <T> the entity that is processed
  */
@@ -34,11 +39,17 @@ public class StateProcessorImpl<T> implements StateProcessor {
 
     private final Supplier<Collection<T>> entities;
     private final Function<T, Boolean> process;
+    private final Function<T, String> partitionKey;
     private final Predicate<Boolean> isProcessed = it -> it;
 
     public StateProcessorImpl(Supplier<Collection<T>> entitiesSupplier, Function<T, Boolean> process) {
+        this(entitiesSupplier, process, null);
+    }
+
+    public StateProcessorImpl(Supplier<Collection<T>> entitiesSupplier, Function<T, Boolean> process, Function<T, String> partitionKey) {
         this.entities = entitiesSupplier;
         this.process = process;
+        this.partitionKey = partitionKey;
     }
 
     @Override
@@ -48,4 +59,31 @@ public class StateProcessorImpl<T> implements StateProcessor {
                 .filter(isProcessed)
                 .count();
     }
+
+    @Override
+    public Long process(EntityPartitions partitions) {
+        if (partitionKey == null) {
+            return process();
+        }
+
+        var futures = entities.get().stream()
+                .map(entity -> partitions.submit(partitionKey.apply(entity), () -> process.apply(entity)))
+                .collect(toList());
+
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(isProcessed)
+                    .count();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.statemachine;
+
+import org.eclipse.dataspaceconnector.spi.entity.StatefulEntity;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BatchedEntityUpdatesTest {
+
+    private final Consumer<TestEntity> update = mock(Consumer.class);
+    private final Consumer<List<TestEntity>> updateAll = mock(Consumer.class);
+    private final BatchedEntityUpdates<TestEntity> updates = new BatchedEntityUpdates<>(update, updateAll);
+
+    @Test
+    void process_shouldStoreAllTheUpdatesOfTheTickWithOneCall() {
+        var entities = List.of(new TestEntity(), new TestEntity(), new TestEntity());
+        var events = new ArrayList<String>();
+        var processor = updates.processor(() -> entities, entity -> {
+            updates.update(entity, () -> events.add(entity.getId()));
+            return true;
+        });
+
+        var processed = processor.process();
+
+        assertThat(processed).isEqualTo(3L);
+        verify(updateAll).accept(entities);
+        verify(update, never()).accept(any());
+        assertThat(events).containsExactly(entities.get(0).getId(), entities.get(1).getId(), entities.get(2).getId());
+    }
+
+    @Test
+    void process_shouldStoreOnlyTheLastUpdateOfAnEntity() {
+        var entity = new TestEntity();
+        var processor = updates.processor(() -> List.of(entity, new TestEntity()), e -> {
+            updates.update(e);
+            updates.update(e);
+            return true;
+        });
+
+        processor.process();
+
+        verify(updateAll).accept(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    void process_shouldStoreTheEntitiesOneByOne_whenTheBatchFails() {
+        var entities = List.of(new TestEntity(), new TestEntity(), new TestEntity());
+        var failing = entities.get(1);
+        var events = new ArrayList<String>();
+        doThrow(new IllegalStateException("batch")).when(updateAll).accept(any());
+        doThrow(new IllegalStateException("leased")).when(update).accept(failing);
+        var processor = updates.processor(() -> entities, entity -> {
+            updates.update(entity, () -> events.add(entity.getId()));
+            return true;
+        });
+
+        assertThatThrownBy(processor::process).isInstanceOf(IllegalStateException.class).hasMessage("leased");
+
+        entities.forEach(entity -> verify(update).accept(entity));
+        assertThat(events).containsExactly(entities.get(0).getId(), entities.get(2).getId());
+    }
+
+    @Test
+    void process_shouldStoreSingleUpdateWithUpdate() {
+        var entity = new TestEntity();
+        var processor = updates.processor(() -> List.of(entity, new TestEntity()), e -> {
+            if (e == entity) {
+                updates.update(e);
+            }
+            return true;
+        });
+
+        processor.process();
+
+        verify(update).accept(entity);
+        verify(updateAll, never()).accept(any());
+    }
+
+    @Test
+    void process_shouldFlushOnPartitionsAfterAllTheEntitiesHaveBeenProcessed() {
+        var partitions = new EntityPartitions("test", 3, ExecutorInstrumentation.noop());
+        var entities = List.of(new TestEntity(), new TestEntity(), new TestEntity(), new TestEntity());
+        var stored = new CopyOnWriteArrayList<TestEntity>();
+        var batched = new BatchedEntityUpdates<TestEntity>(stored::add, stored::addAll);
+        var processor = batched.processor(() -> entities, entity -> {
+            batched.update(entity);
+            return true;
+        });
+
+        processor.process(partitions);
+
+        assertThat(stored).containsExactlyInAnyOrderElementsOf(entities);
+        partitions.shutdown();
+    }
+
+    @Test
+    void update_shouldStoreImmediatelyOutsideOfTicks() {
+        var entity = new TestEntity();
+        var events = new ArrayList<String>();
+
+        updates.update(entity, () -> events.add("updated"));
+
+        verify(update).accept(entity);
+        assertThat(events).containsExactly("updated");
+    }
+
+    @Test
+    void update_shouldStoreImmediatelyOnceTheTickIsOver() {
+        var entity = new TestEntity();
+        updates.processor(() -> List.of(entity), e -> true).process();
+
+        updates.update(entity);
+
+        verify(update).accept(entity);
+    }
+
+    private static class TestEntity extends StatefulEntity<TestEntity> {
+        TestEntity() {
+            id = UUID.randomUUID().toString();
+        }
+
+        @Override
+        public TestEntity copy() {
+            return this;
+        }
+    }
+}
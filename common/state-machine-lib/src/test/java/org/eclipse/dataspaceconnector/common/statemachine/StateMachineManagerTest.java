@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.common.statemachine;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
@@ -21,14 +22,28 @@ import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -53,7 +68,7 @@ class StateMachineManagerTest {
             Thread.sleep(100L);
             return 1L;
         });
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .shutdownTimeout(1)
                 .build();
@@ -75,7 +90,7 @@ class StateMachineManagerTest {
             latch.countDown();
             return 1L;
         }).when(waitStrategy).success();
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .build();
 
@@ -96,7 +111,7 @@ class StateMachineManagerTest {
             latch.countDown();
             return 0L;
         }).when(waitStrategy).waitForMillis();
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .build();
 
@@ -111,7 +126,7 @@ class StateMachineManagerTest {
     void shouldExitWithAnExceptionIfProcessorExitsWithAnUnrecoverableError() {
         var processor = mock(StateProcessor.class);
         when(processor.process()).thenThrow(new Error("unrecoverable"));
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .build();
 
@@ -128,7 +143,7 @@ class StateMachineManagerTest {
             latch.countDown();
             return 1L;
         });
-        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
                 .processor(processor)
                 .build();
 
@@ -138,4 +153,231 @@ class StateMachineManagerTest {
         assertThat(stateMachine.isActive()).isTrue();
         verify(waitStrategy).retryInMillis();
     }
-}
\ No newline at end of file
+
+    @Test
+    void wakeUp_shouldInterruptTheWait() throws InterruptedException {
+        var processor = mock(StateProcessor.class);
+        var firstIteration = new CountDownLatch(1);
+        var secondIteration = new CountDownLatch(2);
+        when(processor.process()).thenAnswer(i -> {
+            firstIteration.countDown();
+            secondIteration.countDown();
+            return 0L;
+        });
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .processor(processor)
+                .build();
+
+        stateMachine.start();
+        assertThat(firstIteration.await(1, SECONDS)).isTrue();
+
+        stateMachine.wakeUp();
+
+        assertThat(secondIteration.await(1, SECONDS)).isTrue();
+    }
+
+    @Test
+    void wakeUp_shouldRunAnotherIterationIfCalledWhileProcessing() throws InterruptedException {
+        var iterations = new CountDownLatch(2);
+        var stateMachineReference = new AtomicReference<StateMachineManager>();
+        StateProcessor processor = () -> {
+            if (iterations.getCount() == 2) {
+                stateMachineReference.get().wakeUp();
+            }
+            iterations.countDown();
+            return 0L;
+        };
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .processor(processor)
+                .build();
+        stateMachineReference.set(stateMachine);
+
+        stateMachine.start();
+
+        assertThat(iterations.await(1, SECONDS)).isTrue();
+    }
+
+    @Test
+    void parallel_shouldNotStallOtherProcessorsWhenOneIsSlow() throws InterruptedException {
+        var slowProcessorStarted = new CountDownLatch(1);
+        var fastProcessorCalled = new CountDownLatch(3);
+        StateProcessor slowProcessor = () -> {
+            slowProcessorStarted.countDown();
+            try {
+                Thread.sleep(5000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1L;
+        };
+        StateProcessor fastProcessor = () -> {
+            fastProcessorCalled.countDown();
+            return 1L;
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .parallel(true)
+                .processor("slow", slowProcessor)
+                .processor("fast", fastProcessor)
+                .build();
+
+        stateMachine.start();
+
+        assertThat(slowProcessorStarted.await(1, SECONDS)).isTrue();
+        assertThat(fastProcessorCalled.await(1, SECONDS)).isTrue();
+        stateMachine.stop();
+    }
+
+    @Test
+    void parallel_shouldInstrumentAnExecutorPerProcessor() {
+        var instrumentation = spy(ExecutorInstrumentation.noop());
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .parallel(true)
+                .processor("first", () -> 0L)
+                .processor("second", () -> 0L)
+                .build();
+
+        verify(instrumentation).instrument(any(ScheduledExecutorService.class), eq("test-first"));
+        verify(instrumentation).instrument(any(ScheduledExecutorService.class), eq("test-second"));
+        stateMachine.stop();
+    }
+
+    @Test
+    void partitions_shouldNeverProcessTheSameEntityConcurrently() throws InterruptedException {
+        var concurrentProcessing = new AtomicBoolean();
+        var inProgress = ConcurrentHashMap.<String>newKeySet();
+        var processed = new CountDownLatch(100);
+        Function<String, Boolean> process = entity -> {
+            if (!inProgress.add(entity)) {
+                concurrentProcessing.set(true);
+            }
+            try {
+                Thread.sleep(1L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inProgress.remove(entity);
+            processed.countDown();
+            return true;
+        };
+        var entities = List.of("a", "b", "c", "d");
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .parallel(true)
+                .partitions(2)
+                .processor("first", new StateProcessorImpl<>(() -> entities, process, identity()))
+                .processor("second", new StateProcessorImpl<>(() -> entities, process, identity()))
+                .build();
+
+        stateMachine.start();
+
+        assertThat(processed.await(5, SECONDS)).isTrue();
+        assertThat(concurrentProcessing).isFalse();
+        stateMachine.stop();
+    }
+
+    @Test
+    void parallel_shouldGiveEveryLoopItsOwnWaitStrategy() {
+        var created = new AtomicInteger();
+        Supplier<WaitStrategy> waitStrategySupplier = () -> {
+            created.incrementAndGet();
+            return waitStrategy;
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategySupplier)
+                .parallel(true)
+                .processor("first", () -> 0L)
+                .processor("second", () -> 0L)
+                .build();
+
+        assertThat(created).hasValue(2);
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRecordProcessorMetrics() throws InterruptedException {
+        var meterRegistry = new SimpleMeterRegistry();
+        var iterations = new CountDownLatch(4);
+        var processed = new AtomicInteger();
+        StateProcessor processor = () -> {
+            iterations.countDown();
+            return processed.getAndIncrement() % 2 == 0 ? 3L : 0L;
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .meterRegistry(meterRegistry)
+                .processor("first", processor)
+                .build();
+
+        stateMachine.start();
+        assertThat(iterations.await(1, SECONDS)).isTrue();
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS);
+
+        var iterationTimer = meterRegistry.get("edc.statemachine.iteration").tag("manager", "test").tag("processor", "first").timer();
+        var entities = meterRegistry.get("edc.statemachine.entities").tag("processor", "first").summary();
+        var idleRatio = meterRegistry.get("edc.statemachine.idle.ratio").tag("processor", "first").gauge();
+        assertThat(iterationTimer.count()).isGreaterThanOrEqualTo(4);
+        assertThat(entities.count()).isEqualTo(iterationTimer.count());
+        assertThat(entities.totalAmount()).isEqualTo(3.0 * ((entities.count() + 1) / 2));
+        assertThat(idleRatio.value()).isBetween(0.4, 0.5);
+    }
+
+    @Test
+    void stop_shouldShutdownPartitionsAfterTheLoopsTerminated() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var processor = new StateProcessor() {
+            @Override
+            public Long process() {
+                return 0L;
+            }
+
+            @Override
+            public Long process(EntityPartitions partitions) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return partitions.submit("key", () -> true).join() ? 1L : 0L;
+            }
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .partitions(1)
+                .processor(processor)
+                .build();
+        stateMachine.start();
+        assertThat(started.await(1, SECONDS)).isTrue();
+
+        var stopped = stateMachine.stop();
+        release.countDown();
+
+        assertThat(stopped).succeedsWithin(2, SECONDS).isEqualTo(true);
+        verify(monitor, never()).severe(anyString(), any(Throwable.class));
+    }
+
+    @Test
+    void start_shouldFail_whenStopped() {
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .processor(() -> 0L)
+                .build();
+        stateMachine.start();
+        stateMachine.stop().join();
+
+        assertThatThrownBy(stateMachine::start).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void partitions_shouldRejectNegativeValue() {
+        var builder = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy);
+
+        assertThatThrownBy(() -> builder.partitions(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void processor_shouldRejectDuplicatedName() {
+        var builder = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, () -> waitStrategy)
+                .processor("name", () -> 0L);
+
+        assertThatThrownBy(() -> builder.processor("name", () -> 0L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
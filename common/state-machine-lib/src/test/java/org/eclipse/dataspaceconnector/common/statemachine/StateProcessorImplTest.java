@@ -14,11 +14,16 @@
 
 package org.eclipse.dataspaceconnector.common.statemachine;
 
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static java.util.function.Function.identity;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class StateProcessorImplTest {
 
@@ -39,4 +44,47 @@ class StateProcessorImplTest {
 
         assertThat(count).isEqualTo(0);
     }
+
+    @Test
+    void shouldProcessEntitiesOnPartitions() {
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        var processor = new StateProcessorImpl<>(() -> List.of("a", "b", "c"), string -> {
+            threads.add(Thread.currentThread().getName());
+            return true;
+        }, identity());
+        var partitions = new EntityPartitions("test", 2, ExecutorInstrumentation.noop());
+
+        var count = processor.process(partitions);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("StateMachineManager-test-partition-"));
+        partitions.shutdown();
+    }
+
+    @Test
+    void shouldProcessEntitiesOnCallerThreadWhenNoPartitionKeyIsSet() {
+        var threads = ConcurrentHashMap.<String>newKeySet();
+        var processor = new StateProcessorImpl<>(() -> List.of("a", "b"), string -> {
+            threads.add(Thread.currentThread().getName());
+            return true;
+        });
+        var partitions = new EntityPartitions("test", 2, ExecutorInstrumentation.noop());
+
+        var count = processor.process(partitions);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+        partitions.shutdown();
+    }
+
+    @Test
+    void shouldRethrowExceptionThrownOnPartition() {
+        var processor = new StateProcessorImpl<>(() -> List.of("a"), string -> {
+            throw new EdcException("error");
+        }, identity());
+        var partitions = new EntityPartitions("test", 1, ExecutorInstrumentation.noop());
+
+        assertThatThrownBy(() -> processor.process(partitions)).isInstanceOf(EdcException.class);
+        partitions.shutdown();
+    }
 }
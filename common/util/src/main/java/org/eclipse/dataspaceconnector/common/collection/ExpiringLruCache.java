@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.collection;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe cache with a maximum size, in which every entry has its own expiration time.
+ * <p>
+ * Expired entries are never returned and are removed when they are looked up. Once the maximum size is reached, the
+ * least recently used entry is evicted and passed to the eviction listener, if any.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+
+    /**
+     * Constructor.
+     *
+     * @param clock   the clock the expiration times are compared to.
+     * @param maxSize the maximum number of entries.
+     */
+    public ExpiringLruCache(Clock clock, int maxSize) {
+        this(clock, maxSize, (key, value) -> { });
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock      the clock the expiration times are compared to.
+     * @param maxSize    the maximum number of entries.
+     * @param onEviction called with the least recently used entry when it is evicted because the cache is full.
+     */
+    public ExpiringLruCache(Clock clock, int maxSize, BiConsumer<K, V> onEviction) {
+        this.clock = clock;
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                onEviction.accept(eldest.getKey(), eldest.getValue().value);
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for the key, or null if there is none or it has expired.
+     */
+    @Nullable
+    public V get(K key) {
+        var entry = getEntry(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Returns the entry cached for the key, or null if there is none or it has expired.
+     */
+    @Nullable
+    public synchronized Entry<V> getEntry(K key) {
+        var entry = entries.get(key);
+        if (entry != null && !clock.instant().isBefore(entry.expiresAt)) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches a value that never expires, it is only removed when it is evicted or explicitly removed.
+     */
+    public void put(K key, V value) {
+        put(key, value, Instant.MAX);
+    }
+
+    /**
+     * Caches a value until the expiration time.
+     */
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * Removes the entry of the key, returns its value or null if there was none.
+     */
+    @Nullable
+    public synchronized V remove(K key) {
+        var entry = entries.remove(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Removes the entries whose key matches the predicate.
+     */
+    public synchronized void removeIf(Predicate<K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    /**
+     * Removes all the entries and returns their values, including the expired ones.
+     */
+    public synchronized List<V> clear() {
+        var values = new ArrayList<V>(entries.size());
+        entries.values().forEach(entry -> values.add(entry.value));
+        entries.clear();
+        return values;
+    }
+
+    /**
+     * Returns the number of entries, including the expired ones that have not been removed yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * A cached value with its expiration time.
+     */
+    public static class Entry<V> {
+        private final V value;
+        private final Instant expiresAt;
+
+        Entry(V value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExpiringLruCacheTest {
+
+    private static final Instant NOW = Instant.now();
+
+    @Test
+    void get_shouldReturnValueUntilItExpires() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(9), NOW.plusSeconds(10));
+        var cache = new ExpiringLruCache<String, String>(clock, 10);
+
+        cache.put("key", "value", NOW.plusSeconds(10));
+
+        assertThat(cache.get("key")).isEqualTo("value");
+        assertThat(cache.get("key")).isEqualTo("value");
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_shouldEvictTheLeastRecentlyUsedEntry() {
+        var evicted = new HashMap<String, String>();
+        var cache = new ExpiringLruCache<String, String>(Clock.fixed(NOW, ZoneOffset.UTC), 2, evicted::put);
+
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.get("foo");
+        cache.put("baz", "baz");
+
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("bar")).isNull();
+        assertThat(cache.get("baz")).isEqualTo("baz");
+        assertThat(evicted).containsExactly(entry("bar", "bar"));
+    }
+
+    @Test
+    void getEntry_shouldReturnTheExpirationTime() {
+        var cache = new ExpiringLruCache<String, String>(Clock.fixed(NOW, ZoneOffset.UTC), 2);
+
+        cache.put("key", "value", NOW.plusSeconds(10));
+
+        var entry = cache.getEntry("key");
+        assertThat(entry).isNotNull();
+        assertThat(entry.getValue()).isEqualTo("value");
+        assertThat(entry.getExpiresAt()).isEqualTo(NOW.plusSeconds(10));
+    }
+
+    @Test
+    void removeIf_shouldRemoveTheMatchingEntries() {
+        var cache = new ExpiringLruCache<String, String>(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+        cache.put("a1", "value");
+        cache.put("a2", "value");
+        cache.put("b1", "value");
+
+        cache.removeIf(key -> key.startsWith("a"));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("b1")).isEqualTo("value");
+    }
+
+    @Test
+    void clear_shouldRemoveAllTheEntriesAndReturnTheirValues() {
+        var cache = new ExpiringLruCache<String, String>(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+
+        var values = cache.clear();
+
+        assertThat(values).containsExactly("foo", "bar");
+        assertThat(cache.size()).isZero();
+    }
+}
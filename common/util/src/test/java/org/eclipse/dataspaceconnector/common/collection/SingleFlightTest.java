@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void load_shouldShareTheLoadInProgress() throws Exception {
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            var first = CompletableFuture.supplyAsync(() -> singleFlight.load("key", () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "value";
+            }), executor);
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            var second = CompletableFuture.supplyAsync(() -> singleFlight.load("key", () -> {
+                loads.incrementAndGet();
+                return "other";
+            }), executor);
+            // give the second load the time to join the one in progress
+            Thread.sleep(200);
+            release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo("value");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void load_shouldLoadAgainOnceTheLoadIsOver() {
+        assertThat(singleFlight.load("key", () -> "first")).isEqualTo("first");
+        assertThat(singleFlight.load("key", () -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void load_shouldRethrowTheFailureOfTheLoader() {
+        assertThatThrownBy(() -> singleFlight.load("key", () -> {
+            throw new IllegalStateException("failure");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("failure");
+
+        assertThat(singleFlight.load("key", () -> "value")).isEqualTo("value");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
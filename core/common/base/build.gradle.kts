@@ -16,6 +16,7 @@
 plugins {
     `java-library`
     `maven-publish`
+    id("me.champeau.jmh")
 }
 
 val awaitility: String by project
@@ -39,6 +40,10 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-api:${jupiterVersion}")
 }
 
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
+}
+
 publishing {
     publications {
         create<MavenPublication>("core-base") {
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.base.policy;
+
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Operator;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates the access policies of 10k contract definitions, as a catalog request does. Run with {@code ./gradlew :core:common:base:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "contract.cataloging";
+
+    @Param({ "10000" })
+    private int definitions;
+
+    private PolicyEngineImpl policyEngine;
+    private ParticipantAgent agent;
+    private List<Policy> policies;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        bindingRegistry.bind("USE", SCOPE);
+        bindingRegistry.bind("region", SCOPE);
+        bindingRegistry.bind("spatial", "contract.negotiation");
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
+        policyEngine.registerFunction(SCOPE, Permission.class, "region", (operator, value, permission, context) ->
+                value.equals(context.getParticipantAgent().getClaims().get("region")));
+        policyEngine.registerFunction("contract.negotiation", Permission.class, "spatial", (operator, value, permission, context) -> true);
+        policyEngine.registerFunction(SCOPE, Permission.class, (permission, context) -> true);
+        agent = new ParticipantAgent(Map.of("region", "eu"), Map.of());
+
+        policies = new ArrayList<>();
+        for (int i = 0; i < definitions; i++) {
+            policies.add(Policy.Builder.newInstance()
+                    .permission(Permission.Builder.newInstance()
+                            .action(Action.Builder.newInstance().type("USE").build())
+                            .constraint(constraint("region", i % 2 == 0 ? "eu" : "us"))
+                            .constraint(constraint("spatial", "world"))
+                            .build())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public int evaluate() {
+        var granted = 0;
+        for (var policy : policies) {
+            if (policyEngine.evaluate(SCOPE, policy, agent).succeeded()) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    private static AtomicConstraint constraint(String left, String right) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(left))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(right))
+                .build();
+    }
+}
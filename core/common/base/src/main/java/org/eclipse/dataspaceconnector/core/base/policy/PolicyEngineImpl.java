@@ -30,21 +30,28 @@ import org.eclipse.dataspaceconnector.spi.result.Result;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * The functions applying to a scope are compiled into an {@link EvaluationPlan} the first time the scope is evaluated,
+ * and the plans are discarded whenever a function is registered.
  */
 public class PolicyEngineImpl implements PolicyEngine {
     private static final String ALL_SCOPES_DELIMITED = ALL_SCOPES + ".";
 
     private ScopeFilter scopeFilter;
 
+    private final Map<String, EvaluationPlan> plans = new ConcurrentHashMap<>();
+
     private Map<String, List<ConstraintFunctionEntry<Rule>>> constraintFunctions = new TreeMap<>();
     private Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
 
@@ -75,31 +82,7 @@ public class PolicyEngineImpl implements PolicyEngine {
             }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-        final var delimitedScope = scope + ".";
-
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
-
-        var evaluator = evalBuilder.build();
+        var evaluator = plan(scope).evaluator(context);
 
         var filteredPolicy = scopeFilter.applyScope(policy, scope);
 
@@ -132,14 +115,16 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
-    public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
+    public synchronized <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        plans.clear();
     }
 
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
-    public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
+    public synchronized <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        plans.clear();
     }
 
     @Override
@@ -152,10 +137,74 @@ public class PolicyEngineImpl implements PolicyEngine {
         postValidators.add(validator);
     }
 
+    private EvaluationPlan plan(String scope) {
+        var plan = plans.get(scope);
+        return plan != null ? plan : compile(scope);
+    }
+
+    /**
+     * Selects the functions applying to the scope, in registration order. Synchronized with the registration of
+     * functions, so that a plan is never compiled from functions that are being modified.
+     */
+    private synchronized EvaluationPlan compile(String scope) {
+        var delimitedScope = scope + ".";
+        var plan = new EvaluationPlan();
+
+        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                plan.dutyRuleFunctions.add(entry.function);
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                plan.permissionRuleFunctions.add(entry.function);
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                plan.prohibitionRuleFunctions.add(entry.function);
+            }
+        });
+
+        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
+            if (Duty.class.isAssignableFrom(entry.type)) {
+                plan.dutyFunctions.put(entry.key, entry.function);
+            } else if (Permission.class.isAssignableFrom(entry.type)) {
+                plan.permissionFunctions.put(entry.key, entry.function);
+            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                plan.prohibitionFunctions.put(entry.key, entry.function);
+            }
+        });
+
+        plans.put(scope, plan);
+        return plan;
+    }
+
     private boolean scopeFilter(String entry, String scope) {
         return ALL_SCOPES_DELIMITED.equals(entry) || scope.startsWith(entry);
     }
 
+    /**
+     * The functions applying to a scope, grouped by rule type.
+     */
+    private static class EvaluationPlan {
+        private final List<RuleFunction<Rule>> permissionRuleFunctions = new ArrayList<>();
+        private final List<RuleFunction<Rule>> dutyRuleFunctions = new ArrayList<>();
+        private final List<RuleFunction<Rule>> prohibitionRuleFunctions = new ArrayList<>();
+        private final Map<String, AtomicConstraintFunction<Rule>> permissionFunctions = new LinkedHashMap<>();
+        private final Map<String, AtomicConstraintFunction<Rule>> dutyFunctions = new LinkedHashMap<>();
+        private final Map<String, AtomicConstraintFunction<Rule>> prohibitionFunctions = new LinkedHashMap<>();
+
+        /**
+         * Creates an evaluator bound to the context. Evaluators hold the state of an evaluation, so a new one is
+         * needed for each evaluation.
+         */
+        PolicyEvaluator evaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+            permissionRuleFunctions.forEach(function -> evalBuilder.permissionRuleFunction(rule -> function.evaluate(rule, context)));
+            dutyRuleFunctions.forEach(function -> evalBuilder.dutyRuleFunction(rule -> function.evaluate(rule, context)));
+            prohibitionRuleFunctions.forEach(function -> evalBuilder.prohibitionRuleFunction(rule -> function.evaluate(rule, context)));
+            permissionFunctions.forEach((key, function) -> evalBuilder.permissionFunction(key, (operator, value, permission) -> function.evaluate(operator, value, permission, context)));
+            dutyFunctions.forEach((key, function) -> evalBuilder.dutyFunction(key, (operator, value, duty) -> function.evaluate(operator, value, duty, context)));
+            prohibitionFunctions.forEach((key, function) -> evalBuilder.prohibitionFunction(key, (operator, value, prohibition) -> function.evaluate(operator, value, prohibition, context)));
+            return evalBuilder.build();
+        }
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
@@ -210,6 +210,21 @@ class PolicyEngineImplTest {
         assertThat(result.succeeded()).isFalse();
     }
 
+    @Test
+    void validateFunctionRegisteredAfterEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var agent = new ParticipantAgent(emptyMap(), emptyMap());
+        Policy policy = createTestPolicy();
+
+        // no function is registered yet, the prohibited constraint evaluates to false
+        assertThat(policyEngine.evaluate("bar", policy, agent).succeeded()).isTrue();
+
+        policyEngine.registerFunction("bar", Prohibition.class, "foo", (op, rv, duty, context) -> true);
+
+        // the new function must be part of the evaluation
+        assertThat(policyEngine.evaluate("bar", policy, agent).succeeded()).isFalse();
+    }
+
     @BeforeEach
     void setUp() {
         bindingRegistry = new RuleBindingRegistryImpl();
@@ -21,6 +21,7 @@ val nimbusVersion: String by project
 
 dependencies {
     api(project(":spi:common:jwt-spi"))
+    implementation(project(":common:util"))
 
     implementation("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
 }
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.jwt;
+
+import com.nimbusds.jwt.JWTParser;
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Bounded cache of values computed from JWTs, e.g. the result of their validation.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, so that tokens are not kept in memory, and by a qualifier
+ * holding whatever else the value depends on (e.g. the expected audience). They expire at the {@code exp} claim of
+ * the token, or earlier if a maximum time-to-live is set, and the least recently used entries are evicted once the
+ * maximum size is reached. Tokens without an {@code exp} claim are never cached.
+ *
+ * @param <V> the type of the cached values.
+ */
+public class TokenCache<V> {
+
+    private final Clock clock;
+    private final Duration maxTimeToLive;
+    private final ExpiringLruCache<Key, V> cache;
+
+    /**
+     * Constructor for a cache whose entries expire with their token.
+     */
+    public TokenCache(Clock clock, int maxSize) {
+        this(clock, maxSize, null);
+    }
+
+    /**
+     * Constructor for a cache whose entries expire with their token or after the maximum time-to-live.
+     */
+    public TokenCache(Clock clock, int maxSize, @Nullable Duration maxTimeToLive) {
+        this.clock = clock;
+        this.maxTimeToLive = maxTimeToLive;
+        cache = new ExpiringLruCache<>(clock, maxSize);
+    }
+
+    /**
+     * Returns the value cached for the token and qualifier, or null if there is none or it has expired.
+     */
+    @Nullable
+    public V get(String token, @Nullable Object qualifier) {
+        return cache.get(new Key(digest(token), qualifier));
+    }
+
+    /**
+     * Caches the value for the token and qualifier, unless the token has no {@code exp} claim.
+     */
+    public void put(String token, @Nullable Object qualifier, V value) {
+        var expiresAt = expiration(token);
+        if (expiresAt == null) {
+            return;
+        }
+        if (maxTimeToLive != null) {
+            var maxExpiresAt = clock.instant().plus(maxTimeToLive);
+            expiresAt = expiresAt.isBefore(maxExpiresAt) ? expiresAt : maxExpiresAt;
+        }
+        cache.put(new Key(digest(token), qualifier), value, expiresAt);
+    }
+
+    /**
+     * Removes the value cached for the token and qualifier.
+     */
+    public void remove(String token, @Nullable Object qualifier) {
+        cache.remove(new Key(digest(token), qualifier));
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    @Nullable
+    private static Instant expiration(String token) {
+        try {
+            var expirationTime = JWTParser.parse(token).getJWTClaimsSet().getExpirationTime();
+            return expirationTime != null ? expirationTime.toInstant() : null;
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private static class Key {
+        private final String tokenDigest;
+        private final Object qualifier;
+
+        Key(String tokenDigest, Object qualifier) {
+            this.tokenDigest = tokenDigest;
+            this.qualifier = qualifier;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return tokenDigest.equals(that.tokenDigest) && Objects.equals(qualifier, that.qualifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tokenDigest, qualifier);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.jwt;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenCacheTest {
+
+    private static final Instant NOW = Instant.now();
+    private static final byte[] SECRET = UUID.randomUUID().toString().repeat(2).getBytes();
+
+    @Test
+    void get_shouldReturnValueCachedForTheTokenAndQualifier() throws Exception {
+        var cache = new TokenCache<String>(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+        var token = token(NOW.plusSeconds(60));
+
+        cache.put(token, List.of("audience"), "value");
+
+        assertThat(cache.get(token, List.of("audience"))).isEqualTo("value");
+        assertThat(cache.get(token, List.of("other"))).isNull();
+        assertThat(cache.get(token(NOW.plusSeconds(60)), List.of("audience"))).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_afterTokenExpiration() throws Exception {
+        var now = new AtomicReference<>(NOW);
+        var cache = new TokenCache<String>(clock(now), 10);
+        var token = token(NOW.plusSeconds(60));
+        cache.put(token, null, "value");
+
+        now.set(NOW.plusSeconds(59));
+        assertThat(cache.get(token, null)).isEqualTo("value");
+        now.set(NOW.plusSeconds(60));
+        assertThat(cache.get(token, null)).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_afterMaxTimeToLive() throws Exception {
+        var now = new AtomicReference<>(NOW);
+        var cache = new TokenCache<String>(clock(now), 10, Duration.ofSeconds(10));
+        var token = token(NOW.plusSeconds(60));
+        cache.put(token, null, "value");
+
+        now.set(NOW.plusSeconds(9));
+        assertThat(cache.get(token, null)).isEqualTo("value");
+        now.set(NOW.plusSeconds(10));
+        assertThat(cache.get(token, null)).isNull();
+    }
+
+    @Test
+    void put_shouldNotCacheTokenWithoutExpiration() {
+        var cache = new TokenCache<String>(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+
+        cache.put("opaque", null, "value");
+
+        assertThat(cache.get("opaque", null)).isNull();
+    }
+
+    @Test
+    void remove_shouldRemoveTheEntry() throws Exception {
+        var cache = new TokenCache<String>(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+        var token = token(NOW.plusSeconds(60));
+        cache.put(token, null, "value");
+
+        cache.remove(token, null);
+
+        assertThat(cache.get(token, null)).isNull();
+    }
+
+    private String token(Instant expiration) throws Exception {
+        var claims = new JWTClaimsSet.Builder()
+                .jwtID(UUID.randomUUID().toString())
+                .expirationTime(Date.from(expiration))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        jwt.sign(new MACSigner(SECRET));
+        return jwt.serialize();
+    }
+
+    private Clock clock(AtomicReference<Instant> now) {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        return clock;
+    }
+}
@@ -25,6 +25,7 @@ dependencies {
     api(project(":spi:control-plane:contract-spi"))
 
     implementation(project(":common:state-machine-lib"))
+    implementation(project(":common:util"))
     implementation("io.opentelemetry:opentelemetry-extension-annotations:${openTelemetryVersion}")
 
     testImplementation(project(":core:control-plane:control-plane-core"))
@@ -17,11 +17,14 @@
 
 package org.eclipse.dataspaceconnector.contract;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.eclipse.dataspaceconnector.common.statemachine.retry.EntitySendRetryManager;
 import org.eclipse.dataspaceconnector.contract.listener.ContractNegotiationEventListener;
 import org.eclipse.dataspaceconnector.contract.negotiation.ConsumerContractNegotiationManagerImpl;
 import org.eclipse.dataspaceconnector.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.dataspaceconnector.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.dataspaceconnector.contract.offer.AccessPolicyDecisionCache;
 import org.eclipse.dataspaceconnector.contract.offer.ContractDefinitionServiceImpl;
 import org.eclipse.dataspaceconnector.contract.offer.ContractOfferServiceImpl;
 import org.eclipse.dataspaceconnector.contract.policy.PolicyArchiveImpl;
@@ -50,6 +53,7 @@ import org.eclipse.dataspaceconnector.spi.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.policy.store.PolicyArchive;
 import org.eclipse.dataspaceconnector.spi.policy.store.PolicyDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.eclipse.dataspaceconnector.spi.system.CoreExtension;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
@@ -60,8 +64,12 @@ import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.command.ContractNegotiationCommand;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Provides({
         ContractOfferService.class, ContractValidationService.class, ConsumerContractNegotiationManager.class,
@@ -76,6 +84,14 @@ public class ContractServiceExtension implements ServiceExtension {
     @EdcSetting
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
     @EdcSetting
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_PARALLEL = "edc.negotiation.consumer.state-machine.parallel";
+    @EdcSetting
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_PARALLEL = "edc.negotiation.provider.state-machine.parallel";
+    @EdcSetting
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_PARTITIONS = "edc.negotiation.consumer.state-machine.partitions";
+    @EdcSetting
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_PARTITIONS = "edc.negotiation.provider.state-machine.partitions";
+    @EdcSetting
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
     @EdcSetting
     private static final String NEGOTIATION_PROVIDER_SEND_RETRY_LIMIT = "edc.negotiation.provider.send.retry.limit";
@@ -83,6 +99,12 @@ public class ContractServiceExtension implements ServiceExtension {
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_BASE_DELAY_MS = "edc.negotiation.consumer.send.retry.base-delay.ms";
     @EdcSetting
     private static final String NEGOTIATION_PROVIDER_SEND_RETRY_BASE_DELAY_MS = "edc.negotiation.provider.send.retry.base-delay.ms";
+    @EdcSetting
+    private static final String ACCESS_POLICY_CACHE_TTL = "edc.contract.access-policy.cache.ttl";
+    private static final long DEFAULT_ACCESS_POLICY_CACHE_TTL = 10;
+    @EdcSetting
+    private static final String ACCESS_POLICY_CACHE_SIZE = "edc.contract.access-policy.cache.size";
+    private static final int DEFAULT_ACCESS_POLICY_CACHE_SIZE = 10_000;
 
     private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
     private ProviderContractNegotiationManagerImpl providerNegotiationManager;
@@ -122,6 +144,9 @@ public class ContractServiceExtension implements ServiceExtension {
     @Inject
     private EventRouter eventRouter;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return "Core Contract Service";
@@ -151,7 +176,7 @@ public class ContractServiceExtension implements ServiceExtension {
     }
 
     private void registerServices(ServiceExtensionContext context) {
-        var definitionService = new ContractDefinitionServiceImpl(monitor, contractDefinitionStore, policyEngine, policyStore);
+        var definitionService = new ContractDefinitionServiceImpl(monitor, contractDefinitionStore, policyEngine, policyStore, accessPolicyDecisionCache(context));
         context.registerService(ContractDefinitionService.class, definitionService);
 
         var contractOfferService = new ContractOfferServiceImpl(agentService, definitionService, assetIndex, policyStore);
@@ -161,7 +186,10 @@ public class ContractServiceExtension implements ServiceExtension {
         var validationService = new ContractValidationServiceImpl(agentService, definitionService, assetIndex, policyStore, clock, policyEngine, policyEquality);
         context.registerService(ContractValidationService.class, validationService);
 
-        var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(DEFAULT_ITERATION_WAIT);
+        // a provided wait strategy is shared by the state machine loops, the default one is created for every loop
+        Supplier<WaitStrategy> waitStrategy = context.hasService(NegotiationWaitStrategy.class) ?
+                () -> context.getService(NegotiationWaitStrategy.class) : () -> new ExponentialWaitStrategy(DEFAULT_ITERATION_WAIT);
+        var registry = Optional.ofNullable(meterRegistry).orElseGet(CompositeMeterRegistry::new);
 
         CommandQueue<ContractNegotiationCommand> commandQueue = new BoundedCommandQueue<>(10);
         CommandRunner<ContractNegotiationCommand> commandRunner = new CommandRunner<>(commandHandlerRegistry, monitor);
@@ -173,7 +201,7 @@ public class ContractServiceExtension implements ServiceExtension {
         context.registerService(PolicyArchive.class, new PolicyArchiveImpl(store));
 
         consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategy)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .validationService(validationService)
@@ -183,14 +211,17 @@ public class ContractServiceExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(context.getService(ExecutorInstrumentation.class))
+                .meterRegistry(registry)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, 5))
+                .parallel(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_PARALLEL, false))
+                .partitions(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_PARTITIONS, 0))
                 .sendRetryManager(consumerSendRetryManager(context))
                 .build();
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategy)
                 .dispatcherRegistry(dispatcherRegistry)
                 .monitor(monitor)
                 .validationService(validationService)
@@ -200,9 +231,12 @@ public class ContractServiceExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(context.getService(ExecutorInstrumentation.class))
+                .meterRegistry(registry)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, 5))
+                .parallel(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_PARALLEL, false))
+                .partitions(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_PARTITIONS, 0))
                 .sendRetryManager(providerSendRetryManager(context))
                 .build();
 
@@ -216,6 +250,17 @@ public class ContractServiceExtension implements ServiceExtension {
         return new EntitySendRetryManager(monitor, () -> new ExponentialWaitStrategy(retryBaseDelay), clock, retryLimit);
     }
 
+    @Nullable
+    private AccessPolicyDecisionCache accessPolicyDecisionCache(ServiceExtensionContext context) {
+        var timeToLive = context.getSetting(ACCESS_POLICY_CACHE_TTL, DEFAULT_ACCESS_POLICY_CACHE_TTL);
+        if (timeToLive <= 0) {
+            return null;
+        }
+        var cache = new AccessPolicyDecisionCache(clock, Duration.ofSeconds(timeToLive), context.getSetting(ACCESS_POLICY_CACHE_SIZE, DEFAULT_ACCESS_POLICY_CACHE_SIZE));
+        eventRouter.registerSync(cache);
+        return cache;
+    }
+
     @NotNull
     private EntitySendRetryManager consumerSendRetryManager(ServiceExtensionContext context) {
         var retryLimit = context.getSetting(NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT, 7);
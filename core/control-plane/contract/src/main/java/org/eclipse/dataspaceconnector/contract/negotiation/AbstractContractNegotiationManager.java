@@ -14,6 +14,9 @@
 
 package org.eclipse.dataspaceconnector.contract.negotiation;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.eclipse.dataspaceconnector.common.statemachine.BatchedEntityUpdates;
 import org.eclipse.dataspaceconnector.common.statemachine.retry.SendRetryManager;
 import org.eclipse.dataspaceconnector.spi.command.CommandProcessor;
 import org.eclipse.dataspaceconnector.spi.command.CommandQueue;
@@ -28,6 +31,7 @@ import org.eclipse.dataspaceconnector.spi.policy.store.PolicyDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.command.SingleContractNegotiationCommand;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.command.ContractNegotiationCommand;
@@ -36,6 +40,7 @@ import java.time.Clock;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 
@@ -53,9 +58,13 @@ public abstract class AbstractContractNegotiationManager {
     protected Telemetry telemetry;
     protected ExecutorInstrumentation executorInstrumentation;
     protected int batchSize = 5;
-    protected WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
+    protected boolean parallel = false;
+    protected int partitions = 0;
+    protected Supplier<WaitStrategy> waitStrategy = () -> () -> 5000L;  // default wait five seconds
+    protected MeterRegistry meterRegistry;
     protected PolicyDefinitionStore policyStore;
     protected SendRetryManager<StatefulEntity> sendRetryManager;
+    protected BatchedEntityUpdates<ContractNegotiation> updates;
 
     /**
      * Gives the name of the manager
@@ -73,6 +82,7 @@ public abstract class AbstractContractNegotiationManager {
             this.manager.clock = Clock.systemUTC(); // default implementation
             this.manager.telemetry = new Telemetry(); // default noop implementation
             this.manager.executorInstrumentation = ExecutorInstrumentation.noop(); // default noop implementation
+            this.manager.meterRegistry = new CompositeMeterRegistry(); // registry without any backend, i.e. noop
         }
 
         public Builder<T> validationService(ContractValidationService validationService) {
@@ -90,11 +100,37 @@ public abstract class AbstractContractNegotiationManager {
             return this;
         }
 
+        public Builder<T> parallel(boolean parallel) {
+            manager.parallel = parallel;
+            return this;
+        }
+
+        public Builder<T> partitions(int partitions) {
+            manager.partitions = partitions;
+            return this;
+        }
+
+        /**
+         * Wait strategy shared by all the state machine loops, it must be thread-safe when the state machine is parallel.
+         */
         public Builder<T> waitStrategy(WaitStrategy waitStrategy) {
+            manager.waitStrategy = () -> waitStrategy;
+            return this;
+        }
+
+        /**
+         * Supplier of the wait strategy, every state machine loop gets its own instance.
+         */
+        public Builder<T> waitStrategySupplier(Supplier<WaitStrategy> waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return this;
         }
 
+        public Builder<T> meterRegistry(MeterRegistry meterRegistry) {
+            manager.meterRegistry = meterRegistry;
+            return this;
+        }
+
         public Builder<T> dispatcherRegistry(RemoteMessageDispatcherRegistry dispatcherRegistry) {
             manager.dispatcherRegistry = dispatcherRegistry;
             return this;
@@ -159,13 +195,20 @@ public abstract class AbstractContractNegotiationManager {
             Objects.requireNonNull(manager.policyStore, "policyStore");
             Objects.requireNonNull(manager.sendRetryManager, "sendRetryManager");
             manager.commandProcessor = new CommandProcessor<>(manager.commandQueue, manager.commandRunner, manager.monitor);
+            manager.updates = new BatchedEntityUpdates<>(manager.negotiationStore::save, manager.negotiationStore::saveAll);
 
             return manager;
         }
     }
 
+    protected String commandPartitionKey(ContractNegotiationCommand command) {
+        return command instanceof SingleContractNegotiationCommand
+                ? ((SingleContractNegotiationCommand) command).getNegotiationId()
+                : command.getCommandId();
+    }
+
     protected void breakLease(ContractNegotiation negotiation) {
-        negotiationStore.save(negotiation);
+        updates.update(negotiation);
     }
 
     protected class AsyncSendResultHandler {
@@ -203,8 +246,7 @@ public abstract class AbstractContractNegotiationManager {
                             negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
                 } else if (sendRetryManager.retriesExhausted(negotiation)) {
                     negotiation.transitionError("Retry limited exceeded: " + throwable.getMessage());
-                    negotiationStore.save(negotiation);
-                    observable.invokeForEach(l -> l.failed(negotiation));
+                    updates.update(negotiation, () -> observable.invokeForEach(l -> l.failed(negotiation)));
                     monitor.severe(format("[%s] attempt #%d failed to %s. Retry limit exceeded, ContractNegotiation %s moves to ERROR state",
                             getName(), negotiation.getStateCount(), operationDescription, negotiation.getId()), throwable);
                 } else {
@@ -19,6 +19,7 @@ package org.eclipse.dataspaceconnector.contract.negotiation;
 
 import io.opentelemetry.extension.annotations.WithSpan;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachineManager;
+import org.eclipse.dataspaceconnector.common.statemachine.StateProcessor;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.contract.ContractId;
@@ -67,14 +68,20 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
 
     public void start() {
         stateMachineManager = StateMachineManager.Builder.newInstance("consumer-contract-negotiation", monitor, executorInstrumentation, waitStrategy)
-                .processor(processNegotiationsInState(INITIAL, this::processInitial))
-                .processor(processNegotiationsInState(REQUESTING, this::processRequesting))
-                .processor(processNegotiationsInState(CONSUMER_OFFERING, this::processConsumerOffering))
-                .processor(processNegotiationsInState(CONSUMER_APPROVING, this::processConsumerApproving))
-                .processor(processNegotiationsInState(DECLINING, this::processDeclining))
-                .processor(onCommands(this::processCommand))
+                .parallel(parallel)
+                .partitions(partitions)
+                .meterRegistry(meterRegistry)
+                .processor(INITIAL.name(), processNegotiationsInState(INITIAL, this::processInitial))
+                .processor(REQUESTING.name(), processNegotiationsInState(REQUESTING, this::processRequesting))
+                .processor(CONSUMER_OFFERING.name(), processNegotiationsInState(CONSUMER_OFFERING, this::processConsumerOffering))
+                .processor(CONSUMER_APPROVING.name(), processNegotiationsInState(CONSUMER_APPROVING, this::processConsumerApproving))
+                .processor(DECLINING.name(), processNegotiationsInState(DECLINING, this::processDeclining))
+                .processor("commands", onCommands(this::processCommand))
                 .build();
 
+        negotiationStore.registerStateChangeListener(stateMachineManager::wakeUp);
+        commandQueue.registerEnqueueListener(stateMachineManager::wakeUp);
+
         stateMachineManager.start();
     }
 
@@ -288,7 +295,7 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
     @WithSpan
     private boolean processInitial(ContractNegotiation negotiation) {
         negotiation.transitionRequesting();
-        negotiationStore.save(negotiation);
+        updates.update(negotiation);
         return true;
     }
 
@@ -420,12 +427,11 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
         return new AsyncSendResultHandler(id, "send initial offer")
                 .onSuccess(negotiation -> {
                     negotiation.transitionRequested();
-                    negotiationStore.save(negotiation);
-                    observable.invokeForEach(l -> l.requested(negotiation));
+                    updates.update(negotiation, () -> observable.invokeForEach(l -> l.requested(negotiation)));
                 })
                 .onFailure(negotiation -> {
                     negotiation.transitionRequesting();
-                    negotiationStore.save(negotiation);
+                    updates.update(negotiation);
                 })
                 .build();
     }
@@ -435,12 +441,11 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
         return new AsyncSendResultHandler(negotiationId, "send counter offer")
                 .onSuccess(negotiation -> {
                     negotiation.transitionOffered();
-                    negotiationStore.save(negotiation);
-                    observable.invokeForEach(l -> l.offered(negotiation));
+                    updates.update(negotiation, () -> observable.invokeForEach(l -> l.offered(negotiation)));
                 })
                 .onFailure(negotiation -> {
                     negotiation.transitionOffering();
-                    negotiationStore.save(negotiation);
+                    updates.update(negotiation);
                 })
                 .build();
     }
@@ -450,12 +455,11 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
         return new AsyncSendResultHandler(negotiationId, "send agreement")
                 .onSuccess(negotiation -> {
                     negotiation.transitionApproved();
-                    negotiationStore.save(negotiation);
-                    observable.invokeForEach(l -> l.approved(negotiation));
+                    updates.update(negotiation, () -> observable.invokeForEach(l -> l.approved(negotiation)));
                 })
                 .onFailure(negotiation -> {
                     negotiation.transitionApproving();
-                    negotiationStore.save(negotiation);
+                    updates.update(negotiation);
                 })
                 .build();
     }
@@ -465,22 +469,21 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
         return new AsyncSendResultHandler(negotiationId, "send rejection")
                 .onSuccess(negotiation -> {
                     negotiation.transitionDeclined();
-                    negotiationStore.save(negotiation);
-                    observable.invokeForEach(l -> l.declined(negotiation));
+                    updates.update(negotiation, () -> observable.invokeForEach(l -> l.declined(negotiation)));
                 })
                 .onFailure(negotiation -> {
                     negotiation.transitionDeclining();
-                    negotiationStore.save(negotiation);
+                    updates.update(negotiation);
                 })
                 .build();
     }
 
-    private StateProcessorImpl<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
-        return new StateProcessorImpl<>(() -> negotiationStore.nextForState(state.code(), batchSize), telemetry.contextPropagationMiddleware(function));
+    private StateProcessor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
+        return updates.processor(() -> negotiationStore.nextForState(state.code(), batchSize), telemetry.contextPropagationMiddleware(function));
     }
 
     private StateProcessorImpl<ContractNegotiationCommand> onCommands(Function<ContractNegotiationCommand, Boolean> process) {
-        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process);
+        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process, this::commandPartitionKey);
     }
 
     private boolean processCommand(ContractNegotiationCommand command) {
@@ -19,6 +19,7 @@ package org.eclipse.dataspaceconnector.contract.negotiation;
 
 import io.opentelemetry.extension.annotations.WithSpan;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachineManager;
+import org.eclipse.dataspaceconnector.common.statemachine.StateProcessor;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.contract.ContractId;
@@ -65,12 +66,18 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
 
     public void start() {
         stateMachineManager = StateMachineManager.Builder.newInstance("provider-contract-negotiation", monitor, executorInstrumentation, waitStrategy)
-                .processor(processNegotiationsInState(PROVIDER_OFFERING, this::processProviderOffering))
-                .processor(processNegotiationsInState(DECLINING, this::processDeclining))
-                .processor(processNegotiationsInState(CONFIRMING, this::processConfirming))
-                .processor(onCommands(this::processCommand))
+                .parallel(parallel)
+                .partitions(partitions)
+                .meterRegistry(meterRegistry)
+                .processor(PROVIDER_OFFERING.name(), processNegotiationsInState(PROVIDER_OFFERING, this::processProviderOffering))
+                .processor(DECLINING.name(), processNegotiationsInState(DECLINING, this::processDeclining))
+                .processor(CONFIRMING.name(), processNegotiationsInState(CONFIRMING, this::processConfirming))
+                .processor("commands", onCommands(this::processCommand))
                 .build();
 
+        negotiationStore.registerStateChangeListener(stateMachineManager::wakeUp);
+        commandQueue.registerEnqueueListener(stateMachineManager::wakeUp);
+
         stateMachineManager.start();
     }
 
@@ -249,12 +256,12 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
         return StatusResult.success(negotiation);
     }
 
-    private StateProcessorImpl<ContractNegotiation> processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
-        return new StateProcessorImpl<>(() -> negotiationStore.nextForState(state.code(), batchSize), telemetry.contextPropagationMiddleware(function));
+    private StateProcessor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
+        return updates.processor(() -> negotiationStore.nextForState(state.code(), batchSize), telemetry.contextPropagationMiddleware(function));
     }
 
     private StateProcessorImpl<ContractNegotiationCommand> onCommands(Function<ContractNegotiationCommand, Boolean> process) {
-        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process);
+        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process, this::commandPartitionKey);
     }
 
     private boolean processCommand(ContractNegotiationCommand command) {
@@ -385,12 +392,11 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
         return new AsyncSendResultHandler(negotiationId, "send counter offer")
                 .onSuccess(negotiation -> {
                     negotiation.transitionOffered();
-                    negotiationStore.save(negotiation);
-                    observable.invokeForEach(l -> l.offered(negotiation));
+                    updates.update(negotiation, () -> observable.invokeForEach(l -> l.offered(negotiation)));
                 })
                 .onFailure(negotiation -> {
                     negotiation.transitionOffering();
-                    negotiationStore.save(negotiation);
+                    updates.update(negotiation);
                 })
                 .build();
     }
@@ -400,12 +406,11 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
         return new AsyncSendResultHandler(negotiationId, "send rejection")
                 .onSuccess(negotiation -> {
                     negotiation.transitionDeclined();
-                    negotiationStore.save(negotiation);
-                    observable.invokeForEach(l -> l.declined(negotiation));
+                    updates.update(negotiation, () -> observable.invokeForEach(l -> l.declined(negotiation)));
                 })
                 .onFailure(negotiation -> {
                     negotiation.transitionDeclining();
-                    negotiationStore.save(negotiation);
+                    updates.update(negotiation);
                 })
                 .build();
     }
@@ -416,12 +421,11 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
                 .onSuccess(negotiation -> {
                     negotiation.setContractAgreement(agreement);
                     negotiation.transitionConfirmed();
-                    negotiationStore.save(negotiation);
-                    observable.invokeForEach(l -> l.confirmed(negotiation));
+                    updates.update(negotiation, () -> observable.invokeForEach(l -> l.confirmed(negotiation)));
                 })
                 .onFailure(negotiation -> {
                     negotiation.transitionConfirming();
-                    negotiationStore.save(negotiation);
+                    updates.update(negotiation);
                 })
                 .build();
     }
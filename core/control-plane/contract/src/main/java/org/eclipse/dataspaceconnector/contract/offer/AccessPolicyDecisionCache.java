@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.event.Event;
+import org.eclipse.dataspaceconnector.spi.event.EventSubscriber;
+import org.eclipse.dataspaceconnector.spi.event.contractdefinition.ContractDefinitionCreated;
+import org.eclipse.dataspaceconnector.spi.event.contractdefinition.ContractDefinitionDeleted;
+import org.eclipse.dataspaceconnector.spi.event.policydefinition.PolicyDefinitionCreated;
+import org.eclipse.dataspaceconnector.spi.event.policydefinition.PolicyDefinitionDeleted;
+import org.eclipse.dataspaceconnector.spi.policy.PolicyDefinition;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Caches the decisions of access policy evaluations, as the same participants request the catalog over and over and
+ * many contract definitions share the same access policy.
+ * <p>
+ * Decisions are keyed by the claims and attributes of the agent, and the id and version (creation time) of the
+ * policy definition. They are kept for a short time, since policy functions may depend on external state, and are
+ * invalidated when policy definitions or contract definitions are created or deleted.
+ */
+public class AccessPolicyDecisionCache implements EventSubscriber {
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final ExpiringLruCache<DecisionKey, Boolean> decisions;
+
+    public AccessPolicyDecisionCache(Clock clock, Duration timeToLive, int maxSize) {
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        decisions = new ExpiringLruCache<>(clock, maxSize);
+    }
+
+    /**
+     * Returns whether the access policy was granted to the agent, or null if the decision is not known.
+     */
+    @Nullable
+    public Boolean get(PolicyDefinition policyDefinition, ParticipantAgent agent) {
+        return decisions.get(new DecisionKey(policyDefinition, agent));
+    }
+
+    public void put(PolicyDefinition policyDefinition, ParticipantAgent agent, boolean granted) {
+        decisions.put(new DecisionKey(policyDefinition, agent), granted, clock.instant().plus(timeToLive));
+    }
+
+    /**
+     * Removes the decisions made for a policy definition.
+     */
+    public void invalidate(String policyId) {
+        decisions.removeIf(key -> key.policyId.equals(policyId));
+    }
+
+    /**
+     * Removes all the decisions.
+     */
+    public void clear() {
+        decisions.clear();
+    }
+
+    @Override
+    public void on(Event<?> event) {
+        if (event instanceof PolicyDefinitionCreated) {
+            invalidate(((PolicyDefinitionCreated) event).getPayload().getPolicyDefinitionId());
+        } else if (event instanceof PolicyDefinitionDeleted) {
+            invalidate(((PolicyDefinitionDeleted) event).getPayload().getPolicyDefinitionId());
+        } else if (event instanceof ContractDefinitionCreated || event instanceof ContractDefinitionDeleted) {
+            clear();
+        }
+    }
+
+    private static class DecisionKey {
+        private final String policyId;
+        private final long policyVersion;
+        private final Map<String, Object> claims;
+        private final Map<String, String> attributes;
+
+        DecisionKey(PolicyDefinition policyDefinition, ParticipantAgent agent) {
+            policyId = policyDefinition.getUid();
+            policyVersion = policyDefinition.getCreatedAt();
+            claims = agent.getClaims();
+            attributes = agent.getAttributes();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DecisionKey that = (DecisionKey) o;
+            return policyVersion == that.policyVersion && policyId.equals(that.policyId) && claims.equals(that.claims) && attributes.equals(that.attributes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(policyId, policyVersion, claims, attributes);
+        }
+    }
+}
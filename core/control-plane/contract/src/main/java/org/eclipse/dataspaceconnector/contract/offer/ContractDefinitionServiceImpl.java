@@ -24,14 +24,25 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyDefinition;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.policy.store.PolicyDefinitionStore;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
-import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.lang.String.format;
 
@@ -41,25 +52,51 @@ import static java.lang.String.format;
  * access control and usage policy, see {@link ContractDefinition}.
  */
 public class ContractDefinitionServiceImpl implements ContractDefinitionService {
+
+    /**
+     * Number of definitions read from the store at once when they are read from a given id.
+     */
+    private static final int DEFINITIONS_CHUNK_SIZE = 100;
+    private static final String ID_FIELD = "id";
+
     private final PolicyEngine policyEngine;
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final AccessPolicyDecisionCache decisionCache;
 
     public ContractDefinitionServiceImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, null);
+    }
+
+    public ContractDefinitionServiceImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore,
+                                         @Nullable AccessPolicyDecisionCache decisionCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.decisionCache = decisionCache;
     }
 
     @NotNull
     @Override
     public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent, Range range) {
+        var policyLookup = policyLookup();
         return definitionStore.findAll(QuerySpec.Builder.newInstance()
                         .range(range)
                         .build())
-                .filter(definition -> evaluateAccessPolicy(definition, agent));
+                .filter(definition -> evaluateAccessPolicy(definition, agent, policyLookup));
+    }
+
+    @NotNull
+    @Override
+    public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent, @Nullable String fromId, Predicate<ContractDefinition> filter) {
+        var policyLookup = policyLookup();
+        var from = fromId != null ? Stream.ofNullable(definitionStore.findById(fromId)) : Stream.<ContractDefinition>empty();
+        var following = StreamSupport.stream(Spliterators.spliteratorUnknownSize(new DefinitionChunks(fromId), Spliterator.ORDERED | Spliterator.NONNULL), false);
+        return Stream.concat(from, following)
+                .filter(filter)
+                .filter(definition -> evaluateAccessPolicy(definition, agent, policyLookup));
     }
 
     @Nullable
@@ -67,19 +104,40 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
     public ContractDefinition definitionFor(ParticipantAgent agent, String definitionId) {
         return Optional.of(definitionId)
                 .map(definitionStore::findById)
-                .filter(definition -> evaluateAccessPolicy(definition, agent))
+                .filter(definition -> evaluateAccessPolicy(definition, agent, policyStore::findById))
                 .orElse(null);
     }
 
+    /**
+     * Many definitions share the same access policy, the lookup returned looks each of them up once per request.
+     */
+    private Function<String, PolicyDefinition> policyLookup() {
+        var policies = new HashMap<String, Optional<PolicyDefinition>>();
+        return policyId -> policies.computeIfAbsent(policyId, id -> Optional.ofNullable(policyStore.findById(id))).orElse(null);
+    }
+
     /**
      * Determines the applicability of a definition to an agent by evaluating its access policy.
      */
-    private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
-        var accessResult = Optional.of(definition.getAccessPolicyId())
-                .map(policyStore::findById)
-                .map(PolicyDefinition::getPolicy)
-                .map(policy -> policyEngine.evaluate(CATALOGING_SCOPE, policy, agent))
-                .orElse(Result.failure(format("Policy %s not found", definition.getAccessPolicyId())));
+    private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent, Function<String, PolicyDefinition> policyLookup) {
+        var policyDefinition = policyLookup.apply(definition.getAccessPolicyId());
+        if (policyDefinition == null) {
+            monitor.debug(format("Access not granted for %s: \nPolicy %s not found", definition.getId(), definition.getAccessPolicyId()));
+            return false;
+        }
+
+        var cachedDecision = decisionCache != null ? decisionCache.get(policyDefinition, agent) : null;
+        if (cachedDecision != null) {
+            if (!cachedDecision) {
+                monitor.debug(format("Access not granted for %s: access policy %s was already denied", definition.getId(), definition.getAccessPolicyId()));
+            }
+            return cachedDecision;
+        }
+
+        var accessResult = policyEngine.evaluate(CATALOGING_SCOPE, policyDefinition.getPolicy(), agent);
+        if (decisionCache != null) {
+            decisionCache.put(policyDefinition, agent, accessResult.succeeded());
+        }
 
         if (accessResult.failed()) {
             monitor.debug(format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
@@ -88,4 +146,45 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
 
         return true;
     }
+
+    /**
+     * Reads the definitions that follow an id from the store, ordered by id, one chunk at a time as they are consumed.
+     */
+    private class DefinitionChunks implements Iterator<ContractDefinition> {
+        private String lastId;
+        private Iterator<ContractDefinition> chunk = Collections.emptyIterator();
+        private boolean lastChunk = false;
+
+        DefinitionChunks(@Nullable String lastId) {
+            this.lastId = lastId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!chunk.hasNext() && !lastChunk) {
+                var query = QuerySpec.Builder.newInstance().limit(DEFINITIONS_CHUNK_SIZE).sortField(ID_FIELD);
+                if (lastId != null) {
+                    query.cursor(new QueryCursor(lastId, lastId).encode());
+                }
+                List<ContractDefinition> definitions;
+                try (var stream = definitionStore.findAll(query.build())) {
+                    definitions = stream.collect(Collectors.toList());
+                }
+                lastChunk = definitions.size() < DEFINITIONS_CHUNK_SIZE;
+                if (!definitions.isEmpty()) {
+                    lastId = definitions.get(definitions.size() - 1).getId();
+                }
+                chunk = definitions.iterator();
+            }
+            return chunk.hasNext();
+        }
+
+        @Override
+        public ContractDefinition next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunk.next();
+        }
+    }
 }
@@ -20,29 +20,71 @@ package org.eclipse.dataspaceconnector.contract.offer;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgentService;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
 import org.eclipse.dataspaceconnector.spi.contract.ContractId;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferQuery;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
 import org.eclipse.dataspaceconnector.spi.message.Range;
+import org.eclipse.dataspaceconnector.spi.policy.PolicyDefinition;
 import org.eclipse.dataspaceconnector.spi.policy.store.PolicyDefinitionStore;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementation of the {@link ContractOfferService}.
+ * <p>
+ * The range applies to the offers, i.e. to the (definition, asset) pairs, ordered by definition id and then by asset
+ * id. They are generated lazily, and the generation stops once the range is filled. The key of an offer is its id,
+ * which starts with its definition id (see {@link ContractId}), and its asset id: when the range carries the key of the
+ * last offer of the previous range, the definitions are read from its definition on, so that the requests of the next
+ * ranges neither read the previous definitions nor evaluate their access policies and asset selectors again.
+ * <p>
+ * The criteria of the query apply to the assets. The assets matching them are fetched once with a single query to the
+ * asset index, and the selectors of the definitions are evaluated against them in memory, so that describing a single
+ * asset does not depend on the size of the catalog. If there are too many of them, or if a selector cannot be
+ * evaluated in memory, the criteria are added to the selectors evaluated by the asset index instead.
  */
 public class ContractOfferServiceImpl implements ContractOfferService {
+
+    /**
+     * Maximum number of definitions whose asset selectors are evaluated with a single call to the asset index.
+     */
+    private static final int SELECTOR_BATCH_SIZE = 50;
+
+    /**
+     * Maximum number of assets matching the query criteria for the selectors to be evaluated in memory.
+     */
+    private static final int MAX_CANDIDATES = 1000;
+
     private final ParticipantAgentService agentService;
     private final ContractDefinitionService definitionService;
     private final AssetIndex assetIndex;
     private final PolicyDefinitionStore policyStore;
+    private final SelectorPredicateConverter predicateConverter = new SelectorPredicateConverter();
 
     public ContractOfferServiceImpl(ParticipantAgentService agentService, ContractDefinitionService definitionService, AssetIndex assetIndex, PolicyDefinitionStore policyStore) {
         this.agentService = agentService;
@@ -54,16 +96,33 @@ public class ContractOfferServiceImpl implements ContractOfferService {
     @Override
     @NotNull
     public Stream<ContractOffer> queryContractOffers(ContractOfferQuery query, Range range) {
+        var limit = range.getTo() - range.getFrom();
+        if (limit <= 0) {
+            return Stream.empty();
+        }
+
+        var start = range.getAfter().isEmpty() ? null : new OfferKey(range.getAfter());
         var agent = agentService.createFor(query.getClaimToken());
+        var criteria = query.getCriteria() != null ? query.getCriteria() : List.<Criterion>of();
 
-        return definitionService.definitionsFor(agent, range)
-                .flatMap(definition -> {
-                    var assets = assetIndex.queryAssets(definition.getSelectorExpression());
-                    return Optional.of(definition.getContractPolicyId())
-                            .map(policyStore::findById)
-                            .map(policy -> assets.map(asset -> createContractOffer(definition, policy.getPolicy(), asset)))
-                            .orElseGet(Stream::empty);
-                });
+        // select the definitions having assets matching the criteria before their access policies are evaluated
+        var candidates = criteria.isEmpty() ? null : candidates(criteria);
+        var matchingAssets = new HashMap<String, List<Asset>>();
+        Predicate<ContractDefinition> filter = definition -> {
+            if (candidates == null || !predicateConverter.canConvert(definition.getSelectorExpression().getCriteria())) {
+                return true;
+            }
+            var assets = select(definition.getSelectorExpression(), candidates);
+            matchingAssets.put(definition.getId(), assets);
+            return !assets.isEmpty();
+        };
+
+        // the definitions are read from the one of the key, ordered by id, and their access policies are evaluated and their
+        // offers generated as the stream is consumed
+        var definitions = definitionService.definitionsFor(agent, start != null ? start.definitionId : null, filter);
+
+        var offers = new OfferIterator(criteria, matchingAssets, definitions.iterator(), start, range.getFrom(), limit);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(offers, Spliterator.ORDERED | Spliterator.NONNULL), false);
     }
 
     @NotNull
@@ -77,4 +136,188 @@ public class ContractOfferServiceImpl implements ContractOfferService {
                 .consumer(URI.create("urn:connector:consumer"))
                 .build();
     }
+
+    /**
+     * Fetches the assets matching the criteria of the query with a single query, returns null if there are too many
+     * of them for the selectors to be evaluated in memory.
+     */
+    @Nullable
+    private List<Asset> candidates(List<Criterion> criteria) {
+        var querySpec = QuerySpec.Builder.newInstance().filter(criteria).limit(MAX_CANDIDATES + 1).build();
+        var assets = assetIndex.queryAssets(querySpec).collect(Collectors.toList());
+        return assets.size() <= MAX_CANDIDATES ? assets : null;
+    }
+
+    private List<Asset> select(AssetSelectorExpression selector, List<Asset> assets) {
+        var predicate = selector.getCriteria().stream().map(predicateConverter::convert).reduce(x -> true, Predicate::and);
+        return assets.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Generates the offers of a range, evaluating the asset selectors of the definitions one batch at a time. Offers
+     * before the start of the range are skipped without being created, whole definitions at a time when possible.
+     */
+    private class OfferIterator implements Iterator<ContractOffer> {
+        private final List<Criterion> criteria;
+        private final Map<String, List<Asset>> matchingAssets;
+        private final Iterator<ContractDefinition> definitions;
+        private final Map<String, Optional<PolicyDefinition>> policies = new HashMap<>();
+        private final Queue<DefinitionAssets> pending = new ArrayDeque<>();
+        private OfferKey start;
+        private int skip;
+        private int remaining;
+        private DefinitionAssets current;
+        private int position;
+
+        OfferIterator(List<Criterion> criteria, Map<String, List<Asset>> matchingAssets, Iterator<ContractDefinition> definitions, @Nullable OfferKey start, int skip, int limit) {
+            this.criteria = criteria;
+            this.matchingAssets = matchingAssets;
+            this.definitions = definitions;
+            this.start = start;
+            this.skip = skip;
+            remaining = limit;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (remaining <= 0) {
+                return false;
+            }
+            while (current == null || position >= current.assets.size()) {
+                current = nextDefinition();
+                if (current == null) {
+                    return false;
+                }
+                position = 0;
+                if (start != null && current.definition.getId().equals(start.definitionId)) {
+                    // the assets are ordered by id, the ones up to the key have been returned in previous ranges
+                    while (position < current.assets.size() && current.assets.get(position).getId().compareTo(start.assetId) <= 0) {
+                        position++;
+                    }
+                }
+                start = null;
+                // skip the whole definition if all its offers are before the range
+                var available = current.assets.size() - position;
+                if (skip >= available) {
+                    skip -= available;
+                    position = current.assets.size();
+                } else {
+                    position += skip;
+                    skip = 0;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public ContractOffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            return createContractOffer(current.definition, current.policy, current.assets.get(position++));
+        }
+
+        /**
+         * Returns the next definition with a contract policy, together with its assets ordered by id.
+         */
+        @Nullable
+        private DefinitionAssets nextDefinition() {
+            while (pending.isEmpty() && definitions.hasNext()) {
+                fetchBatch();
+            }
+            return pending.poll();
+        }
+
+        private void fetchBatch() {
+            // the batch does not need to be larger than the number of offers still to be skipped or returned
+            var batchSize = (int) Math.max(1, Math.min(SELECTOR_BATCH_SIZE, (long) skip + remaining));
+            var batch = new ArrayList<ContractDefinition>();
+            while (batch.size() < batchSize && definitions.hasNext()) {
+                batch.add(definitions.next());
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            var assets = selectAssets(batch);
+            for (var i = 0; i < batch.size(); i++) {
+                var definition = batch.get(i);
+                // the contract policy is only needed if the definition has offers
+                var policy = assets.get(i).isEmpty() ? Optional.<PolicyDefinition>empty() :
+                        policies.computeIfAbsent(definition.getContractPolicyId(), id -> Optional.ofNullable(policyStore.findById(id)));
+                if (policy.isPresent()) {
+                    var sortedAssets = new ArrayList<>(assets.get(i));
+                    sortedAssets.sort(Comparator.comparing(Asset::getId));
+                    pending.add(new DefinitionAssets(definition, policy.get().getPolicy(), sortedAssets));
+                }
+            }
+        }
+
+        /**
+         * Returns the assets of each definition that match the criteria of the query. The selectors that have not been
+         * evaluated in memory are evaluated by the asset index, with the criteria of the query added to them.
+         */
+        private List<List<Asset>> selectAssets(List<ContractDefinition> batch) {
+            var result = new ArrayList<List<Asset>>();
+            var remainingDefinitions = new ArrayList<Integer>();
+            for (var i = 0; i < batch.size(); i++) {
+                var assets = matchingAssets.remove(batch.get(i).getId());
+                result.add(assets);
+                if (assets == null) {
+                    remainingDefinitions.add(i);
+                }
+            }
+            if (remainingDefinitions.isEmpty()) {
+                return result;
+            }
+
+            var selectors = remainingDefinitions.stream()
+                    .map(i -> {
+                        var selector = batch.get(i).getSelectorExpression();
+                        if (criteria.isEmpty()) {
+                            return selector;
+                        }
+                        var selectorCriteria = new ArrayList<>(selector.getCriteria());
+                        selectorCriteria.addAll(criteria);
+                        return AssetSelectorExpression.Builder.newInstance().criteria(selectorCriteria).build();
+                    })
+                    .collect(Collectors.toList());
+            var assets = assetIndex.batchQueryAssets(selectors);
+            for (var i = 0; i < remainingDefinitions.size(); i++) {
+                result.set(remainingDefinitions.get(i), assets.get(i));
+            }
+            return result;
+        }
+    }
+
+    private static class DefinitionAssets {
+        private final ContractDefinition definition;
+        private final Policy policy;
+        private final List<Asset> assets;
+
+        DefinitionAssets(ContractDefinition definition, Policy policy, List<Asset> assets) {
+            this.definition = definition;
+            this.policy = policy;
+            this.assets = assets;
+        }
+    }
+
+    /**
+     * Key of the last offer of the previous range: its id and its asset id. The id of an offer is made of its definition
+     * id and a unique suffix, which does not contain the delimiter.
+     */
+    private static class OfferKey {
+        private final String definitionId;
+        private final String assetId;
+
+        OfferKey(List<String> key) {
+            var delimiter = key.size() == 2 ? key.get(0).lastIndexOf(':') : -1;
+            if (delimiter <= 0) {
+                throw new IllegalArgumentException("The key of a contract offer is made of its id and its asset id, got: " + key);
+            }
+            definitionId = key.get(0).substring(0, delimiter);
+            assetId = key.get(1);
+        }
+    }
 }
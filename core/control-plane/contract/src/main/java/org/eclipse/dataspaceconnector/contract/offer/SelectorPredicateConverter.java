@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import org.eclipse.dataspaceconnector.spi.query.BaseCriterionToPredicateConverter;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Converts the criteria of an asset selector into a {@code Predicate<Asset>}, to evaluate it on assets that have
+ * already been fetched from the asset index.
+ */
+class SelectorPredicateConverter extends BaseCriterionToPredicateConverter<Asset> {
+    private static final Set<String> SUPPORTED_OPERATORS = Set.of("=", "in");
+
+    /**
+     * Returns whether all the criteria can be converted. Selectors using other operators have to be evaluated by the
+     * asset index.
+     */
+    boolean canConvert(Collection<Criterion> criteria) {
+        return criteria.stream().allMatch(criterion -> criterion.getOperandLeft() instanceof String &&
+                SUPPORTED_OPERATORS.contains(criterion.getOperator().toLowerCase()) &&
+                (!"in".equalsIgnoreCase(criterion.getOperator()) || criterion.getOperandRight() instanceof Iterable));
+    }
+
+    @Override
+    protected <R> R property(String key, Object object) {
+        var asset = (Asset) object;
+        if (asset.getProperties() == null || asset.getProperties().isEmpty()) {
+            return null;
+        }
+        return (R) asset.getProperty(key);
+    }
+}
@@ -259,6 +259,19 @@ class ConsumerContractNegotiationManagerImplTest {
         });
     }
 
+    @Test
+    void initial_shouldSaveAllTheTransitionsOfTheTickWithOneCall() {
+        var negotiations = List.of(contractNegotiationBuilder().state(INITIAL.code()).build(), contractNegotiationBuilder().state(INITIAL.code()).build());
+        when(store.nextForState(eq(INITIAL.code()), anyInt())).thenReturn(negotiations).thenReturn(emptyList());
+
+        negotiationManager.start();
+
+        await().untilAsserted(() -> {
+            verify(store).saveAll(argThat(saved -> saved.size() == 2 && saved.stream().allMatch(p -> p.getState() == REQUESTING.code())));
+            verify(store, never()).save(any());
+        });
+    }
+
     @Test
     void requesting_shouldSendOfferAndTransitionRequested() {
         var negotiation = contractNegotiationBuilder().state(REQUESTING.code()).contractOffer(contractOffer()).build();
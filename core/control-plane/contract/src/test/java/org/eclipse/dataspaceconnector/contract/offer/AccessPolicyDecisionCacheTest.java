@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.contract.offer;
+
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.event.contractdefinition.ContractDefinitionDeleted;
+import org.eclipse.dataspaceconnector.spi.event.policydefinition.PolicyDefinitionDeleted;
+import org.eclipse.dataspaceconnector.spi.policy.PolicyDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessPolicyDecisionCacheTest {
+    private static final Instant NOW = Instant.now();
+
+    private final ParticipantAgent agent = new ParticipantAgent(Map.of("region", "eu"), Map.of());
+    private final PolicyDefinition policy = policyDefinition("access", 1);
+
+    @Test
+    void get_shouldReturnDecisionForSameAgentAndPolicy() {
+        var cache = new AccessPolicyDecisionCache(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(10), 100);
+
+        cache.put(policy, agent, false);
+
+        assertThat(cache.get(policy, new ParticipantAgent(Map.of("region", "eu"), Map.of()))).isFalse();
+        assertThat(cache.get(policy, new ParticipantAgent(Map.of("region", "us"), Map.of()))).isNull();
+        assertThat(cache.get(policyDefinition("access", 2), agent)).isNull();
+        assertThat(cache.get(policyDefinition("other", 1), agent)).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNullAfterTimeToLive() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(9), NOW.plusSeconds(10));
+        var cache = new AccessPolicyDecisionCache(clock, Duration.ofSeconds(10), 100);
+
+        cache.put(policy, agent, true);
+
+        assertThat(cache.get(policy, agent)).isTrue();
+        assertThat(cache.get(policy, agent)).isNull();
+    }
+
+    @Test
+    void on_shouldInvalidateDecisionsOfDeletedPolicy() {
+        var cache = new AccessPolicyDecisionCache(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(10), 100);
+        var otherPolicy = policyDefinition("other", 1);
+        cache.put(policy, agent, true);
+        cache.put(otherPolicy, agent, true);
+
+        cache.on(PolicyDefinitionDeleted.Builder.newInstance().policyDefinitionId("access").at(NOW.toEpochMilli()).build());
+
+        assertThat(cache.get(policy, agent)).isNull();
+        assertThat(cache.get(otherPolicy, agent)).isTrue();
+    }
+
+    @Test
+    void on_shouldClearDecisionsWhenContractDefinitionChanges() {
+        var cache = new AccessPolicyDecisionCache(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(10), 100);
+        cache.put(policy, agent, true);
+
+        cache.on(ContractDefinitionDeleted.Builder.newInstance().contractDefinitionId("definition").at(NOW.toEpochMilli()).build());
+
+        assertThat(cache.get(policy, agent)).isNull();
+    }
+
+    private static PolicyDefinition policyDefinition(String id, long createdAt) {
+        return PolicyDefinition.Builder.newInstance().id(id).createdAt(createdAt).policy(Policy.Builder.newInstance().build()).build();
+    }
+}
@@ -23,24 +23,31 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyDefinition;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.policy.store.PolicyDefinitionStore;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression.SELECT_ALL;
 import static org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService.CATALOGING_SCOPE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -73,6 +80,56 @@ class ContractDefinitionServiceImplTest {
         verify(definitionStore).findAll(any());
     }
 
+    @Test
+    void definitionsFor_shouldNotEvaluateAccessPolicyOfFilteredOutDefinitions() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(CATALOGING_SCOPE, def.getPolicy(), agent)).thenReturn(Result.success(def.getPolicy()));
+        when(definitionStore.findAll(any())).thenReturn(Stream.of(
+                ContractDefinition.Builder.newInstance().id("1").accessPolicyId("access1").contractPolicyId("contract").selectorExpression(SELECT_ALL).build(),
+                ContractDefinition.Builder.newInstance().id("2").accessPolicyId("access2").contractPolicyId("contract").selectorExpression(SELECT_ALL).build()));
+
+        var definitions = definitionService.definitionsFor(agent, null, definition -> definition.getId().equals("2"));
+
+        assertThat(definitions).extracting(ContractDefinition::getId).containsExactly("2");
+        verify(policyStore).findById("access2");
+        verify(policyStore, never()).findById("access1");
+    }
+
+    @Test
+    void definitionsFor_shouldReadDefinitionsFromTheGivenIdOrderedById_andEvaluateAccessPoliciesOfConsumedDefinitionsOnly() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(CATALOGING_SCOPE, def.getPolicy(), agent)).thenReturn(Result.success(def.getPolicy()));
+        when(definitionStore.findById("2")).thenReturn(contractDefinition("2", "access2"));
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(contractDefinition("3", "access3")));
+
+        assertThat(definitionService.definitionsFor(agent, "2", definition -> true).limit(1)).extracting(ContractDefinition::getId).containsExactly("2");
+        verify(definitionStore, never()).findAll(any());
+        verify(policyStore, never()).findById("access3");
+
+        assertThat(definitionService.definitionsFor(agent, "2", definition -> true)).extracting(ContractDefinition::getId).containsExactly("2", "3");
+        verify(definitionStore).findAll(argThat(spec -> "id".equals(spec.getSortField()) && QueryCursor.decode(spec.getCursor()).getId().equals("2")));
+    }
+
+    @Test
+    void definitionsFor_shouldReadDefinitionsInChunks() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(CATALOGING_SCOPE, def.getPolicy(), agent)).thenReturn(Result.success(def.getPolicy()));
+        var firstChunk = IntStream.range(0, 100).mapToObj(i -> contractDefinition(String.format("%03d", i))).collect(Collectors.toList());
+        when(definitionStore.findAll(any())).thenReturn(firstChunk.stream(), Stream.of(contractDefinition("100")));
+
+        var definitions = definitionService.definitionsFor(agent, null, definition -> true);
+
+        assertThat(definitions).hasSize(101);
+        verify(definitionStore).findAll(argThat(spec -> spec.getCursor() == null && spec.getLimit() == 100));
+        verify(definitionStore).findAll(argThat(spec -> spec.getCursor() != null && QueryCursor.decode(spec.getCursor()).getId().equals("099")));
+    }
+
     @Test
     void definitionsFor_verifyDoesNotSatisfyAccessPolicy() {
         var agent = new ParticipantAgent(Map.of(), Map.of());
@@ -103,6 +160,35 @@ class ContractDefinitionServiceImplTest {
         verify(policyEngine, never()).evaluate(any(), any(), any());
     }
 
+    @Test
+    void definitionsFor_shouldLookUpSharedAccessPolicyOnce() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var def = PolicyDefinition.Builder.newInstance().id("access").policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById("access")).thenReturn(def);
+        when(policyEngine.evaluate(CATALOGING_SCOPE, def.getPolicy(), agent)).thenReturn(Result.success(def.getPolicy()));
+        when(definitionStore.findAll(any())).thenReturn(Stream.of(contractDefinition("1"), contractDefinition("2"), contractDefinition("3")));
+
+        var definitions = definitionService.definitionsFor(agent, DEFAULT_RANGE);
+
+        assertThat(definitions).hasSize(3);
+        verify(policyStore, times(1)).findById("access");
+    }
+
+    @Test
+    void definitionsFor_shouldReuseCachedDecision() {
+        var service = new ContractDefinitionServiceImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore,
+                new AccessPolicyDecisionCache(Clock.systemUTC(), Duration.ofMinutes(1), 100));
+        var def = PolicyDefinition.Builder.newInstance().id("access").policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById("access")).thenReturn(def);
+        when(policyEngine.evaluate(eq(CATALOGING_SCOPE), eq(def.getPolicy()), any())).thenReturn(Result.failure("denied"));
+        when(definitionStore.findAll(any())).thenAnswer(i -> Stream.of(contractDefinition("1"), contractDefinition("2")));
+
+        assertThat(service.definitionsFor(new ParticipantAgent(Map.of("region", "eu"), Map.of()), DEFAULT_RANGE)).isEmpty();
+        assertThat(service.definitionsFor(new ParticipantAgent(Map.of("region", "eu"), Map.of()), DEFAULT_RANGE)).isEmpty();
+
+        verify(policyEngine, times(1)).evaluate(eq(CATALOGING_SCOPE), eq(def.getPolicy()), any());
+    }
+
     @Test
     void definitionFor_found() {
         var agent = new ParticipantAgent(Map.of(), Map.of());
@@ -130,4 +216,11 @@ class ContractDefinitionServiceImplTest {
         verify(policyEngine, never()).evaluate(any(), any(), any());
     }
 
+    private ContractDefinition contractDefinition(String id) {
+        return contractDefinition(id, "access");
+    }
+
+    private ContractDefinition contractDefinition(String id, String accessPolicyId) {
+        return ContractDefinition.Builder.newInstance().id(id).accessPolicyId(accessPolicyId).contractPolicyId("contract").selectorExpression(SELECT_ALL).build();
+    }
 }
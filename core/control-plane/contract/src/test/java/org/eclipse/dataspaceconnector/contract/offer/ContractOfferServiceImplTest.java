@@ -20,6 +20,7 @@ import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgent;
 import org.eclipse.dataspaceconnector.spi.agent.ParticipantAgentService;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.contract.ContractId;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferQuery;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
@@ -27,26 +28,39 @@ import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.message.Range;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyDefinition;
 import org.eclipse.dataspaceconnector.spi.policy.store.PolicyDefinitionStore;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class ContractOfferServiceImplTest {
 
     private static final Range DEFAULT_RANGE = new Range(0, 10);
-    private final ContractDefinitionService contractDefinitionService = mock(ContractDefinitionService.class);
+    private final ContractDefinitionService contractDefinitionService = mock(ContractDefinitionService.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
     private final AssetIndex assetIndex = mock(AssetIndex.class);
     private final ParticipantAgentService agentService = mock(ParticipantAgentService.class);
     private final PolicyDefinitionStore policyStore = mock(PolicyDefinitionStore.class);
@@ -69,19 +83,151 @@ class ContractOfferServiceImplTest {
 
         when(agentService.createFor(isA(ClaimToken.class))).thenReturn(new ParticipantAgent(emptyMap(), emptyMap()));
         when(contractDefinitionService.definitionsFor(isA(ParticipantAgent.class), any())).thenReturn(Stream.of(contractDefinition));
-        var assetStream = Stream.of(Asset.Builder.newInstance().build(), Asset.Builder.newInstance().build());
-        when(assetIndex.queryAssets(isA(AssetSelectorExpression.class))).thenReturn(assetStream);
+        var assets = List.of(Asset.Builder.newInstance().build(), Asset.Builder.newInstance().build());
+        when(assetIndex.batchQueryAssets(anyList())).thenReturn(List.of(assets));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
 
         var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
 
         assertThat(contractOfferService.queryContractOffers(query, DEFAULT_RANGE)).hasSize(2);
         verify(agentService).createFor(isA(ClaimToken.class));
-        verify(contractDefinitionService).definitionsFor(isA(ParticipantAgent.class), eq(DEFAULT_RANGE));
-        verify(assetIndex).queryAssets(isA(AssetSelectorExpression.class));
+        verify(contractDefinitionService).definitionsFor(isA(ParticipantAgent.class), argThat(range -> range.getFrom() == 0 && range.getTo() == Integer.MAX_VALUE));
+        verify(assetIndex).batchQueryAssets(List.of(AssetSelectorExpression.SELECT_ALL));
         verify(policyStore).findById("contract");
     }
 
+    @Test
+    void shouldEvaluateSelectorsOfAllDefinitionsAtOnce() {
+        var selector1 = AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_ID, "1").build();
+        var selector2 = AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_ID, "2").build();
+        var definition1 = ContractDefinition.Builder.newInstance().id("1").accessPolicyId("access").contractPolicyId("contract").selectorExpression(selector1).build();
+        var definition2 = ContractDefinition.Builder.newInstance().id("2").accessPolicyId("access").contractPolicyId("contract").selectorExpression(selector2).build();
+        var asset1 = Asset.Builder.newInstance().id("1").build();
+        var asset2 = Asset.Builder.newInstance().id("2").build();
+        when(agentService.createFor(isA(ClaimToken.class))).thenReturn(new ParticipantAgent(emptyMap(), emptyMap()));
+        when(contractDefinitionService.definitionsFor(isA(ParticipantAgent.class), any())).thenReturn(Stream.of(definition1, definition2));
+        when(assetIndex.batchQueryAssets(anyList())).thenReturn(List.of(List.of(asset1), List.of(asset2)));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
+
+        assertThat(contractOfferService.queryContractOffers(query, DEFAULT_RANGE))
+                .extracting(offer -> offer.getAsset().getId())
+                .containsExactly("1", "2");
+        verify(assetIndex).batchQueryAssets(List.of(selector1, selector2));
+    }
+
+    @Test
+    void shouldPaginateOffers() {
+        var definitions = List.of(definition("d1", "a1", "a2", "a3"), definition("d2"), definition("d3", "b1", "b2", "b3", "b4"));
+        mockDefinitions(definitions);
+
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
+
+        assertThat(contractOfferService.queryContractOffers(query, new Range(2, 5))).extracting(offer -> offer.getAsset().getId())
+                .containsExactly("a3", "b1", "b2");
+        assertThat(contractOfferService.queryContractOffers(query, new Range(6, 10))).extracting(offer -> offer.getAsset().getId())
+                .containsExactly("b4");
+    }
+
+    @Test
+    void shouldStartAfterTheKeyOfTheLastOfferOfThePreviousRange() {
+        var definitions = List.of(definition("d1", "a1", "a2"), definition("d2", "b1", "b2"), definition("d3", "c1"));
+        mockDefinitions(definitions);
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
+
+        assertThat(contractOfferService.queryContractOffers(query, new Range(0, 3))).extracting(offer -> offer.getAsset().getId())
+                .containsExactly("a1", "a2", "b1");
+        assertThat(contractOfferService.queryContractOffers(query, new Range(0, 3, List.of(ContractId.createContractId("d2"), "b1")))).extracting(offer -> offer.getAsset().getId())
+                .containsExactly("b2", "c1");
+
+        // the second range starts from the second definition, the assets of the first one are not queried again
+        verify(assetIndex, times(1)).batchQueryAssets(argThat(selectors -> selectors.contains(definitions.get(0).getSelectorExpression())));
+    }
+
+    @Test
+    void shouldSkipFromTheKeyOfTheLastOfferOfThePreviousRange() {
+        mockDefinitions(List.of(definition("d1", "a1", "a2"), definition("d2", "b1", "b2"), definition("d3", "c1")));
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
+
+        assertThat(contractOfferService.queryContractOffers(query, new Range(1, 3, List.of(ContractId.createContractId("d1"), "a2")))).extracting(offer -> offer.getAsset().getId())
+                .containsExactly("b2", "c1");
+    }
+
+    @Test
+    void shouldRejectKeyNotMadeOfOfferAndAsset() {
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
+
+        assertThatThrownBy(() -> contractOfferService.queryContractOffers(query, new Range(0, 3, List.of(ContractId.createContractId("d1"))))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> contractOfferService.queryContractOffers(query, new Range(0, 3, List.of("d1", "a1")))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReadDefinitionsFromTheDefinitionOfTheKey() {
+        mockDefinitions(List.of(definition("urn:d1", "a1", "a2"), definition("urn:d2", "b1")));
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
+
+        assertThat(contractOfferService.queryContractOffers(query, new Range(0, 3, List.of(ContractId.createContractId("urn:d1"), "a1"))))
+                .extracting(offer -> offer.getAsset().getId())
+                .containsExactly("a2", "b1");
+        verify(contractDefinitionService).definitionsFor(isA(ParticipantAgent.class), eq("urn:d1"), any());
+    }
+
+    @Test
+    void shouldContinueAfterDefinitionsWithoutAssets() {
+        mockDefinitions(List.of(definition("d1"), definition("d2"), definition("d3", "a1")));
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
+
+        assertThat(contractOfferService.queryContractOffers(query, new Range(0, 1))).extracting(offer -> offer.getAsset().getId())
+                .containsExactly("a1");
+    }
+
+    @Test
+    void shouldStopOnceRangeIsFilled() {
+        var definitions = IntStream.range(0, 100).mapToObj(i -> definition("d" + i, "a" + i)).collect(Collectors.toList());
+        mockDefinitions(definitions);
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
+
+        assertThat(contractOfferService.queryContractOffers(query, new Range(0, 2))).hasSize(2);
+
+        verify(assetIndex).batchQueryAssets(argThat(selectors -> selectors.size() == 2));
+        verifyNoMoreInteractions(assetIndex);
+    }
+
+    @Test
+    void shouldEvaluateSelectorsOnAssetsMatchingQueryCriteria() {
+        var definitions = List.of(definition("d1", "a1", "a2"), definition("d2", "a3"), definition("d3", "a2"));
+        mockDefinitions(definitions);
+        when(assetIndex.queryAssets(any(QuerySpec.class))).thenReturn(Stream.of(Asset.Builder.newInstance().id("a2").build()));
+        var query = ContractOfferQuery.builder()
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .criterion(new Criterion(Asset.PROPERTY_ID, "=", "a2"))
+                .build();
+
+        assertThat(contractOfferService.queryContractOffers(query, DEFAULT_RANGE))
+                .extracting(offer -> ContractId.parseContractId(offer.getId())[0])
+                .containsExactly("d1", "d3");
+        verify(assetIndex).queryAssets(argThat((QuerySpec spec) -> spec.getFilterExpression().equals(query.getCriteria())));
+        verify(assetIndex, never()).batchQueryAssets(anyList());
+    }
+
+    @Test
+    void shouldPushQueryCriteriaToAssetIndex_whenSelectorCannotBeEvaluatedInMemory() {
+        var selector = AssetSelectorExpression.Builder.newInstance().constraint(Asset.PROPERTY_ID, "like", "a%").build();
+        var definition = ContractDefinition.Builder.newInstance().id("d1").accessPolicyId("access").contractPolicyId("contract").selectorExpression(selector).build();
+        when(agentService.createFor(isA(ClaimToken.class))).thenReturn(new ParticipantAgent(emptyMap(), emptyMap()));
+        when(contractDefinitionService.definitionsFor(isA(ParticipantAgent.class), any())).thenReturn(Stream.of(definition));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        when(assetIndex.queryAssets(any(QuerySpec.class))).thenReturn(Stream.of(Asset.Builder.newInstance().id("a2").build()));
+        when(assetIndex.batchQueryAssets(anyList())).thenReturn(List.of(List.of(Asset.Builder.newInstance().id("a2").build())));
+        var criterion = new Criterion(Asset.PROPERTY_ID, "=", "a2");
+        var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).criterion(criterion).build();
+
+        assertThat(contractOfferService.queryContractOffers(query, DEFAULT_RANGE)).hasSize(1);
+        verify(assetIndex).batchQueryAssets(argThat(selectors -> selectors.size() == 1 &&
+                selectors.get(0).getCriteria().equals(List.of(selector.getCriteria().get(0), criterion))));
+    }
+
     @Test
     void shouldNotGetContractOfferIfPolicyIsNotFound() {
         var contractDefinition = ContractDefinition.Builder.newInstance()
@@ -92,7 +238,7 @@ class ContractOfferServiceImplTest {
                 .build();
         when(agentService.createFor(isA(ClaimToken.class))).thenReturn(new ParticipantAgent(emptyMap(), emptyMap()));
         when(contractDefinitionService.definitionsFor(isA(ParticipantAgent.class), any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(AssetSelectorExpression.class))).thenReturn(Stream.of(Asset.Builder.newInstance().build()));
+        when(assetIndex.batchQueryAssets(anyList())).thenReturn(List.of(List.of(Asset.Builder.newInstance().build())));
         when(policyStore.findById(any())).thenReturn(null);
 
         var query = ContractOfferQuery.builder().claimToken(ClaimToken.Builder.newInstance().build()).build();
@@ -101,4 +247,25 @@ class ContractOfferServiceImplTest {
 
         assertThat(result).hasSize(0);
     }
+
+    private ContractDefinition definition(String id, String... assetIds) {
+        return ContractDefinition.Builder.newInstance()
+                .id(id)
+                .accessPolicyId("access")
+                .contractPolicyId("contract")
+                .selectorExpression(AssetSelectorExpression.Builder.newInstance().constraint(Asset.PROPERTY_ID, "in", List.of(assetIds)).build())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockDefinitions(List<ContractDefinition> definitions) {
+        when(agentService.createFor(isA(ClaimToken.class))).thenReturn(new ParticipantAgent(emptyMap(), emptyMap()));
+        when(contractDefinitionService.definitionsFor(isA(ParticipantAgent.class), any())).thenAnswer(i -> definitions.stream());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        when(assetIndex.batchQueryAssets(anyList())).thenAnswer(i -> ((List<AssetSelectorExpression>) i.getArgument(0)).stream()
+                .map(selector -> ((List<String>) selector.getCriteria().get(0).getOperandRight()).stream()
+                        .map(id -> Asset.Builder.newInstance().id(id).build())
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toList()));
+    }
 }
@@ -14,6 +14,7 @@
 
 plugins {
     `java-library`
+    id("me.champeau.jmh")
 }
 
 
@@ -26,6 +27,10 @@ dependencies {
     implementation(project(":common:util"))
 }
 
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
+}
+
 publishing {
     publications {
         create<MavenPublication>("control-plane-core") {
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.controlplane.defaults;
+
+import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
+import org.eclipse.dataspaceconnector.contract.offer.ContractDefinitionServiceImpl;
+import org.eclipse.dataspaceconnector.contract.offer.ContractOfferServiceImpl;
+import org.eclipse.dataspaceconnector.core.base.agent.ParticipantAgentServiceImpl;
+import org.eclipse.dataspaceconnector.core.base.policy.PolicyEngineImpl;
+import org.eclipse.dataspaceconnector.core.base.policy.RuleBindingRegistryImpl;
+import org.eclipse.dataspaceconnector.core.base.policy.ScopeFilter;
+import org.eclipse.dataspaceconnector.core.controlplane.defaults.assetindex.InMemoryAssetIndex;
+import org.eclipse.dataspaceconnector.core.controlplane.defaults.contractdefinition.InMemoryContractDefinitionStore;
+import org.eclipse.dataspaceconnector.core.controlplane.defaults.policystore.InMemoryPolicyDefinitionStore;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferQuery;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.message.Range;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.policy.PolicyDefinition;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the contract offers of a single asset, as requested by an IDS description request of a resource. The
+ * latency is expected to stay flat as the number of assets, and therefore of offers in the catalog, grows.
+ * Run with {@code ./gradlew :core:control-plane:control-plane-core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ContractOfferServiceBenchmark {
+
+    private static final int DEFINITIONS = 100;
+    private static final Range RANGE = new Range(0, 50);
+
+    @Param({ "1000", "10000", "100000" })
+    private int assets;
+
+    private ContractOfferServiceImpl contractOfferService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var assetIndex = new InMemoryAssetIndex();
+        for (int i = 0; i < assets; i++) {
+            var asset = Asset.Builder.newInstance()
+                    .id("asset-" + i)
+                    .property("category", "category-" + (i % DEFINITIONS))
+                    .build();
+            assetIndex.accept(asset, DataAddress.Builder.newInstance().type("test").build());
+        }
+
+        var policyStore = new InMemoryPolicyDefinitionStore(new LockManager(new ReentrantReadWriteLock(true)));
+        policyStore.save(PolicyDefinition.Builder.newInstance().id("policy").policy(Policy.Builder.newInstance().build()).build());
+
+        var definitionStore = new InMemoryContractDefinitionStore();
+        for (int i = 0; i < DEFINITIONS; i++) {
+            definitionStore.save(ContractDefinition.Builder.newInstance()
+                    .id("definition-" + i)
+                    .accessPolicyId("policy")
+                    .contractPolicyId("policy")
+                    .selectorExpression(AssetSelectorExpression.Builder.newInstance().whenEquals("category", "category-" + i).build())
+                    .build());
+        }
+
+        var ruleBindingRegistry = new RuleBindingRegistryImpl();
+        var policyEngine = new PolicyEngineImpl(new ScopeFilter(ruleBindingRegistry));
+        var definitionService = new ContractDefinitionServiceImpl(new Monitor() {
+        }, definitionStore, policyEngine, policyStore);
+        contractOfferService = new ContractOfferServiceImpl(new ParticipantAgentServiceImpl(), definitionService, assetIndex, policyStore);
+    }
+
+    @Benchmark
+    public List<ContractOffer> queryContractOffers_singleAsset() {
+        var assetId = "asset-" + ThreadLocalRandom.current().nextInt(assets);
+        var query = ContractOfferQuery.Builder.newInstance()
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .criterion(new Criterion(Asset.PROPERTY_ID, "=", assetId))
+                .build();
+        return contractOfferService.queryContractOffers(query, RANGE).collect(Collectors.toList());
+    }
+}
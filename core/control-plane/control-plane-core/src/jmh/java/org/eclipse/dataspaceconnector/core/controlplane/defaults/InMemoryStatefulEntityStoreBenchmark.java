@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.controlplane.defaults;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the indexed {@link InMemoryStatefulEntityStore} against the previous full-scan implementation.
+ * Every invocation leases a batch of entities and puts them back, as a state machine tick does.
+ * Run with {@code ./gradlew :core:control-plane:control-plane-core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class InMemoryStatefulEntityStoreBenchmark {
+
+    private static final int BATCH_SIZE = 5;
+    private static final int[] STATES = {
+            TransferProcessStates.INITIAL.code(), TransferProcessStates.PROVISIONING.code(), TransferProcessStates.REQUESTING.code(),
+            TransferProcessStates.IN_PROGRESS.code(), TransferProcessStates.COMPLETED.code()
+    };
+
+    @Param({ "1000", "100000" })
+    private int entities;
+
+    private InMemoryStatefulEntityStore<TransferProcess> indexed;
+    private ScanningStatefulEntityStore<TransferProcess> scanning;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        indexed = new InMemoryStatefulEntityStore<>(TransferProcess.class);
+        indexed.index("dataRequestId", p -> p.getDataRequest().getId());
+        scanning = new ScanningStatefulEntityStore<>();
+        for (int i = 0; i < entities; i++) {
+            var process = TransferProcess.Builder.newInstance()
+                    .id("process-" + i)
+                    .state(STATES[i % STATES.length])
+                    .stateTimestamp(i)
+                    .dataRequest(DataRequest.Builder.newInstance().id("request-" + i).destinationType("test").build())
+                    .build();
+            indexed.upsert(process);
+            scanning.upsert(process);
+        }
+    }
+
+    @Benchmark
+    public List<TransferProcess> nextForState_indexed() {
+        var leased = indexed.nextForState(randomState(), BATCH_SIZE);
+        leased.forEach(indexed::upsert);
+        return leased;
+    }
+
+    @Benchmark
+    public List<TransferProcess> nextForState_scanning() {
+        var leased = scanning.nextForState(randomState(), BATCH_SIZE);
+        leased.forEach(scanning::upsert);
+        return leased;
+    }
+
+    @Benchmark
+    public TransferProcess findByDataRequestId_indexed() {
+        return indexed.findByIndex("dataRequestId", randomRequestId()).findFirst().orElse(null);
+    }
+
+    @Benchmark
+    public TransferProcess findByDataRequestId_scanning() {
+        return scanning.findFirst(p -> p.getDataRequest().getId(), randomRequestId());
+    }
+
+    private int randomState() {
+        return STATES[ThreadLocalRandom.current().nextInt(STATES.length)];
+    }
+
+    private String randomRequestId() {
+        return "request-" + ThreadLocalRandom.current().nextInt(entities);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.controlplane.defaults;
+
+import org.eclipse.dataspaceconnector.spi.entity.StatefulEntity;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Baseline for the benchmarks: scans all the entities under a global lock, as {@link InMemoryStatefulEntityStore}
+ * used to do.
+ */
+class ScanningStatefulEntityStore<T extends StatefulEntity<T>> {
+    private final Map<String, Item<T>> entitiesById = new ConcurrentHashMap<>();
+
+    public void upsert(T entity) {
+        entitiesById.put(entity.getId(), new Item<>(entity.copy()));
+    }
+
+    public synchronized List<T> nextForState(int state, int max) {
+        var items = entitiesById.values().stream()
+                .filter(e -> e.item.getState() == state)
+                .filter(e -> !e.leased)
+                .sorted(Comparator.comparingLong(e -> e.item.getStateTimestamp()))
+                .limit(max)
+                .collect(toList());
+        items.forEach(e -> e.leased = true);
+        return items.stream().map(e -> e.item.copy()).collect(toList());
+    }
+
+    public T findFirst(Function<T, Object> attribute, Object value) {
+        return entitiesById.values().stream()
+                .map(e -> e.item)
+                .filter(it -> value.equals(attribute.apply(it)))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static class Item<V> {
+        private final V item;
+        private boolean leased = false;
+
+        Item(V item) {
+            this.item = item;
+        }
+    }
+}
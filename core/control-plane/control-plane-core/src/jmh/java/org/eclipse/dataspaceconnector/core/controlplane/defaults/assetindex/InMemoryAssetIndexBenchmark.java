@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.core.controlplane.defaults.assetindex;
+
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the evaluation of an asset selector through the property index of {@link InMemoryAssetIndex} against a
+ * full scan evaluating the predicates on every asset, as done for every contract definition of a catalog request.
+ * Run with {@code ./gradlew :core:control-plane:control-plane-core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class InMemoryAssetIndexBenchmark {
+
+    private static final int CATEGORIES = 500;
+
+    @Param({ "1000", "50000" })
+    private int assets;
+
+    private InMemoryAssetIndex index;
+    private AssetPredicateConverter predicateConverter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new InMemoryAssetIndex();
+        predicateConverter = new AssetPredicateConverter();
+        for (int i = 0; i < assets; i++) {
+            var asset = Asset.Builder.newInstance()
+                    .id("asset-" + i)
+                    .contentType("application/json")
+                    .property("category", "category-" + (i % CATEGORIES))
+                    .build();
+            index.accept(asset, DataAddress.Builder.newInstance().type("test").build());
+        }
+    }
+
+    @Benchmark
+    public List<Asset> queryAssets_indexed() {
+        return index.queryAssets(randomSelector()).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Asset> queryAssets_scanning() {
+        var predicate = randomSelector().getCriteria().stream().map(predicateConverter::convert).reduce(x -> true, Predicate::and);
+        return index.getAssets().values().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private AssetSelectorExpression randomSelector() {
+        var category = "category-" + ThreadLocalRandom.current().nextInt(CATEGORIES);
+        return AssetSelectorExpression.Builder.newInstance()
+                .whenEquals("category", category)
+                .whenEquals(Asset.PROPERTY_CONTENT_TYPE, "application/json")
+                .build();
+    }
+}
@@ -16,31 +16,62 @@ package org.eclipse.dataspaceconnector.core.controlplane.defaults;
 
 import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
 import org.eclipse.dataspaceconnector.spi.entity.StatefulEntity;
+import org.eclipse.dataspaceconnector.spi.observe.Observable;
+import org.eclipse.dataspaceconnector.spi.observe.ObservableImpl;
 import org.eclipse.dataspaceconnector.spi.query.QueryResolver;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.query.ReflectionBasedQueryResolver;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
-
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}.
  * This implementation is intended for testing purposes only.
+ * <p>
+ * Entities that are not leased are kept in a queue per state ordered by state timestamp, so that
+ * {@link #nextForState(int, int)} only touches the entities it returns. Lookups by other attributes can be served by
+ * secondary indexes registered with {@link #index(String, Function)}. Modifications are serialized per entity id on a
+ * fixed set of lock stripes instead of a global lock.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
+    private static final int LOCK_STRIPES = 32;
+    private static final Comparator<Item<?>> OLDEST_FIRST = Comparator.<Item<?>>comparingLong(i -> i.stateTimestamp).thenComparing(i -> i.id);
+
     private final Map<String, Item<T>> entitiesById = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<Item<T>>> availableByState = new ConcurrentHashMap<>();
+    private final Map<String, Index<T>> indexes = new ConcurrentHashMap<>();
+    private final LockManager[] lockStripes = new LockManager[LOCK_STRIPES];
     private final QueryResolver<T> queryResolver;
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
+    private final Observable<Runnable> stateChangeListeners = new ObservableImpl<>();
 
     public InMemoryStatefulEntityStore(Class<T> clazz) {
         queryResolver = new ReflectionBasedQueryResolver<>(clazz);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            lockStripes[i] = new LockManager(new ReentrantReadWriteLock());
+        }
+    }
+
+    /**
+     * Registers a secondary index. Must be called before any entity is stored.
+     *
+     * @param name         the index name, used by {@link #findByIndex(String, Object)}.
+     * @param keyExtractor extracts the key from the entity, entities with a null key are not indexed.
+     */
+    public void index(String name, Function<T, Object> keyExtractor) {
+        indexes.put(name, new Index<>(name, keyExtractor));
     }
 
     public T find(String id) {
@@ -51,12 +82,45 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
         return t.item.copy();
     }
 
+    /**
+     * Returns the entities that have the given key in the index.
+     */
+    public Stream<T> findByIndex(String name, Object key) {
+        var index = Objects.requireNonNull(indexes.get(name), "Index not registered: " + name);
+        return index.get(key).stream()
+                .map(entitiesById::get)
+                .filter(Objects::nonNull)
+                .map(e -> e.item);
+    }
+
     public void upsert(T entity) {
-        entitiesById.put(entity.getId(), new Item<>(entity.copy()));
+        var item = new Item<>(entity.copy());
+        var stateChanged = lockFor(item.id).writeLock(() -> {
+            var previous = entitiesById.put(item.id, item);
+            if (previous != null) {
+                availableFor(previous.state).remove(previous);
+                indexes.values().forEach(index -> index.remove(previous));
+            }
+            // an entity that is upserted is not leased anymore
+            availableFor(item.state).add(item);
+            indexes.values().forEach(index -> index.add(item));
+            return previous == null || previous.state != item.state;
+        });
+
+        if (stateChanged) {
+            stateChangeListeners.invokeForEach(Runnable::run);
+        }
     }
 
     public void delete(String id) {
-        entitiesById.remove(id);
+        lockFor(id).writeLock(() -> {
+            var previous = entitiesById.remove(id);
+            if (previous != null) {
+                availableFor(previous.state).remove(previous);
+                indexes.values().forEach(index -> index.remove(previous));
+            }
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
@@ -64,28 +128,92 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
     }
 
     public @NotNull List<T> nextForState(int state, int max) {
-        return lockManager.writeLock(() -> {
-            var items = entitiesById.values().stream()
-                    .filter(e -> e.item.getState() == state)
-                    .filter(e -> !e.leased)
-                    .sorted(Comparator.comparingLong(e -> e.item.getStateTimestamp())) //order by state timestamp, oldest first
-                    .limit(max)
-                    .collect(toList());
-            items.forEach(e -> e.leased = true);
-            return items.stream().map(e -> e.item.copy()).collect(toList());
-        });
+        var available = availableFor(state);
+        var result = new ArrayList<T>(Math.min(max, 64));
+        while (result.size() < max) {
+            var candidate = available.pollFirst();
+            if (candidate == null) {
+                break;
+            }
+            lockFor(candidate.id).writeLock(() -> {
+                // the entity could have been updated or deleted after it has been polled
+                if (entitiesById.get(candidate.id) == candidate) {
+                    result.add(candidate.item.copy());
+                }
+                return null;
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Registers a listener that gets notified when an entity is created or transitions to a new state.
+     */
+    public void registerStateChangeListener(Runnable listener) {
+        stateChangeListeners.registerListener(listener);
     }
 
     public Stream<T> findAll() {
         return entitiesById.values().stream().map(e -> e.item);
     }
 
-    private static class Item<V> {
+    private NavigableSet<Item<T>> availableFor(int state) {
+        return availableByState.computeIfAbsent(state, s -> new ConcurrentSkipListSet<>(OLDEST_FIRST));
+    }
+
+    private LockManager lockFor(String id) {
+        return lockStripes[Math.floorMod(id.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static class Item<V extends StatefulEntity<V>> {
         private final V item;
-        private boolean leased = false;
+        private final String id;
+        private final int state;
+        private final long stateTimestamp;
+        private final Map<String, Object> indexKeys = new HashMap<>();
 
         Item(V item) {
             this.item = item;
+            id = item.getId();
+            state = item.getState();
+            stateTimestamp = item.getStateTimestamp();
+        }
+    }
+
+    private static class Index<V extends StatefulEntity<V>> {
+        private final String name;
+        private final Function<V, Object> keyExtractor;
+        private final Map<Object, Set<String>> idsByKey = new ConcurrentHashMap<>();
+
+        Index(String name, Function<V, Object> keyExtractor) {
+            this.name = name;
+            this.keyExtractor = keyExtractor;
+        }
+
+        Set<String> get(Object key) {
+            return key == null ? Set.of() : idsByKey.getOrDefault(key, Set.of());
+        }
+
+        void add(Item<V> item) {
+            var key = keyExtractor.apply(item.item);
+            if (key != null) {
+                item.indexKeys.put(name, key);
+                idsByKey.compute(key, (k, ids) -> {
+                    var result = ids == null ? ConcurrentHashMap.<String>newKeySet() : ids;
+                    result.add(item.id);
+                    return result;
+                });
+            }
+        }
+
+        void remove(Item<V> item) {
+            var key = item.indexKeys.get(name);
+            if (key != null) {
+                idsByKey.computeIfPresent(key, (k, ids) -> {
+                    ids.remove(item.id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
         }
     }
 }
@@ -17,6 +17,8 @@ package org.eclipse.dataspaceconnector.core.controlplane.defaults.assetindex;
 import org.eclipse.dataspaceconnector.common.collection.CollectionUtil;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
@@ -25,9 +27,13 @@ import org.eclipse.dataspaceconnector.spi.types.domain.asset.AssetEntry;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
@@ -38,10 +44,20 @@ import static java.lang.String.format;
 
 /**
  * An ephemeral asset index, that is also a DataAddressResolver and an AssetLoader
+ * <p>
+ * The ids of the assets are indexed by property name and value, so that {@code =} and {@code in} criteria are
+ * answered by set intersections instead of evaluating a predicate on every asset. Criteria using other operators are
+ * evaluated on the assets selected by the indexed ones, or on all assets if there is none. The index is built when an
+ * asset is added, changes made to the properties of an asset after that are not reflected.
  */
 public class InMemoryAssetIndex implements AssetIndex {
+    private static final String EQUALS_OPERATOR = "=";
+    private static final String IN_OPERATOR = "in";
+
     private final Map<String, Asset> cache = new ConcurrentHashMap<>();
     private final Map<String, DataAddress> dataAddresses = new ConcurrentHashMap<>();
+    private final Map<String, Map<Object, Set<String>>> propertyIndex = new HashMap<>();
+    private final Map<String, Map<String, Object>> indexedProperties = new HashMap<>();
     private final AssetPredicateConverter predicateFactory;
     private final ReentrantReadWriteLock lock;
 
@@ -72,25 +88,48 @@ public class InMemoryAssetIndex implements AssetIndex {
         lock.readLock().lock();
         try {
             if (CollectionUtil.isNotEmpty(expr)) {
-                // convert all the criteria into predicates since we're in memory anyway, collate all predicates into one and
-                // apply it to the stream
-                var rootPredicate = expr.stream().map(predicateFactory::convert).reduce(x -> true, Predicate::and);
-                result = filterByPredicate(cache, rootPredicate);
+                var indexed = expr.stream().filter(this::isIndexed).collect(Collectors.toList());
+                // convert the other criteria into predicates since we're in memory anyway, collate all predicates into one
+                // and apply it to the stream
+                var rootPredicate = expr.stream().filter(criterion -> !isIndexed(criterion))
+                        .map(predicateFactory::convert).reduce(x -> true, Predicate::and);
+                if (indexed.isEmpty()) {
+                    result = filterByPredicate(cache, rootPredicate);
+                } else {
+                    var assetIds = selectIds(indexed);
+                    result = assetIds.stream().map(cache::get).filter(Objects::nonNull).filter(rootPredicate);
+                }
             } else {
                 result = cache.values().stream();
             }
 
             // ... then sort
             var sortField = querySpec.getSortField();
+            Comparator<Asset> comparator = null;
             if (sortField != null) {
-                result = result.sorted((asset1, asset2) -> {
+                comparator = (asset1, asset2) -> {
                     var f1 = asComparable(asset1.getProperty(sortField));
                     var f2 = asComparable(asset2.getProperty(sortField));
                     if (f1 == null || f2 == null) {
                         throw new IllegalArgumentException(format("Cannot sort by field %s, it does not exist on one or more Assets", sortField));
                     }
                     return querySpec.getSortOrder() == SortOrder.ASC ? f1.compareTo(f2) : f2.compareTo(f1);
-                });
+                };
+            }
+
+            // ... then seek to the cursor
+            if (querySpec.getCursor() != null) {
+                var cursor = QueryCursor.decode(querySpec.getCursor());
+                result = result.filter(asset -> cursor.precedes(sortField != null ? asset.getProperty(sortField) : null, asset.getId(), sortField != null, querySpec.getSortOrder()));
+                if (comparator == null) {
+                    comparator = (asset1, asset2) -> 0;
+                }
+            }
+            // the asset id makes the order total, so that the pages do not overlap
+            if (comparator != null) {
+                Comparator<Asset> idComparator = Comparator.comparing(Asset::getId);
+                comparator = comparator.thenComparing(querySpec.getSortOrder() == SortOrder.ASC ? idComparator : idComparator.reversed());
+                result = result.sorted(comparator);
             }
 
             // ... then limit
@@ -102,15 +141,12 @@ public class InMemoryAssetIndex implements AssetIndex {
 
     @Override
     public Asset findById(String assetId) {
-        Predicate<Asset> predicate = (asset) -> asset.getId().equals(assetId);
-        List<Asset> assets;
         lock.readLock().lock();
         try {
-            assets = filterByPredicate(cache, predicate).collect(Collectors.toList());
+            return cache.get(assetId);
         } finally {
             lock.readLock().unlock();
         }
-        return assets.isEmpty() ? null : assets.get(0);
     }
 
     @Override
@@ -158,7 +194,9 @@ public class InMemoryAssetIndex implements AssetIndex {
 
     private Asset delete(String assetId) {
         dataAddresses.remove(assetId);
-        return cache.remove(assetId);
+        var asset = cache.remove(assetId);
+        unindex(assetId);
+        return asset;
     }
 
     /**
@@ -169,9 +207,84 @@ public class InMemoryAssetIndex implements AssetIndex {
         Objects.requireNonNull(asset, "asset");
         Objects.requireNonNull(id, "asset.getId()");
         cache.put(id, asset);
+        unindex(id);
+        index(asset);
         dataAddresses.put(id, address);
     }
 
+    private boolean isIndexed(Criterion criterion) {
+        var operator = criterion.getOperator().toLowerCase();
+        return criterion.getOperandLeft() instanceof String && (EQUALS_OPERATOR.equals(operator) || IN_OPERATOR.equals(operator));
+    }
+
+    /**
+     * Returns the ids of the assets matching all the indexed criteria, starting the intersection with the smallest set.
+     * Must be called while holding the lock, the returned set is a copy.
+     */
+    private Set<String> selectIds(List<Criterion> criteria) {
+        var selections = criteria.stream().map(this::selectIds).sorted(Comparator.comparingInt(Set::size)).collect(Collectors.toList());
+        var assetIds = new HashSet<>(selections.get(0));
+        for (var i = 1; i < selections.size() && !assetIds.isEmpty(); i++) {
+            assetIds.retainAll(selections.get(i));
+        }
+        return assetIds;
+    }
+
+    private Set<String> selectIds(Criterion criterion) {
+        var values = propertyIndex.getOrDefault((String) criterion.getOperandLeft(), Map.of());
+        var operandRight = criterion.getOperandRight();
+        if (EQUALS_OPERATOR.equals(criterion.getOperator().toLowerCase())) {
+            return operandRight != null ? values.getOrDefault(operandRight, Set.of()) : Set.of();
+        }
+
+        if (!(operandRight instanceof Iterable)) {
+            throw new IllegalArgumentException("Operator IN requires the right-hand operand to be an " + Iterable.class.getName() + " but was " +
+                    (operandRight != null ? operandRight.getClass().getName() : null));
+        }
+        // same semantics as the predicate, which compares the string representation of the items
+        var assetIds = new HashSet<String>();
+        ((Iterable<?>) operandRight).forEach(o -> assetIds.addAll(values.getOrDefault(o.toString(), Set.of())));
+        return assetIds;
+    }
+
+    private void index(Asset asset) {
+        if (asset.getProperties() == null) {
+            return;
+        }
+        // keep a copy of the indexed properties, so that the asset can be removed from the index even if its properties
+        // have been changed in the meantime
+        var properties = new HashMap<>(asset.getProperties());
+        indexedProperties.put(asset.getId(), properties);
+        properties.forEach((name, value) -> {
+            if (value != null) {
+                propertyIndex.computeIfAbsent(name, k -> new HashMap<>()).computeIfAbsent(value, k -> new HashSet<>()).add(asset.getId());
+            }
+        });
+    }
+
+    private void unindex(String assetId) {
+        var properties = indexedProperties.remove(assetId);
+        if (properties == null) {
+            return;
+        }
+        properties.forEach((name, value) -> {
+            var values = propertyIndex.get(name);
+            if (value == null || values == null) {
+                return;
+            }
+            var assetIds = values.get(value);
+            if (assetIds != null) {
+                assetIds.remove(assetId);
+                if (assetIds.isEmpty()) {
+                    values.remove(value);
+                }
+            }
+            if (values.isEmpty()) {
+                propertyIndex.remove(name);
+            }
+        });
+    }
+
     private Stream<Asset> filterByPredicate(Map<String, Asset> assets, Predicate<Asset> predicate) {
         return assets.values().stream().filter(predicate);
     }
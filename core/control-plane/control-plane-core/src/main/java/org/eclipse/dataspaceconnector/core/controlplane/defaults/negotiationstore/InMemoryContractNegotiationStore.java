@@ -34,10 +34,18 @@ import java.util.stream.Stream;
  */
 public class InMemoryContractNegotiationStore implements ContractNegotiationStore {
 
+    private static final String CORRELATION_ID = "correlationId";
+    private static final String CONTRACT_AGREEMENT_ID = "contractAgreementId";
+
     private final InMemoryStatefulEntityStore<ContractNegotiation> store = new InMemoryStatefulEntityStore<>(ContractNegotiation.class);
     private final QueryResolver<ContractNegotiation> negotiationQueryResolver = new ReflectionBasedQueryResolver<>(ContractNegotiation.class);
     private final QueryResolver<ContractAgreement> agreementQueryResolver = new ReflectionBasedQueryResolver<>(ContractAgreement.class);
 
+    public InMemoryContractNegotiationStore() {
+        store.index(CORRELATION_ID, ContractNegotiation::getCorrelationId);
+        store.index(CONTRACT_AGREEMENT_ID, n -> n.getContractAgreement() == null ? null : n.getContractAgreement().getId());
+    }
+
     @Override
     public @Nullable ContractNegotiation find(String negotiationId) {
         return store.find(negotiationId);
@@ -45,15 +53,14 @@ public class InMemoryContractNegotiationStore implements ContractNegotiationStor
 
     @Override
     public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
-        return store.findAll().filter(p -> correlationId.equals(p.getCorrelationId())).findFirst().orElse(null);
+        return store.findByIndex(CORRELATION_ID, correlationId).findFirst().orElse(null);
     }
 
     @Override
     public @Nullable ContractAgreement findContractAgreement(String contractId) {
-        return store.findAll()
+        return store.findByIndex(CONTRACT_AGREEMENT_ID, contractId)
                 .map(ContractNegotiation::getContractAgreement)
                 .filter(Objects::nonNull)
-                .filter(a -> Objects.equals(contractId, a.getId()))
                 .findFirst()
                 .orElse(null);
     }
@@ -88,6 +95,11 @@ public class InMemoryContractNegotiationStore implements ContractNegotiationStor
         return store.nextForState(state, max);
     }
 
+    @Override
+    public void registerStateChangeListener(Runnable listener) {
+        store.registerStateChangeListener(listener);
+    }
+
     @NotNull
     private Stream<ContractAgreement> getAgreements() {
         return store.findAll()
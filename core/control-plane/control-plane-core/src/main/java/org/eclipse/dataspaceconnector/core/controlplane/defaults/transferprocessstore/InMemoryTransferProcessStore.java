@@ -30,13 +30,18 @@ import java.util.stream.Stream;
  */
 public class InMemoryTransferProcessStore implements TransferProcessStore {
 
+    private static final String DATA_REQUEST_ID = "dataRequestId";
+
     private final InMemoryStatefulEntityStore<TransferProcess> store = new InMemoryStatefulEntityStore<>(TransferProcess.class);
 
+    public InMemoryTransferProcessStore() {
+        store.index(DATA_REQUEST_ID, p -> p.getDataRequest() == null ? null : p.getDataRequest().getId());
+    }
+
     @Override
     @Nullable
     public String processIdForTransferId(String id) {
-        return store.findAll()
-                .filter(p -> id.equals(p.getDataRequest().getId()))
+        return store.findByIndex(DATA_REQUEST_ID, id)
                 .findFirst()
                 .map(TransferProcess::getId)
                 .orElse(null);
@@ -73,6 +78,11 @@ public class InMemoryTransferProcessStore implements TransferProcessStore {
         return store.nextForState(state, max);
     }
 
+    @Override
+    public void registerStateChangeListener(Runnable listener) {
+        store.registerStateChangeListener(listener);
+    }
+
     public Stream<TransferProcess> findAll() {
         return store.findAll();
     }
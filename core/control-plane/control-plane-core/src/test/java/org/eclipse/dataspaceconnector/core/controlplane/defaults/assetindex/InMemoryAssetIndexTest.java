@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.core.controlplane.defaults.assetindex;
 
 
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
@@ -24,12 +25,14 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression.SELECT_ALL;
 
 class InMemoryAssetIndexTest {
@@ -267,6 +270,24 @@ class InMemoryAssetIndexTest {
         assertThat(index.queryAssets(spec)).containsAll(assets);
     }
 
+    @Test
+    void findAll_withCursor() {
+        IntStream.range(0, 10)
+                .mapToObj(i -> createAsset("asset" + (i % 2), "id" + i))
+                .forEach(a -> index.accept(a, createDataAddress(a)));
+
+        var result = new ArrayList<Asset>();
+        String cursor = null;
+        do {
+            var spec = QuerySpec.Builder.newInstance().sortField("asset:prop:name").sortOrder(SortOrder.DESC).limit(4).cursor(cursor).build();
+            var page = index.queryAssets(spec).collect(Collectors.toList());
+            result.addAll(page);
+            cursor = QueryCursor.next(spec, page, Asset::getId, asset -> asset.getProperty("asset:prop:name"));
+        } while (cursor != null);
+
+        assertThat(result).extracting(Asset::getId).containsExactly("id9", "id7", "id5", "id3", "id1", "id8", "id6", "id4", "id2", "id0");
+    }
+
     @Test
     void deleteById_whenPresent_deletes() {
         var asset = createAsset("foobar");
@@ -279,6 +300,72 @@ class InMemoryAssetIndexTest {
         assertThat(assets).isEmpty();
     }
 
+    @Test
+    void queryAssets_inOperator() {
+        var testAsset1 = createAsset("foobar");
+        var testAsset2 = createAsset("barbaz");
+        var testAsset3 = createAsset("bazfoo");
+        index.accept(testAsset1, createDataAddress(testAsset1));
+        index.accept(testAsset2, createDataAddress(testAsset2));
+        index.accept(testAsset3, createDataAddress(testAsset3));
+
+        var assets = index.queryAssets(AssetSelectorExpression.Builder.newInstance()
+                .constraint(Asset.PROPERTY_NAME, "in", List.of("foobar", "bazfoo"))
+                .whenEquals(Asset.PROPERTY_VERSION, "1")
+                .build());
+
+        assertThat(assets).containsExactlyInAnyOrder(testAsset1, testAsset3);
+    }
+
+    @Test
+    void queryAssets_inOperator_invalidOperand() {
+        var testAsset = createAsset("foobar");
+        index.accept(testAsset, createDataAddress(testAsset));
+
+        assertThatThrownBy(() -> index.queryAssets(AssetSelectorExpression.Builder.newInstance()
+                .constraint(Asset.PROPERTY_NAME, "in", "(foobar, barbaz)")
+                .build()).collect(Collectors.toList()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void queryAssets_unsupportedOperator() {
+        var testAsset = createAsset("foobar");
+        index.accept(testAsset, createDataAddress(testAsset));
+
+        assertThatThrownBy(() -> index.queryAssets(AssetSelectorExpression.Builder.newInstance()
+                .whenEquals(Asset.PROPERTY_NAME, "foobar")
+                .constraint(Asset.PROPERTY_CONTENT_TYPE, "like", "content%")
+                .build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void queryAssets_afterReplacingAsset_shouldUseNewProperties() {
+        var id = UUID.randomUUID().toString();
+        var original = createAsset("foobar", id);
+        index.accept(original, createDataAddress(original));
+        var replacement = createAsset("barbaz", id);
+        index.accept(replacement, createDataAddress(replacement));
+
+        assertThat(index.queryAssets(AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_NAME, "foobar").build())).isEmpty();
+        assertThat(index.queryAssets(AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_NAME, "barbaz").build()))
+                .containsExactly(replacement);
+    }
+
+    @Test
+    void queryAssets_afterPropertiesChanged_shouldNotReturnStaleMatches() {
+        var asset = createAsset("foobar");
+        index.accept(asset, createDataAddress(asset));
+        asset.getProperties().put(Asset.PROPERTY_NAME, "barbaz");
+        index.deleteById(asset.getId());
+        var other = createAsset("foobar");
+        index.accept(other, createDataAddress(other));
+
+        assertThat(index.queryAssets(AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_NAME, "foobar").build()))
+                .containsExactly(other);
+    }
+
     @Test
     void deleteById_whenMissing_returnsNull() {
         assertThat(index.deleteById("not-exists")).isNull();
@@ -389,6 +389,19 @@ class InMemoryContractNegotiationStoreTest {
         assertThat(agreement).isNull();
     }
 
+    @Test
+    void findForCorrelationId() {
+        var negotiation = createNegotiationBuilder("negotiation1").correlationId("correlationId").build();
+        store.save(negotiation);
+
+        assertThat(store.findForCorrelationId("correlationId")).isNotNull().extracting(ContractNegotiation::getId).isEqualTo("negotiation1");
+        assertThat(store.findForCorrelationId("unknown")).isNull();
+
+        store.delete("negotiation1");
+
+        assertThat(store.findForCorrelationId("correlationId")).isNull();
+    }
+
     @NotNull
     private ContractNegotiation requestingNegotiation() {
         var negotiation = createNegotiation(UUID.randomUUID().toString());
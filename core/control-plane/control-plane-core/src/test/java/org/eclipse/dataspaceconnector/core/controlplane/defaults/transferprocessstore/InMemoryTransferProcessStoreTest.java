@@ -38,6 +38,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 class InMemoryTransferProcessStoreTest {
     private InMemoryTransferProcessStore store;
@@ -172,6 +176,49 @@ class InMemoryTransferProcessStoreTest {
         assertThat(list1).isNotEqualTo(list2).doesNotContainAnyElementsOf(list2);
     }
 
+    @Test
+    void nextForState_shouldNotReturnEntityThatChangedState() {
+        var process = initialTransferProcess();
+        store.create(process);
+        process.transitionProvisioning(ResourceManifest.Builder.newInstance().build());
+        store.update(process);
+
+        assertThat(store.nextForState(INITIAL.code(), 10)).isEmpty();
+        assertThat(store.nextForState(TransferProcessStates.PROVISIONING.code(), 10)).hasSize(1);
+    }
+
+    @Test
+    void nextForState_concurrentCalls_shouldLeaseEveryEntityOnce() {
+        var ids = IntStream.range(0, 1000).mapToObj(i -> {
+            var process = createProcess("test-process-" + i);
+            process.transitionInitial();
+            store.create(process);
+            return process.getId();
+        }).collect(Collectors.toList());
+
+        var leased = IntStream.range(0, 20).parallel()
+                .mapToObj(i -> store.nextForState(INITIAL.code(), 100))
+                .flatMap(List::stream)
+                .map(TransferProcess::getId)
+                .collect(Collectors.toList());
+
+        assertThat(leased).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    void processIdForTransferId_shouldFollowUpdates() {
+        var process = TransferProcess.Builder.newInstance().id("processId")
+                .dataRequest(DataRequest.Builder.newInstance().id("clientid1").destinationType("test").build()).build();
+        process.transitionInitial();
+        store.create(process);
+
+        var updated = process.toBuilder().dataRequest(DataRequest.Builder.newInstance().id("clientid2").destinationType("test").build()).build();
+        store.update(updated);
+
+        assertThat(store.processIdForTransferId("clientid1")).isNull();
+        assertThat(store.processIdForTransferId("clientid2")).isEqualTo("processId");
+    }
+
     @Test
     void findAll_noQuerySpec() {
         IntStream.range(0, 10).forEach(i -> store.create(createProcess("test-neg-" + i)));
@@ -221,6 +268,23 @@ class InMemoryTransferProcessStoreTest {
         assertThat(store.findAll(query).collect(Collectors.toList())).isEmpty();
     }
 
+    @Test
+    void stateChangeListener_shouldBeNotifiedOnCreationAndStateChange() {
+        var listener = mock(Runnable.class);
+        store.registerStateChangeListener(listener);
+        var process = initialTransferProcess();
+
+        store.create(process);
+        verify(listener).run();
+
+        store.update(process);
+        verifyNoMoreInteractions(listener);
+
+        process.transitionProvisioning(ResourceManifest.Builder.newInstance().build());
+        store.update(process);
+        verify(listener, times(2)).run();
+    }
+
     @NotNull
     private TransferProcess initialTransferProcess() {
         var process = TransferProcess.Builder.newInstance()
@@ -15,6 +15,8 @@
 
 package org.eclipse.dataspaceconnector.transfer.core;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.eclipse.dataspaceconnector.common.statemachine.retry.EntitySendRetryManager;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
@@ -26,6 +28,7 @@ import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistr
 import org.eclipse.dataspaceconnector.spi.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.policy.store.PolicyArchive;
 import org.eclipse.dataspaceconnector.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.dataspaceconnector.spi.retry.WaitStrategy;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.CoreExtension;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
@@ -61,6 +64,8 @@ import org.eclipse.dataspaceconnector.transfer.core.transfer.StatusCheckerRegist
 import org.eclipse.dataspaceconnector.transfer.core.transfer.TransferProcessManagerImpl;
 
 import java.time.Clock;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Provides core data transfer services to the system.
@@ -75,6 +80,10 @@ public class CoreTransferExtension implements ServiceExtension {
     @EdcSetting
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
     @EdcSetting
+    private static final String TRANSFER_STATE_MACHINE_PARALLEL = "edc.transfer.state-machine.parallel";
+    @EdcSetting
+    private static final String TRANSFER_STATE_MACHINE_PARTITIONS = "edc.transfer.state-machine.partitions";
+    @EdcSetting
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
     @EdcSetting
     private static final String TRANSFER_SEND_RETRY_BASE_DELAY_MS = "edc.transfer.send.retry.base-delay.ms";
@@ -106,6 +115,9 @@ public class CoreTransferExtension implements ServiceExtension {
     @Inject
     private PolicyEngine policyEngine;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -135,7 +147,9 @@ public class CoreTransferExtension implements ServiceExtension {
         var provisionManager = new ProvisionManagerImpl(monitor);
         context.registerService(ProvisionManager.class, provisionManager);
 
-        var waitStrategy = context.hasService(TransferWaitStrategy.class) ? context.getService(TransferWaitStrategy.class) : new ExponentialWaitStrategy(DEFAULT_ITERATION_WAIT);
+        // a provided wait strategy is shared by the state machine loops, the default one is created for every loop
+        Supplier<WaitStrategy> waitStrategy = context.hasService(TransferWaitStrategy.class) ?
+                () -> context.getService(TransferWaitStrategy.class) : () -> new ExponentialWaitStrategy(DEFAULT_ITERATION_WAIT);
 
         var endpointDataReferenceReceiverRegistry = new EndpointDataReferenceReceiverRegistryImpl();
         context.registerService(EndpointDataReferenceReceiverRegistry.class, endpointDataReferenceReceiverRegistry);
@@ -156,7 +170,7 @@ public class CoreTransferExtension implements ServiceExtension {
         var sendRetryManager = new EntitySendRetryManager(monitor, () -> new ExponentialWaitStrategy(retryBaseDelay), clock, retryLimit);
 
         processManager = TransferProcessManagerImpl.Builder.newInstance()
-                .waitStrategy(waitStrategy)
+                .waitStrategySupplier(waitStrategy)
                 .manifestGenerator(manifestGenerator)
                 .dataFlowManager(dataFlowManager)
                 .provisionManager(provisionManager)
@@ -165,6 +179,7 @@ public class CoreTransferExtension implements ServiceExtension {
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .executorInstrumentation(context.getService(ExecutorInstrumentation.class))
+                .meterRegistry(Optional.ofNullable(meterRegistry).orElseGet(CompositeMeterRegistry::new))
                 .vault(vault)
                 .clock(clock)
                 .typeManager(typeManager)
@@ -174,6 +189,8 @@ public class CoreTransferExtension implements ServiceExtension {
                 .transferProcessStore(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, 5))
+                .parallel(context.getSetting(TRANSFER_STATE_MACHINE_PARALLEL, false))
+                .partitions(context.getSetting(TRANSFER_STATE_MACHINE_PARTITIONS, 0))
                 .sendRetryManager(sendRetryManager)
                 .addressResolver(addressResolver)
                 .build();
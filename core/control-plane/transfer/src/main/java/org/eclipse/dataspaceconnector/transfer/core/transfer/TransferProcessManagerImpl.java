@@ -15,8 +15,12 @@
 
 package org.eclipse.dataspaceconnector.transfer.core.transfer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.opentelemetry.extension.annotations.WithSpan;
+import org.eclipse.dataspaceconnector.common.statemachine.BatchedEntityUpdates;
 import org.eclipse.dataspaceconnector.common.statemachine.StateMachineManager;
+import org.eclipse.dataspaceconnector.common.statemachine.StateProcessor;
 import org.eclipse.dataspaceconnector.common.statemachine.StateProcessorImpl;
 import org.eclipse.dataspaceconnector.common.statemachine.retry.SendRetryManager;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
@@ -54,6 +58,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceManifest
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.StatusCheckerRegistry;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.command.SingleTransferProcessCommand;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.command.TransferProcessCommand;
 import org.jetbrains.annotations.NotNull;
 
@@ -62,6 +67,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -104,7 +110,9 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferP
  */
 public class TransferProcessManagerImpl implements TransferProcessManager, ProvisionCallbackDelegate {
     private int batchSize = 5;
-    private WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
+    private boolean parallel = false;
+    private int partitions = 0;
+    private Supplier<WaitStrategy> waitStrategy = () -> () -> 5000L;  // default wait five seconds
     private ResourceManifestGenerator manifestGenerator;
     private ProvisionManager provisionManager;
     private TransferProcessStore transferProcessStore;
@@ -121,6 +129,8 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     private Telemetry telemetry;
     private ExecutorInstrumentation executorInstrumentation;
     private StateMachineManager stateMachineManager;
+    private BatchedEntityUpdates<TransferProcess> updates;
+    private MeterRegistry meterRegistry;
     private DataAddressResolver addressResolver;
     private PolicyArchive policyArchive;
     private SendRetryManager<StatefulEntity> sendRetryManager;
@@ -131,16 +141,23 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
 
     public void start() {
         stateMachineManager = StateMachineManager.Builder.newInstance("transfer-process", monitor, executorInstrumentation, waitStrategy)
-                .processor(processTransfersInState(INITIAL, this::processInitial))
-                .processor(processTransfersInState(PROVISIONING, this::processProvisioning))
-                .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
-                .processor(processTransfersInState(REQUESTING, this::processRequesting))
-                .processor(processTransfersInState(REQUESTED, this::processRequested))
-                .processor(processTransfersInState(IN_PROGRESS, this::processInProgress))
-                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning))
-                .processor(processTransfersInState(DEPROVISIONED, this::processDeprovisioned))
-                .processor(onCommands(this::processCommand))
+                .parallel(parallel)
+                .partitions(partitions)
+                .meterRegistry(meterRegistry)
+                .processor(INITIAL.name(), processTransfersInState(INITIAL, this::processInitial))
+                .processor(PROVISIONING.name(), processTransfersInState(PROVISIONING, this::processProvisioning))
+                .processor(PROVISIONED.name(), processTransfersInState(PROVISIONED, this::processProvisioned))
+                .processor(REQUESTING.name(), processTransfersInState(REQUESTING, this::processRequesting))
+                .processor(REQUESTED.name(), processTransfersInState(REQUESTED, this::processRequested))
+                .processor(IN_PROGRESS.name(), processTransfersInState(IN_PROGRESS, this::processInProgress))
+                .processor(DEPROVISIONING.name(), processTransfersInState(DEPROVISIONING, this::processDeprovisioning))
+                .processor(DEPROVISIONED.name(), processTransfersInState(DEPROVISIONED, this::processDeprovisioned))
+                .processor("commands", onCommands(this::processCommand))
                 .build();
+
+        transferProcessStore.registerStateChangeListener(stateMachineManager::wakeUp);
+        commandQueue.registerEnqueueListener(stateMachineManager::wakeUp);
+
         stateMachineManager.start();
     }
 
@@ -346,8 +363,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     private boolean processProvisioned(TransferProcess process) {
         if (CONSUMER == process.getType()) {
             process.transitionRequesting();
-            transferProcessStore.update(process);
-            observable.invokeForEach(l -> l.preRequesting(process));
+            updates.update(process, () -> observable.invokeForEach(l -> l.preRequesting(process)));
         } else {
             processProviderRequest(process);
         }
@@ -467,8 +483,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     private boolean processDeprovisioned(TransferProcess process) {
         process.transitionEnded();
         observable.invokeForEach(l -> l.preEnded(process));
-        transferProcessStore.update(process);
-        observable.invokeForEach(l -> l.ended(process));
+        updates.update(process, () -> observable.invokeForEach(l -> l.ended(process)));
         monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
         return true;
     }
@@ -504,14 +519,12 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
         if (transferProcess.provisioningComplete()) {
             transferProcess.transitionProvisioned();
             observable.invokeForEach(l -> l.preProvisioned(transferProcess));
-            transferProcessStore.update(transferProcess);
-            observable.invokeForEach(l -> l.provisioned(transferProcess));
+            updates.update(transferProcess, () -> observable.invokeForEach(l -> l.provisioned(transferProcess)));
         } else if (responses.stream().anyMatch(ProvisionResponse::isInProcess)) {
             transferProcess.transitionProvisioningRequested();
-            transferProcessStore.update(transferProcess);
-            observable.invokeForEach(l -> l.provisioningRequested(transferProcess));
+            updates.update(transferProcess, () -> observable.invokeForEach(l -> l.provisioningRequested(transferProcess)));
         } else {
-            transferProcessStore.update(transferProcess);
+            updates.update(transferProcess);
         }
     }
 
@@ -535,14 +548,12 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
         if (transferProcess.deprovisionComplete()) {
             transferProcess.transitionDeprovisioned();
             observable.invokeForEach(l -> l.preDeprovisioned(transferProcess));
-            transferProcessStore.update(transferProcess);
-            observable.invokeForEach(l -> l.deprovisioned(transferProcess));
+            updates.update(transferProcess, () -> observable.invokeForEach(l -> l.deprovisioned(transferProcess)));
         } else if (results.stream().anyMatch(DeprovisionedResource::isInProcess)) {
             transferProcess.transitionDeprovisioningRequested();
-            transferProcessStore.update(transferProcess);
-            observable.invokeForEach(l -> l.deprovisioningRequested(transferProcess));
+            updates.update(transferProcess, () -> observable.invokeForEach(l -> l.deprovisioningRequested(transferProcess)));
         } else {
-            transferProcessStore.update(transferProcess);
+            updates.update(transferProcess);
         }
     }
 
@@ -588,21 +599,26 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
         return commandProcessor.processCommandQueue(command);
     }
 
-    private StateProcessorImpl<TransferProcess> processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
+    private StateProcessor processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var functionWithTraceContext = telemetry.contextPropagationMiddleware(function);
-        return new StateProcessorImpl<>(() -> transferProcessStore.nextForState(state.code(), batchSize), functionWithTraceContext);
+        return updates.processor(() -> transferProcessStore.nextForState(state.code(), batchSize), functionWithTraceContext);
     }
 
     private StateProcessorImpl<TransferProcessCommand> onCommands(Function<TransferProcessCommand, Boolean> process) {
-        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process);
+        return new StateProcessorImpl<>(() -> commandQueue.dequeue(5), process, this::commandPartitionKey);
+    }
+
+    private String commandPartitionKey(TransferProcessCommand command) {
+        return command instanceof SingleTransferProcessCommand
+                ? ((SingleTransferProcessCommand) command).getTransferProcessId()
+                : command.getCommandId();
     }
 
     @WithSpan
     private void transitionToCompleted(TransferProcess process) {
         process.transitionCompleted();
         monitor.debug("Process " + process.getId() + " is now " + COMPLETED);
-        updateTransferProcess(process, l -> l.preCompleted(process));
-        observable.invokeForEach(l -> l.completed(process));
+        updateTransferProcess(process, l -> l.preCompleted(process), () -> observable.invokeForEach(l -> l.completed(process)));
     }
 
     private void transitionToError(String id, Throwable throwable, String message) {
@@ -618,8 +634,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
     private void transitionToError(TransferProcess process, String message, Throwable throwable) {
         monitor.severe(message, throwable);
         process.transitionError(message);
-        updateTransferProcess(process, l -> l.preError(process));
-        observable.invokeForEach(l -> l.failed(process));
+        updateTransferProcess(process, l -> l.preError(process), () -> observable.invokeForEach(l -> l.failed(process)));
     }
 
     private void processProviderRequest(TransferProcess process) {
@@ -670,8 +685,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
 
     private void sendConsumerRequestSuccess(TransferProcess transferProcess) {
         transferProcess.transitionRequested();
-        updateTransferProcess(transferProcess, l -> l.preRequested(transferProcess));
-        observable.invokeForEach(l -> l.requested(transferProcess));
+        updateTransferProcess(transferProcess, l -> l.preRequested(transferProcess), () -> observable.invokeForEach(l -> l.requested(transferProcess)));
         monitor.debug("TransferProcessManager: Process " + transferProcess.getId() + " is now " + TransferProcessStates.from(transferProcess.getState()));
     }
 
@@ -689,16 +703,20 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
                 TransferProcessStates.from(transferProcess.getState())), e);
         // update state count and timestamp
         transferProcess.transitionRequesting();
-        transferProcessStore.update(transferProcess);
+        updates.update(transferProcess);
     }
 
     private void updateTransferProcess(TransferProcess transferProcess, Consumer<TransferProcessListener> observe) {
+        updateTransferProcess(transferProcess, observe, () -> { });
+    }
+
+    private void updateTransferProcess(TransferProcess transferProcess, Consumer<TransferProcessListener> observe, Runnable afterUpdate) {
         observable.invokeForEach(observe);
-        transferProcessStore.update(transferProcess);
+        updates.update(transferProcess, afterUpdate);
     }
 
     private void breakLease(TransferProcess process) {
-        transferProcessStore.update(process);
+        updates.update(process);
     }
 
     public static class Builder {
@@ -708,6 +726,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             manager = new TransferProcessManagerImpl();
             manager.telemetry = new Telemetry(); // default noop implementation
             manager.executorInstrumentation = ExecutorInstrumentation.noop(); // default noop implementation
+            manager.meterRegistry = new CompositeMeterRegistry(); // registry without any backend, i.e. noop
         }
 
         public static Builder newInstance() {
@@ -719,16 +738,42 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             return this;
         }
 
+        public Builder parallel(boolean parallel) {
+            manager.parallel = parallel;
+            return this;
+        }
+
+        public Builder partitions(int partitions) {
+            manager.partitions = partitions;
+            return this;
+        }
+
         public Builder sendRetryManager(SendRetryManager sendRetryManager) {
             manager.sendRetryManager = sendRetryManager;
             return this;
         }
 
+        /**
+         * Wait strategy shared by all the state machine loops, it must be thread-safe when the state machine is parallel.
+         */
         public Builder waitStrategy(WaitStrategy waitStrategy) {
+            manager.waitStrategy = () -> waitStrategy;
+            return this;
+        }
+
+        /**
+         * Supplier of the wait strategy, every state machine loop gets its own instance.
+         */
+        public Builder waitStrategySupplier(Supplier<WaitStrategy> waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return this;
         }
 
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            manager.meterRegistry = meterRegistry;
+            return this;
+        }
+
         public Builder manifestGenerator(ResourceManifestGenerator manifestGenerator) {
             manager.manifestGenerator = manifestGenerator;
             return this;
@@ -830,6 +875,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             Objects.requireNonNull(manager.transferProcessStore, "transferProcessStore cannot be null");
             Objects.requireNonNull(manager.addressResolver, "addressResolver cannot be null");
             manager.commandProcessor = new CommandProcessor<>(manager.commandQueue, manager.commandRunner, manager.monitor);
+            manager.updates = new BatchedEntityUpdates<>(manager.transferProcessStore::update, manager.transferProcessStore::updateAll);
 
             return manager;
         }
@@ -200,6 +200,24 @@ class TransferProcessManagerImplTest {
         });
     }
     
+    @Test
+    void initial_shouldStoreAllTheTransitionsOfTheTickWithOneCall() {
+        when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
+        when(transferProcessStore.nextForState(eq(INITIAL.code()), anyInt()))
+                .thenReturn(List.of(createTransferProcess(INITIAL), createTransferProcess(INITIAL), createTransferProcess(INITIAL)))
+                .thenReturn(emptyList());
+        var resourceManifest = ResourceManifest.Builder.newInstance().definitions(List.of(new TestResourceDefinition())).build();
+        when(manifestGenerator.generateConsumerResourceManifest(any(DataRequest.class), any(Policy.class)))
+                .thenReturn(Result.success(resourceManifest));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(transferProcessStore).updateAll(argThat(processes -> processes.size() == 3 && processes.stream().allMatch(p -> p.getState() == PROVISIONING.code())));
+            verify(transferProcessStore, never()).update(any());
+        });
+    }
+
     @Test
     void initial_manifestEvaluationFailed_shouldTransitionToError() {
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
@@ -13,6 +13,7 @@
  */
 
 val openTelemetryVersion: String by project
+val micrometerVersion: String by project
 
 plugins {
     `java-library`
@@ -23,6 +24,7 @@ dependencies {
     api(project(":spi:data-plane:data-plane-spi"))
     implementation(project(":common:util"))
     implementation("io.opentelemetry:opentelemetry-extension-annotations:${openTelemetryVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
     testImplementation(project(":extensions:common:junit"))
 }
 
@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.dataplane.framework;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.dataspaceconnector.dataplane.framework.manager.DataPlaneManagerImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.PipelineServiceImpl;
 import org.eclipse.dataspaceconnector.dataplane.framework.pipeline.PipelineServiceTransferServiceImpl;
@@ -35,6 +36,7 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
 import java.util.Objects;
 import java.util.concurrent.Executors;
 
@@ -57,6 +59,10 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     private static final String WAIT_TIMEOUT = "edc.dataplane.wait";
     private static final long DEFAULT_WAIT_TIMEOUT = 1000;
 
+    @EdcSetting
+    private static final String MAX_CONCURRENT_TRANSFERS_PER_TYPE = "edc.dataplane.transfers.per.type.max";
+    private static final int DEFAULT_MAX_CONCURRENT_TRANSFERS_PER_TYPE = Integer.MAX_VALUE;
+
     @EdcSetting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
@@ -72,6 +78,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return "Data Plane Framework";
@@ -101,18 +113,24 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         var queueCapacity = context.getSetting(QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY);
         var workers = context.getSetting(WORKERS, DEFAULT_WORKERS);
         var waitTimeout = context.getSetting(WAIT_TIMEOUT, DEFAULT_WAIT_TIMEOUT);
+        var maxConcurrentTransfersPerType = context.getSetting(MAX_CONCURRENT_TRANSFERS_PER_TYPE, DEFAULT_MAX_CONCURRENT_TRANSFERS_PER_TYPE);
 
-        dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+        var builder = DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(queueCapacity)
                 .executorInstrumentation(executorInstrumentation)
                 .workers(workers)
                 .waitTimeout(waitTimeout)
+                .maxConcurrentTransfersPerType(maxConcurrentTransfersPerType)
+                .clock(clock)
                 .pipelineService(pipelineService)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(registerStore(context))
                 .monitor(monitor)
-                .telemetry(telemetry)
-                .build();
+                .telemetry(telemetry);
+        if (meterRegistry != null) {
+            builder.meterRegistry(meterRegistry);
+        }
+        dataPlaneManager = builder.build();
 
         context.registerService(DataPlaneManager.class, dataPlaneManager);
     }
@@ -14,6 +14,11 @@
 
 package org.eclipse.dataspaceconnector.dataplane.framework.manager;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
@@ -22,14 +27,15 @@ import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegi
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore.State;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.telemetry.Telemetry;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -41,28 +47,47 @@ import static java.lang.String.format;
 /**
  * Default data manager implementation.
  * <p>
- * This implementation uses a simple bounded queue to support backpressure when the system is overloaded. This should support sufficient performance since data transfers
- * generally do not require low-latency. If low-latency operation becomes a requirement, a concurrent queuing mechanism can be used.
+ * This implementation uses a bounded queue to support backpressure when the system is overloaded: when the queue is full, requests are rejected with a
+ * {@link ResponseStatus#ERROR_RETRY} failure so that the caller can submit them again later. Queued requests are dispatched by a pool of workers in round-robin
+ * order across transfer types (source and destination types), and the number of in-flight transfers of a single type can be capped, so that a burst of
+ * long-running transfers of one type cannot starve the others.
  */
 public class DataPlaneManagerImpl implements DataPlaneManager {
     private int queueCapacity = 10000;
     private int workers = 1;
     private long waitTimeout = 100;
+    private int maxConcurrentTransfersPerType = Integer.MAX_VALUE;
 
     private PipelineService pipelineService;
     private ExecutorInstrumentation executorInstrumentation;
     private Monitor monitor;
     private Telemetry telemetry;
+    private MeterRegistry meterRegistry;
+    private Clock clock;
 
-    private BlockingQueue<DataFlowRequest> queue;
+    private FairTransferQueue queue;
     private ExecutorService executorService;
+    private Timer queueWaitTimer;
+    private Counter rejectedCounter;
 
     private AtomicBoolean active = new AtomicBoolean();
     private DataPlaneStore store;
     private TransferServiceRegistry transferServiceRegistry;
 
     public void start() {
-        queue = new ArrayBlockingQueue<>(queueCapacity);
+        queue = new FairTransferQueue(queueCapacity, maxConcurrentTransfersPerType, clock);
+        Gauge.builder("edc.dataplane.queue.size", queue, FairTransferQueue::size)
+                .description("Number of data flow requests waiting to be processed")
+                .register(meterRegistry);
+        Gauge.builder("edc.dataplane.transfers.inflight", queue, FairTransferQueue::inFlight)
+                .description("Number of data transfers in progress")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("edc.dataplane.queue.wait")
+                .description("Time spent by data flow requests in the queue")
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("edc.dataplane.queue.rejected")
+                .description("Number of data flow requests rejected because the queue was full")
+                .register(meterRegistry);
         active.set(true);
         executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(workers), getClass().getSimpleName());
         for (var i = 0; i < workers; i++) {
@@ -93,13 +118,17 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
     }
 
     @Override
-    public void initiateTransfer(DataFlowRequest dataRequest) {
+    public StatusResult<Void> initiateTransfer(DataFlowRequest dataRequest) {
         // store current trace context in entity for request traceability
         DataFlowRequest dataRequestWithTraceContext = dataRequest.toBuilder()
                 .traceContext(telemetry.getCurrentTraceContext())
                 .build();
-        queue.add(dataRequestWithTraceContext);
+        if (!queue.offer(dataRequestWithTraceContext)) {
+            rejectedCounter.increment();
+            return StatusResult.failure(ResponseStatus.ERROR_RETRY, format("Data plane is saturated, cannot accept request %s", dataRequest.getProcessId()));
+        }
         store.received(dataRequestWithTraceContext.getProcessId());
+        return StatusResult.success();
     }
 
     @Override
@@ -119,14 +148,18 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
 
     private void run() {
         while (active.get()) {
+            FairTransferQueue.Entry entry = null;
             DataFlowRequest request = null;
             try {
-                request = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
-                if (request == null) {
+                entry = queue.poll(waitTimeout, TimeUnit.MILLISECONDS);
+                if (entry == null) {
                     continue;
                 }
+                request = entry.getRequest();
+                queueWaitTimer.record(Duration.ofMillis(clock.millis() - entry.getEnqueuedAt()));
                 // propagate trace context for request into the current thread
-                telemetry.contextPropagationMiddleware(this::processDataFlowRequest).accept(request);
+                var dequeued = entry;
+                telemetry.contextPropagationMiddleware((DataFlowRequest r) -> processDataFlowRequest(dequeued)).accept(request);
 
             } catch (InterruptedException e) {
                 Thread.interrupted();
@@ -137,6 +170,7 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
                     monitor.severe("Unable to dequeue data request", e);
                 } else {
                     monitor.severe("Error processing data request: " + request.getProcessId(), e);
+                    queue.release(entry);
                     // TODO persist error details
                     store.completed(request.getProcessId());
                 }
@@ -144,14 +178,17 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         }
     }
 
-    private void processDataFlowRequest(DataFlowRequest request) {
+    private void processDataFlowRequest(FairTransferQueue.Entry entry) {
+        var request = entry.getRequest();
         var transferService = transferServiceRegistry.resolveTransferService(request);
         if (transferService == null) {
             // Should not happen since resolving a transferService is part of payload validation
+            queue.release(entry);
             // TODO persist error details
             store.completed(request.getProcessId());
         } else {
             transferService.transfer(request).whenComplete((result, exception) -> {
+                queue.release(entry);
                 if (request.isTrackable()) {
                     // TODO persist TransferResult or error details
                     store.completed(request.getProcessId());
@@ -207,6 +244,24 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        /**
+         * Maximum number of transfers of the same type (source and destination types) that can be in progress at the same time.
+         */
+        public Builder maxConcurrentTransfersPerType(int maxConcurrentTransfersPerType) {
+            manager.maxConcurrentTransfersPerType = maxConcurrentTransfersPerType;
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            manager.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            manager.clock = clock;
+            return this;
+        }
+
         public Builder store(DataPlaneStore store) {
             manager.store = store;
             return this;
@@ -219,6 +274,8 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         private Builder() {
             manager = new DataPlaneManagerImpl();
             this.manager.telemetry = new Telemetry(); // default noop implementation
+            this.manager.meterRegistry = new CompositeMeterRegistry(); // registry without any backend, i.e. noop
+            this.manager.clock = Clock.systemUTC();
         }
     }
 
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.manager;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue of data flow requests that schedules them fairly across transfer types.
+ * <p>
+ * Requests are grouped by transfer type (source type and destination type), and the groups are served in round-robin
+ * order, so a burst of requests of one type does not starve the others. A type that has reached its maximum number of
+ * in-flight transfers is skipped until one of its transfers is released.
+ */
+class FairTransferQueue {
+    private final int capacity;
+    private final int maxInFlightPerType;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Map<String, Queue<Entry>> pending = new LinkedHashMap<>();
+    private final Map<String, Integer> inFlight = new HashMap<>();
+    private int size;
+    private int totalInFlight;
+
+    FairTransferQueue(int capacity, int maxInFlightPerType, Clock clock) {
+        this.capacity = capacity;
+        this.maxInFlightPerType = maxInFlightPerType;
+        this.clock = clock;
+    }
+
+    /**
+     * Enqueues the request.
+     *
+     * @return false if the queue is full.
+     */
+    boolean offer(DataFlowRequest request) {
+        lock.lock();
+        try {
+            if (size >= capacity) {
+                return false;
+            }
+            var type = typeOf(request);
+            pending.computeIfAbsent(type, k -> new ArrayDeque<>()).add(new Entry(request, type, clock.millis()));
+            size++;
+            available.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next request that can be processed, waiting up to the timeout if there is none. The returned entry
+     * counts as in-flight until it is {@link #release(Entry) released}.
+     *
+     * @return the entry, or null if the timeout elapsed.
+     */
+    @Nullable
+    Entry poll(long timeout, TimeUnit unit) throws InterruptedException {
+        var nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                var entry = next();
+                if (entry != null) {
+                    return entry;
+                }
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = available.awaitNanos(nanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases an in-flight entry, allowing the next request of the same type to be processed. Releasing an entry more
+     * than once has no effect.
+     */
+    void release(Entry entry) {
+        lock.lock();
+        try {
+            if (entry.released) {
+                return;
+            }
+            entry.released = true;
+            inFlight.computeIfPresent(entry.type, (type, count) -> count > 1 ? count - 1 : null);
+            totalInFlight--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return totalInFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry next() {
+        Iterator<Map.Entry<String, Queue<Entry>>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var group = iterator.next();
+            var type = group.getKey();
+            if (inFlight.getOrDefault(type, 0) >= maxInFlightPerType) {
+                continue;
+            }
+            var queue = group.getValue();
+            var entry = queue.poll();
+            // move the type at the end of the round-robin order
+            iterator.remove();
+            if (!queue.isEmpty()) {
+                pending.put(type, queue);
+            }
+            size--;
+            totalInFlight++;
+            inFlight.merge(type, 1, Integer::sum);
+            if (size > 0) {
+                available.signal();
+            }
+            return entry;
+        }
+        return null;
+    }
+
+    private static String typeOf(DataFlowRequest request) {
+        return request.getSourceDataAddress().getType() + "->" + request.getDestinationDataAddress().getType();
+    }
+
+    static class Entry {
+        private final DataFlowRequest request;
+        private final String type;
+        private final long enqueuedAt;
+        private boolean released;
+
+        Entry(DataFlowRequest request, String type, long enqueuedAt) {
+            this.request = request;
+            this.type = type;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        DataFlowRequest getRequest() {
+            return request;
+        }
+
+        String getType() {
+            return type;
+        }
+
+        long getEnqueuedAt() {
+            return enqueuedAt;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.dataspaceconnector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
@@ -26,15 +27,20 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -124,6 +130,67 @@ class DataPlaneManagerImplTest {
         performTransfer(dataPlaneManager);
     }
 
+    @Test
+    void initiateTransfer_shouldFailWithRetry_whenQueueIsFull() {
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(1)
+                .workers(1)
+                .maxConcurrentTransfersPerType(1)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .transferServiceRegistry(registry)
+                .store(store)
+                .monitor(mock(Monitor.class))
+                .build();
+        when(transferService.transfer(request)).thenReturn(new CompletableFuture<>());
+        dataPlaneManager.start();
+
+        assertThat(dataPlaneManager.initiateTransfer(request).succeeded()).isTrue();
+        verify(transferService, timeout(10000)).transfer(request);
+        // the second request stays queued as the first one is still in progress, the third one does not fit in the queue
+        assertThat(dataPlaneManager.initiateTransfer(request).succeeded()).isTrue();
+        var result = dataPlaneManager.initiateTransfer(request);
+
+        dataPlaneManager.stop();
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+        verify(transferService, times(1)).transfer(request);
+    }
+
+    /**
+     * Verifies that a transfer type that reached its concurrency limit does not block the dispatch of other types.
+     */
+    @Test
+    void verifyWorkDispatch_shouldNotBlockOtherTypes_whenTypeReachedConcurrencyLimit() {
+        var dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
+                .queueCapacity(100)
+                .workers(1)
+                .maxConcurrentTransfersPerType(1)
+                .executorInstrumentation(ExecutorInstrumentation.noop())
+                .waitTimeout(10)
+                .transferServiceRegistry(registry)
+                .store(store)
+                .monitor(mock(Monitor.class))
+                .build();
+        var slowRequest = createRequest("slow", "slowType");
+        var otherSlowRequest = createRequest("otherSlow", "slowType");
+        var fastRequest = createRequest("fast", "fastType");
+        when(registry.resolveTransferService(any())).thenReturn(transferService);
+        when(transferService.transfer(any())).thenReturn(new CompletableFuture<>());
+        dataPlaneManager.start();
+
+        dataPlaneManager.initiateTransfer(slowRequest);
+        dataPlaneManager.initiateTransfer(otherSlowRequest);
+        dataPlaneManager.initiateTransfer(fastRequest);
+
+        verify(transferService, timeout(10000)).transfer(argThat(r -> "fast".equals(r.getProcessId())));
+        dataPlaneManager.stop();
+
+        verify(transferService).transfer(argThat(r -> "slow".equals(r.getProcessId())));
+        verify(transferService, never()).transfer(argThat(r -> "otherSlow".equals(r.getProcessId())));
+    }
+
     private DataPlaneManagerImpl createDataPlaneManager() {
         return DataPlaneManagerImpl.Builder.newInstance()
                 .queueCapacity(100)
@@ -137,11 +204,15 @@ class DataPlaneManagerImplTest {
     }
 
     DataFlowRequest createRequest() {
+        return createRequest("1", "type");
+    }
+
+    DataFlowRequest createRequest(String id, String type) {
         return DataFlowRequest.Builder.newInstance()
-                .id("1")
-                .processId("1")
-                .sourceDataAddress(DataAddress.Builder.newInstance().type("type").build())
-                .destinationDataAddress(DataAddress.Builder.newInstance().type("type").build())
+                .id(id)
+                .processId(id)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type(type).build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type(type).build())
                 .build();
     }
 
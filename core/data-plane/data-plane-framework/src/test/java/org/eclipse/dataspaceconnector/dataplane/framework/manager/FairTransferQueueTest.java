@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.framework.manager;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FairTransferQueueTest {
+
+    @Test
+    void offer_shouldReturnFalse_whenCapacityIsReached() {
+        var queue = new FairTransferQueue(2, Integer.MAX_VALUE, Clock.systemUTC());
+
+        assertThat(queue.offer(createRequest("1", "a"))).isTrue();
+        assertThat(queue.offer(createRequest("2", "b"))).isTrue();
+        assertThat(queue.offer(createRequest("3", "a"))).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void poll_shouldServeTypesInRoundRobinOrder() throws InterruptedException {
+        var queue = new FairTransferQueue(10, Integer.MAX_VALUE, Clock.systemUTC());
+        queue.offer(createRequest("a1", "a"));
+        queue.offer(createRequest("a2", "a"));
+        queue.offer(createRequest("a3", "a"));
+        queue.offer(createRequest("b1", "b"));
+
+        assertThat(pollId(queue)).isEqualTo("a1");
+        assertThat(pollId(queue)).isEqualTo("b1");
+        assertThat(pollId(queue)).isEqualTo("a2");
+        assertThat(pollId(queue)).isEqualTo("a3");
+        assertThat(queue.poll(0, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(queue.inFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void poll_shouldSkipType_untilInFlightEntryIsReleased() throws InterruptedException {
+        var queue = new FairTransferQueue(10, 1, Clock.systemUTC());
+        queue.offer(createRequest("a1", "a"));
+        queue.offer(createRequest("a2", "a"));
+
+        var first = queue.poll(0, TimeUnit.MILLISECONDS);
+        assertThat(first.getRequest().getProcessId()).isEqualTo("a1");
+        assertThat(queue.poll(10, TimeUnit.MILLISECONDS)).isNull();
+
+        queue.release(first);
+        queue.release(first);
+
+        assertThat(queue.inFlight()).isZero();
+        assertThat(pollId(queue)).isEqualTo("a2");
+        assertThat(queue.size()).isZero();
+    }
+
+    private String pollId(FairTransferQueue queue) throws InterruptedException {
+        return queue.poll(0, TimeUnit.MILLISECONDS).getRequest().getProcessId();
+    }
+
+    private DataFlowRequest createRequest(String id, String type) {
+        return DataFlowRequest.Builder.newInstance()
+                .id(id)
+                .processId(id)
+                .sourceDataAddress(DataAddress.Builder.newInstance().type(type).build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("destination").build())
+                .build();
+    }
+}
@@ -23,14 +23,17 @@ import org.eclipse.dataspaceconnector.catalog.spi.WorkItem;
 import org.eclipse.dataspaceconnector.catalog.spi.model.ExecutionPlan;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
-import java.util.Random;
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -41,7 +44,12 @@ import static java.lang.String.format;
  * The execution manager is responsible for instantiating crawlers and delegating the incoming work items among them.
  * Work items are fetched directly from the {@link FederatedCacheNodeDirectory}, crawlers are instantiated before starting the run and will be reused.
  * For example, a list of 10 work items and 2 {@link CatalogCrawler} objects would mean that every crawler gets invoked 5 times.
- * All this is done
+ * <p>
+ * Crawlers run asynchronously: a work item is handed over to a crawler as soon as one becomes idle, so at most {@code numCrawlers}
+ * nodes are queried at the same time. Failed work items are re-queued with an exponential, jittered backoff by a single retry scheduler
+ * shared by all runs, and discarded once they have failed more than {@code maxRetries} times. A run completes when every work item has
+ * either succeeded or been discarded, or when the run timeout elapses: the work items that have not been dispatched yet are then
+ * abandoned until the next run, so that a slow node never delays the following runs.
  * <p>
  * Pre- and Post-Tasks can be registered to perform preparatory or cleanup operations.
  * <p>
@@ -55,8 +63,17 @@ public class ExecutionManager {
     private FederatedCacheNodeDirectory directory;
     private String connectorId;
     private int numCrawlers = 1;
+    private int maxRetries = 7;
+    private Duration retryDelay = Duration.ofSeconds(5);
+    private Duration retryMaxDelay = Duration.ofSeconds(60);
+    private Duration runTimeout = Duration.ofSeconds(60);
     private NodeQueryAdapterRegistry nodeQueryAdapterRegistry;
     private CrawlerSuccessHandler successHandler;
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "catalog-crawler-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private ExecutionManager() {
     }
@@ -76,6 +93,13 @@ public class ExecutionManager {
 
     }
 
+    /**
+     * Stops the retry scheduler. Work items waiting for a retry are discarded.
+     */
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
     private void doWork() {
         // load work items from directory
         List<WorkItem> workItems = fetchWorkItems();
@@ -84,58 +108,13 @@ public class ExecutionManager {
             return;
         }
         monitor.debug(message("Loaded " + workItems.size() + " work items from storage"));
-        var allItems = new ArrayBlockingQueue<>(workItems.size(), true, workItems);
-
-        monitor.debug(message("Instantiate crawlers..."));
-        //instantiate fixed pool of crawlers
-        var errorHandler = createErrorHandlers(monitor, allItems);
 
-        var actualNumCrawlers = Math.min(allItems.size(), numCrawlers);
+        var actualNumCrawlers = Math.min(workItems.size(), numCrawlers);
         monitor.debug(format(message("Crawler parallelism is %s, based on config and number of work items"), actualNumCrawlers));
-        var availableCrawlers = createCrawlers(errorHandler, actualNumCrawlers);
-
-        while (!allItems.isEmpty()) {
-            // try get next available crawler
-            var crawler = nextAvailableCrawler(availableCrawlers);
-            if (crawler == null) {
-                monitor.debug(message("No crawler available, will retry later"));
-                continue;
-            }
-
-            var item = allItems.poll();
-            if (item == null) {
-                monitor.warning(message("WorkItem queue empty, abort execution"));
-                break;
-            }
 
-            // for now use the first adapter that can handle the protocol
-            var adapter = nodeQueryAdapterRegistry.findForProtocol(item.getProtocol()).stream().findFirst();
-            if (adapter.isEmpty()) {
-                monitor.warning(message(format("No protocol adapter found for protocol '%s'", item.getProtocol())));
-            } else {
-                crawler.run(item, adapter.get())
-                        .whenComplete((updateResponse, throwable) -> {
-                            if (throwable != null) {
-                                monitor.severe(message(format("Unexpected exception happened during in crawler %s", crawler.getId())), throwable);
-                            } else {
-                                monitor.info(message(format("Crawler [%s] is done", crawler.getId())));
-                            }
-                            availableCrawlers.add(crawler);
-                        });
-            }
-        }
-    }
-
-    @Nullable
-    private CatalogCrawler nextAvailableCrawler(ArrayBlockingQueue<CatalogCrawler> availableCrawlers) {
-        CatalogCrawler crawler = null;
-        try {
-            monitor.debug(message("Getting next available crawler"));
-            crawler = availableCrawlers.poll(1, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            monitor.debug("interrupted while waiting for crawler to become available");
-        }
-        return crawler;
+        var run = new CrawlRun(workItems, actualNumCrawlers);
+        run.dispatch();
+        run.awaitCompletion();
     }
 
     private void runPostExecution() {
@@ -158,11 +137,6 @@ public class ExecutionManager {
         }
     }
 
-    @NotNull
-    private ArrayBlockingQueue<CatalogCrawler> createCrawlers(CrawlerErrorHandler errorHandler, int numCrawlers) {
-        return new ArrayBlockingQueue<>(numCrawlers, true, IntStream.range(0, numCrawlers).mapToObj(i -> new CatalogCrawler(monitor, errorHandler, successHandler)).collect(Collectors.toList()));
-    }
-
     private List<WorkItem> fetchWorkItems() {
         // use all nodes EXCEPT self
         return directory.getAll().stream().filter(node -> !node.getName().equals(connectorId)).map(n -> new WorkItem(n.getTargetUrl(), selectProtocol(n.getSupportedProtocols()))).collect(Collectors.toList());
@@ -173,18 +147,17 @@ public class ExecutionManager {
         return supportedProtocols.isEmpty() ? null : supportedProtocols.get(0);
     }
 
-    @NotNull
-    private CrawlerErrorHandler createErrorHandlers(Monitor monitor, Queue<WorkItem> workItems) {
-        return workItem -> {
-            if (workItem.getErrors().size() > 7) {
-                monitor.severe(message(format("The following workitem has errored out more than 5 times. We'll discard it now: [%s]", workItem)));
-            } else {
-                var random = new Random();
-                var to = 5 + random.nextInt(20);
-                monitor.debug(message(format("The following work item has errored out. Will re-queue after a small delay: [%s]", workItem)));
-                Executors.newSingleThreadScheduledExecutor().schedule(() -> workItems.offer(workItem), to, TimeUnit.SECONDS);
-            }
-        };
+    /**
+     * Computes the delay before the next attempt of a work item: the retry delay doubles with every error up to the maximum
+     * delay, and a random jitter of up to half of it is applied, so that nodes failing at the same time are not retried at
+     * the same time.
+     */
+    private long retryDelayMillis(int errors) {
+        var shift = Math.min(Math.max(errors - 1, 0), 30);
+        var delay = Math.min(retryDelay.toMillis() << shift, retryMaxDelay.toMillis());
+        delay = Math.max(delay, 0);
+        var half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
     }
 
     private String message(String input) {
@@ -192,6 +165,119 @@ public class ExecutionManager {
     }
 
 
+    /**
+     * A single execution of the plan. Idle crawlers are kept in a queue: a work item is dispatched whenever both a work item and a
+     * crawler are available, and a crawler dispatches the next work item when it completes, so no thread waits for crawlers.
+     */
+    private final class CrawlRun {
+        private final Queue<WorkItem> pendingItems;
+        private final Queue<CatalogCrawler> idleCrawlers;
+        private final CountDownLatch completion;
+        private volatile boolean abandoned;
+
+        CrawlRun(List<WorkItem> workItems, int crawlers) {
+            pendingItems = new ConcurrentLinkedQueue<>(workItems);
+            completion = new CountDownLatch(workItems.size());
+            var errorHandler = createErrorHandler();
+            idleCrawlers = IntStream.range(0, crawlers)
+                    .mapToObj(i -> new CatalogCrawler(monitor, errorHandler, successHandler))
+                    .collect(Collectors.toCollection(ConcurrentLinkedQueue::new));
+        }
+
+        void dispatch() {
+            while (!abandoned && !pendingItems.isEmpty()) {
+                var crawler = idleCrawlers.poll();
+                if (crawler == null) {
+                    monitor.debug(message("No crawler available, the work item will be dispatched when a crawler completes"));
+                    return;
+                }
+                var item = pendingItems.poll();
+                if (item == null) {
+                    // another thread took the last item in the meantime
+                    idleCrawlers.offer(crawler);
+                    continue;
+                }
+                crawl(crawler, item);
+            }
+        }
+
+        void awaitCompletion() {
+            try {
+                if (!completion.await(runTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    abandon();
+                    monitor.warning(message(format("The run did not complete within %s, %d work items are left to the next run", runTimeout, completion.getCount())));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abandon();
+                monitor.debug(message("Interrupted while waiting for the crawlers to complete"));
+            }
+        }
+
+        /**
+         * Stops dispatching the work items of this run. The crawls in progress still complete, but retries are dropped.
+         */
+        private void abandon() {
+            abandoned = true;
+            pendingItems.clear();
+        }
+
+        private void crawl(CatalogCrawler crawler, WorkItem item) {
+            // for now use the first adapter that can handle the protocol
+            var adapter = nodeQueryAdapterRegistry.findForProtocol(item.getProtocol()).stream().findFirst();
+            if (adapter.isEmpty()) {
+                monitor.warning(message(format("No protocol adapter found for protocol '%s'", item.getProtocol())));
+                completion.countDown();
+                release(crawler);
+                return;
+            }
+            crawler.run(item, adapter.get())
+                    .whenComplete((updateResponse, throwable) -> {
+                        if (throwable != null) {
+                            // the error handler has either re-queued or discarded the work item
+                            monitor.severe(message(format("Unexpected exception happened during in crawler %s", crawler.getId())), throwable);
+                        } else {
+                            monitor.info(message(format("Crawler [%s] is done", crawler.getId())));
+                            completion.countDown();
+                        }
+                        release(crawler);
+                    });
+        }
+
+        private void release(CatalogCrawler crawler) {
+            idleCrawlers.offer(crawler);
+            dispatch();
+        }
+
+        private void retry(WorkItem workItem) {
+            if (abandoned) {
+                return;
+            }
+            pendingItems.offer(workItem);
+            dispatch();
+        }
+
+        @NotNull
+        private CrawlerErrorHandler createErrorHandler() {
+            return workItem -> {
+                var errors = workItem.getErrors().size();
+                if (errors > maxRetries) {
+                    monitor.severe(message(format("The following workitem has errored out more than %d times. We'll discard it now: [%s]", maxRetries, workItem)));
+                    completion.countDown();
+                    return;
+                }
+                var delay = retryDelayMillis(errors);
+                monitor.debug(message(format("The following work item has errored out. Will re-queue after %d ms: [%s]", delay, workItem)));
+                try {
+                    retryScheduler.schedule(() -> retry(workItem), delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    monitor.warning(message(format("The execution manager is shut down, discarding work item [%s]", workItem)));
+                    completion.countDown();
+                }
+            };
+        }
+    }
+
     public static final class Builder {
 
         private final ExecutionManager instance;
@@ -224,6 +310,25 @@ public class ExecutionManager {
             return this;
         }
 
+        public Builder maxRetries(int maxRetries) {
+            instance.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder retryBackoff(Duration retryDelay, Duration retryMaxDelay) {
+            instance.retryDelay = retryDelay;
+            instance.retryMaxDelay = retryMaxDelay;
+            return this;
+        }
+
+        /**
+         * The maximum time a run waits for its work items, typically the period of the execution plan.
+         */
+        public Builder runTimeout(Duration runTimeout) {
+            instance.runTimeout = runTimeout;
+            return this;
+        }
+
         public Builder postExecutionTask(Runnable postExecutionTask) {
             instance.postExecutionTask = postExecutionTask;
             return this;
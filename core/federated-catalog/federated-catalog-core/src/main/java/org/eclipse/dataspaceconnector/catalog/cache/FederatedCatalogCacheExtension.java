@@ -30,6 +30,7 @@ import org.eclipse.dataspaceconnector.catalog.spi.NodeQueryAdapterRegistry;
 import org.eclipse.dataspaceconnector.catalog.spi.QueryEngine;
 import org.eclipse.dataspaceconnector.catalog.spi.model.ExecutionPlan;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
+import org.eclipse.dataspaceconnector.catalog.store.ContractOfferPredicateConverter;
 import org.eclipse.dataspaceconnector.catalog.store.InMemoryFederatedCacheStore;
 import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
 import org.eclipse.dataspaceconnector.spi.WebService;
@@ -62,6 +63,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     private ExecutionManager executionManager;
     private CacheQueryAdapterRegistryImpl registry;
     private QueryEngineImpl queryEngine;
+    private CacheConfiguration cacheConfiguration;
 
     @Override
     public String name() {
@@ -99,8 +101,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
         }
 
         // CRAWLER SUBSYSTEM
-        var cacheConfiguration = new CacheConfiguration(context);
-        int numCrawlers = cacheConfiguration.getNumCrawlers();
+        int numCrawlers = getCacheConfiguration(context).getNumCrawlers();
         // and a loader manager
 
         executionPlan = cacheConfiguration.getExecutionPlan();
@@ -113,6 +114,9 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                 })
                 .connectorId(context.getConnectorId())
                 .numCrawlers(numCrawlers)
+                .maxRetries(cacheConfiguration.getMaxRetries())
+                .retryBackoff(cacheConfiguration.getRetryDelay(), cacheConfiguration.getRetryMaxDelay())
+                .runTimeout(cacheConfiguration.getExecutionPeriod())
                 .nodeQueryAdapterRegistry(createNodeQueryAdapterRegistry(context))
                 .onSuccess(this::persist)
                 .nodeDirectory(directory)
@@ -124,6 +128,11 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
         executionManager.executePlan(executionPlan);
     }
 
+    @Override
+    public void shutdown() {
+        executionManager.shutdown();
+    }
+
     @Provider
     public NodeQueryAdapterRegistry createNodeQueryAdapterRegistry(ServiceExtensionContext context) {
 
@@ -137,8 +146,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public FederatedCacheStore defaultCacheStore() {
-        //todo: converts every criterion into a predicate that is always true. must be changed later!
-        return new InMemoryFederatedCacheStore(criterion -> offer -> true, new LockManager(new ReentrantReadWriteLock()));
+        return new InMemoryFederatedCacheStore(new ContractOfferPredicateConverter(), new LockManager(new ReentrantReadWriteLock()));
     }
 
     @Provider(isDefault = true)
@@ -146,15 +154,22 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
         return new InMemoryNodeDirectory();
     }
 
+    private CacheConfiguration getCacheConfiguration(ServiceExtensionContext context) {
+        if (cacheConfiguration == null) {
+            cacheConfiguration = new CacheConfiguration(context);
+        }
+        return cacheConfiguration;
+    }
+
     /**
-     * inserts a particular {@link org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog} in the {@link FederatedCacheStore}
+     * inserts a particular {@link org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog} in the {@link FederatedCacheStore},
+     * replacing the offers previously received from the same node
      *
      * @param updateResponse The response that contains the catalog
      */
     private void persist(UpdateResponse updateResponse) {
-        updateResponse.getCatalog().getContractOffers().forEach(offer -> {
-            offer.getAsset().getProperties().put(CachedAsset.PROPERTY_ORIGINATOR, updateResponse.getSource());
-            store.save(offer);
-        });
+        var offers = updateResponse.getCatalog().getContractOffers();
+        offers.forEach(offer -> offer.getAsset().getProperties().put(CachedAsset.PROPERTY_ORIGINATOR, updateResponse.getSource()));
+        store.saveAll(updateResponse.getSource(), offers);
     }
 }
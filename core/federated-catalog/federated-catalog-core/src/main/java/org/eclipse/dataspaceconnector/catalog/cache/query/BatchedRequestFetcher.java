@@ -22,15 +22,20 @@ import org.eclipse.dataspaceconnector.spi.types.domain.catalog.CatalogRequest;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 
 /**
- * Helper class that runs through a loop and sends {@link CatalogRequest}s until no more {@link ContractOffer}s are
+ * Helper class that sends {@link CatalogRequest}s for consecutive ranges until no more {@link ContractOffer}s are
  * received. This is useful to avoid overloading the provider connector by chunking the resulting response payload
  * size.
+ * <p>
+ * The pages are requested one after the other. Each request carries the key of the last offer of the previous page
+ * (its id and its asset id, see {@link Range#getAfter()}), so that the provider reads its catalog from there on
+ * instead of enumerating the previous pages again. A page containing fewer offers than requested is the last one.
  */
 public class BatchedRequestFetcher {
     private final RemoteMessageDispatcherRegistry dispatcherRegistry;
@@ -42,8 +47,8 @@ public class BatchedRequestFetcher {
     }
 
     /**
-     * Gets all contract offers. Requests are split in digestible chunks to match {@code batchSize} until no more offers
-     * can be obtained.
+     * Gets all contract offers. Requests are split in digestible chunks to match {@code batchSize} until a chunk
+     * contains fewer offers than requested.
      *
      * @param catalogRequest The catalog request. This will be copied for every request.
      * @param from           The (zero-based) index of the first item
@@ -52,31 +57,34 @@ public class BatchedRequestFetcher {
      */
     @NotNull
     public CompletableFuture<List<ContractOffer>> fetch(CatalogRequest catalogRequest, int from, int batchSize) {
-        var range = new Range(from, from + batchSize);
+        return fetch(catalogRequest, new Range(from, from + batchSize), from, batchSize, new ArrayList<>());
+    }
+
+    private CompletableFuture<List<ContractOffer>> fetch(CatalogRequest catalogRequest, Range range, int from, int batchSize, List<ContractOffer> received) {
         var rq = catalogRequest.toBuilder().range(range).build();
 
         return dispatcherRegistry.send(Catalog.class, rq, () -> null)
                 .thenApply(Catalog::getContractOffers)
                 .thenCompose(offers -> {
-                    if (offers.size() > 0) {
-                        monitor.debug(format("Fetching next batch from %s to %s", from, from + batchSize));
-                        return fetch(rq, range.getFrom() + batchSize, batchSize)
-                                .thenApply(o -> concat(offers, o));
-                    } else {
-                        return CompletableFuture.completedFuture(offers);
+                    received.addAll(offers);
+                    if (offers.size() < batchSize) {
+                        return CompletableFuture.completedFuture(received);
                     }
+                    var next = from + offers.size();
+                    monitor.debug(format("Fetching next batch from %s to %s", next, next + batchSize));
+                    return fetch(catalogRequest, nextRange(offers.get(offers.size() - 1), next, batchSize), next, batchSize, received);
                 });
     }
 
-    private List<ContractOffer> concat(List<ContractOffer> list1, List<ContractOffer> list2) {
-        list1.addAll(list2);
-        return list1;
-    }
-
-
-    private Catalog getCatalog(CatalogRequest catalogRequest, int from, int to) {
-        var future = dispatcherRegistry.send(Catalog.class, catalogRequest.toBuilder().range(new Range(from, to)).build(), () -> null);
-        return future.join();
+    /**
+     * The range following the given last offer, counted from its key, or from the given index if the key of the offer
+     * is not known.
+     */
+    private Range nextRange(ContractOffer last, int next, int batchSize) {
+        var assetId = last.getAsset() != null ? last.getAsset().getId() : last.getAssetId();
+        if (assetId == null) {
+            return new Range(next, next + batchSize);
+        }
+        return new Range(0, batchSize, List.of(last.getId(), assetId));
     }
-
 }
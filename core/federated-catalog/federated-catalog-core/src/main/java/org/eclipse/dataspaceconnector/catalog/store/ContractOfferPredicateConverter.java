@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.catalog.store;
+
+import org.eclipse.dataspaceconnector.spi.query.BaseCriterionToPredicateConverter;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+
+/**
+ * Converts a {@link Criterion} into a {@code Predicate<ContractOffer>} that is evaluated against the properties of the
+ * offered asset, e.g. {@code asset:prop:originator}.
+ */
+public class ContractOfferPredicateConverter extends BaseCriterionToPredicateConverter<ContractOffer> {
+    @Override
+    public <T> T property(String key, Object object) {
+        if (object instanceof ContractOffer) {
+            var asset = ((ContractOffer) object).getAsset();
+            if (asset == null || asset.getProperties() == null) {
+                return null;
+            }
+            return (T) asset.getProperty(key);
+        }
+        throw new IllegalArgumentException("Can only handle objects of type " + ContractOffer.class.getSimpleName() + " but received an " + object.getClass().getSimpleName());
+    }
+}
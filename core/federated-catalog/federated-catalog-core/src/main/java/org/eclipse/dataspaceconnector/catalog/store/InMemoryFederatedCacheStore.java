@@ -14,27 +14,46 @@
 
 package org.eclipse.dataspaceconnector.catalog.store;
 
+import org.eclipse.dataspaceconnector.catalog.spi.CachedAsset;
 import org.eclipse.dataspaceconnector.catalog.spi.FederatedCacheStore;
 import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.CriterionConverter;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An ephemeral in-memory cache store.
+ * <p>
+ * Offers are partitioned by originator, i.e. the node they were crawled from. Saving the catalog of a node with
+ * {@link #saveAll(String, Collection)} builds a new partition and swaps it in atomically, leaving the partitions of the
+ * other nodes untouched. Offers whose content is unchanged since the previous crawl are not stored again. Each partition
+ * indexes the string properties of the assets, so that equality criteria are resolved without scanning every offer.
+ * <p>
+ * Writers are serialized by the {@link LockManager}, queries never wait for them. Instead of marking every entry,
+ * {@link #expireAll()} only records a generation, and entries saved before it are removed by {@link #deleteExpired()}.
  */
 public class InMemoryFederatedCacheStore implements FederatedCacheStore {
 
-    private final Map<String, MarkableEntry> cache = new ConcurrentHashMap<>();
+    private static final String UNKNOWN_ORIGINATOR = "";
+
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
     private final CriterionConverter<Predicate<ContractOffer>> converter;
     private final LockManager lockManager;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long expiredGeneration = -1;
 
     public InMemoryFederatedCacheStore(CriterionConverter<Predicate<ContractOffer>> converter, LockManager lockManager) {
         this.converter = converter;
@@ -43,46 +62,201 @@ public class InMemoryFederatedCacheStore implements FederatedCacheStore {
 
     @Override
     public void save(ContractOffer contractOffer) {
-        lockManager.writeLock(() -> cache.put(contractOffer.getAsset().getId(), new MarkableEntry(false, contractOffer)));
+        lockManager.writeLock(() -> {
+            var partition = partitions.computeIfAbsent(originatorOf(contractOffer), k -> new Partition());
+            partition.put(new Entry(contractOffer, generation.get()));
+            return null;
+        });
+    }
+
+    @Override
+    public void saveAll(String originator, Collection<ContractOffer> contractOffers) {
+        lockManager.writeLock(() -> {
+            var current = generation.get();
+            var previous = partitions.get(originator);
+            if (previous != null && previous.isUnchanged(contractOffers)) {
+                previous.touch(current);
+                return null;
+            }
+
+            var partition = new Partition();
+            for (var offer : contractOffers) {
+                var existing = previous != null ? previous.get(offer.getAsset().getId()) : null;
+                if (existing != null && existing.hasSameContent(offer)) {
+                    existing.generation = current;
+                    partition.put(existing);
+                } else {
+                    partition.put(new Entry(offer, current));
+                }
+            }
+            partitions.put(originator, partition);
+            return null;
+        });
     }
 
     @Override
     public Collection<ContractOffer> query(List<Criterion> query) {
+        var indexed = query.stream().filter(Partition::canUseIndex).collect(Collectors.toList());
         //AND all predicates
-        var rootPredicate = query.stream().map(converter::convert).reduce(x -> true, Predicate::and);
-        return lockManager.readLock(() -> cache.values().stream().map(MarkableEntry::getEntry).filter(rootPredicate).collect(Collectors.toList()));
+        var rootPredicate = query.stream().filter(c -> !Partition.canUseIndex(c)).map(converter::convert).reduce(x -> true, Predicate::and);
+        return partitions.values().stream()
+                .flatMap(partition -> partition.select(indexed))
+                .map(Entry::getOffer)
+                .filter(rootPredicate)
+                .collect(Collectors.toList());
     }
 
     @Override
     public void deleteExpired() {
         lockManager.writeLock(() -> {
-            cache.values().removeIf(MarkableEntry::isMarked);
+            var expired = expiredGeneration;
+            partitions.values().forEach(partition -> partition.removeIf(entry -> entry.generation <= expired));
+            partitions.values().removeIf(Partition::isEmpty);
             return null;
         });
     }
 
     @Override
     public void expireAll() {
-        cache.replaceAll((k, v) -> v = new MarkableEntry(true, v.getEntry()));
+        lockManager.writeLock(() -> {
+            expiredGeneration = generation.getAndIncrement();
+            return null;
+        });
     }
 
-    private static class MarkableEntry {
-        private final ContractOffer entry;
-        private final boolean mark;
+    private static String originatorOf(ContractOffer contractOffer) {
+        var originator = contractOffer.getAsset().getProperty(CachedAsset.PROPERTY_ORIGINATOR);
+        return originator != null ? originator.toString() : UNKNOWN_ORIGINATOR;
+    }
+
+    /**
+     * The offers of one originator, keyed by asset id, with an index of the string properties of the assets. Entries
+     * are only modified by writers holding the write lock, queries read the concurrent maps without locking and
+     * check the indexed criteria again on the selected entries.
+     */
+    private static class Partition {
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<String, Map<String, Set<String>>> index = new ConcurrentHashMap<>();
+
+        static boolean canUseIndex(Criterion criterion) {
+            return "=".equals(criterion.getOperator()) && criterion.getOperandLeft() instanceof String && criterion.getOperandRight() instanceof String;
+        }
+
+        Entry get(String assetId) {
+            return entries.get(assetId);
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        void put(Entry entry) {
+            var assetId = entry.getOffer().getAsset().getId();
+            var previous = entries.put(assetId, entry);
+            if (previous != null) {
+                unindex(assetId, previous);
+            }
+            entry.getOffer().getAsset().getProperties().forEach((property, value) -> {
+                if (value instanceof String) {
+                    index.computeIfAbsent(property, k -> new ConcurrentHashMap<>())
+                            .computeIfAbsent((String) value, k -> ConcurrentHashMap.newKeySet())
+                            .add(assetId);
+                }
+            });
+        }
+
+        void removeIf(Predicate<Entry> predicate) {
+            entries.entrySet().removeIf(e -> {
+                if (predicate.test(e.getValue())) {
+                    unindex(e.getKey(), e.getValue());
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        /**
+         * Whether the offers have the same content as the entries of the partition.
+         */
+        boolean isUnchanged(Collection<ContractOffer> offers) {
+            if (offers.size() != entries.size()) {
+                return false;
+            }
+            return offers.stream().allMatch(offer -> {
+                var entry = entries.get(offer.getAsset().getId());
+                return entry != null && entry.hasSameContent(offer);
+            });
+        }
 
-        MarkableEntry(boolean isMarked, ContractOffer offer) {
-            entry = offer;
-            mark = isMarked;
+        void touch(long generation) {
+            entries.values().forEach(entry -> entry.generation = generation);
         }
 
+        Stream<Entry> select(List<Criterion> criteria) {
+            if (criteria.isEmpty()) {
+                return entries.values().stream();
+            }
+            var candidates = new ArrayList<Set<String>>();
+            for (var criterion : criteria) {
+                var ids = index.getOrDefault((String) criterion.getOperandLeft(), Map.of()).get((String) criterion.getOperandRight());
+                if (ids == null || ids.isEmpty()) {
+                    return Stream.empty();
+                }
+                candidates.add(ids);
+            }
+            var smallest = candidates.stream().min(Comparator.comparingInt(Set::size)).orElseThrow();
+            return smallest.stream()
+                    .map(entries::get)
+                    .filter(Objects::nonNull)
+                    .filter(entry -> criteria.stream().allMatch(c -> Objects.equals(entry.getOffer().getAsset().getProperty((String) c.getOperandLeft()), c.getOperandRight())));
+        }
 
-        public boolean isMarked() {
-            return mark;
+        private void unindex(String assetId, Entry entry) {
+            entry.getOffer().getAsset().getProperties().forEach((property, value) -> {
+                if (value instanceof String) {
+                    var values = index.get(property);
+                    if (values != null) {
+                        values.computeIfPresent((String) value, (k, ids) -> {
+                            ids.remove(assetId);
+                            return ids.isEmpty() ? null : ids;
+                        });
+                    }
+                }
+            });
         }
+    }
 
-        public ContractOffer getEntry() {
-            return entry;
+    private static class Entry {
+        private final ContractOffer offer;
+        private final int contentHash;
+        private volatile long generation;
+
+        Entry(ContractOffer offer, long generation) {
+            this.offer = offer;
+            this.generation = generation;
+            contentHash = contentHash(offer);
         }
 
+        ContractOffer getOffer() {
+            return offer;
+        }
+
+        boolean hasSameContent(ContractOffer other) {
+            return contentHash == contentHash(other) &&
+                    Objects.equals(offer.getId(), other.getId()) &&
+                    Objects.equals(offer.getAsset().getProperties(), other.getAsset().getProperties()) &&
+                    Objects.equals(offer.getPolicy(), other.getPolicy()) &&
+                    Objects.equals(offer.getProvider(), other.getProvider()) &&
+                    Objects.equals(offer.getConsumer(), other.getConsumer()) &&
+                    Objects.equals(offer.getOfferStart(), other.getOfferStart()) &&
+                    Objects.equals(offer.getOfferEnd(), other.getOfferEnd()) &&
+                    Objects.equals(offer.getContractStart(), other.getContractStart()) &&
+                    Objects.equals(offer.getContractEnd(), other.getContractEnd());
+        }
+
+        private static int contentHash(ContractOffer offer) {
+            return Objects.hash(offer.getId(), offer.getAsset().getProperties(), offer.getPolicy(), offer.getProvider(), offer.getConsumer(),
+                    offer.getOfferStart(), offer.getOfferEnd(), offer.getContractStart(), offer.getContractEnd());
+        }
     }
 }
@@ -25,25 +25,32 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.delayedExecutor;
 import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.catalog.cache.TestUtil.TEST_PROTOCOL;
 import static org.eclipse.dataspaceconnector.catalog.cache.TestUtil.createCatalog;
 import static org.eclipse.dataspaceconnector.catalog.cache.TestUtil.createNode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -144,12 +151,94 @@ class ExecutionManagerTest {
 
         var inOrder = inOrder(preExecutionTaskMock, queryAdapterMock, successConsumerMock);
         inOrder.verify(preExecutionTaskMock).run();
-        inOrder.verify(queryAdapterMock).sendRequest(any());
+        inOrder.verify(queryAdapterMock, atLeastOnce()).sendRequest(any());
 
         verifyNoInteractions(successConsumerMock);
         verify(monitorMock, atLeastOnce()).severe(anyString(), isA(CompletionException.class));
     }
 
+    @Test
+    void executePlan_retriesFailedWorkItem() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.sendRequest(any()))
+                .thenReturn(failedFuture(new EdcException("some exception")))
+                .thenReturn(completedFuture(new UpdateResponse("test-url", createCatalog())));
+
+        manager.executePlan(simplePlan());
+
+        var inOrder = inOrder(queryAdapterMock, successConsumerMock, postExecutionTask);
+        inOrder.verify(queryAdapterMock, times(2)).sendRequest(any());
+        inOrder.verify(successConsumerMock).accept(any());
+        inOrder.verify(postExecutionTask).run();
+    }
+
+    @Test
+    void executePlan_discardsWorkItemAfterMaxRetries() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.sendRequest(any())).thenReturn(failedFuture(new EdcException("some exception")));
+
+        manager.executePlan(simplePlan());
+
+        verify(queryAdapterMock, times(3)).sendRequest(any());
+        verify(monitorMock).severe(contains("errored out more than 2 times"));
+        verify(postExecutionTask).run();
+        verifyNoInteractions(successConsumerMock);
+    }
+
+    @Test
+    void executePlan_crawlsAtMostNumCrawlersNodesConcurrently() {
+        var nodes = IntStream.range(0, 10).mapToObj(i -> createNode()).collect(Collectors.toList());
+        when(nodeDirectoryMock.getAll()).thenReturn(nodes);
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        when(queryAdapterMock.sendRequest(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return new UpdateResponse("test-url", createCatalog());
+            }, delayedExecutor(10, TimeUnit.MILLISECONDS));
+        });
+        var boundedManager = ExecutionManager.Builder.newInstance()
+                .nodeDirectory(nodeDirectoryMock)
+                .nodeQueryAdapterRegistry(nodeQueryAdapterRegistry)
+                .connectorId("test-connector")
+                .monitor(monitorMock)
+                .onSuccess(successConsumerMock)
+                .numCrawlers(3)
+                .build();
+
+        boundedManager.executePlan(simplePlan());
+
+        verify(successConsumerMock, times(10)).accept(any());
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void executePlan_abandonsRunAfterTimeout() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode(), createNode()));
+        when(nodeQueryAdapterRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.sendRequest(any())).thenReturn(new CompletableFuture<>());
+        var timedManager = ExecutionManager.Builder.newInstance()
+                .nodeDirectory(nodeDirectoryMock)
+                .nodeQueryAdapterRegistry(nodeQueryAdapterRegistry)
+                .connectorId("test-connector")
+                .postExecutionTask(postExecutionTask)
+                .monitor(monitorMock)
+                .onSuccess(successConsumerMock)
+                .runTimeout(Duration.ofMillis(100))
+                .build();
+
+        timedManager.executePlan(simplePlan());
+
+        verify(queryAdapterMock, times(1)).sendRequest(any());
+        verify(monitorMock).warning(contains("did not complete within"));
+        verify(postExecutionTask).run();
+        verifyNoInteractions(successConsumerMock);
+    }
+
     @Test
     void executePlan_workItemsEmpty() {
         when(nodeDirectoryMock.getAll()).thenReturn(List.of());
@@ -179,6 +268,8 @@ class ExecutionManagerTest {
                 .postExecutionTask(postExecutionTask)
                 .monitor(monitorMock)
                 .onSuccess(successConsumerMock)
+                .maxRetries(2)
+                .retryBackoff(Duration.ofMillis(1), Duration.ofMillis(10))
                 .build();
     }
 }
\ No newline at end of file
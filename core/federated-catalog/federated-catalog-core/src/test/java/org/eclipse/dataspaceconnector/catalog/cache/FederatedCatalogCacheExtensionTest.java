@@ -110,7 +110,7 @@ class FederatedCatalogCacheExtensionTest {
         Awaitility.await()
                 .atMost(Duration.ofSeconds(5))
                 .untilAsserted(() -> {
-                    verify(storeMock, atLeastOnce()).save(any());
+                    verify(storeMock, atLeastOnce()).saveAll(eq("test-url"), any());
                 });
 
     }
@@ -15,9 +15,12 @@
 package org.eclipse.dataspaceconnector.catalog.defaults.store;
 
 
+import org.eclipse.dataspaceconnector.catalog.spi.CachedAsset;
+import org.eclipse.dataspaceconnector.catalog.store.ContractOfferPredicateConverter;
 import org.eclipse.dataspaceconnector.catalog.store.InMemoryFederatedCacheStore;
 import org.eclipse.dataspaceconnector.common.concurrency.LockManager;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.CriterionConverter;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
@@ -153,4 +156,82 @@ class InMemoryFederatedCacheStoreTest {
                 .doesNotContain(contractOffer1, contractOffer2);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void saveAll_shouldReplaceOnlyPartitionOfOriginator() {
+        var offer1 = createContractOffer("offer1", createAsset("asset1", "node1"));
+        var offer2 = createContractOffer("offer2", createAsset("asset2", "node1"));
+        var offer3 = createContractOffer("offer3", createAsset("asset3", "node2"));
+        store.saveAll("node1", List.of(offer1, offer2));
+        store.saveAll("node2", List.of(offer3));
+
+        var offer4 = createContractOffer("offer4", createAsset("asset4", "node1"));
+        store.saveAll("node1", List.of(offer4));
+
+        assertThat(store.query(List.of())).containsExactlyInAnyOrder(offer3, offer4);
+    }
+
+    @Test
+    void saveAll_shouldKeepUnchangedOffers() {
+        var offer = createContractOffer("offer1", createAsset("asset1", "node1"));
+        store.saveAll("node1", List.of(offer));
+
+        var sameContent = createContractOffer("offer1", createAsset("asset1", "node1"));
+        var changed = createContractOffer("offer2", createAsset("asset2", "node1"));
+        store.saveAll("node1", List.of(sameContent, changed));
+
+        assertThat(store.query(List.of())).hasSize(2)
+                .anySatisfy(co -> assertThat(co).isSameAs(offer))
+                .anySatisfy(co -> assertThat(co).isSameAs(changed));
+    }
+
+    @Test
+    void deleteExpired_shouldKeepPartitionsSavedAfterExpiration() {
+        var offer1 = createContractOffer("offer1", createAsset("asset1", "node1"));
+        var offer2 = createContractOffer("offer2", createAsset("asset2", "node2"));
+        store.saveAll("node1", List.of(offer1));
+        store.saveAll("node2", List.of(offer2));
+
+        store.expireAll();
+        // node1 is crawled again with the same content, node2 is not reachable
+        store.saveAll("node1", List.of(createContractOffer("offer1", createAsset("asset1", "node1"))));
+        store.deleteExpired();
+
+        assertThat(store.query(List.of())).containsExactly(offer1);
+    }
+
+    @Test
+    void query_shouldUseIndexForEqualityCriteria() {
+        store = new InMemoryFederatedCacheStore(new ContractOfferPredicateConverter(), new LockManager(new ReentrantReadWriteLock()));
+        var offer1 = createContractOffer("offer1", createAsset("asset1", "node1"));
+        var offer2 = createContractOffer("offer2", createAsset("asset2", "node1"));
+        var offer3 = createContractOffer("offer3", createAsset("asset3", "node2"));
+        store.saveAll("node1", List.of(offer1, offer2));
+        store.saveAll("node2", List.of(offer3));
+
+        assertThat(store.query(List.of(new Criterion(CachedAsset.PROPERTY_ORIGINATOR, "=", "node1"))))
+                .containsExactlyInAnyOrder(offer1, offer2);
+        assertThat(store.query(List.of(new Criterion(CachedAsset.PROPERTY_ORIGINATOR, "=", "node1"), new Criterion("asset:prop:id", "=", "asset2"))))
+                .containsExactly(offer2);
+        assertThat(store.query(List.of(new Criterion("asset:prop:id", "in", List.of("asset1", "asset3")))))
+                .containsExactlyInAnyOrder(offer1, offer3);
+        assertThat(store.query(List.of(new Criterion("asset:prop:id", "=", "unknown")))).isEmpty();
+    }
+
+    @Test
+    void query_shouldNotReturnReplacedValuesFromIndex() {
+        store.save(createContractOffer("offer1", Asset.Builder.newInstance().id("asset1").property("color", "red").build()));
+        var updated = createContractOffer("offer1", Asset.Builder.newInstance().id("asset1").property("color", "blue").build());
+        store.save(updated);
+
+        assertThat(store.query(List.of(new Criterion("color", "=", "red")))).isEmpty();
+        assertThat(store.query(List.of(new Criterion("color", "=", "blue")))).containsExactly(updated);
+    }
+
+    private static Asset createAsset(String id, String originator) {
+        return Asset.Builder.newInstance()
+                .id(id)
+                .property(CachedAsset.PROPERTY_ORIGINATOR, originator)
+                .build();
+    }
+}
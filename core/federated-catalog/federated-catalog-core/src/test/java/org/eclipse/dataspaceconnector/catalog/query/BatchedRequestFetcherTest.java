@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.catalog.query;
 
 import org.eclipse.dataspaceconnector.catalog.cache.query.BatchedRequestFetcher;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.message.Range;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
@@ -25,11 +26,15 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOf
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
@@ -55,8 +60,7 @@ class BatchedRequestFetcherTest {
         when(dispatcherMock.send(eq(Catalog.class), any(CatalogRequest.class), any()))
                 .thenReturn(completedFuture(createCatalog(5)))
                 .thenReturn(completedFuture(createCatalog(5)))
-                .thenReturn(completedFuture(createCatalog(3)))
-                .thenReturn(completedFuture(emptyCatalog()));
+                .thenReturn(completedFuture(createCatalog(3)));
 
         var request = createRequest();
 
@@ -66,16 +70,49 @@ class BatchedRequestFetcherTest {
 
 
         var captor = forClass(CatalogRequest.class);
-        verify(dispatcherMock, times(4)).send(eq(Catalog.class), captor.capture(), any());
+        verify(dispatcherMock, times(3)).send(eq(Catalog.class), captor.capture(), any());
 
-        // verify the sequence of requests
+        // verify the sequence of requests, the next pages start after the last offer received, the last page is not full
+        // so no more requests are needed
         assertThat(captor.getAllValues())
                 .extracting(CatalogRequest::getRange)
                 .usingRecursiveFieldByFieldElementComparator()
-                .containsExactly(new Range(0, 5), new Range(5, 10), new Range(10, 15), new Range(15, 20));
+                .containsExactly(new Range(0, 5), new Range(0, 5, List.of("id4", "asset4")), new Range(0, 5, List.of("id4", "asset4")));
 
     }
 
+    @Test
+    void fetchAll_requestsNextPageOnlyWhenPageIsFull() {
+        var pages = new ArrayList<CompletableFuture<Catalog>>();
+        when(dispatcherMock.send(eq(Catalog.class), any(CatalogRequest.class), any())).thenAnswer(invocation -> {
+            var page = new CompletableFuture<Catalog>();
+            pages.add(page);
+            return page;
+        });
+
+        var offers = fetcher.fetch(createRequest(), 0, 5);
+
+        assertThat(pages).hasSize(1);
+        pages.get(0).complete(createCatalog(5));
+        assertThat(pages).hasSize(2);
+        pages.get(1).complete(emptyCatalog());
+
+        assertThat(offers).isCompletedWithValueMatching(list -> list.size() == 5);
+        assertThat(pages).hasSize(2);
+    }
+
+    @Test
+    void fetchAll_failsIfPageFails() {
+        when(dispatcherMock.send(eq(Catalog.class), any(CatalogRequest.class), any()))
+                .thenReturn(completedFuture(createCatalog(5)))
+                .thenReturn(failedFuture(new EdcException("failure")));
+
+        var offers = fetcher.fetch(createRequest(), 0, 5);
+
+        assertThat(offers).isCompletedExceptionally();
+        verify(dispatcherMock, times(2)).send(eq(Catalog.class), any(CatalogRequest.class), any());
+    }
+
     private CatalogRequest createRequest() {
         return CatalogRequest.Builder.newInstance()
                 .connectorId("test-connector")
@@ -94,6 +94,9 @@ public class MultipartCatalogDescriptionRequestSender extends IdsMultipartSender
         //TODO: IDS REFACTORING: incorporate this into the protocol itself
         message.setProperty(Range.FROM, request.getRange().getFrom());
         message.setProperty(Range.TO, request.getRange().getTo());
+        if (!request.getRange().getAfter().isEmpty()) {
+            message.setProperty(Range.AFTER, request.getRange().getAfter());
+        }
         return message;
     }
 
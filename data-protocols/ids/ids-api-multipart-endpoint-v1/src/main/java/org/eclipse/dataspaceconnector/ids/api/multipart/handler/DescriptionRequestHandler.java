@@ -44,6 +44,7 @@ import org.jetbrains.annotations.NotNull;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.RequestUtil.getInt;
+import static org.eclipse.dataspaceconnector.ids.api.multipart.util.RequestUtil.getStrings;
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.ResponseUtil.badParameters;
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.ResponseUtil.createMultipartResponse;
 import static org.eclipse.dataspaceconnector.ids.api.multipart.util.ResponseUtil.descriptionResponse;
@@ -92,19 +93,25 @@ public class DescriptionRequestHandler implements Handler {
         // extract paging information, default to 0 ... Integer.MAX_VALUE
         var from = getInt(message, Range.FROM, 0);
         var to = getInt(message, Range.TO, Integer.MAX_VALUE);
-        var range = new Range(from, to);
+        var range = new Range(from, to, getStrings(message, Range.AFTER));
 
         // Retrieve and transform requested element
         Result<? extends ModelClass> result;
-        if (requestedElement.failed() || requestedElement.getContent() == null ||
-                (requestedElement.getContent().getType() == IdsType.CONNECTOR)) {
-            result = getConnector(claimToken, range);
-        } else {
-            var retrievedObject = retrieveRequestedElement(requestedElement.getContent(), claimToken, range);
-            if (retrievedObject == null) {
-                return createMultipartResponse(notFound(message, connectorId));
+        try {
+            if (requestedElement.failed() || requestedElement.getContent() == null ||
+                    (requestedElement.getContent().getType() == IdsType.CONNECTOR)) {
+                result = getConnector(claimToken, range);
+            } else {
+                var retrievedObject = retrieveRequestedElement(requestedElement.getContent(), claimToken, range);
+                if (retrievedObject == null) {
+                    return createMultipartResponse(notFound(message, connectorId));
+                }
+                result = transformRequestedElement(retrievedObject, requestedElement.getContent().getType());
             }
-            result = transformRequestedElement(retrievedObject, requestedElement.getContent().getType());
+        } catch (IllegalArgumentException e) {
+            // e.g. the key of the previous range is malformed
+            monitor.warning(format("Invalid description request for %s with %s: %s", message.getRequestedElement(), range, e.getMessage()));
+            return createMultipartResponse(badParameters(message, connectorId));
         }
 
         if (result.failed()) {
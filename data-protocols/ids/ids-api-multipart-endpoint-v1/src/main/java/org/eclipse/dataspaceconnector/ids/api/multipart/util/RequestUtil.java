@@ -17,6 +17,10 @@ package org.eclipse.dataspaceconnector.ids.api.multipart.util;
 import de.fraunhofer.iais.eis.DescriptionRequestMessage;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static java.util.Optional.ofNullable;
 
 public class RequestUtil {
@@ -35,4 +39,19 @@ public class RequestUtil {
                 .map(v -> Integer.parseInt(v.toString()))
                 .orElse(defaultValue);
     }
+
+    /**
+     * Extracts a list property from a {@link DescriptionRequestMessage}
+     *
+     * @param message The message
+     * @param propertyName the name of the property
+     * @return the elements of the property as strings, or an empty list if the message does not contain that property
+     */
+    public static List<String> getStrings(@NotNull DescriptionRequestMessage message, String propertyName) {
+        return ofNullable(message.getProperties())
+                .map(map -> map.get(propertyName))
+                .filter(Collection.class::isInstance)
+                .map(v -> ((Collection<?>) v).stream().map(String::valueOf).collect(Collectors.toList()))
+                .orElse(List.of());
+    }
 }
@@ -23,6 +23,8 @@ import de.fraunhofer.iais.eis.DescriptionRequestMessageBuilder;
 import de.fraunhofer.iais.eis.DescriptionRequestMessageImpl;
 import de.fraunhofer.iais.eis.DescriptionResponseMessage;
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.RejectionMessage;
+import de.fraunhofer.iais.eis.RejectionReason;
 import de.fraunhofer.iais.eis.Representation;
 import de.fraunhofer.iais.eis.RepresentationBuilder;
 import de.fraunhofer.iais.eis.Resource;
@@ -52,6 +54,7 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -158,6 +161,41 @@ class DescriptionRequestHandlerTest {
         verifyNoInteractions(connectorService, contractOfferService, assetIndex);
     }
 
+    @Test
+    void handleRequest_catalog_shouldPassKeyOfPreviousRange() {
+        var catalog = Catalog.Builder.newInstance().id("1").contractOffers(new ArrayList<>()).build();
+        var message = (DescriptionRequestMessageImpl) descriptionRequestMessage(URI.create("urn:catalog:1"));
+        message.setProperty(Range.AFTER, List.of("definition", "asset"));
+        var request = MultipartRequest.Builder.newInstance()
+                .header(message)
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .build();
+
+        when(catalogService.getDataCatalog(any(), any())).thenReturn(catalog);
+        when(transformerRegistry.transform(catalog, ResourceCatalog.class)).thenReturn(Result.success(new ResourceCatalogBuilder().build()));
+
+        handler.handleRequest(request);
+
+        verify(catalogService).getDataCatalog(any(), argThat(range -> range.getAfter().equals(List.of("definition", "asset"))));
+    }
+
+    @Test
+    void handleRequest_catalog_shouldRejectInvalidKeyOfPreviousRange() {
+        var message = (DescriptionRequestMessageImpl) descriptionRequestMessage(URI.create("urn:catalog:1"));
+        message.setProperty(Range.AFTER, List.of("definition"));
+        var request = MultipartRequest.Builder.newInstance()
+                .header(message)
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .build();
+
+        when(catalogService.getDataCatalog(any(), any())).thenThrow(new IllegalArgumentException("invalid key"));
+
+        var response = handler.handleRequest(request);
+
+        assertThat(response.getHeader()).isInstanceOf(RejectionMessage.class);
+        assertThat(((RejectionMessage) response.getHeader()).getRejectionReason()).isEqualTo(RejectionReason.BAD_PARAMETERS);
+    }
+
     @Test
     void handleRequest_resource_returnDescription() {
         var assetId = "1";
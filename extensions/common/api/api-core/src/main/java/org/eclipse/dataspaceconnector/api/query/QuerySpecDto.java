@@ -22,6 +22,12 @@ import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 
 public class QuerySpecDto {
 
+    /**
+     * Response header carrying the cursor of the next page, absent on the last page. The page following a response is
+     * requested by passing the value of this header as {@code cursor} query parameter.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @QueryParam("offset")
     @PositiveOrZero(message = "offset must be greater or equal to zero")
     private Integer offset = 0;
@@ -39,6 +45,9 @@ public class QuerySpecDto {
     @QueryParam("sortField")
     private String sortField;
 
+    @QueryParam("cursor")
+    private String cursor;
+
     public QuerySpecDto() {
 
     }
@@ -63,6 +72,10 @@ public class QuerySpecDto {
         return sortField;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
     @AssertTrue
     public boolean isValid() {
         if (filter != null && filter.isBlank()) {
@@ -73,6 +86,10 @@ public class QuerySpecDto {
             return false;
         }
 
+        if (cursor != null && cursor.isBlank()) {
+            return false;
+        }
+
         return true;
     }
 
@@ -107,6 +124,11 @@ public class QuerySpecDto {
             return this;
         }
 
+        public Builder cursor(String cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public Builder filter(String filter) {
             querySpec.filter = filter;
             return this;
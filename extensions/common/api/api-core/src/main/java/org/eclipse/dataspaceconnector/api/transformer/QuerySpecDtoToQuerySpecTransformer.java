@@ -34,12 +34,18 @@ public class QuerySpecDtoToQuerySpecTransformer implements DtoTransformer<QueryS
 
     @Override
     public @Nullable QuerySpec transform(@Nullable QuerySpecDto object, @NotNull TransformerContext context) {
-        return QuerySpec.Builder.newInstance()
-                .limit(object.getLimit())
-                .offset(object.getOffset())
-                .filter(object.getFilter())
-                .sortField(object.getSortField())
-                .sortOrder(object.getSortOrder())
-                .build();
+        try {
+            return QuerySpec.Builder.newInstance()
+                    .limit(object.getLimit())
+                    .offset(object.getOffset())
+                    .filter(object.getFilter())
+                    .sortField(object.getSortField())
+                    .sortOrder(object.getSortOrder())
+                    .cursor(object.getCursor())
+                    .build();
+        } catch (IllegalArgumentException e) {
+            context.reportProblem(e.getMessage());
+            return null;
+        }
     }
 }
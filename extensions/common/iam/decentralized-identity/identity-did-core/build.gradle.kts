@@ -9,6 +9,7 @@ val okHttpVersion: String by project
 dependencies {
     api(project(":spi:common:identity-did-spi"))
     implementation(project(":extensions:common:iam:decentralized-identity:identity-did-crypto"))
+    implementation(project(":common:util"))
 
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
     implementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
@@ -18,6 +18,7 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.JWK;
 import org.eclipse.dataspaceconnector.iam.did.crypto.key.EcPrivateKeyWrapper;
+import org.eclipse.dataspaceconnector.iam.did.resolution.CachingDidResolverRegistry;
 import org.eclipse.dataspaceconnector.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.dataspaceconnector.iam.did.resolution.DidResolverRegistryImpl;
 import org.eclipse.dataspaceconnector.iam.did.spi.key.PrivateKeyWrapper;
@@ -26,6 +27,7 @@ import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry
 import org.eclipse.dataspaceconnector.iam.did.spi.store.DidStore;
 import org.eclipse.dataspaceconnector.iam.did.store.InMemoryDidDocumentStore;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.Provider;
@@ -34,11 +36,24 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.time.Duration;
 
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 public class IdentityDidCoreExtension implements ServiceExtension {
 
+    @EdcSetting
+    private static final String DID_CACHE_TTL = "edc.iam.did.cache.ttl";
+    private static final long DEFAULT_DID_CACHE_TTL = 300;
+
+    @EdcSetting
+    private static final String DID_CACHE_FAILURE_TTL = "edc.iam.did.cache.failure.ttl";
+    private static final long DEFAULT_DID_CACHE_FAILURE_TTL = 10;
+
+    @EdcSetting
+    private static final String DID_CACHE_SIZE = "edc.iam.did.cache.size";
+    private static final int DEFAULT_DID_CACHE_SIZE = 1000;
+
     @Inject
     private PrivateKeyResolver privateKeyResolver;
 
@@ -52,7 +67,13 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        DidResolverRegistry didResolverRegistry = new DidResolverRegistryImpl();
+        var timeToLive = context.getSetting(DID_CACHE_TTL, DEFAULT_DID_CACHE_TTL);
+        if (timeToLive > 0) {
+            var failureTimeToLive = context.getSetting(DID_CACHE_FAILURE_TTL, DEFAULT_DID_CACHE_FAILURE_TTL);
+            var maxSize = context.getSetting(DID_CACHE_SIZE, DEFAULT_DID_CACHE_SIZE);
+            didResolverRegistry = new CachingDidResolverRegistry(didResolverRegistry, clock, Duration.ofSeconds(timeToLive), Duration.ofSeconds(failureTimeToLive), maxSize);
+        }
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
         var publicKeyResolver = new DidPublicKeyResolverImpl(didResolverRegistry);
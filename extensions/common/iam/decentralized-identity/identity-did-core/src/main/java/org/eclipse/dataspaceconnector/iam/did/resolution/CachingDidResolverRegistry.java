@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.did.resolution;
+
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+import org.eclipse.dataspaceconnector.common.collection.SingleFlight;
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Caches the DID documents resolved by a {@link DidResolverRegistry}, so that the document of a peer is not fetched
+ * again for every token it presents.
+ * <p>
+ * Documents are cached for the configured time to live, or for a shorter time if their source says so (e.g. the
+ * {@code max-age} of a Web DID), and are not cached at all if their source forbids it. Failed resolutions are cached
+ * for a short time, so that an unreachable or unknown DID does not result in a call to the resolver for every request.
+ * Concurrent resolutions of the same DID result in a single call to the resolver. While a document is cached, the same
+ * {@link DidDocument} instance is returned, which allows callers to memoise what they derive from it.
+ */
+public class CachingDidResolverRegistry implements DidResolverRegistry {
+    private final DidResolverRegistry delegate;
+    private final Clock clock;
+    private final Duration timeToLive;
+    private final Duration failureTimeToLive;
+    private final ExpiringLruCache<String, Result<DidResolution>> cache;
+    private final SingleFlight<String, Result<DidResolution>> inFlight = new SingleFlight<>();
+
+    /**
+     * Creates the cache.
+     *
+     * @param delegate          the registry resolving the documents.
+     * @param clock             the clock.
+     * @param timeToLive        maximum time for which a document is cached.
+     * @param failureTimeToLive time for which a failed resolution is cached.
+     * @param maxSize           maximum number of cached DIDs, the least recently used ones are evicted first.
+     */
+    public CachingDidResolverRegistry(DidResolverRegistry delegate, Clock clock, Duration timeToLive, Duration failureTimeToLive, int maxSize) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.timeToLive = timeToLive;
+        this.failureTimeToLive = failureTimeToLive;
+        cache = new ExpiringLruCache<>(clock, maxSize);
+    }
+
+    @Override
+    public void register(DidResolver resolver) {
+        delegate.register(resolver);
+    }
+
+    @Override
+    public Result<DidDocument> resolve(String didKey) {
+        return resolveDocument(didKey).map(DidResolution::getDocument);
+    }
+
+    @Override
+    public Result<DidResolution> resolveDocument(String didKey) {
+        Objects.requireNonNull(didKey);
+        var now = clock.instant();
+        var entry = cache.getEntry(didKey);
+        if (entry != null) {
+            return entry.getValue().map(resolution -> new DidResolution(resolution.getDocument(), Duration.between(now, entry.getExpiresAt())));
+        }
+        return load(didKey, now);
+    }
+
+    /**
+     * Removes all the cached documents and failures.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Resolves the document through the delegate, or waits for the resolution already in progress for the same DID.
+     */
+    private Result<DidResolution> load(String didKey, Instant resolvedAt) {
+        return inFlight.load(didKey, () -> {
+            var result = delegate.resolveDocument(didKey);
+            store(didKey, result, resolvedAt);
+            return result;
+        });
+    }
+
+    private void store(String didKey, Result<DidResolution> result, Instant resolvedAt) {
+        var entryTimeToLive = result.succeeded() ? timeToLive(result.getContent()) : failureTimeToLive;
+        if (entryTimeToLive.isNegative() || entryTimeToLive.isZero()) {
+            return;
+        }
+        cache.put(didKey, result, resolvedAt.plus(entryTimeToLive));
+    }
+
+    private Duration timeToLive(DidResolution resolution) {
+        var maxAge = resolution.getMaxAge();
+        return maxAge != null && maxAge.compareTo(timeToLive) < 0 ? maxAge : timeToLive;
+    }
+}
@@ -15,17 +15,23 @@
 package org.eclipse.dataspaceconnector.iam.did.resolution;
 
 import org.eclipse.dataspaceconnector.iam.did.crypto.key.KeyConverter;
+import org.eclipse.dataspaceconnector.iam.did.spi.document.VerificationMethod;
 import org.eclipse.dataspaceconnector.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
 import static org.eclipse.dataspaceconnector.iam.did.spi.document.DidConstants.ALLOWED_VERIFICATION_TYPES;
 
 public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
     private final DidResolverRegistry resolverRegistry;
+    // converted keys, as long as the document they come from is cached by the registry
+    private final Map<VerificationMethod, PublicKeyWrapper> publicKeys = Collections.synchronizedMap(new WeakHashMap<>());
 
     public DidPublicKeyResolverImpl(DidResolverRegistry resolverRegistry) {
         this.resolverRegistry = resolverRegistry;
@@ -48,9 +54,8 @@ public class DidPublicKeyResolverImpl implements DidPublicKeyResolver {
         }
 
         var verificationMethod = didDocument.getVerificationMethod().get(0);
-        var jwk = verificationMethod.getPublicKeyJwk();
         try {
-            return Result.success(KeyConverter.toPublicKeyWrapper(jwk, verificationMethod.getId()));
+            return Result.success(publicKeys.computeIfAbsent(verificationMethod, vm -> KeyConverter.toPublicKeyWrapper(vm.getPublicKeyJwk(), vm.getId())));
         } catch (IllegalArgumentException e) {
             return Result.failure("Public key was not a valid EC key. Details: " + e.getMessage());
         }
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.did.resolution;
+
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDidResolverRegistryTest {
+    private static final String DID = "did:web:foo.com";
+    private static final Instant NOW = Instant.now();
+
+    private final DidResolverRegistry delegate = mock(DidResolverRegistry.class);
+    private final DidDocument document = DidDocument.Builder.newInstance().id(DID).build();
+
+    @Test
+    void resolve_shouldServeSameDocumentFromCache() {
+        when(delegate.resolveDocument(DID)).thenReturn(Result.success(new DidResolution(document, null)));
+        var registry = createRegistry(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+        assertThat(registry.resolve(DID).getContent()).isSameAs(document);
+
+        verify(delegate, times(1)).resolveDocument(DID);
+    }
+
+    @Test
+    void resolve_shouldResolveAgainAfterTimeToLive() {
+        when(delegate.resolveDocument(DID)).thenReturn(Result.success(new DidResolution(document, null)));
+        var now = new AtomicReference<>(NOW);
+        var registry = createRegistry(clock(now));
+
+        registry.resolve(DID);
+        now.set(NOW.plusSeconds(59));
+        registry.resolve(DID);
+        now.set(NOW.plusSeconds(60));
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveDocument(DID);
+    }
+
+    @Test
+    void resolve_shouldHonourShorterMaxAge() {
+        when(delegate.resolveDocument(DID)).thenReturn(Result.success(new DidResolution(document, Duration.ofSeconds(5))));
+        var now = new AtomicReference<>(NOW);
+        var registry = createRegistry(clock(now));
+
+        registry.resolve(DID);
+        now.set(NOW.plusSeconds(4));
+        assertThat(registry.resolveDocument(DID).getContent().getMaxAge()).isEqualTo(Duration.ofSeconds(1));
+        now.set(NOW.plusSeconds(5));
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveDocument(DID);
+    }
+
+    @Test
+    void resolve_shouldNotCacheDocumentThatMustNotBeCached() {
+        when(delegate.resolveDocument(DID)).thenReturn(Result.success(new DidResolution(document, Duration.ZERO)));
+        var registry = createRegistry(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        registry.resolve(DID);
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveDocument(DID);
+    }
+
+    @Test
+    void resolve_shouldCacheFailuresForShortTime() {
+        when(delegate.resolveDocument(DID)).thenReturn(Result.failure("not found"));
+        var now = new AtomicReference<>(NOW);
+        var registry = createRegistry(clock(now));
+
+        assertThat(registry.resolve(DID).getFailureMessages()).containsExactly("not found");
+        now.set(NOW.plusSeconds(9));
+        assertThat(registry.resolve(DID).getFailureMessages()).containsExactly("not found");
+        now.set(NOW.plusSeconds(10));
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveDocument(DID);
+    }
+
+    @Test
+    void resolve_shouldEvictLeastRecentlyUsedEntries() {
+        when(delegate.resolveDocument(DID)).thenReturn(Result.success(new DidResolution(document, null)));
+        when(delegate.resolveDocument("did:web:bar.com")).thenReturn(Result.success(new DidResolution(document, null)));
+        var registry = new CachingDidResolverRegistry(delegate, Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(60), Duration.ofSeconds(10), 1);
+
+        registry.resolve(DID);
+        registry.resolve("did:web:bar.com");
+        registry.resolve(DID);
+
+        verify(delegate, times(2)).resolveDocument(DID);
+    }
+
+    @Test
+    void resolve_shouldResolveConcurrentRequestsOnce() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(delegate.resolveDocument(DID)).thenAnswer(i -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Result.success(new DidResolution(document, Duration.ZERO));
+        });
+        var registry = createRegistry(Clock.fixed(NOW, ZoneOffset.UTC));
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var first = executor.submit(() -> registry.resolve(DID));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            var second = executor.submit(() -> registry.resolve(DID));
+            // give the second request the time to join the first one
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS).getContent()).isSameAs(document);
+            assertThat(second.get(10, TimeUnit.SECONDS).getContent()).isSameAs(document);
+            verify(delegate, times(1)).resolveDocument(DID);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CachingDidResolverRegistry createRegistry(Clock clock) {
+        return new CachingDidResolverRegistry(delegate, clock, Duration.ofSeconds(60), Duration.ofSeconds(10), 100);
+    }
+
+    private Clock clock(AtomicReference<Instant> now) {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        return clock;
+    }
+}
@@ -24,6 +24,7 @@ import org.eclipse.dataspaceconnector.iam.did.spi.document.DidConstants;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.VerificationMethod;
 import org.eclipse.dataspaceconnector.iam.did.spi.key.PrivateKeyWrapper;
+import org.eclipse.dataspaceconnector.iam.did.spi.key.PublicKeyWrapper;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
@@ -35,7 +36,10 @@ import org.jetbrains.annotations.NotNull;
 
 import java.text.ParseException;
 import java.time.Clock;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 public class DecentralizedIdentityService implements IdentityService {
     private final DidResolverRegistry resolverRegistry;
@@ -44,6 +48,8 @@ public class DecentralizedIdentityService implements IdentityService {
     private final PrivateKeyWrapper privateKey;
     private final String issuer;
     private final Clock clock;
+    // converted keys, as long as the document they come from is cached by the registry
+    private final Map<VerificationMethod, PublicKeyWrapper> publicKeys = Collections.synchronizedMap(new WeakHashMap<>());
 
     public DecentralizedIdentityService(DidResolverRegistry resolverRegistry, CredentialsVerifier credentialsVerifier, Monitor monitor, PrivateKeyWrapper privateKey, String issuer, Clock clock) {
         this.resolverRegistry = resolverRegistry;
@@ -81,8 +87,7 @@ public class DecentralizedIdentityService implements IdentityService {
             }
 
             //convert the POJO into a usable PK-wrapper:
-            var publicKeyJwk = publicKey.get().getPublicKeyJwk();
-            var publicKeyWrapper = KeyConverter.toPublicKeyWrapper(publicKeyJwk, publicKey.get().getId());
+            var publicKeyWrapper = publicKeys.computeIfAbsent(publicKey.get(), vm -> KeyConverter.toPublicKeyWrapper(vm.getPublicKeyJwk(), vm.getId()));
 
             monitor.debug("Verifying JWT with public key...");
             var verified = JwtUtils.verify(jwt, publicKeyWrapper, audience);
@@ -15,15 +15,19 @@
 package org.eclipse.dataspaceconnector.iam.did.web.resolution;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.CacheControl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolution;
 import org.eclipse.dataspaceconnector.iam.did.spi.resolution.DidResolver;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import static java.lang.String.format;
 
@@ -56,6 +60,16 @@ public class WebDidResolver implements DidResolver {
     @Override
     @NotNull
     public Result<DidDocument> resolve(String didKey) {
+        return resolveDocument(didKey).map(DidResolution::getDocument);
+    }
+
+    /**
+     * Resolves the DID document. The time for which it may be cached is taken from the {@code Cache-Control} header
+     * of the response.
+     */
+    @Override
+    @NotNull
+    public Result<DidResolution> resolveDocument(String didKey) {
         String url;
         try {
             url = urlResolver.apply(didKey);
@@ -74,11 +88,19 @@ public class WebDidResolver implements DidResolver {
                     return Result.failure("DID response contained an empty body: " + didKey);
                 }
                 DidDocument didDocument = mapper.readValue(body.string(), DidDocument.class);
-                return Result.success(didDocument);
+                return Result.success(new DidResolution(didDocument, maxAge(response.cacheControl())));
             }
         } catch (IOException e) {
             monitor.severe("Error resolving DID: " + didKey, e);
             return Result.failure("Error resolving DID: " + e.getMessage());
         }
     }
+
+    @Nullable
+    private static Duration maxAge(CacheControl cacheControl) {
+        if (cacheControl.noStore() || cacheControl.noCache()) {
+            return Duration.ZERO;
+        }
+        return cacheControl.maxAgeSeconds() >= 0 ? Duration.ofSeconds(cacheControl.maxAgeSeconds()) : null;
+    }
 }
@@ -19,13 +19,16 @@ plugins {
 val httpMockServer: String by project
 val nimbusVersion: String by project
 val okHttpVersion: String by project
+val micrometerVersion: String by project
 
 dependencies {
     api(project(":spi:common:oauth2-spi"))
+    implementation(project(":common:util"))
     implementation(project(":core:common:jwt-core"))
 
     implementation("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
     implementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
 
     testImplementation(project(":extensions:common:junit"))
 
@@ -15,13 +15,17 @@
 
 package org.eclipse.dataspaceconnector.iam.oauth2.core;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.core.jwt.TokenGenerationServiceImpl;
 import org.eclipse.dataspaceconnector.core.jwt.TokenValidationServiceImpl;
+import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.CachingIdentityService;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.CredentialsRequestAdditionalParametersProvider;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.IdentityProviderKeyResolver;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.IdentityProviderKeyResolverConfiguration;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.Oauth2ServiceImpl;
+import org.eclipse.dataspaceconnector.iam.oauth2.core.identity.VerifiedTokenCache;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.jwt.DefaultJwtDecorator;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.jwt.Oauth2JwtDecoratorRegistryRegistryImpl;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.rule.Oauth2ValidationRulesRegistryImpl;
@@ -32,6 +36,7 @@ import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.Provides;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -41,7 +46,10 @@ import org.jetbrains.annotations.NotNull;
 import java.security.PrivateKey;
 import java.security.cert.CertificateEncodingException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyMap;
@@ -78,8 +86,25 @@ public class Oauth2Extension implements ServiceExtension {
     @EdcSetting
     private static final String NOT_BEFORE_LEEWAY = "edc.oauth.validation.nbf.leeway";
 
+    @EdcSetting
+    private static final String TOKEN_CACHE_ENABLED = "edc.oauth.token.cache.enabled";
+
+    @EdcSetting
+    private static final String TOKEN_CACHE_EXPIRATION_LEEWAY = "edc.oauth.token.cache.expiration.leeway"; // in seconds
+    private static final long DEFAULT_TOKEN_CACHE_EXPIRATION_LEEWAY = 10;
+
+    @EdcSetting
+    private static final String TOKEN_CACHE_REFRESH_AHEAD = "edc.oauth.token.cache.refresh.ahead"; // in seconds
+    private static final long DEFAULT_TOKEN_CACHE_REFRESH_AHEAD = 60;
+
+    @EdcSetting
+    private static final String VALIDATION_CACHE_SIZE = "edc.oauth.validation.cache.size";
+    private static final int DEFAULT_VALIDATION_CACHE_SIZE = 0;
+
     private IdentityProviderKeyResolver providerKeyResolver;
 
+    private ExecutorService tokenRefreshExecutor;
+
     @Inject
     private OkHttpClient okHttpClient;
 
@@ -92,6 +117,12 @@ public class Oauth2Extension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Inject(required = false)
     private CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider;
 
@@ -117,6 +148,13 @@ public class Oauth2Extension implements ServiceExtension {
         var validationRulesRegistry = new Oauth2ValidationRulesRegistryImpl(configuration, clock);
         context.registerService(Oauth2ValidationRulesRegistry.class, validationRulesRegistry);
 
+        VerifiedTokenCache verifiedTokenCache = null;
+        var validationCacheSize = context.getSetting(VALIDATION_CACHE_SIZE, DEFAULT_VALIDATION_CACHE_SIZE);
+        if (validationCacheSize > 0) {
+            verifiedTokenCache = new VerifiedTokenCache(clock, validationCacheSize);
+            providerKeyResolver.onKeysRotated(verifiedTokenCache::clear);
+        }
+
         var privateKeyAlias = configuration.getPrivateKeyAlias();
         var privateKey = configuration.getPrivateKeyResolver().resolvePrivateKey(privateKeyAlias, PrivateKey.class);
 
@@ -127,10 +165,20 @@ public class Oauth2Extension implements ServiceExtension {
                 jwtDecoratorRegistry,
                 context.getTypeManager(),
                 new TokenValidationServiceImpl(configuration.getIdentityProviderKeyResolver(), validationRulesRegistry),
-                Optional.ofNullable(credentialsRequestAdditionalParametersProvider).orElse(noopCredentialsRequestAdditionalParametersProvider())
+                Optional.ofNullable(credentialsRequestAdditionalParametersProvider).orElse(noopCredentialsRequestAdditionalParametersProvider()),
+                verifiedTokenCache
         );
 
-        context.registerService(IdentityService.class, oauth2Service);
+        if (context.getSetting(TOKEN_CACHE_ENABLED, true)) {
+            tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "OAuth2 token refresh");
+            var cachingService = new CachingIdentityService(oauth2Service, clock, tokenRefreshExecutor, context.getMonitor(),
+                    Optional.ofNullable(meterRegistry).orElseGet(CompositeMeterRegistry::new),
+                    Duration.ofSeconds(context.getSetting(TOKEN_CACHE_EXPIRATION_LEEWAY, DEFAULT_TOKEN_CACHE_EXPIRATION_LEEWAY)),
+                    Duration.ofSeconds(context.getSetting(TOKEN_CACHE_REFRESH_AHEAD, DEFAULT_TOKEN_CACHE_REFRESH_AHEAD)));
+            context.registerService(IdentityService.class, cachingService);
+        } else {
+            context.registerService(IdentityService.class, oauth2Service);
+        }
     }
 
     @Override
@@ -141,6 +189,9 @@ public class Oauth2Extension implements ServiceExtension {
     @Override
     public void shutdown() {
         providerKeyResolver.stop();
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
     }
 
     @NotNull
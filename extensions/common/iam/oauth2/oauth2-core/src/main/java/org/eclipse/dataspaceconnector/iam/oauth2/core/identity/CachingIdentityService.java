@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.oauth2.core.identity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.dataspaceconnector.common.collection.SingleFlight;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
+import org.eclipse.dataspaceconnector.spi.iam.TokenParameters;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caches the client credentials obtained from an {@link IdentityService}, so that the identity provider is not called
+ * for every outgoing message.
+ * <p>
+ * Tokens are cached per scope and audience for the lifetime returned by the identity provider ({@code expires_in}),
+ * minus a leeway covering clock skew and transmission time. Tokens without a known lifetime and failures are never
+ * cached. A token that is close to expiration is still served while a new one is obtained in the background, and
+ * concurrent requests for the same scope and audience result in a single call to the identity provider.
+ */
+public class CachingIdentityService implements IdentityService {
+
+    private final IdentityService delegate;
+    private final Clock clock;
+    private final Executor executor;
+    private final Monitor monitor;
+    private final Duration expirationLeeway;
+    private final Duration refreshAhead;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<CacheKey, Entry> cache = new ConcurrentHashMap<>();
+    private final SingleFlight<CacheKey, Result<TokenRepresentation>> inFlight = new SingleFlight<>();
+
+    /**
+     * Creates the cache.
+     *
+     * @param delegate         the identity service obtaining the tokens.
+     * @param clock            the clock.
+     * @param executor         executor used to refresh tokens in the background.
+     * @param monitor          the monitor.
+     * @param meterRegistry    registry of the hit and miss counters.
+     * @param expirationLeeway time before the token expiration at which it is no longer served.
+     * @param refreshAhead     time before the token expiration at which a new one is obtained in the background.
+     */
+    public CachingIdentityService(IdentityService delegate, Clock clock, Executor executor, Monitor monitor, MeterRegistry meterRegistry,
+                                  Duration expirationLeeway, Duration refreshAhead) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.executor = executor;
+        this.monitor = monitor;
+        this.expirationLeeway = expirationLeeway;
+        this.refreshAhead = refreshAhead;
+        hits = Counter.builder("edc.oauth.token.cache.requests").tag("result", "hit")
+                .description("Number of client credentials served from the cache")
+                .register(meterRegistry);
+        misses = Counter.builder("edc.oauth.token.cache.requests").tag("result", "miss")
+                .description("Number of client credentials obtained from the identity provider")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        var key = new CacheKey(parameters.getScope(), parameters.getAudience());
+        var now = clock.instant();
+        var entry = cache.get(key);
+        if (entry != null && now.isBefore(entry.expiresAt)) {
+            hits.increment();
+            // the first hit of the refresh window claims the refresh, the others keep being served the cached token
+            if (!now.isBefore(entry.refreshAt) && entry.refreshScheduled.compareAndSet(false, true)) {
+                scheduleRefresh(key, entry, parameters);
+            }
+            return Result.success(entry.token);
+        }
+
+        misses.increment();
+        return load(key, parameters, now);
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, String audience) {
+        return delegate.verifyJwtToken(tokenRepresentation, audience);
+    }
+
+    private void scheduleRefresh(CacheKey key, Entry entry, TokenParameters parameters) {
+        try {
+            executor.execute(() -> refresh(key, entry, parameters));
+        } catch (RejectedExecutionException e) {
+            entry.refreshScheduled.set(false);
+            monitor.warning("Failed to schedule the refresh of client credentials", e);
+        }
+    }
+
+    /**
+     * Obtains a new token, unless the entry has been replaced in the meantime. If it fails, the next hit on the entry
+     * schedules another refresh.
+     */
+    private void refresh(CacheKey key, Entry entry, TokenParameters parameters) {
+        if (cache.get(key) != entry) {
+            return;
+        }
+        try {
+            var result = load(key, parameters, clock.instant());
+            if (result.failed()) {
+                entry.refreshScheduled.set(false);
+                monitor.warning("Failed to refresh client credentials: " + String.join(", ", result.getFailureMessages()));
+            }
+        } catch (Exception e) {
+            entry.refreshScheduled.set(false);
+            monitor.warning("Failed to refresh client credentials", e);
+        }
+    }
+
+    /**
+     * Obtains a token from the delegate, or waits for the request already in progress for the same key.
+     */
+    private Result<TokenRepresentation> load(CacheKey key, TokenParameters parameters, Instant obtainedAt) {
+        return inFlight.load(key, () -> {
+            var result = delegate.obtainClientCredentials(parameters);
+            if (result.succeeded()) {
+                store(key, result.getContent(), obtainedAt);
+            }
+            return result;
+        });
+    }
+
+    private void store(CacheKey key, TokenRepresentation token, Instant obtainedAt) {
+        var expiresIn = token.getExpiresIn();
+        if (expiresIn == null) {
+            cache.remove(key);
+            return;
+        }
+        var lifetime = Duration.ofSeconds(expiresIn).minus(expirationLeeway);
+        if (lifetime.isNegative() || lifetime.isZero()) {
+            cache.remove(key);
+            return;
+        }
+        // refresh ahead of expiration, but not before half of the lifetime to avoid refreshing short-lived tokens constantly
+        var refreshAfter = lifetime.minus(refreshAhead);
+        var halfLifetime = lifetime.dividedBy(2);
+        var refreshAt = obtainedAt.plus(refreshAfter.compareTo(halfLifetime) > 0 ? refreshAfter : halfLifetime);
+        cache.put(key, new Entry(token, obtainedAt.plus(lifetime), refreshAt));
+    }
+
+    /**
+     * Scope and audience the token has been obtained for.
+     */
+    private static class CacheKey {
+        private final String scope;
+        private final String audience;
+
+        CacheKey(String scope, String audience) {
+            this.scope = scope;
+            this.audience = audience;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (CacheKey) o;
+            return Objects.equals(scope, that.scope) && Objects.equals(audience, that.audience);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, audience);
+        }
+    }
+
+    private static class Entry {
+        private final TokenRepresentation token;
+        private final Instant expiresAt;
+        private final Instant refreshAt;
+        private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+        Entry(TokenRepresentation token, Instant expiresAt, Instant refreshAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
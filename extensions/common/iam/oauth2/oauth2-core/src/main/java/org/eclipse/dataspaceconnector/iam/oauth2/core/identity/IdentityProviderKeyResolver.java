@@ -35,6 +35,7 @@ import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
@@ -58,6 +59,7 @@ public class IdentityProviderKeyResolver implements PublicKeyResolver {
     private final AtomicReference<Map<String, RSAPublicKey>> cache = new AtomicReference<>(emptyMap()); // the current key cache, atomic for thread-safety
     private final OkHttpClient httpClient;
     private final Predicate<JwkKey> isRsa = key -> RSA.equals(key.getKty());
+    private final List<Runnable> keyRotationListeners = new CopyOnWriteArrayList<>();
 
     public IdentityProviderKeyResolver(Monitor monitor, OkHttpClient httpClient, TypeManager typeManager, IdentityProviderKeyResolverConfiguration configuration) {
         this.monitor = monitor;
@@ -72,6 +74,14 @@ public class IdentityProviderKeyResolver implements PublicKeyResolver {
         return cache.get().get(id);
     }
 
+    /**
+     * Registers a listener that is called every time the refreshed keys differ from the previous ones, e.g. to evict
+     * what has been verified with the previous keys.
+     */
+    public void onKeysRotated(Runnable listener) {
+        keyRotationListeners.add(listener);
+    }
+
     /**
      * Start the keys cache refreshing job.
      * Throws exception if it's not able to load the cache at startup.
@@ -130,10 +140,16 @@ public class IdentityProviderKeyResolver implements PublicKeyResolver {
         }
     }
 
-    private Result<Void> refreshKeys() {
+    /**
+     * Replaces the cached keys with the ones of the JWKS provider. Package-private for testing purposes.
+     */
+    Result<Void> refreshKeys() {
         var result = getKeys();
         if (result.succeeded()) {
-            cache.set(result.getContent());
+            var previous = cache.getAndSet(result.getContent());
+            if (!previous.isEmpty() && !previous.equals(result.getContent())) {
+                keyRotationListeners.forEach(Runnable::run);
+            }
         }
         return result.map(it -> null);
     }
@@ -32,6 +32,7 @@ import org.eclipse.dataspaceconnector.spi.jwt.TokenGenerationService;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationService;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.LinkedHashMap;
@@ -52,6 +53,7 @@ public class Oauth2ServiceImpl implements IdentityService {
     private final TokenGenerationService tokenGenerationService;
     private final TokenValidationService tokenValidationService;
     private final CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Creates a new instance of the OAuth2 Service
@@ -66,6 +68,25 @@ public class Oauth2ServiceImpl implements IdentityService {
      */
     public Oauth2ServiceImpl(Oauth2Configuration configuration, TokenGenerationService tokenGenerationService, OkHttpClient client, JwtDecoratorRegistry jwtDecoratorRegistry, TypeManager typeManager,
                              TokenValidationService tokenValidationService, CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider) {
+        this(configuration, tokenGenerationService, client, jwtDecoratorRegistry, typeManager, tokenValidationService, credentialsRequestAdditionalParametersProvider, null);
+    }
+
+    /**
+     * Creates a new instance of the OAuth2 Service
+     *
+     * @param configuration                                  The configuration
+     * @param tokenGenerationService                         Service used to generate the signed tokens;
+     * @param client                                         Http client
+     * @param jwtDecoratorRegistry                           Registry containing the decorator for build the JWT
+     * @param typeManager                                    Type manager
+     * @param tokenValidationService                         Service used for token validation
+     * @param credentialsRequestAdditionalParametersProvider Provides additional form parameters
+     * @param verifiedTokenCache                             Cache of the verified tokens, null to verify every token
+     */
+    public Oauth2ServiceImpl(Oauth2Configuration configuration, TokenGenerationService tokenGenerationService, OkHttpClient client, JwtDecoratorRegistry jwtDecoratorRegistry, TypeManager typeManager,
+                             TokenValidationService tokenValidationService, CredentialsRequestAdditionalParametersProvider credentialsRequestAdditionalParametersProvider,
+                             @Nullable VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
         this.configuration = configuration;
         this.typeManager = typeManager;
         httpClient = client;
@@ -112,7 +133,11 @@ public class Oauth2ServiceImpl implements IdentityService {
                 var responsePayload = body.string();
                 var deserialized = typeManager.readValue(responsePayload, LinkedHashMap.class);
                 var token = (String) deserialized.get("access_token");
-                var tokenRepresentation = TokenRepresentation.Builder.newInstance().token(token).build();
+                var expiresIn = deserialized.get("expires_in");
+                var tokenRepresentation = TokenRepresentation.Builder.newInstance()
+                        .token(token)
+                        .expiresIn(expiresIn instanceof Number ? ((Number) expiresIn).longValue() : null)
+                        .build();
                 return Result.success(tokenRepresentation);
             }
         } catch (IOException e) {
@@ -122,6 +147,18 @@ public class Oauth2ServiceImpl implements IdentityService {
 
     @Override
     public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, String audience) {
-        return tokenValidationService.validate(tokenRepresentation);
+        if (verifiedTokenCache == null) {
+            return tokenValidationService.validate(tokenRepresentation);
+        }
+
+        var cached = verifiedTokenCache.get(tokenRepresentation, audience);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+        var result = tokenValidationService.validate(tokenRepresentation);
+        if (result.succeeded()) {
+            verifiedTokenCache.put(tokenRepresentation, audience, result.getContent());
+        }
+        return result;
     }
 }
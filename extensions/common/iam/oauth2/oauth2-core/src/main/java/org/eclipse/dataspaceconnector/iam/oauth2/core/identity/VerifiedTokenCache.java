@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.oauth2.core.identity;
+
+import org.eclipse.dataspaceconnector.core.jwt.TokenCache;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Bounded cache of successfully verified tokens, which avoids verifying the signature and the validation rules again
+ * when a peer sends the same token with many messages.
+ * <p>
+ * Entries are keyed by the token, the expected audience and the additional information the validation rules are
+ * applied to (e.g. the issuer connector of an IDS message). They expire at the {@code exp} claim of the token, and the
+ * least recently used entries are evicted once the maximum size is reached. The cache must be {@link #clear() cleared}
+ * when the keys of the identity provider are rotated.
+ */
+public class VerifiedTokenCache {
+
+    private final TokenCache<ClaimToken> cache;
+
+    public VerifiedTokenCache(Clock clock, int maxSize) {
+        cache = new TokenCache<>(clock, maxSize);
+    }
+
+    /**
+     * Returns the claims of the token if it has already been verified for the audience and has not expired yet.
+     */
+    @Nullable
+    public ClaimToken get(TokenRepresentation tokenRepresentation, String audience) {
+        var claimToken = cache.get(tokenRepresentation.getToken(), qualifier(tokenRepresentation, audience));
+        return claimToken != null ? ClaimToken.Builder.newInstance().claims(claimToken.getClaims()).build() : null;
+    }
+
+    /**
+     * Caches the claims of a successfully verified token. Tokens without an {@code exp} claim are not cached.
+     */
+    public void put(TokenRepresentation tokenRepresentation, String audience, ClaimToken claimToken) {
+        var copy = ClaimToken.Builder.newInstance().claims(claimToken.getClaims()).build();
+        cache.put(tokenRepresentation.getToken(), qualifier(tokenRepresentation, audience), copy);
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private static Object qualifier(TokenRepresentation tokenRepresentation, String audience) {
+        var additional = tokenRepresentation.getAdditional() != null ? tokenRepresentation.getAdditional() : Map.of();
+        return Arrays.asList(audience, additional);
+    }
+}
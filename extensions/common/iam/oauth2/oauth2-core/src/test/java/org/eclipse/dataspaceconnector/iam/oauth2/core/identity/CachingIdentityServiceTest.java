@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.oauth2.core.identity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
+import org.eclipse.dataspaceconnector.spi.iam.TokenParameters;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingIdentityServiceTest {
+
+    private static final Instant NOW = Instant.now();
+
+    private final IdentityService delegate = mock(IdentityService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenParameters parameters = TokenParameters.Builder.newInstance().scope("scope").audience("audience").build();
+
+    @Test
+    void obtainClientCredentials_shouldCacheToken() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)));
+        var service = createService(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("token");
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("token");
+
+        verify(delegate, times(1)).obtainClientCredentials(any());
+        assertThat(meterRegistry.get("edc.oauth.token.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.oauth.token.cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotShareTokenAcrossAudiences() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)));
+        var service = createService(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        service.obtainClientCredentials(parameters);
+        service.obtainClientCredentials(TokenParameters.Builder.newInstance().scope("scope").audience("other").build());
+
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotShareTokenAcrossScopeAndAudiencePairsWithTheSameConcatenation() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.success(token("first", 300L)), Result.success(token("second", 300L)));
+        var service = createService(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        var first = service.obtainClientCredentials(TokenParameters.Builder.newInstance().scope("a b").audience("c").build());
+        var second = service.obtainClientCredentials(TokenParameters.Builder.newInstance().scope("a").audience("b c").build());
+
+        assertThat(first.getContent().getToken()).isEqualTo("first");
+        assertThat(second.getContent().getToken()).isEqualTo("second");
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCacheTokenWithoutExpiration() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.success(token("token", null)));
+        var service = createService(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        service.obtainClientCredentials(parameters);
+        service.obtainClientCredentials(parameters);
+
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCacheFailures() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.failure("error"));
+        var service = createService(Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThat(service.obtainClientCredentials(parameters).failed()).isTrue();
+        assertThat(service.obtainClientCredentials(parameters).failed()).isTrue();
+
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldObtainNewToken_whenCachedTokenIsAboutToExpire() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.success(token("first", 300L)), Result.success(token("second", 300L)));
+        var clock = mock(Clock.class);
+        // token lifetime is 290 seconds with the 10 seconds leeway
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(291));
+        var service = createService(clock);
+
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("first");
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("second");
+
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldRefreshTokenInBackground_whenRefreshTimeIsReached() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.success(token("first", 300L)), Result.success(token("second", 300L)));
+        var clock = mock(Clock.class);
+        // refresh happens 60 seconds before the expiration, i.e. 230 seconds after the token was obtained
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(100), NOW.plusSeconds(231), NOW.plusSeconds(231), NOW.plusSeconds(232));
+        var service = createService(clock);
+
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("first");
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("first");
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("first");
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("second");
+
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldScheduleOneRefresh_whenTheRefreshWindowIsHitRepeatedly() {
+        when(delegate.obtainClientCredentials(any())).thenReturn(Result.success(token("first", 300L)), Result.success(token("second", 300L)));
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(231));
+        var refreshes = new ArrayList<Runnable>();
+        var service = new CachingIdentityService(delegate, clock, refreshes::add, mock(Monitor.class), meterRegistry, Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+        service.obtainClientCredentials(parameters);
+        for (var i = 0; i < 5; i++) {
+            assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("first");
+        }
+        assertThat(refreshes).hasSize(1);
+        refreshes.get(0).run();
+
+        assertThat(service.obtainClientCredentials(parameters).getContent().getToken()).isEqualTo("second");
+        verify(delegate, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldDeduplicateConcurrentRequests() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(delegate.obtainClientCredentials(any())).thenAnswer(i -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Result.success(token("token", 300L));
+        });
+        var service = createService(Clock.fixed(NOW, ZoneOffset.UTC));
+        var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            var first = CompletableFuture.supplyAsync(() -> service.obtainClientCredentials(parameters), executor);
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            var second = CompletableFuture.supplyAsync(() -> service.obtainClientCredentials(parameters), executor);
+            // give the second request the time to join the one in progress
+            Thread.sleep(200);
+            release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token");
+            assertThat(second.get(10, TimeUnit.SECONDS).getContent().getToken()).isEqualTo("token");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).obtainClientCredentials(any());
+    }
+
+    private CachingIdentityService createService(Clock clock) {
+        return new CachingIdentityService(delegate, clock, Runnable::run, mock(Monitor.class), meterRegistry, Duration.ofSeconds(10), Duration.ofSeconds(60));
+    }
+
+    private TokenRepresentation token(String token, Long expiresIn) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+    }
+}
@@ -40,6 +40,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class IdentityProviderKeyResolverTest {
@@ -107,6 +109,23 @@ class IdentityProviderKeyResolverTest {
         assertThatThrownBy(() -> resolver.start()).isInstanceOf(EdcException.class);
     }
 
+    @Test
+    void refreshKeys_shouldNotifyListeners_whenKeysChange() throws IOException {
+        var listener = mock(Runnable.class);
+        resolver.onKeysRotated(listener);
+        when(interceptor.intercept(any())).thenReturn(
+                response(200, testKeys),
+                response(200, testKeys),
+                response(200, Map.of("keys", testKeys.getKeys().subList(0, 1))));
+
+        resolver.refreshKeys();
+        resolver.refreshKeys();
+        verify(listener, never()).run();
+
+        resolver.refreshKeys();
+        verify(listener).run();
+    }
+
     @NotNull
     private Response response(int code, Object body) {
         return new Response.Builder()
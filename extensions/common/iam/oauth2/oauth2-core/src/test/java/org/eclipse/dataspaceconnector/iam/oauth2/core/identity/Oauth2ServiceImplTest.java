@@ -32,10 +32,12 @@ import org.eclipse.dataspaceconnector.core.jwt.JwtDecoratorRegistryImpl;
 import org.eclipse.dataspaceconnector.core.jwt.TokenValidationServiceImpl;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.Oauth2Configuration;
 import org.eclipse.dataspaceconnector.iam.oauth2.core.rule.Oauth2ValidationRulesRegistryImpl;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
 import org.eclipse.dataspaceconnector.spi.iam.PublicKeyResolver;
 import org.eclipse.dataspaceconnector.spi.iam.TokenParameters;
 import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenGenerationService;
+import org.eclipse.dataspaceconnector.spi.jwt.TokenValidationService;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
@@ -62,6 +64,8 @@ import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.testOk
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockserver.matchers.Times.once;
 import static org.mockserver.model.JsonBody.json;
@@ -135,7 +139,7 @@ class Oauth2ServiceImplTest {
                 param("client_assertion", "token"),
                 param("scope", "scope")
         ));
-        var responseBody = Map.of("access_token", "accessToken");
+        var responseBody = Map.of("access_token", "accessToken", "expires_in", 3600);
         oauth2Server.when(clientCredentialsRequest, once()).respond(new HttpResponse().withStatusCode(200).withBody(json(responseBody)));
         var tokenParameters = TokenParameters.Builder.newInstance().audience("audience").scope("scope").build();
 
@@ -143,6 +147,7 @@ class Oauth2ServiceImplTest {
 
         assertThat(result.succeeded()).isTrue();
         assertThat(result.getContent().getToken()).isEqualTo("accessToken");
+        assertThat(result.getContent().getExpiresIn()).isEqualTo(3600L);
         oauth2Server.verify(clientCredentialsRequest);
     }
 
@@ -166,6 +171,23 @@ class Oauth2ServiceImplTest {
         oauth2Server.verify(clientCredentialsRequest);
     }
 
+    @Test
+    void verifyValidJwt_shouldUseVerifiedTokenCache() {
+        var tokenValidationService = mock(TokenValidationService.class);
+        var claimToken = ClaimToken.Builder.newInstance().claim("aud", PROVIDER_AUDIENCE).build();
+        when(tokenValidationService.validate(any(TokenRepresentation.class))).thenReturn(Result.success(claimToken));
+        var service = new Oauth2ServiceImpl(mock(Oauth2Configuration.class), tokenGenerationService, okHttpClient,
+                new JwtDecoratorRegistryImpl(), new TypeManager(), tokenValidationService,
+                credentialsRequestAdditionalParametersProvider, new VerifiedTokenCache(Clock.fixed(now, UTC), 10));
+        var jwt = createJwt(PROVIDER_AUDIENCE, Date.from(now.minusSeconds(1000)), Date.from(now.plusSeconds(1000)));
+
+        assertThat(service.verifyJwtToken(jwt, PROVIDER_AUDIENCE).getContent().getClaims()).containsEntry("aud", PROVIDER_AUDIENCE);
+        assertThat(service.verifyJwtToken(jwt, PROVIDER_AUDIENCE).getContent().getClaims()).containsEntry("aud", PROVIDER_AUDIENCE);
+        service.verifyJwtToken(jwt, "another-audience");
+
+        verify(tokenValidationService, times(2)).validate(any(TokenRepresentation.class));
+    }
+
     @Test
     void verifyNoAudienceToken() {
         var jwt = createJwt(null, Date.from(now.minusSeconds(1000)), Date.from(now.plusSeconds(1000)));
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.oauth2.core.identity;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.iam.TokenRepresentation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.now();
+    private static final byte[] SECRET = UUID.randomUUID().toString().repeat(2).getBytes();
+
+    private final ClaimToken claimToken = ClaimToken.Builder.newInstance().claim("sub", "subject").build();
+
+    @Test
+    void get_shouldReturnCachedClaims() throws Exception {
+        var cache = new VerifiedTokenCache(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+        var token = token(NOW.plusSeconds(60), Map.of("issuerConnector", "connector"));
+
+        cache.put(token, "audience", claimToken);
+
+        assertThat(cache.get(token, "audience")).isNotNull().satisfies(c -> assertThat(c.getClaims()).containsEntry("sub", "subject"));
+    }
+
+    @Test
+    void get_shouldReturnNull_ifAudienceOrAdditionalInformationDiffer() throws Exception {
+        var cache = new VerifiedTokenCache(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+        var token = token(NOW.plusSeconds(60), Map.of("issuerConnector", "connector"));
+        cache.put(token, "audience", claimToken);
+
+        var sameTokenOtherIssuer = TokenRepresentation.Builder.newInstance().token(token.getToken())
+                .additional(new HashMap<>(Map.of("issuerConnector", "other"))).build();
+
+        assertThat(cache.get(token, "other-audience")).isNull();
+        assertThat(cache.get(sameTokenOtherIssuer, "audience")).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_afterTokenExpiration() throws Exception {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW.plusSeconds(59), NOW.plusSeconds(60));
+        var cache = new VerifiedTokenCache(clock, 10);
+        var token = token(NOW.plusSeconds(60), Map.of());
+        cache.put(token, "audience", claimToken);
+
+        assertThat(cache.get(token, "audience")).isNotNull();
+        assertThat(cache.get(token, "audience")).isNull();
+    }
+
+    @Test
+    void put_shouldNotCacheTokenWithoutExpiration() {
+        var cache = new VerifiedTokenCache(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+        var token = TokenRepresentation.Builder.newInstance().token("opaque").build();
+
+        cache.put(token, "audience", claimToken);
+
+        assertThat(cache.get(token, "audience")).isNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsedEntries() throws Exception {
+        var cache = new VerifiedTokenCache(Clock.fixed(NOW, ZoneOffset.UTC), 2);
+        var first = token(NOW.plusSeconds(60), Map.of());
+        var second = token(NOW.plusSeconds(60), Map.of());
+        var third = token(NOW.plusSeconds(60), Map.of());
+
+        cache.put(first, "audience", claimToken);
+        cache.put(second, "audience", claimToken);
+        cache.get(first, "audience");
+        cache.put(third, "audience", claimToken);
+
+        assertThat(cache.get(first, "audience")).isNotNull();
+        assertThat(cache.get(second, "audience")).isNull();
+        assertThat(cache.get(third, "audience")).isNotNull();
+    }
+
+    @Test
+    void clear_shouldRemoveAllEntries() throws Exception {
+        var cache = new VerifiedTokenCache(Clock.fixed(NOW, ZoneOffset.UTC), 10);
+        var token = token(NOW.plusSeconds(60), Map.of());
+        cache.put(token, "audience", claimToken);
+
+        cache.clear();
+
+        assertThat(cache.get(token, "audience")).isNull();
+    }
+
+    private TokenRepresentation token(Instant expiration, Map<String, Object> additional) throws Exception {
+        var claims = new JWTClaimsSet.Builder()
+                .jwtID(UUID.randomUUID().toString())
+                .expirationTime(Date.from(expiration))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        jwt.sign(new MACSigner(SECRET));
+        return TokenRepresentation.Builder.newInstance().token(jwt.serialize()).additional(new HashMap<>(additional)).build();
+    }
+}
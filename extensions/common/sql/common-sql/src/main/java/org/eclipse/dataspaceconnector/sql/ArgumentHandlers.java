@@ -20,17 +20,14 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code int} argument into its corresponding position of a statement
      */
-    INT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Integer;
-        }
-
+    INT(Integer.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setInt(position, (int) argument);
@@ -39,12 +36,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code long} argument into its corresponding position of a statement
      */
-    LONG {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Long;
-        }
-
+    LONG(Long.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setLong(position, (long) argument);
@@ -53,12 +45,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code double} argument into its corresponding position of a statement
      */
-    DOUBLE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Double;
-        }
-
+    DOUBLE(Double.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setDouble(position, (double) argument);
@@ -67,12 +54,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code float} argument into its corresponding position of a statement
      */
-    FLOAT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Float;
-        }
-
+    FLOAT(Float.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setFloat(position, (float) argument);
@@ -81,12 +63,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code short} argument into its corresponding position of a statement
      */
-    SHORT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Short;
-        }
-
+    SHORT(Short.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setShort(position, (short) argument);
@@ -95,12 +72,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.math.BigDecimal} argument into its corresponding position of a statement
      */
-    BIG_DECIMAL {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof BigDecimal;
-        }
-
+    BIG_DECIMAL(BigDecimal.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBigDecimal(position, (BigDecimal) argument);
@@ -109,12 +81,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.lang.String} argument into its corresponding position of a statement
      */
-    STRING {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof String;
-        }
-
+    STRING(String.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setString(position, (String) argument);
@@ -123,12 +90,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code boolean} argument into its corresponding position of a statement
      */
-    BOOLEAN {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Boolean;
-        }
-
+    BOOLEAN(Boolean.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBoolean(position, (Boolean) argument);
@@ -137,12 +99,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.util.Date} argument into its corresponding position of a statement
      */
-    DATE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Date;
-        }
-
+    DATE(Date.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setTimestamp(position, new Timestamp(((Date) argument).getTime()));
@@ -151,12 +108,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code byte} argument into its corresponding position of a statement
      */
-    BYTE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Byte;
-        }
-
+    BYTE(Byte.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setByte(position, (Byte) argument);
@@ -165,12 +117,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code byte[]} array argument into its corresponding position of a statement
      */
-    BYTES {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof byte[];
-        }
-
+    BYTES(byte[].class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBytes(position, (byte[]) argument);
@@ -179,12 +126,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.io.InputStream} argument into its corresponding position of a statement
      */
-    INPUT_STREAM {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof InputStream;
-        }
-
+    INPUT_STREAM(InputStream.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBlob(position, (InputStream) argument);
@@ -193,15 +135,58 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code null} argument into its corresponding position of a statement
      */
-    NULL {
+    NULL(null) {
         @Override
-        public boolean accepts(Object value) {
-            return value == null;
+        public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
+            statement.setNull(position, java.sql.Types.NULL);
         }
-
+    },
+    /**
+     * Sets any other argument into its corresponding position of a statement, leaving its mapping to the driver
+     */
+    OBJECT(Object.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
-            statement.setNull(position, java.sql.Types.NULL);
+            statement.setObject(position, argument);
         }
+    };
+
+    private static final ArgumentHandlers[] HANDLERS = values();
+    private static final Map<Class<?>, ArgumentHandlers> HANDLERS_BY_CLASS = new ConcurrentHashMap<>();
+
+    private final Class<?> type;
+
+    ArgumentHandlers(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the handler of an argument. The handler of each argument class is looked up once, as the first one
+     * accepting instances of that class, and then kept in a map, so that binding an argument does not iterate over the
+     * handlers.
+     */
+    static ArgumentHandler forArgument(Object argument) {
+        if (argument == null) {
+            return NULL;
+        }
+        var handler = HANDLERS_BY_CLASS.get(argument.getClass());
+        if (handler == null) {
+            handler = HANDLERS_BY_CLASS.computeIfAbsent(argument.getClass(), ArgumentHandlers::lookup);
+        }
+        return handler;
+    }
+
+    private static ArgumentHandlers lookup(Class<?> argumentClass) {
+        for (var handler : HANDLERS) {
+            if (handler.type != null && handler.type.isAssignableFrom(argumentClass)) {
+                return handler;
+            }
+        }
+        return OBJECT;
+    }
+
+    @Override
+    public boolean accepts(Object value) {
+        return type == null ? value == null : type.isInstance(value);
     }
 }
@@ -20,16 +20,30 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The SqlQueryExecutor is capable of executing parametrized SQL queries
  */
 public final class SqlQueryExecutor {
 
+    /**
+     * Number of rows fetched from the database at once by {@link #executeQuery(Connection, boolean, ResultSetMapper, String, Object...)}.
+     * Drivers that support it (e.g. Postgres, when the connection is not in auto-commit mode) then read the result set in
+     * chunks of this size instead of loading it entirely.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 5000;
+
     private SqlQueryExecutor() {
     }
 
@@ -45,7 +59,7 @@ public final class SqlQueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (PreparedStatement statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
             setArguments(statement, arguments);
             return statement.execute() ? 0 : statement.getUpdateCount();
         } catch (Exception exception) {
@@ -53,6 +67,34 @@ public final class SqlQueryExecutor {
         }
     }
 
+    /**
+     * Intended for mutating queries that have to be executed with many sets of parameters: they are sent to the database
+     * as a single batch.
+     *
+     * @param sql the parametrized sql query
+     * @param argumentsList a set of parameters for every execution of the query
+     * @return rowsChanged
+     */
+    public static int executeBatch(Connection connection, String sql, List<Object[]> argumentsList) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(argumentsList, "argumentsList");
+
+        if (argumentsList.isEmpty()) {
+            return 0;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (var arguments : argumentsList) {
+                setArguments(statement, arguments);
+                statement.addBatch();
+            }
+            return Arrays.stream(statement.executeBatch()).filter(count -> count > 0).sum();
+        } catch (Exception exception) {
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
     /**
      * Intended for reading queries.
      *
@@ -68,7 +110,7 @@ public final class SqlQueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (PreparedStatement statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
             setArguments(statement, arguments);
             return statement.execute() ? mapResultSet(statement.getResultSet(), resultSetMapper) : Collections.emptyList();
         } catch (Exception exception) {
@@ -76,6 +118,55 @@ public final class SqlQueryExecutor {
         }
     }
 
+    /**
+     * Intended for reading queries whose results are consumed lazily: each row is mapped when the stream reaches it,
+     * and the rows are fetched from the database in chunks of {@link #DEFAULT_FETCH_SIZE}.
+     * <p>
+     * The result set and the statement, and the connection if {@code closeConnection} is set, are closed when the
+     * stream is closed or when all the rows have been read. A stream that is only partially consumed must therefore be
+     * closed by the caller. If the connection takes part in a transaction, the stream must be consumed before the
+     * transaction ends, otherwise it must be read with {@link #readAll(Stream)} before the connection is released.
+     *
+     * @param closeConnection whether the connection is closed with the stream, i.e. it has been obtained only for this query.
+     * @param resultSetMapper able to map a row to an object e.g. pojo.
+     * @param sql the parametrized sql query
+     * @param arguments the parameters to interpolate with the parametrized sql query
+     * @param <T> generic type returned after mapping from the executed query
+     * @return the lazily mapped results
+     */
+    public static <T> Stream<T> executeQuery(Connection connection, boolean closeConnection, ResultSetMapper<T> resultSetMapper, String sql, Object... arguments) {
+        Objects.requireNonNull(connection, "connection");
+        Objects.requireNonNull(resultSetMapper, "resultSetMapper");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(arguments, "arguments");
+
+        var resources = new QueryResources(closeConnection ? connection : null);
+        try {
+            resources.statement = connection.prepareStatement(sql);
+            resources.statement.setFetchSize(DEFAULT_FETCH_SIZE);
+            setArguments(resources.statement, arguments);
+            resources.resultSet = resources.statement.executeQuery();
+            return StreamSupport.stream(new ResultSetSpliterator<>(resources, resultSetMapper), false).onClose(resources::close);
+        } catch (Exception exception) {
+            resources.closeSilently();
+            throw new EdcPersistenceException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Reads all the rows of a stream returned by {@link #executeQuery(Connection, boolean, ResultSetMapper, String, Object...)}
+     * and closes it, so that they can be consumed once the connection has been released.
+     *
+     * @param rows the lazily mapped results
+     * @param <T> generic type returned after mapping from the executed query
+     * @return the results, read from the database
+     */
+    public static <T> Stream<T> readAll(Stream<T> rows) {
+        try (rows) {
+            return rows.collect(Collectors.toList()).stream();
+        }
+    }
+
     private static void setArguments(PreparedStatement statement, Object[] arguments) throws SQLException {
         for (int index = 0; index < arguments.length; index++) {
             int position = index + 1;
@@ -84,35 +175,90 @@ public final class SqlQueryExecutor {
     }
 
     private static void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        ArgumentHandler argumentHandler = findArgumentHandler(argument);
+        ArgumentHandlers.forArgument(argument).handle(statement, position, argument);
+    }
+
+    private static <T> List<T> mapResultSet(ResultSet resultSet, ResultSetMapper<T> resultSetMapper) throws Exception {
+        List<T> results = new LinkedList<>();
 
-        if (argumentHandler != null) {
-            argumentHandler.handle(statement, position, argument);
-            return;
+        if (resultSet != null) {
+            while (resultSet.next()) {
+                results.add(resultSetMapper.mapResultSet(resultSet));
+            }
         }
 
-        statement.setObject(position, argument);
+        return results;
     }
 
-    private static ArgumentHandler findArgumentHandler(Object argument) {
-        for (ArgumentHandler handler : ArgumentHandlers.values()) {
-            if (handler.accepts(argument)) {
-                return handler;
+    /**
+     * The JDBC resources held by a streamed query, released at most once.
+     */
+    private static class QueryResources {
+        private final Connection connection;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        private boolean closed;
+
+        QueryResources(Connection connection) {
+            this.connection = connection;
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (var ignoredConnection = connection; var ignoredStatement = statement; var ignoredResultSet = resultSet) {
+                // closed in reverse order
+            } catch (SQLException exception) {
+                throw new EdcPersistenceException(exception.getMessage(), exception);
             }
         }
 
-        return null;
+        void closeSilently() {
+            try {
+                close();
+            } catch (EdcPersistenceException ignored) {
+                // the original failure is reported
+            }
+        }
     }
 
-    private static <T> List<T> mapResultSet(ResultSet resultSet, ResultSetMapper<T> resultSetMapper) throws Exception {
-        List<T> results = new LinkedList<>();
+    /**
+     * Maps the rows of a result set as they are consumed, and releases the resources of the query once the last row has
+     * been read or the mapping fails.
+     */
+    private static class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final QueryResources resources;
+        private final ResultSetMapper<T> resultSetMapper;
 
-        if (resultSet != null) {
-            while (resultSet.next()) {
-                results.add(resultSetMapper.mapResultSet(resultSet));
-            }
+        ResultSetSpliterator(QueryResources resources, ResultSetMapper<T> resultSetMapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.resources = resources;
+            this.resultSetMapper = resultSetMapper;
         }
 
-        return results;
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (resources.closed) {
+                return false;
+            }
+            T item;
+            try {
+                if (!resources.resultSet.next()) {
+                    resources.close();
+                    return false;
+                }
+                item = resultSetMapper.mapResultSet(resources.resultSet);
+            } catch (EdcPersistenceException exception) {
+                resources.closeSilently();
+                throw exception;
+            } catch (Exception exception) {
+                resources.closeSilently();
+                throw new EdcPersistenceException(exception.getMessage(), exception);
+            }
+            action.accept(item);
+            return true;
+        }
     }
 }
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the SQL templates of a statements class once they have been formatted, so that the stores do not format the
+ * same template again on every call. Templates are built lazily, as they depend on getters that dialects may override.
+ */
+public class SqlTemplateCache {
+
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the template with the given name, building it on first use.
+     *
+     * @param name the name of the template, unique within the statements class.
+     * @param template builds the template, may itself use other cached templates.
+     */
+    public String get(String name, Supplier<String> template) {
+        var cached = templates.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        // not computeIfAbsent: a template may be built from other cached templates
+        var built = template.get();
+        var previous = templates.putIfAbsent(name, built);
+        return previous != null ? previous : built;
+    }
+}
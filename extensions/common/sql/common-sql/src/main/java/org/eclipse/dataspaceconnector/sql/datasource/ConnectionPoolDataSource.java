@@ -15,12 +15,15 @@
 package org.eclipse.dataspaceconnector.sql.datasource;
 
 import org.eclipse.dataspaceconnector.sql.pool.ConnectionPool;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import javax.sql.DataSource;
 
@@ -29,18 +32,40 @@ import javax.sql.DataSource;
  * <p>
  * Connections provided by the ConnectionPoolDataSource will be returned to
  * the originating {@link ConnectionPool} on {@link java.sql.Connection#close()}.
+ * <p>
+ * The statements prepared with {@link Connection#prepareStatement(String)} are cached per pooled connection, up to
+ * {@code statementCacheSize} statements, and reused when the same SQL is prepared again on that connection.
  */
 public class ConnectionPoolDataSource implements DataSource {
 
+    public static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+
     private final ConnectionPool connectionPool;
+    private final int statementCacheSize;
+    private final Map<Connection, StatementCache> statementCaches = new ConcurrentHashMap<>();
 
     public ConnectionPoolDataSource(ConnectionPool connectionPool) {
+        this(connectionPool, DEFAULT_STATEMENT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates the data source.
+     *
+     * @param connectionPool the pool the connections are obtained from.
+     * @param statementCacheSize the maximum number of prepared statements cached per pooled connection, 0 disables the cache.
+     */
+    public ConnectionPoolDataSource(ConnectionPool connectionPool, int statementCacheSize) {
         this.connectionPool = Objects.requireNonNull(connectionPool);
+        if (statementCacheSize < 0) {
+            throw new IllegalArgumentException("statementCacheSize must not be negative");
+        }
+        this.statementCacheSize = statementCacheSize;
     }
 
     @Override
     public Connection getConnection() throws SQLException {
-        return new PooledDataSourceConnection(connectionPool.getConnection(), connectionPool);
+        var connection = connectionPool.getConnection();
+        return new PooledDataSourceConnection(connection, connectionPool, statementCache(connection));
     }
 
     @Override
@@ -82,4 +107,32 @@ public class ConnectionPoolDataSource implements DataSource {
     public boolean isWrapperFor(Class<?> iface) throws SQLException {
         return false;
     }
+
+    @Nullable
+    private StatementCache statementCache(Connection connection) {
+        if (statementCacheSize == 0) {
+            return null;
+        }
+        var statementCache = statementCaches.get(connection);
+        if (statementCache == null) {
+            // the pool creates a connection when it has discarded another one, drop the caches of discarded connections
+            statementCaches.entrySet().removeIf(entry -> {
+                if (isClosed(entry.getKey())) {
+                    entry.getValue().close();
+                    return true;
+                }
+                return false;
+            });
+            statementCache = statementCaches.computeIfAbsent(connection, c -> new StatementCache(c, statementCacheSize));
+        }
+        return statementCache;
+    }
+
+    private static boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
 }
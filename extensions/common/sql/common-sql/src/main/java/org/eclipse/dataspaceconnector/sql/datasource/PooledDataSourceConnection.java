@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.sql.datasource;
 
 import org.eclipse.dataspaceconnector.sql.pool.ConnectionPool;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.Array;
 import java.sql.Blob;
@@ -40,15 +41,22 @@ import java.util.concurrent.Executor;
  * Internal decorator implementation of {@link java.sql.Connection}.
  * <p>
  * On {@link java.sql.Connection#close()} the decorated {@link java.sql.Connection}
- * is returned to the originating {@link ConnectionPool}.
+ * is returned to the originating {@link ConnectionPool}. If a {@link StatementCache} is given,
+ * {@link #prepareStatement(String)} reuses the statements cached for the decorated connection.
  */
 class PooledDataSourceConnection implements Connection {
     private final Connection connection;
     private final ConnectionPool connectionPool;
+    private final StatementCache statementCache;
 
     PooledDataSourceConnection(Connection connection, ConnectionPool connectionPool) {
+        this(connection, connectionPool, null);
+    }
+
+    PooledDataSourceConnection(Connection connection, ConnectionPool connectionPool, @Nullable StatementCache statementCache) {
         this.connectionPool = Objects.requireNonNull(connectionPool);
         this.connection = Objects.requireNonNull(connection);
+        this.statementCache = statementCache;
     }
 
     @Override
@@ -58,6 +66,9 @@ class PooledDataSourceConnection implements Connection {
 
     @Override
     public PreparedStatement prepareStatement(String sql) throws SQLException {
+        if (statementCache != null) {
+            return statementCache.prepareStatement(this, sql);
+        }
         return connection.prepareStatement(sql);
     }
 
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.datasource;
+
+import org.eclipse.dataspaceconnector.common.collection.ExpiringLruCache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayList;
+
+/**
+ * Bounded cache of the prepared statements of one physical connection, keyed by SQL.
+ * <p>
+ * Statements are handed out by {@link #prepareStatement(Connection, String)} and returned to the cache when they are
+ * closed, so that the driver and the database do not parse and plan the same statement again on every call. A statement
+ * is only handed out to one user at a time, a statement prepared while the cached one is in use is closed when it is
+ * released. The least recently used statements are closed once the maximum size is reached.
+ */
+class StatementCache {
+
+    private final Connection connection;
+    private final ExpiringLruCache<String, CachedPreparedStatement> statements;
+    private boolean closed;
+
+    StatementCache(Connection connection, int maxSize) {
+        this.connection = connection;
+        // statements never expire, a statement in use is closed when it is released
+        statements = new ExpiringLruCache<>(Clock.systemUTC(), maxSize, (sql, statement) -> {
+            if (!statement.isInUse()) {
+                statement.closeStatement();
+            }
+        });
+    }
+
+    /**
+     * Returns the cached statement for the SQL, or prepares a new one on the physical connection if there is none or if
+     * it is in use.
+     *
+     * @param logicalConnection the connection the statement is handed out to, returned by {@link PreparedStatement#getConnection()}.
+     * @param sql the SQL statement.
+     */
+    PreparedStatement prepareStatement(Connection logicalConnection, String sql) throws SQLException {
+        var statement = take(sql);
+        if (statement == null) {
+            statement = new CachedPreparedStatement(connection.prepareStatement(sql), sql, this);
+        }
+        statement.open(logicalConnection);
+        return statement;
+    }
+
+    /**
+     * Returns a closed statement to the cache, or closes it if it cannot be reused or another statement is cached for
+     * the same SQL.
+     */
+    void release(CachedPreparedStatement statement) {
+        var reusable = statement.reset();
+        synchronized (this) {
+            statement.setInUse(false);
+            var cached = statements.get(statement.getSql());
+            if (cached == statement) {
+                if (reusable) {
+                    return;
+                }
+                statements.remove(statement.getSql());
+            } else if (cached == null && reusable && !closed) {
+                statements.put(statement.getSql(), statement);
+                return;
+            }
+        }
+        statement.closeStatement();
+    }
+
+    /**
+     * Closes all the cached statements, statements in use are closed when they are released.
+     */
+    void close() {
+        var idle = new ArrayList<CachedPreparedStatement>();
+        synchronized (this) {
+            closed = true;
+            statements.clear().stream().filter(statement -> !statement.isInUse()).forEach(idle::add);
+        }
+        idle.forEach(CachedPreparedStatement::closeStatement);
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    private synchronized CachedPreparedStatement take(String sql) {
+        var statement = statements.get(sql);
+        if (statement == null || statement.isInUse()) {
+            return null;
+        }
+        statement.setInUse(true);
+        return statement;
+    }
+}
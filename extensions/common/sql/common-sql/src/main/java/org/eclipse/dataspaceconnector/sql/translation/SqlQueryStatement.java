@@ -15,7 +15,9 @@
 package org.eclipse.dataspaceconnector.sql.translation;
 
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +29,10 @@ import static java.lang.String.format;
  * Maps a {@link QuerySpec} to a single SQL {@code SELECT ... FROM ... WHERE ...} statement. The {@code SELECT ...} part
  * is passed in through the constructor, and the rest of the query is assembled dynamically, based on the
  * {@link QuerySpec} and the {@link TranslationMapping}.
+ * <p>
+ * The sort field is translated into an {@code ORDER BY} clause, followed by the {@code id} field so that the order is
+ * total. If the query has a {@link QueryCursor}, a row value comparison on the sort column and the id column seeks
+ * directly to the page, so that its cost does not depend on the number of preceding rows when the columns are indexed.
  */
 public class SqlQueryStatement {
 
@@ -34,8 +40,11 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
     private static final String WHERE_TOKEN = "WHERE";
     private static final String AND_TOKEN = "AND";
+    private static final String ORDER_BY_TOKEN = "ORDER BY";
+    private static final String ID_FIELD = "id";
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
+    private final List<String> orderByClauses = new ArrayList<>();
     private final List<Object> parameters = new ArrayList<>();
 
     /**
@@ -68,6 +77,7 @@ public class SqlQueryStatement {
     public String getQueryAsString() {
         return selectStatement + " " +
                 String.join(" ", whereClauses) + " " +
+                (orderByClauses.isEmpty() ? "" : ORDER_BY_TOKEN + " " + String.join(", ", orderByClauses) + " ") +
                 LIMIT +
                 OFFSET +
                 ";";
@@ -88,15 +98,73 @@ public class SqlQueryStatement {
 
     private void initialize(QuerySpec query, TranslationMapping rootModel) {
         whereClauses.clear();
+        orderByClauses.clear();
         parameters.clear();
 
         var expr = query.getFilterExpression();
         expr.forEach(e -> parseExpression(e, rootModel));
+        parseSort(query, rootModel);
 
         parameters.add(query.getLimit());
         parameters.add(query.getOffset());
     }
 
+    /**
+     * Translates the sort field into an {@code ORDER BY} clause, with the id column as tie-breaker, and, if the query
+     * has a cursor, adds the condition that selects the rows following it.
+     *
+     * @param query The query
+     * @param rootModel The root mapping model for the query
+     */
+    private void parseSort(QuerySpec query, TranslationMapping rootModel) {
+        if (query.getSortField() == null && query.getCursor() == null) {
+            return;
+        }
+        var sortColumn = query.getSortField() != null ? toColumnName(query.getSortField(), rootModel) : null;
+        var idColumn = query.getCursor() != null ? toColumnName(ID_FIELD, rootModel) : idColumnOrNull(rootModel);
+        var direction = query.getSortOrder() == SortOrder.DESC ? "DESC" : "ASC";
+        if (sortColumn != null) {
+            orderByClauses.add(format("%s %s", sortColumn, direction));
+        }
+        if (idColumn != null && !idColumn.equals(sortColumn)) {
+            orderByClauses.add(format("%s %s", idColumn, direction));
+        }
+        if (query.getCursor() == null) {
+            return;
+        }
+
+        var cursor = QueryCursor.decode(query.getCursor());
+        var prefix = whereClauses.isEmpty() ? WHERE_TOKEN : AND_TOKEN;
+        var operator = query.getSortOrder() == SortOrder.DESC ? "<" : ">";
+        if (sortColumn != null && !sortColumn.equals(idColumn)) {
+            whereClauses.add(format("%s (%s, %s) %s (?, ?)", prefix, sortColumn, idColumn, operator));
+            parameters.add(cursor.getSortValue());
+        } else {
+            whereClauses.add(format("%s %s %s ?", prefix, idColumn, operator));
+        }
+        parameters.add(cursor.getId());
+    }
+
+    /**
+     * Returns the id column, or {@code null} if the model has no id field, in which case the rows are only ordered by
+     * the sort field.
+     */
+    private String idColumnOrNull(TranslationMapping rootModel) {
+        try {
+            return rootModel.getStatement(ID_FIELD);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String toColumnName(String field, TranslationMapping rootModel) {
+        var columnName = rootModel.getStatement(field);
+        if (columnName == null) {
+            throw new IllegalArgumentException(format("Operand \"%s\" cannot be mapped to SQL Schema", field));
+        }
+        return columnName;
+    }
+
     /**
      * Parses a single {@link Criterion} into a {@code WHERE} or an {@code AND} clause, and puts them onto the statement
      * stack.
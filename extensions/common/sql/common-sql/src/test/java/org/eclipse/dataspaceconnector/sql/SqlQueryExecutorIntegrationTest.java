@@ -28,6 +28,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 public class SqlQueryExecutorIntegrationTest {
 
@@ -93,6 +95,90 @@ public class SqlQueryExecutorIntegrationTest {
         Assertions.assertEquals(kv, kvs.iterator().next());
     }
 
+    @Test
+    void testExecuteStreaming_mapsLazily() {
+        String table = "kv_testExecuteStreaming_mapsLazily";
+        SqlQueryExecutor.executeQuery(connection, getTableSchema(table));
+        SqlQueryExecutor.executeBatch(connection, String.format("INSERT INTO %s (k, v) values (?, ?)", table),
+                List.of(new Object[]{ "key1", "value1" }, new Object[]{ "key2", "value2" }, new Object[]{ "key3", "value3" }));
+        var mapped = new AtomicInteger();
+
+        try (var stream = SqlQueryExecutor.executeQuery(connection, false, (rs) -> {
+            mapped.incrementAndGet();
+            return rs.getString(1);
+        }, String.format("SELECT * FROM %s ORDER BY k", table))) {
+            Assertions.assertEquals("key1", stream.findFirst().orElseThrow());
+        }
+
+        Assertions.assertEquals(1, mapped.get());
+    }
+
+    @Test
+    void testExecuteStreaming_closesResourcesWhenConsumed() throws SQLException {
+        var streamConnection = DriverManager.getConnection("jdbc:h2:mem:test", new Properties());
+
+        var result = SqlQueryExecutor.executeQuery(streamConnection, true, (rs) -> rs.getLong(1), "SELECT X FROM SYSTEM_RANGE(1, 3);").collect(Collectors.toList());
+
+        Assertions.assertEquals(List.of(1L, 2L, 3L), result);
+        Assertions.assertTrue(streamConnection.isClosed());
+    }
+
+    @Test
+    void testExecuteStreaming_closesResourcesWhenClosed() throws SQLException {
+        var streamConnection = DriverManager.getConnection("jdbc:h2:mem:test", new Properties());
+
+        var stream = SqlQueryExecutor.executeQuery(streamConnection, true, (rs) -> rs.getLong(1), "SELECT X FROM SYSTEM_RANGE(1, 3);");
+        Assertions.assertFalse(streamConnection.isClosed());
+        stream.close();
+
+        Assertions.assertTrue(streamConnection.isClosed());
+    }
+
+    @Test
+    void testExecuteStreaming_keepsConnectionOpen() throws SQLException {
+        SqlQueryExecutor.executeQuery(connection, false, (rs) -> rs.getLong(1), "SELECT X FROM SYSTEM_RANGE(1, 3);").close();
+
+        Assertions.assertFalse(connection.isClosed());
+    }
+
+    @Test
+    void testExecuteStreaming_mappingFailure() throws SQLException {
+        var streamConnection = DriverManager.getConnection("jdbc:h2:mem:test", new Properties());
+
+        var stream = SqlQueryExecutor.executeQuery(streamConnection, true, (rs) -> {
+            throw new SQLException("mapping failed");
+        }, "SELECT X FROM SYSTEM_RANGE(1, 3);");
+
+        Assertions.assertThrows(EdcPersistenceException.class, () -> stream.collect(Collectors.toList()));
+        Assertions.assertTrue(streamConnection.isClosed());
+    }
+
+    @Test
+    void testExecuteStreaming_invalidSql() throws SQLException {
+        var streamConnection = DriverManager.getConnection("jdbc:h2:mem:test", new Properties());
+
+        Assertions.assertThrows(EdcPersistenceException.class, () -> SqlQueryExecutor.executeQuery(streamConnection, true, (rs) -> rs.getLong(1), "Lorem ipsum dolor sit amet"));
+        Assertions.assertTrue(streamConnection.isClosed());
+    }
+
+    @Test
+    void testExecuteBatch() {
+        String table = "kv_testExecuteBatch";
+        SqlQueryExecutor.executeQuery(connection, getTableSchema(table));
+
+        var rowsChanged = SqlQueryExecutor.executeBatch(connection, String.format("INSERT INTO %s (k, v) values (?, ?)", table),
+                List.of(new Object[]{ "key1", "value1" }, new Object[]{ "key2", "value2" }));
+
+        Assertions.assertEquals(2, rowsChanged);
+        List<Kv> kvs = SqlQueryExecutor.executeQuery(connection, (rs) -> new Kv(rs.getString(1), rs.getString(2)), String.format("SELECT * FROM %s ORDER BY k", table));
+        Assertions.assertEquals(List.of(new Kv("key1", "value1"), new Kv("key2", "value2")), kvs);
+    }
+
+    @Test
+    void testExecuteBatch_emptyArguments() {
+        Assertions.assertEquals(0, SqlQueryExecutor.executeBatch(connection, "Lorem ipsum dolor sit amet", List.of()));
+    }
+
     @Test
     void testInvalidSql() {
         Assertions.assertThrows(EdcPersistenceException.class, () -> SqlQueryExecutor.executeQuery(connection, "Lorem ipsum dolor sit amet"));
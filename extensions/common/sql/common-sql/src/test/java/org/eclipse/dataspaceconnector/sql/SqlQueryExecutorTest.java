@@ -28,7 +28,6 @@ import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
 import java.util.List;
@@ -41,7 +40,7 @@ class SqlQueryExecutorTest {
     void testExecuteMutatingQuery() throws SQLException {
         Connection connection = Mockito.mock(Connection.class);
         PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
-        Mockito.when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        Mockito.when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         Mockito.when(preparedStatement.execute()).thenReturn(false);
         Mockito.when(preparedStatement.getUpdateCount()).thenReturn(12345);
 
@@ -55,7 +54,7 @@ class SqlQueryExecutorTest {
     void testExecuteSelectingQuery() throws SQLException {
         Connection connection = Mockito.mock(Connection.class);
         PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
-        Mockito.when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        Mockito.when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         Mockito.when(preparedStatement.execute()).thenReturn(true);
 
         Integer result = SqlQueryExecutor.executeQuery(connection, DUMMY_SQL);
@@ -68,7 +67,7 @@ class SqlQueryExecutorTest {
     void testExecuteMutatingQueryWithResultSetMapper() throws SQLException {
         Connection connection = Mockito.mock(Connection.class);
         PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
-        Mockito.when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        Mockito.when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         Mockito.when(preparedStatement.execute()).thenReturn(false);
         Mockito.when(preparedStatement.getUpdateCount()).thenReturn(12345);
         ResultSetMapper<?> mapper = Mockito.mock(ResultSetMapper.class);
@@ -82,7 +81,7 @@ class SqlQueryExecutorTest {
     void testExecuteSelectingQueryWithResultSetMapper() throws SQLException {
         Connection connection = Mockito.mock(Connection.class);
         PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
-        Mockito.when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        Mockito.when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         Mockito.when(preparedStatement.execute()).thenReturn(true);
         ResultSetMapper<?> mapper = Mockito.mock(ResultSetMapper.class);
 
@@ -96,7 +95,7 @@ class SqlQueryExecutorTest {
     void testExecuteParametrized(Object argument, MockitoPreparedStatementVerification verification) throws SQLException {
         Connection connection = Mockito.mock(Connection.class);
         PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
-        Mockito.when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        Mockito.when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         Mockito.when(preparedStatement.execute()).thenReturn(true);
 
         Integer result = SqlQueryExecutor.executeQuery(connection, DUMMY_SQL, argument);
@@ -126,6 +125,7 @@ class SqlQueryExecutorTest {
                     Arguments.of((byte) 1, (MockitoPreparedStatementVerification) (statement) -> Mockito.verify(statement).setByte(1, (byte) 1)),
                     Arguments.of(BigDecimal.valueOf(1L), (MockitoPreparedStatementVerification) (statement) -> Mockito.verify(statement).setBigDecimal(1, BigDecimal.valueOf(1L))),
                     Arguments.of(new Date(), (MockitoPreparedStatementVerification) (statement) -> Mockito.verify(statement).setTimestamp(Mockito.eq(1), Mockito.any(Timestamp.class))),
+                    Arguments.of(new Timestamp(0), (MockitoPreparedStatementVerification) (statement) -> Mockito.verify(statement).setTimestamp(1, new Timestamp(0))),
                     Arguments.of("bytes".getBytes(), (MockitoPreparedStatementVerification) (statement) -> Mockito.verify(statement).setBytes(1, "bytes".getBytes())),
                     Arguments.of(inputStream, (MockitoPreparedStatementVerification) (statement) -> Mockito.verify(statement).setBlob(1, inputStream)),
                     Arguments.of(object, (MockitoPreparedStatementVerification) (statement) -> Mockito.verify(statement).setObject(1, object))
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlTemplateCacheTest {
+
+    private final SqlTemplateCache templates = new SqlTemplateCache();
+
+    @Test
+    void get_buildsTemplateOnce() {
+        var builds = new AtomicInteger();
+
+        var first = templates.get("select", () -> "SELECT * FROM test_" + builds.incrementAndGet());
+        var second = templates.get("select", () -> "SELECT * FROM test_" + builds.incrementAndGet());
+
+        assertThat(first).isEqualTo("SELECT * FROM test_1").isSameAs(second);
+        assertThat(builds).hasValue(1);
+    }
+
+    @Test
+    void get_templateBuiltFromOtherTemplate() {
+        var template = templates.get("findById", () -> templates.get("select", () -> "SELECT * FROM test") + " WHERE id = ?");
+
+        assertThat(template).isEqualTo("SELECT * FROM test WHERE id = ?");
+        assertThat(templates.get("select", () -> "other")).isEqualTo("SELECT * FROM test");
+    }
+}
@@ -21,6 +21,7 @@ import org.mockito.Mockito;
 
 import java.io.PrintWriter;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 
@@ -75,6 +76,78 @@ class ConnectionPoolDataSourceTest {
         Mockito.verify(connectionPool, Mockito.times(1)).returnConnection(connection);
     }
 
+    @Test
+    void constructor_negativeStatementCacheSize() {
+        ConnectionPool connectionPool = Mockito.mock(ConnectionPool.class);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ConnectionPoolDataSource(connectionPool, -1));
+    }
+
+    @Test
+    void prepareStatement_reusesStatementOfPooledConnection() throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        ConnectionPool connectionPool = Mockito.mock(ConnectionPool.class);
+        Mockito.when(connectionPool.getConnection()).thenReturn(connection);
+
+        ConnectionPoolDataSource connectionPoolDataSource = new ConnectionPoolDataSource(connectionPool);
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection result = connectionPoolDataSource.getConnection(); PreparedStatement statement = result.prepareStatement("SELECT 1")) {
+                Assertions.assertSame(result, statement.getConnection());
+                statement.setInt(1, i);
+                statement.execute();
+            }
+        }
+
+        Mockito.verify(connection, Mockito.times(1)).prepareStatement("SELECT 1");
+        Mockito.verify(preparedStatement, Mockito.times(3)).execute();
+        Mockito.verify(preparedStatement, Mockito.times(3)).clearParameters();
+        Mockito.verify(preparedStatement, Mockito.never()).close();
+    }
+
+    @Test
+    void prepareStatement_statementCacheDisabled() throws SQLException {
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement preparedStatement = Mockito.mock(PreparedStatement.class);
+        Mockito.when(connection.prepareStatement("SELECT 1")).thenReturn(preparedStatement);
+        ConnectionPool connectionPool = Mockito.mock(ConnectionPool.class);
+        Mockito.when(connectionPool.getConnection()).thenReturn(connection);
+
+        ConnectionPoolDataSource connectionPoolDataSource = new ConnectionPoolDataSource(connectionPool, 0);
+
+        for (int i = 0; i < 2; i++) {
+            try (Connection result = connectionPoolDataSource.getConnection(); PreparedStatement statement = result.prepareStatement("SELECT 1")) {
+                Assertions.assertSame(preparedStatement, statement);
+            }
+        }
+
+        Mockito.verify(connection, Mockito.times(2)).prepareStatement("SELECT 1");
+        Mockito.verify(preparedStatement, Mockito.times(2)).close();
+    }
+
+    @Test
+    void prepareStatement_dropsCachesOfClosedConnections() throws SQLException {
+        Connection connection1 = Mockito.mock(Connection.class);
+        Connection connection2 = Mockito.mock(Connection.class);
+        PreparedStatement preparedStatement1 = Mockito.mock(PreparedStatement.class);
+        Mockito.when(connection1.prepareStatement("SELECT 1")).thenReturn(preparedStatement1);
+        ConnectionPool connectionPool = Mockito.mock(ConnectionPool.class);
+        Mockito.when(connectionPool.getConnection()).thenReturn(connection1, connection2);
+
+        ConnectionPoolDataSource connectionPoolDataSource = new ConnectionPoolDataSource(connectionPool);
+
+        try (Connection result = connectionPoolDataSource.getConnection(); PreparedStatement statement = result.prepareStatement("SELECT 1")) {
+            statement.execute();
+        }
+        Mockito.when(connection1.isClosed()).thenReturn(true);
+
+        connectionPoolDataSource.getConnection().close();
+
+        Mockito.verify(preparedStatement1, Mockito.times(1)).close();
+    }
+
     @Test
     void getLogWriter() {
         ConnectionPool connectionPool = Mockito.mock(ConnectionPool.class);
@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementCacheTest {
+
+    private final Connection connection = mock(Connection.class);
+    private final Connection logicalConnection = mock(Connection.class);
+    private final List<PreparedStatement> prepared = new ArrayList<>();
+    private StatementCache statementCache;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenAnswer(i -> {
+            var statement = mock(PreparedStatement.class);
+            prepared.add(statement);
+            return statement;
+        });
+        statementCache = new StatementCache(connection, 2);
+    }
+
+    @Test
+    void prepareStatement_reusedAfterClose() throws SQLException {
+        var statement = statementCache.prepareStatement(logicalConnection, "SELECT 1");
+        statement.close();
+
+        var reused = statementCache.prepareStatement(logicalConnection, "SELECT 1");
+
+        assertThat(reused).isSameAs(statement);
+        assertThat(reused.isClosed()).isFalse();
+        verify(connection).prepareStatement("SELECT 1");
+    }
+
+    @Test
+    void prepareStatement_inUse_preparesAnotherStatement() throws SQLException {
+        var statement = statementCache.prepareStatement(logicalConnection, "SELECT 1");
+        var other = statementCache.prepareStatement(logicalConnection, "SELECT 1");
+        assertThat(other).isNotSameAs(statement);
+
+        statement.close();
+        other.close();
+
+        assertThat(statementCache.size()).isEqualTo(1);
+        assertThat(statementCache.prepareStatement(logicalConnection, "SELECT 1")).isSameAs(statement);
+        verify(prepared.get(0), never()).close();
+        verify(prepared.get(1)).close();
+    }
+
+    @Test
+    void release_evictsLeastRecentlyUsed() throws SQLException {
+        var statement1 = statementCache.prepareStatement(logicalConnection, "SELECT 1");
+        statement1.close();
+        var statement2 = statementCache.prepareStatement(logicalConnection, "SELECT 2");
+        statement2.close();
+        statementCache.prepareStatement(logicalConnection, "SELECT 1").close();
+
+        statementCache.prepareStatement(logicalConnection, "SELECT 3").close();
+
+        assertThat(statementCache.size()).isEqualTo(2);
+        verify(prepared.get(1)).close();
+        verify(prepared.get(0), never()).close();
+    }
+
+    @Test
+    void release_resetsStatement() throws SQLException {
+        var statement = statementCache.prepareStatement(logicalConnection, "INSERT INTO test VALUES (?)");
+        var physical = prepared.get(0);
+        statement.setFetchSize(100);
+        statement.addBatch();
+        statement.close();
+
+        verify(physical).clearParameters();
+        verify(physical).clearBatch();
+        verify(physical).setFetchSize(0);
+        verify(physical, never()).close();
+    }
+
+    @Test
+    void release_changedSettings_closesStatement() throws SQLException {
+        var statement = statementCache.prepareStatement(logicalConnection, "SELECT 1");
+        statement.setQueryTimeout(10);
+        statement.close();
+
+        verify(prepared.get(0)).close();
+        assertThat(statementCache.size()).isZero();
+    }
+
+    @Test
+    void close_closesIdleStatements() throws SQLException {
+        var idle = statementCache.prepareStatement(logicalConnection, "SELECT 1");
+        idle.close();
+        var inUse = statementCache.prepareStatement(logicalConnection, "SELECT 2");
+
+        statementCache.close();
+
+        verify(prepared.get(0)).close();
+        verify(prepared.get(1), never()).close();
+
+        inUse.close();
+
+        verify(prepared.get(1)).close();
+    }
+
+    @Test
+    void getConnection_returnsLogicalConnection() throws SQLException {
+        var statement = statementCache.prepareStatement(logicalConnection, "SELECT 1");
+
+        assertThat(statement.getConnection()).isSameAs(logicalConnection);
+    }
+}
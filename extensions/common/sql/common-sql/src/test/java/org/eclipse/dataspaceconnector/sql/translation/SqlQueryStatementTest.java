@@ -15,12 +15,15 @@
 package org.eclipse.dataspaceconnector.sql.translation;
 
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SqlQueryStatementTest {
 
@@ -55,6 +58,44 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactlyInAnyOrder("id1", "id2", "id3", "something", 50, 0);
     }
 
+    @Test
+    void sortField() {
+        var query = QuerySpec.Builder.newInstance().sortField("description").sortOrder(SortOrder.DESC).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + "  ORDER BY edc_description DESC, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(50, 0);
+    }
+
+    @Test
+    void sortField_notMapped() {
+        var query = QuerySpec.Builder.newInstance().sortField("notexist").build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursor_withSortField() {
+        var cursor = new QueryCursor("something", "id1").encode();
+        var query = QuerySpec.Builder.newInstance().filter(List.of(new Criterion("field1", "=", "testid1")))
+                .sortField("description").cursor(cursor).limit(10).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_field_1 = ? AND (edc_description, edc_id) > (?, ?) ORDER BY edc_description ASC, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "something", "id1", 10, 0);
+    }
+
+    @Test
+    void cursor_withoutSortField_descending() {
+        var cursor = new QueryCursor(null, "id1").encode();
+        var query = QuerySpec.Builder.newInstance().sortOrder(SortOrder.DESC).cursor(cursor).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id < ? ORDER BY edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id1", 50, 0);
+    }
+
     private QuerySpec query(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion)).build();
     }
@@ -26,6 +26,13 @@ public interface LeaseStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Statement to find the leases of multiple entities at once. It must contain a single {@code %s} placeholder, that
+     * will be replaced by the list of parameter markers, and it must return the id of the leased entity in the
+     * {@link #getLeasedEntityIdColumn()} column.
+     */
+    String getFindLeasesByEntitiesTemplate();
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
@@ -46,4 +53,8 @@ public interface LeaseStatements {
         return "lease_id";
     }
 
+    default String getLeasedEntityIdColumn() {
+        return "leased_entity_id";
+    }
+
 }
@@ -24,9 +24,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeBatch;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
 
 /**
@@ -98,6 +106,66 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires the leases for multiple entities with a constant number of statements, regardless of the number of
+     * entities.
+     *
+     * @param entityIds the ids of the entities to lease
+     * @throws IllegalStateException if any of the entities is currently leased.
+     */
+    public void acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        trxContext.execute(() -> {
+            var now = clock.millis();
+
+            var leases = getLeases(entityIds);
+            if (leases.values().stream().anyMatch(lease -> !lease.isExpired(clock))) {
+                throw new IllegalStateException("Entity is currently leased!");
+            }
+
+            //clean out expired leases
+            var expired = leases.values().stream().map(lease -> new Object[]{ lease.getLeaseId() }).collect(toList());
+            executeBatch(connection, statements.getDeleteLeaseTemplate(), expired);
+
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var newLeases = new ArrayList<Object[]>();
+            var entityLeases = new ArrayList<Object[]>();
+            for (var entityId : entityIds) {
+                var id = UUID.randomUUID().toString();
+                newLeases.add(new Object[]{ id, leaseHolder, now, duration });
+                entityLeases.add(new Object[]{ id, entityId });
+            }
+            executeBatch(connection, statements.getInsertLeaseTemplate(), newLeases);
+            executeBatch(connection, statements.getUpdateLeaseTemplate(), entityLeases);
+        });
+    }
+
+    /**
+     * Breaks the leases of multiple entities with a constant number of statements, regardless of the number of
+     * entities. Entities that are not leased are ignored.
+     *
+     * @param entityIds the ids of the leased entities
+     * @throws IllegalStateException if any of the entities is leased by another holder.
+     */
+    public void breakLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        trxContext.execute(() -> {
+            var leases = getLeases(entityIds);
+            leases.forEach((entityId, lease) -> {
+                if (!Objects.equals(leaseHolder, lease.getLeasedBy())) {
+                    throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot break lease!");
+                }
+            });
+
+            var leaseIds = leases.values().stream().map(lease -> new Object[]{ lease.getLeaseId() }).collect(toList());
+            executeBatch(connection, statements.getDeleteLeaseTemplate(), leaseIds);
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -111,6 +179,22 @@ public class SqlLeaseContext implements LeaseContext {
         return leases.stream().findFirst().orElse(null);
     }
 
+    /**
+     * Fetches the leases of multiple entities
+     *
+     * @param entityIds The leased entities' IDs
+     * @return The leases, mapped by entity ID. Entities that are not leased are not contained.
+     */
+    public Map<String, SqlLease> getLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return Map.of();
+        }
+        var stmt = format(statements.getFindLeasesByEntitiesTemplate(), String.join(",", Collections.nCopies(entityIds.size(), "?")));
+        return executeQuery(connection, rs -> Map.entry(rs.getString(statements.getLeasedEntityIdColumn()), mapLease(rs)), stmt, entityIds.toArray())
+                .stream()
+                .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
     private SqlLease mapLease(ResultSet resultSet) throws SQLException {
         var lease = new SqlLease(resultSet.getString(statements.getLeasedByColumn()),
                 resultSet.getLong(statements.getLeasedAtColumn()),
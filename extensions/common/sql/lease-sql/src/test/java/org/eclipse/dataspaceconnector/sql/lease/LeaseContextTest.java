@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -92,6 +93,53 @@ abstract class LeaseContextTest {
         assertThatThrownBy(() -> leaseContext.acquireLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void acquireLeases() {
+        insertTestEntity("id1");
+        insertTestEntity("id2");
+
+        getLeaseContext().acquireLeases(List.of("id1", "id2"));
+
+        assertThat(isLeased("id1")).isTrue();
+        assertThat(isLeased("id2")).isTrue();
+        assertThat(getLeaseContext().getLeases(List.of("id1", "id2"))).hasSize(2)
+                .allSatisfy((id, lease) -> assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER));
+    }
+
+    @Test
+    void acquireLeases_oneLeasedByOther_throwsException() {
+        insertTestEntity("id1");
+        insertTestEntity("id2");
+        createLeaseContext("someone-else").acquireLease("id2");
+
+        assertThatThrownBy(() -> getLeaseContext().acquireLeases(List.of("id1", "id2"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void breakLeases() {
+        insertTestEntity("id1");
+        insertTestEntity("id2");
+        insertTestEntity("id3");
+        getLeaseContext().acquireLeases(List.of("id1", "id2"));
+
+        getLeaseContext().breakLeases(List.of("id1", "id2", "id3"));
+
+        assertThat(isLeased("id1")).isFalse();
+        assertThat(isLeased("id2")).isFalse();
+        assertThat(isLeased("id3")).isFalse();
+    }
+
+    @Test
+    void breakLeases_whenLeaseByOther() {
+        insertTestEntity("id1");
+        insertTestEntity("id2");
+        getLeaseContext().acquireLease("id1");
+        createLeaseContext("someone-else").acquireLease("id2");
+
+        assertThatThrownBy(() -> getLeaseContext().breakLeases(List.of("id1", "id2"))).isInstanceOf(IllegalStateException.class);
+        assertThat(isLeased("id1")).isTrue();
+    }
+
     @Test
     void getLease() {
         var id = "test-id";
@@ -171,6 +171,11 @@ class PostgresLeaseContextTest extends LeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getFindLeasesByEntitiesTemplate() {
+            return "SELECT l.*, e.id AS " + getLeasedEntityIdColumn() + " FROM edc_lease l JOIN " + getEntityTableName() + " e ON e.lease_id = l.lease_id WHERE e.id IN (%s)";
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
@@ -27,6 +27,9 @@ interface CommonsConnectionPoolConfigKeys {
     @EdcSetting(required = false)
     String POOL_MIN_IDLE_CONNECTIONS = "pool.minIdleConnections";
 
+    @EdcSetting(required = false)
+    String POOL_STATEMENT_CACHE_SIZE = "pool.statementCacheSize";
+
     @EdcSetting(required = false)
     String POOL_TEST_CONNECTION_ON_BORROW = "pool.testConnectionOnBorrow";
 
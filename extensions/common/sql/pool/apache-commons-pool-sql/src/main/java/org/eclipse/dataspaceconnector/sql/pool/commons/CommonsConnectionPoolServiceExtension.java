@@ -56,7 +56,8 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
             String dataSourceName = entry.getKey();
             CommonsConnectionPool commonsConnectionPool = entry.getValue();
             commonsConnectionPools.add(commonsConnectionPool);
-            ConnectionPoolDataSource connectionPoolDataSource = new ConnectionPoolDataSource(commonsConnectionPool);
+            int statementCacheSize = config.getConfig(dataSourceName).getInteger(CommonsConnectionPoolConfigKeys.POOL_STATEMENT_CACHE_SIZE, ConnectionPoolDataSource.DEFAULT_STATEMENT_CACHE_SIZE);
+            ConnectionPoolDataSource connectionPoolDataSource = new ConnectionPoolDataSource(commonsConnectionPool, statementCacheSize);
             dataSourceRegistry.register(dataSourceName, connectionPoolDataSource);
         }
     }
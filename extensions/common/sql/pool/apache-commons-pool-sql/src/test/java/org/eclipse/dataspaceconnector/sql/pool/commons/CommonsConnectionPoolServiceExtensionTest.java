@@ -53,6 +53,7 @@ class CommonsConnectionPoolServiceExtensionTest extends AbstractCommonsConnectio
             put("edc.datasource." + DS_2_NAME + "." + CommonsConnectionPoolConfigKeys.POOL_TEST_CONNECTION_ON_RETURN, "false");
             put("edc.datasource." + DS_2_NAME + "." + CommonsConnectionPoolConfigKeys.POOL_TEST_CONNECTION_ON_BORROW, "false");
             put("edc.datasource." + DS_2_NAME + "." + CommonsConnectionPoolConfigKeys.POOL_TEST_CONNECTION_WHILE_IDLE, "false");
+            put("edc.datasource." + DS_2_NAME + "." + CommonsConnectionPoolConfigKeys.POOL_STATEMENT_CACHE_SIZE, "0");
         }
     };
 
@@ -115,7 +116,9 @@ class CommonsConnectionPoolServiceExtensionTest extends AbstractCommonsConnectio
 
         Mockito.verify(preparedStatementMock, Mockito.times(1)).execute();
 
-        Mockito.verify(preparedStatementMock, Mockito.times(1)).close();
+        // the statement is returned to the statement cache
+        Mockito.verify(preparedStatementMock, Mockito.never()).close();
+        Mockito.verify(preparedStatementMock, Mockito.times(1)).clearParameters();
 
         Mockito.verify(dataSource1Connection, Mockito.times(1)).commit();
     }
@@ -152,7 +155,9 @@ class CommonsConnectionPoolServiceExtensionTest extends AbstractCommonsConnectio
 
         Mockito.verify(preparedStatementMock, Mockito.times(iterations)).execute();
 
-        Mockito.verify(preparedStatementMock, Mockito.times(iterations)).close();
+        // the statement is prepared once and then reused from the statement cache of the connection
+        Mockito.verify(dataSource1Connection, Mockito.times(1)).prepareStatement(SQL_QUERY);
+        Mockito.verify(preparedStatementMock, Mockito.never()).close();
 
         Mockito.verify(dataSource1Connection, Mockito.times(iterations)).commit();
     }
@@ -197,8 +202,9 @@ class CommonsConnectionPoolServiceExtensionTest extends AbstractCommonsConnectio
         Mockito.verify(dataSource2Connection, Mockito.times(1)).setAutoCommit(false);
 
         Mockito.verify(preparedStatementMock1, Mockito.times(1)).execute();
-        Mockito.verify(preparedStatementMock1, Mockito.times(1)).close();
+        Mockito.verify(preparedStatementMock1, Mockito.never()).close();
         Mockito.verify(preparedStatementMock2, Mockito.times(1)).execute();
+        // the statement cache is disabled for the second data source
         Mockito.verify(preparedStatementMock2, Mockito.times(1)).close();
 
         Mockito.verify(dataSource1Connection, Mockito.times(1)).commit();
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+val assertj: String by project
+val awaitility: String by project
+val h2Version: String by project
+val micrometerVersion: String by project
+
+dependencies {
+    api(project(":spi:common:transaction-datasource-spi"))
+    api(project(":extensions:common:sql:common-sql"))
+
+    implementation("io.micrometer:micrometer-core:${micrometerVersion}")
+
+    testImplementation(project(":extensions:common:junit"))
+    testImplementation(project(":extensions:common:transaction:transaction-local"))
+    testImplementation("org.assertj:assertj-core:${assertj}")
+    testImplementation("org.awaitility:awaitility:${awaitility}")
+    testImplementation("com.h2database:h2:${h2Version}")
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("concurrent-pool-sql") {
+            artifactId = "concurrent-pool-sql"
+            from(components["java"])
+        }
+    }
+}
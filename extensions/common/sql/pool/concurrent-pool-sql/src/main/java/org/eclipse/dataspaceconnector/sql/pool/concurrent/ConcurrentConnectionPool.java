@@ -0,0 +1,397 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.pool.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
+import org.eclipse.dataspaceconnector.sql.ConnectionFactory;
+import org.eclipse.dataspaceconnector.sql.pool.ConnectionPool;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+
+/**
+ * A {@link ConnectionPool} that does not lock on the borrow and return paths.
+ * <p>
+ * Idle connections are kept in a lock-free deque, the most recently returned connection is borrowed first. When all
+ * connections are in use, borrowers wait for a connection handed off by a returning thread, up to the connection
+ * timeout. Connections are not validated when they are borrowed or returned: a housekeeping task validates the idle
+ * connections with {@link Connection#isValid(int)}, closes the connections that are idle for too long or have reached
+ * their max lifetime, tops the pool up to the minimum of idle connections and reports the connections that have been
+ * in use for longer than the leak detection threshold.
+ * <p>
+ * The pool publishes the number of active, idle and pending connections, the acquisition time, the timeouts and the
+ * detected leaks as metrics tagged with the pool name.
+ */
+public final class ConcurrentConnectionPool implements ConnectionPool, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "edc.sql.pool.connections";
+    private static final long HANDOFF_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final String name;
+    private final ConnectionFactory connectionFactory;
+    private final ConcurrentConnectionPoolConfig config;
+    private final Monitor monitor;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final Deque<PooledConnection> idle = new ConcurrentLinkedDeque<>();
+    private final Map<Connection, PooledConnection> connections = new ConcurrentHashMap<>();
+    private final SynchronousQueue<PooledConnection> handoff = new SynchronousQueue<>(true);
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Timer acquireTimer;
+    private final Counter timeouts;
+    private final Counter leaks;
+    private final List<Meter> meters = new ArrayList<>();
+    private final ScheduledFuture<?> housekeeping;
+    private volatile boolean closed;
+
+    /**
+     * Creates the pool and schedules its housekeeping task. Connections are created on demand, the minimum of idle
+     * connections is reached at the first housekeeping run.
+     *
+     * @param name the name of the pool, used in the metrics and log messages.
+     * @param connectionFactory creates the physical connections.
+     * @param config the pool configuration.
+     * @param executor runs the housekeeping task, it is not shut down when the pool is closed.
+     * @param monitor reports the failures of the housekeeping task and the detected leaks.
+     * @param meterRegistry registry of the pool metrics.
+     * @param clock the clock the connection lifetimes and idle times are measured with.
+     */
+    public ConcurrentConnectionPool(String name, ConnectionFactory connectionFactory, ConcurrentConnectionPoolConfig config,
+                                    ScheduledExecutorService executor, Monitor monitor, MeterRegistry meterRegistry, Clock clock) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.connectionFactory = Objects.requireNonNull(connectionFactory, "connectionFactory");
+        this.config = Objects.requireNonNull(config, "config");
+        this.monitor = Objects.requireNonNull(monitor, "monitor");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+        this.clock = Objects.requireNonNull(clock, "clock");
+
+        acquireTimer = track(Timer.builder(METRIC_PREFIX + ".acquire").description("Time to obtain a connection from the pool").tag("pool", name).register(meterRegistry));
+        timeouts = track(Counter.builder(METRIC_PREFIX + ".timeouts").description("Requests for a connection that timed out").tag("pool", name).register(meterRegistry));
+        leaks = track(Counter.builder(METRIC_PREFIX + ".leaks").description("Connections in use for longer than the leak detection threshold").tag("pool", name).register(meterRegistry));
+        track(Gauge.builder(METRIC_PREFIX, active, AtomicInteger::get).description("Connections in use").tag("pool", name).tag("state", "active").register(meterRegistry));
+        track(Gauge.builder(METRIC_PREFIX, idle, Deque::size).description("Idle connections").tag("pool", name).tag("state", "idle").register(meterRegistry));
+        track(Gauge.builder(METRIC_PREFIX + ".pending", pending, AtomicInteger::get).description("Threads waiting for a connection").tag("pool", name).register(meterRegistry));
+        track(Gauge.builder(METRIC_PREFIX + ".max", config, ConcurrentConnectionPoolConfig::getMaxTotalConnections).description("Maximum number of connections").tag("pool", name).register(meterRegistry));
+
+        var interval = config.getValidationInterval().toMillis();
+        housekeeping = executor.scheduleWithFixedDelay(this::runHousekeeping, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() {
+        if (closed) {
+            throw new EdcPersistenceException(format("Connection pool %s is closed", name));
+        }
+        var start = System.nanoTime();
+        try {
+            var pooled = acquire(start + config.getConnectionTimeout().toNanos());
+            active.incrementAndGet();
+            pooled.borrowed(clock.millis(), !config.getLeakDetectionThreshold().isZero());
+            return pooled.connection;
+        } finally {
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void returnConnection(Connection connection) {
+        Objects.requireNonNull(connection, "connection");
+        var pooled = connections.get(connection);
+        if (pooled == null || !pooled.isInUse()) {
+            throw new IllegalStateException(format("Connection has not been borrowed from pool %s", name));
+        }
+        var now = clock.millis();
+        if (pooled.leakReported) {
+            monitor.info(format("Connection of pool %s previously reported as leaked has been returned after %d ms", name, now - pooled.borrowedAt));
+        }
+        pooled.returned(now);
+        active.decrementAndGet();
+
+        if (closed || isExpired(pooled, now) || isClosed(connection)) {
+            destroy(pooled);
+            return;
+        }
+        // hand the connection off to a waiting thread, if any, so that it is not taken by a thread arriving later
+        if (pending.get() > 0 && handoff.offer(pooled)) {
+            return;
+        }
+        idle.offerFirst(pooled);
+    }
+
+    /**
+     * Closes the idle connections and stops the housekeeping task. Connections in use are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        housekeeping.cancel(false);
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            destroy(pooled);
+        }
+        meters.forEach(meterRegistry::remove);
+    }
+
+    /**
+     * Validates the idle connections, applies the idle timeout, the max lifetime and the leak detection, and creates
+     * connections up to the minimum of idle connections.
+     */
+    void housekeep() {
+        var now = clock.millis();
+        connections.values().stream().filter(PooledConnection::isInUse).forEach(pooled -> detectLeak(pooled, now));
+
+        // least recently returned first, so that the idle timeout closes the connections that are the least used
+        var candidates = new ArrayList<PooledConnection>();
+        idle.descendingIterator().forEachRemaining(candidates::add);
+        var idleCount = candidates.size();
+        for (var pooled : candidates) {
+            // the connection is owned by the housekeeping while it is out of the deque
+            if (!idle.remove(pooled)) {
+                continue;
+            }
+            if (isExpired(pooled, now) || isIdleTimeout(pooled, now) && idleCount > config.getMinIdleConnections()) {
+                destroy(pooled);
+                idleCount--;
+            } else if (!isValid(pooled.connection)) {
+                monitor.debug(() -> format("Closing invalid connection of pool %s", name));
+                destroy(pooled);
+                idleCount--;
+            } else {
+                idle.offerLast(pooled);
+            }
+        }
+
+        while (!closed && idleCount < config.getMinIdleConnections()) {
+            var pooled = tryCreate();
+            if (pooled == null) {
+                break;
+            }
+            idle.offerLast(pooled);
+            idleCount++;
+        }
+    }
+
+    int getTotalConnections() {
+        return total.get();
+    }
+
+    int getIdleConnections() {
+        return idle.size();
+    }
+
+    int getActiveConnections() {
+        return active.get();
+    }
+
+    private PooledConnection acquire(long deadline) {
+        while (true) {
+            var pooled = idle.pollFirst();
+            if (pooled == null) {
+                pooled = tryCreate();
+            }
+            if (pooled == null) {
+                pooled = awaitHandoff(deadline);
+            }
+            if (pooled == null) {
+                continue;
+            }
+            if (isExpired(pooled, clock.millis())) {
+                destroy(pooled);
+                continue;
+            }
+            return pooled;
+        }
+    }
+
+    /**
+     * Waits for a connection returned by another thread. The wait is split in short polls, so that connections returned
+     * to the deque, or room made by closed connections, are not missed.
+     */
+    @Nullable
+    private PooledConnection awaitHandoff(long deadline) {
+        var remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            timeouts.increment();
+            throw new EdcPersistenceException(format("Timeout after %d ms waiting for a connection of pool %s, %d connections in use",
+                    config.getConnectionTimeout().toMillis(), name, active.get()));
+        }
+        pending.incrementAndGet();
+        try {
+            // a connection may have been returned before this thread was counted as pending
+            var pooled = idle.pollFirst();
+            return pooled != null ? pooled : handoff.poll(Math.min(remaining, HANDOFF_POLL_NANOS), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcPersistenceException(format("Interrupted while waiting for a connection of pool %s", name), e);
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Creates a connection if the pool has not reached its maximum size.
+     */
+    @Nullable
+    private PooledConnection tryCreate() {
+        int current;
+        do {
+            current = total.get();
+            if (current >= config.getMaxTotalConnections()) {
+                return null;
+            }
+        } while (!total.compareAndSet(current, current + 1));
+
+        try {
+            var connection = connectionFactory.create();
+            var pooled = new PooledConnection(connection, clock.millis());
+            connections.put(connection, pooled);
+            return pooled;
+        } catch (RuntimeException e) {
+            total.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        if (connections.remove(pooled.connection) == null) {
+            return;
+        }
+        total.decrementAndGet();
+        try {
+            pooled.connection.close();
+        } catch (SQLException e) {
+            monitor.debug(() -> format("Failed to close connection of pool %s: %s", name, e.getMessage()));
+        }
+    }
+
+    private void detectLeak(PooledConnection pooled, long now) {
+        var threshold = config.getLeakDetectionThreshold().toMillis();
+        var borrowedAt = pooled.borrowedAt;
+        if (threshold == 0 || pooled.leakReported || now - borrowedAt <= threshold) {
+            return;
+        }
+        pooled.leakReported = true;
+        leaks.increment();
+        var message = format("Connection of pool %s has been in use for %d ms, possible leak", name, now - borrowedAt);
+        if (pooled.borrowedBy != null) {
+            monitor.warning(message, pooled.borrowedBy);
+        } else {
+            monitor.warning(message);
+        }
+    }
+
+    private void runHousekeeping() {
+        try {
+            housekeep();
+        } catch (Exception e) {
+            monitor.warning(format("Housekeeping of connection pool %s failed", name), e);
+        }
+    }
+
+    private boolean isExpired(PooledConnection pooled, long now) {
+        var maxLifetime = config.getMaxLifetime().toMillis();
+        return maxLifetime > 0 && now - pooled.createdAt >= maxLifetime;
+    }
+
+    private boolean isIdleTimeout(PooledConnection pooled, long now) {
+        var idleTimeout = config.getIdleTimeout().toMillis();
+        return idleTimeout > 0 && now - pooled.lastReturnedAt >= idleTimeout;
+    }
+
+    private boolean isValid(Connection connection) {
+        try {
+            var timeout = (int) Math.max(1, (config.getValidationTimeout().toMillis() + 999) / 1000);
+            return connection.isValid(timeout);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private <T extends Meter> T track(T meter) {
+        meters.add(meter);
+        return meter;
+    }
+
+    /**
+     * A physical connection and its bookkeeping. The borrow state is only written by the thread that owns the
+     * connection and read by the housekeeping task.
+     */
+    private static class PooledConnection {
+        private final Connection connection;
+        private final long createdAt;
+        private volatile boolean inUse;
+        private volatile long borrowedAt;
+        private volatile long lastReturnedAt;
+        private volatile Exception borrowedBy;
+        private volatile boolean leakReported;
+
+        PooledConnection(Connection connection, long createdAt) {
+            this.connection = connection;
+            this.createdAt = createdAt;
+            lastReturnedAt = createdAt;
+        }
+
+        boolean isInUse() {
+            return inUse;
+        }
+
+        void borrowed(long now, boolean captureStackTrace) {
+            borrowedBy = captureStackTrace ? new Exception("Connection borrowed here") : null;
+            leakReported = false;
+            borrowedAt = now;
+            inUse = true;
+        }
+
+        void returned(long now) {
+            inUse = false;
+            lastReturnedAt = now;
+            borrowedBy = null;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.pool.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A ConcurrentConnectionPoolConfig is a container object containing a set of pool configuration
+ * parameters that can be used by the {@link ConcurrentConnectionPool} for connection management.
+ */
+public class ConcurrentConnectionPoolConfig {
+
+    private final int maxTotalConnections;
+    private final int minIdleConnections;
+    private final Duration connectionTimeout;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+    private final Duration validationInterval;
+    private final Duration validationTimeout;
+    private final Duration leakDetectionThreshold;
+
+    private ConcurrentConnectionPoolConfig(Builder builder) {
+        maxTotalConnections = builder.maxTotalConnections;
+        minIdleConnections = builder.minIdleConnections;
+        connectionTimeout = builder.connectionTimeout;
+        idleTimeout = builder.idleTimeout;
+        maxLifetime = builder.maxLifetime;
+        validationInterval = builder.validationInterval;
+        validationTimeout = builder.validationTimeout;
+        leakDetectionThreshold = builder.leakDetectionThreshold;
+    }
+
+    /**
+     * Maximum number of connections, idle or in use.
+     */
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    /**
+     * Number of connections the pool keeps open even when they are idle.
+     */
+    public int getMinIdleConnections() {
+        return minIdleConnections;
+    }
+
+    /**
+     * Maximum time to wait for a connection when all of them are in use.
+     */
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    /**
+     * Time after which idle connections above {@link #getMinIdleConnections()} are closed, zero to never close them.
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Time after which connections are closed and replaced, zero for no limit. Connections in use are closed when they
+     * are returned.
+     */
+    public Duration getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    /**
+     * Interval of the housekeeping task, which validates the idle connections and applies the idle timeout, the max
+     * lifetime and the leak detection.
+     */
+    public Duration getValidationInterval() {
+        return validationInterval;
+    }
+
+    /**
+     * Timeout of {@link java.sql.Connection#isValid(int)}, rounded up to seconds.
+     */
+    public Duration getValidationTimeout() {
+        return validationTimeout;
+    }
+
+    /**
+     * Time after which a connection that has not been returned is reported as a possible leak, zero to disable the
+     * leak detection.
+     */
+    public Duration getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    public static final class Builder {
+        private int maxTotalConnections = 8;
+        private int minIdleConnections = 1;
+        private Duration connectionTimeout = Duration.ofSeconds(30);
+        private Duration idleTimeout = Duration.ofMinutes(10);
+        private Duration maxLifetime = Duration.ofMinutes(30);
+        private Duration validationInterval = Duration.ofSeconds(30);
+        private Duration validationTimeout = Duration.ofSeconds(5);
+        private Duration leakDetectionThreshold = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder maxTotalConnections(int maxTotalConnections) {
+            this.maxTotalConnections = maxTotalConnections;
+            return this;
+        }
+
+        public Builder minIdleConnections(int minIdleConnections) {
+            this.minIdleConnections = minIdleConnections;
+            return this;
+        }
+
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+            return this;
+        }
+
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public Builder maxLifetime(Duration maxLifetime) {
+            this.maxLifetime = maxLifetime;
+            return this;
+        }
+
+        public Builder validationInterval(Duration validationInterval) {
+            this.validationInterval = validationInterval;
+            return this;
+        }
+
+        public Builder validationTimeout(Duration validationTimeout) {
+            this.validationTimeout = validationTimeout;
+            return this;
+        }
+
+        public Builder leakDetectionThreshold(Duration leakDetectionThreshold) {
+            this.leakDetectionThreshold = leakDetectionThreshold;
+            return this;
+        }
+
+        public ConcurrentConnectionPoolConfig build() {
+            Objects.requireNonNull(connectionTimeout, "connectionTimeout");
+            Objects.requireNonNull(idleTimeout, "idleTimeout");
+            Objects.requireNonNull(maxLifetime, "maxLifetime");
+            Objects.requireNonNull(validationInterval, "validationInterval");
+            Objects.requireNonNull(validationTimeout, "validationTimeout");
+            Objects.requireNonNull(leakDetectionThreshold, "leakDetectionThreshold");
+            if (maxTotalConnections < 1) {
+                throw new IllegalArgumentException("maxTotalConnections must be positive");
+            }
+            if (minIdleConnections < 0 || minIdleConnections > maxTotalConnections) {
+                throw new IllegalArgumentException("minIdleConnections must be between 0 and maxTotalConnections");
+            }
+            if (validationInterval.isZero() || validationInterval.isNegative()) {
+                throw new IllegalArgumentException("validationInterval must be positive");
+            }
+            return new ConcurrentConnectionPoolConfig(this);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.pool.concurrent;
+
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+
+interface ConcurrentConnectionPoolConfigKeys {
+
+    @EdcSetting(required = false)
+    String POOL_CONNECTION_TIMEOUT = "pool.connectionTimeout";
+
+    @EdcSetting(required = false)
+    String POOL_IDLE_TIMEOUT = "pool.idleTimeout";
+
+    @EdcSetting(required = false)
+    String POOL_LEAK_DETECTION_THRESHOLD = "pool.leakDetectionThreshold";
+
+    @EdcSetting(required = false)
+    String POOL_MAX_LIFETIME = "pool.maxLifetime";
+
+    @EdcSetting(required = false)
+    String POOL_MAX_TOTAL_CONNECTIONS = "pool.maxTotalConnections";
+
+    @EdcSetting(required = false)
+    String POOL_MIN_IDLE_CONNECTIONS = "pool.minIdleConnections";
+
+    @EdcSetting(required = false)
+    String POOL_STATEMENT_CACHE_SIZE = "pool.statementCacheSize";
+
+    @EdcSetting(required = false)
+    String POOL_VALIDATION_INTERVAL = "pool.validationInterval";
+
+    @EdcSetting(required = false)
+    String POOL_VALIDATION_TIMEOUT = "pool.validationTimeout";
+
+    @EdcSetting(required = true)
+    String URL = "url";
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.pool.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
+import org.eclipse.dataspaceconnector.spi.system.Inject;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.system.configuration.Config;
+import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
+import org.eclipse.dataspaceconnector.sql.ConnectionFactory;
+import org.eclipse.dataspaceconnector.sql.datasource.ConnectionPoolDataSource;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Registers a {@link ConnectionPoolDataSource} backed by a {@link ConcurrentConnectionPool} for every data source
+ * configured under {@code edc.datasource}. Alternative to the Apache Commons Pool extension, only one of them must be
+ * part of a runtime.
+ */
+public class ConcurrentConnectionPoolServiceExtension implements ServiceExtension {
+    static final String EDC_DATASOURCE_PREFIX = "edc.datasource";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final List<ConcurrentConnectionPool> connectionPools = new ArrayList<>();
+    private ScheduledExecutorService housekeepingExecutor;
+
+    @Override
+    public String name() {
+        return "Concurrent Connection Pool";
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        housekeepingExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "sql-connection-pool-housekeeping");
+            thread.setDaemon(true);
+            return thread;
+        }), "SQL connection pool housekeeping");
+        var registry = Optional.ofNullable(meterRegistry).orElseGet(CompositeMeterRegistry::new);
+
+        Config parent = context.getConfig(EDC_DATASOURCE_PREFIX);
+        for (Config config : parent.partition().collect(Collectors.toList())) {
+            var dataSourceName = config.currentNode();
+            var connectionPool = new ConcurrentConnectionPool(dataSourceName, createConnectionFactory(config), createConfig(config),
+                    housekeepingExecutor, context.getMonitor(), registry, clock);
+            connectionPools.add(connectionPool);
+
+            int statementCacheSize = config.getInteger(ConcurrentConnectionPoolConfigKeys.POOL_STATEMENT_CACHE_SIZE, ConnectionPoolDataSource.DEFAULT_STATEMENT_CACHE_SIZE);
+            dataSourceRegistry.register(dataSourceName, new ConnectionPoolDataSource(connectionPool, statementCacheSize));
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        connectionPools.forEach(ConcurrentConnectionPool::close);
+        if (housekeepingExecutor != null) {
+            housekeepingExecutor.shutdownNow();
+        }
+    }
+
+    private ConnectionFactory createConnectionFactory(Config config) {
+        String jdbcUrl = Objects.requireNonNull(config.getString(ConcurrentConnectionPoolConfigKeys.URL));
+
+        Properties properties = new Properties();
+        properties.putAll(config.getRelativeEntries());
+
+        return () -> {
+            try {
+                return DriverManager.getConnection(jdbcUrl, properties);
+            } catch (SQLException exception) {
+                throw new EdcPersistenceException(exception.getMessage(), exception);
+            }
+        };
+    }
+
+    private ConcurrentConnectionPoolConfig createConfig(Config config) {
+        var builder = ConcurrentConnectionPoolConfig.Builder.newInstance();
+
+        setIfProvidedInt(ConcurrentConnectionPoolConfigKeys.POOL_MAX_TOTAL_CONNECTIONS, builder::maxTotalConnections, config);
+        setIfProvidedInt(ConcurrentConnectionPoolConfigKeys.POOL_MIN_IDLE_CONNECTIONS, builder::minIdleConnections, config);
+        setIfProvidedMillis(ConcurrentConnectionPoolConfigKeys.POOL_CONNECTION_TIMEOUT, builder::connectionTimeout, config);
+        setIfProvidedMillis(ConcurrentConnectionPoolConfigKeys.POOL_IDLE_TIMEOUT, builder::idleTimeout, config);
+        setIfProvidedMillis(ConcurrentConnectionPoolConfigKeys.POOL_MAX_LIFETIME, builder::maxLifetime, config);
+        setIfProvidedMillis(ConcurrentConnectionPoolConfigKeys.POOL_VALIDATION_INTERVAL, builder::validationInterval, config);
+        setIfProvidedMillis(ConcurrentConnectionPoolConfigKeys.POOL_VALIDATION_TIMEOUT, builder::validationTimeout, config);
+        setIfProvidedMillis(ConcurrentConnectionPoolConfigKeys.POOL_LEAK_DETECTION_THRESHOLD, builder::leakDetectionThreshold, config);
+
+        return builder.build();
+    }
+
+    private static void setIfProvidedInt(String key, Consumer<Integer> setter, Config config) {
+        var value = config.getInteger(key, null);
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+
+    private static void setIfProvidedMillis(String key, Consumer<Duration> setter, Config config) {
+        var value = config.getLong(key, null);
+        if (value != null) {
+            setter.accept(Duration.ofMillis(value));
+        }
+    }
+}
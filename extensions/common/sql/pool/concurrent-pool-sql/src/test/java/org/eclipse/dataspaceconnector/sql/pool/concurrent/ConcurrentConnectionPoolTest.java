@@ -0,0 +1,281 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.pool.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
+import org.eclipse.dataspaceconnector.sql.ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrentConnectionPoolTest {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final Monitor monitor = mock(Monitor.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1000);
+    private final Clock clock = mock(Clock.class);
+    private final List<Connection> created = new ArrayList<>();
+    private final ConnectionFactory connectionFactory = () -> {
+        var connection = mock(Connection.class);
+        try {
+            when(connection.isValid(anyInt())).thenReturn(true);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        synchronized (created) {
+            created.add(connection);
+        }
+        return connection;
+    };
+    private ConcurrentConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenAnswer(i -> now.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void getConnection_reusesReturnedConnection() {
+        pool = createPool(config());
+
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+
+        assertThat(pool.getConnection()).isSameAs(connection);
+        assertThat(created).hasSize(1);
+    }
+
+    @Test
+    void getConnection_maxTotalReached_timesOut() {
+        pool = createPool(config().maxTotalConnections(2).connectionTimeout(Duration.ofMillis(50)));
+
+        pool.getConnection();
+        pool.getConnection();
+
+        assertThatThrownBy(pool::getConnection).isInstanceOf(EdcPersistenceException.class).hasMessageContaining("Timeout");
+        assertThat(created).hasSize(2);
+        assertThat(meterRegistry.get("edc.sql.pool.connections.timeouts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_waitsForReturnedConnection() {
+        pool = createPool(config().maxTotalConnections(1).connectionTimeout(Duration.ofSeconds(10)));
+        var connection = pool.getConnection();
+
+        var waiting = CompletableFuture.supplyAsync(pool::getConnection);
+        await().untilAsserted(() -> assertThat(meterRegistry.get("edc.sql.pool.connections.pending").gauge().value()).isEqualTo(1));
+        pool.returnConnection(connection);
+
+        assertThat(waiting).succeedsWithin(5, TimeUnit.SECONDS).isSameAs(connection);
+    }
+
+    @Test
+    void getConnection_maxLifetimeReached_replacesIdleConnection() throws SQLException {
+        pool = createPool(config().maxLifetime(Duration.ofMinutes(1)));
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+
+        assertThat(pool.getConnection()).isNotSameAs(connection);
+        verify(connection).close();
+    }
+
+    @Test
+    void returnConnection_maxLifetimeReached_closesConnection() throws SQLException {
+        pool = createPool(config().maxLifetime(Duration.ofMinutes(1)));
+        var connection = pool.getConnection();
+
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        pool.returnConnection(connection);
+
+        verify(connection).close();
+        assertThat(pool.getTotalConnections()).isZero();
+    }
+
+    @Test
+    void returnConnection_notBorrowed_throwsException() {
+        pool = createPool(config());
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+
+        assertThatThrownBy(() -> pool.returnConnection(connection)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> pool.returnConnection(mock(Connection.class))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void housekeep_closesInvalidConnections() throws SQLException {
+        pool = createPool(config().minIdleConnections(0));
+        var connection = pool.getConnection();
+        pool.returnConnection(connection);
+        when(connection.isValid(anyInt())).thenReturn(false);
+
+        pool.housekeep();
+
+        verify(connection).close();
+        assertThat(pool.getTotalConnections()).isZero();
+    }
+
+    @Test
+    void housekeep_doesNotValidateConnectionsInUse() throws SQLException {
+        pool = createPool(config().minIdleConnections(0));
+        var connection = pool.getConnection();
+
+        pool.housekeep();
+
+        verify(connection, never()).isValid(anyInt());
+        assertThat(pool.getActiveConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void housekeep_createsMinIdleConnections() {
+        pool = createPool(config().minIdleConnections(2));
+
+        pool.housekeep();
+
+        assertThat(pool.getIdleConnections()).isEqualTo(2);
+        assertThat(meterRegistry.get("edc.sql.pool.connections").tag("state", "idle").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void housekeep_idleTimeout_keepsMinIdleConnections() throws SQLException {
+        pool = createPool(config().minIdleConnections(1).idleTimeout(Duration.ofMinutes(1)));
+        var connection1 = pool.getConnection();
+        var connection2 = pool.getConnection();
+        pool.returnConnection(connection1);
+        pool.returnConnection(connection2);
+
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        pool.housekeep();
+
+        assertThat(pool.getTotalConnections()).isEqualTo(1);
+        verify(connection1).close();
+        verify(connection2, never()).close();
+    }
+
+    @Test
+    void housekeep_reportsLeakedConnection() {
+        pool = createPool(config().leakDetectionThreshold(Duration.ofSeconds(10)));
+        var connection = pool.getConnection();
+
+        now.addAndGet(Duration.ofSeconds(5).toMillis());
+        pool.housekeep();
+        verify(monitor, never()).warning(any(String.class), any(Throwable.class));
+
+        now.addAndGet(Duration.ofSeconds(10).toMillis());
+        pool.housekeep();
+        pool.housekeep();
+
+        verify(monitor).warning(contains("possible leak"), any(Throwable.class));
+        assertThat(meterRegistry.get("edc.sql.pool.connections.leaks").counter().count()).isEqualTo(1);
+
+        pool.returnConnection(connection);
+        verify(monitor).info(contains("returned"));
+    }
+
+    @Test
+    void close_closesIdleConnectionsAndReturnedConnections() throws SQLException {
+        pool = createPool(config());
+        var idle = pool.getConnection();
+        var inUse = pool.getConnection();
+        pool.returnConnection(idle);
+
+        pool.close();
+
+        verify(idle).close();
+        verify(inUse, never()).close();
+        pool.returnConnection(inUse);
+        verify(inUse).close();
+        assertThatThrownBy(pool::getConnection).isInstanceOf(EdcPersistenceException.class);
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    void getConnection_concurrentBorrowers() throws InterruptedException {
+        pool = createPool(config().maxTotalConnections(4));
+        var threads = 16;
+        var latch = new CountDownLatch(threads);
+        ExecutorService borrowers = Executors.newFixedThreadPool(threads);
+        var failures = new ArrayList<Throwable>();
+        for (int i = 0; i < threads; i++) {
+            borrowers.execute(() -> {
+                try {
+                    for (int j = 0; j < 500; j++) {
+                        var connection = pool.getConnection();
+                        pool.returnConnection(connection);
+                    }
+                } catch (Throwable e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        borrowers.shutdown();
+        assertThat(failures).isEmpty();
+        assertThat(created.size()).isLessThanOrEqualTo(4);
+        assertThat(pool.getActiveConnections()).isZero();
+        assertThat(pool.getIdleConnections()).isEqualTo(pool.getTotalConnections());
+    }
+
+    private ConcurrentConnectionPoolConfig.Builder config() {
+        return ConcurrentConnectionPoolConfig.Builder.newInstance()
+                .validationInterval(Duration.ofHours(1));
+    }
+
+    private ConcurrentConnectionPool createPool(ConcurrentConnectionPoolConfig.Builder config) {
+        return new ConcurrentConnectionPool("test", connectionFactory, config.build(), executor, monitor, meterRegistry, clock);
+    }
+}
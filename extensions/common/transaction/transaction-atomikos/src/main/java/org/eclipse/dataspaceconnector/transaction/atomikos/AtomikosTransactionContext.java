@@ -21,11 +21,13 @@ import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 import javax.transaction.HeuristicMixedException;
 import javax.transaction.HeuristicRollbackException;
 import javax.transaction.RollbackException;
+import javax.transaction.Synchronization;
 import javax.transaction.SystemException;
 import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
 
 import static javax.transaction.Status.STATUS_ACTIVE;
+import static javax.transaction.Status.STATUS_COMMITTED;
 import static javax.transaction.Status.STATUS_MARKED_ROLLBACK;
 
 /**
@@ -89,4 +91,38 @@ public class AtomikosTransactionContext implements TransactionContext {
             }
         }
     }
+
+    @Override
+    public boolean isTransactionActive() {
+        try {
+            return transactionManager.getTransaction() != null;
+        } catch (SystemException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    @Override
+    public void registerSynchronization(TransactionSynchronization synchronization) {
+        try {
+            var transaction = transactionManager.getTransaction();
+            if (transaction == null) {
+                synchronization.afterCommit();
+                return;
+            }
+            transaction.registerSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        synchronization.afterCommit();
+                    }
+                }
+            });
+        } catch (SystemException | RollbackException e) {
+            throw new EdcException(e);
+        }
+    }
 }
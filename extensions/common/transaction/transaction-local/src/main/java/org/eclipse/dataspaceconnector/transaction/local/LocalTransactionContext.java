@@ -23,6 +23,7 @@ import org.eclipse.dataspaceconnector.spi.transaction.local.LocalTransactionReso
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Implements a transaction context for local resources. The purpose of this implementation is to provide a portable transaction programming model for code that executes in
@@ -78,20 +79,42 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                             monitor.severe("Error rolling back resource", e);
                         }
                     });
+                    transactions.remove();
                 } else {
+                    var committed = new AtomicBoolean(true);
                     resources.forEach(localTransactionResource -> {
                         try {
                             localTransactionResource.commit();
                         } catch (Exception e) {
+                            committed.set(false);
                             monitor.severe("Error committing resource", e);
                         }
                     });
+                    // removed before the synchronizations run, so that they do not join the completed transaction
+                    transactions.remove();
+                    if (committed.get()) {
+                        transaction.afterCommit(monitor);
+                    }
                 }
-                transactions.remove();
             }
         }
     }
 
+    @Override
+    public boolean isTransactionActive() {
+        return transactions.get() != null;
+    }
+
+    @Override
+    public void registerSynchronization(TransactionSynchronization synchronization) {
+        var transaction = transactions.get();
+        if (transaction == null) {
+            synchronization.afterCommit();
+        } else {
+            transaction.registerSynchronization(synchronization);
+        }
+    }
+
     @Override
     public void registerResource(LocalTransactionResource resource) {
         resources.add(resource);
@@ -99,6 +122,7 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
 
 
     private static class Transaction {
+        private final List<TransactionSynchronization> synchronizations = new ArrayList<>();
         private boolean rollbackOnly = false;
 
         public boolean isRollbackOnly() {
@@ -108,5 +132,19 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
         void setRollbackOnly() {
             rollbackOnly = true;
         }
+
+        void registerSynchronization(TransactionSynchronization synchronization) {
+            synchronizations.add(synchronization);
+        }
+
+        void afterCommit(Monitor monitor) {
+            synchronizations.forEach(synchronization -> {
+                try {
+                    synchronization.afterCommit();
+                } catch (Exception e) {
+                    monitor.severe("Error calling transaction synchronization", e);
+                }
+            });
+        }
     }
 }
@@ -17,13 +17,16 @@ package org.eclipse.dataspaceconnector.transaction.local;
 
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext.TransactionSynchronization;
 import org.eclipse.dataspaceconnector.spi.transaction.local.LocalTransactionResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -139,6 +142,39 @@ class LocalTransactionContextTest {
         verify(dsResource2, times(1)).rollback();  // ensure commit was called on resource after the exception was thrown
     }
 
+    @Test
+    void verifySynchronizationCalledAfterCommit() {
+        var synchronization = mock(TransactionSynchronization.class);
+
+        transactionContext.execute(() -> transactionContext.execute(() -> transactionContext.registerSynchronization(synchronization)));
+
+        var inOrder = inOrder(dsResource, synchronization);
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(synchronization).afterCommit();
+    }
+
+    @Test
+    void verifySynchronizationNotCalledOnRollback() {
+        var synchronization = mock(TransactionSynchronization.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.registerSynchronization(synchronization);
+            throw new RuntimeException();
+        }));
+
+        verify(synchronization, never()).afterCommit();
+    }
+
+    @Test
+    void verifySynchronizationCalledImmediatelyWithoutTransaction() {
+        var synchronization = mock(TransactionSynchronization.class);
+
+        transactionContext.registerSynchronization(synchronization);
+
+        verify(synchronization).afterCommit();
+        verify(dsResource, never()).start();
+    }
+
     @BeforeEach
     void setUp() {
         transactionContext = new LocalTransactionContext(mock(Monitor.class));
@@ -26,6 +26,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.model.AssetEntryDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.model.AssetResponseDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.asset.service.AssetService;
@@ -34,6 +35,7 @@ import org.eclipse.dataspaceconnector.api.transformer.DtoTransformerRegistry;
 import org.eclipse.dataspaceconnector.spi.exception.InvalidRequestException;
 import org.eclipse.dataspaceconnector.spi.exception.ObjectNotFoundException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
@@ -87,7 +89,7 @@ public class AssetApiController implements AssetApi {
 
     @GET
     @Override
-    public List<AssetResponseDto> getAllAssets(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getAllAssets(@Valid @BeanParam QuerySpecDto querySpecDto) {
         var transformationResult = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (transformationResult.failed()) {
             throw new InvalidRequestException(transformationResult.getFailureMessages());
@@ -103,13 +105,15 @@ public class AssetApiController implements AssetApi {
             throw mapToException(queryResult, QuerySpec.class, null);
         }
 
-        var assets = queryResult.getContent();
+        var assets = List.copyOf(queryResult.getContent());
 
-        return assets.stream()
+        var dtos = assets.stream()
                 .map(it -> transformerRegistry.transform(it, AssetResponseDto.class))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(toList());
+        var nextCursor = QueryCursor.next(spec, assets, Asset::getId, it -> it.getProperty(spec.getSortField()));
+        return Response.ok(dtos).header(QuerySpecDto.NEXT_CURSOR_HEADER, nextCursor).build();
     }
 
     @GET
@@ -86,9 +86,10 @@ public class AssetServiceImpl implements AssetService {
             var query = QuerySpec.Builder.newInstance()
                     .filter(List.of(new Criterion(ASSET_ID_QUERY, "=", assetId)))
                     .build();
-            var negotiationsOnAsset = contractNegotiationStore.queryNegotiations(query);
-            if (negotiationsOnAsset.findAny().isPresent()) {
-                return ServiceResult.conflict(format("Asset %s cannot be deleted as it is referenced by at least one contract agreement", assetId));
+            try (var negotiationsOnAsset = contractNegotiationStore.queryNegotiations(query)) {
+                if (negotiationsOnAsset.findAny().isPresent()) {
+                    return ServiceResult.conflict(format("Asset %s cannot be deleted as it is referenced by at least one contract agreement", assetId));
+                }
             }
 
             var deleted = loader.deleteById(assetId);
@@ -113,7 +113,7 @@ public class AssetApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allAssets = controller.getAllAssets(querySpec);
+        var allAssets = (List<?>) controller.getAllAssets(querySpec).getEntity();
 
         assertThat(allAssets).hasSize(1);
         verify(service).query(argThat(s -> s.getOffset() == 10));
@@ -128,7 +128,7 @@ public class AssetApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         when(transformerRegistry.transform(isA(Asset.class), eq(AssetResponseDto.class))).thenReturn(Result.failure("failed to transform"));
 
-        var allAssets = controller.getAllAssets(QuerySpecDto.Builder.newInstance().build());
+        var allAssets = (List<?>) controller.getAllAssets(QuerySpecDto.Builder.newInstance().build()).getEntity();
 
         assertThat(allAssets).isEmpty();
     }
@@ -50,6 +50,12 @@ public class ContractAgreementServiceImpl implements ContractAgreementService {
             return ServiceResult.badRequest(format("Error validating schema: %s", result.getFailureDetail()));
         }
 
-        return ServiceResult.success(transactionContext.execute(() -> store.queryAgreements(query).collect(toList())));
+        return transactionContext.execute(() -> {
+            try {
+                return ServiceResult.success(store.queryAgreements(query).collect(toList()));
+            } catch (IllegalArgumentException e) {
+                return ServiceResult.badRequest(format("Error validating schema: %s", e.getMessage()));
+            }
+        });
     }
 }
@@ -55,7 +55,13 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
         if (result.failed()) {
             return ServiceResult.badRequest(format("Error validating schema: %s", result.getFailureDetail()));
         }
-        return ServiceResult.success(transactionContext.execute(() -> store.findAll(query).collect(toList())));
+        return transactionContext.execute(() -> {
+            try {
+                return ServiceResult.success(store.findAll(query).collect(toList()));
+            } catch (IllegalArgumentException e) {
+                return ServiceResult.badRequest(format("Error validating schema: %s", e.getMessage()));
+            }
+        });
     }
 
     @Override
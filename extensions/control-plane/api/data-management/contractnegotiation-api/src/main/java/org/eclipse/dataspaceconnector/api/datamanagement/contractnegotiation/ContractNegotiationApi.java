@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.api.datamanagement.contractnegotiation;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.links.LinkParameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -24,6 +25,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.api.datamanagement.contractnegotiation.model.ContractAgreementDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.contractnegotiation.model.ContractNegotiationDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.contractnegotiation.model.NegotiationId;
@@ -32,8 +34,6 @@ import org.eclipse.dataspaceconnector.api.datamanagement.contractnegotiation.mod
 import org.eclipse.dataspaceconnector.api.query.QuerySpecDto;
 import org.eclipse.dataspaceconnector.spi.ApiErrorDetail;
 
-import java.util.List;
-
 @OpenAPIDefinition
 @Tag(name = "Contract Negotiation")
 public interface ContractNegotiationApi {
@@ -41,11 +41,12 @@ public interface ContractNegotiationApi {
     @Operation(description = "Returns all contract negotiations according to a query",
             responses = {
                     @ApiResponse(responseCode = "200",
-                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContractNegotiationDto.class)))),
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContractNegotiationDto.class))),
+                            headers = @Header(name = QuerySpecDto.NEXT_CURSOR_HEADER, description = "Cursor of the next page, absent on the last page")),
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))) }
     )
-    List<ContractNegotiationDto> getNegotiations(@Valid QuerySpecDto querySpecDto);
+    Response getNegotiations(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Gets an contract negotiation with the given ID",
             responses = {
@@ -60,7 +60,13 @@ public class ContractNegotiationServiceImpl implements ContractNegotiationServic
         if (result.failed()) {
             return ServiceResult.badRequest(format("Error validating schema: %s", result.getFailureDetail()));
         }
-        return ServiceResult.success(transactionContext.execute(() -> store.queryNegotiations(query).collect(toList())));
+        return transactionContext.execute(() -> {
+            try {
+                return ServiceResult.success(store.queryNegotiations(query).collect(toList()));
+            } catch (IllegalArgumentException e) {
+                return ServiceResult.badRequest(format("Error validating schema: %s", e.getMessage()));
+            }
+        });
     }
 
     @Override
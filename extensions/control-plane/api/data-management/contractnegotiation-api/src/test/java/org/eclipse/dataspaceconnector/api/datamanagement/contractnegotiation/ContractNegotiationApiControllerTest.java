@@ -80,9 +80,9 @@ class ContractNegotiationApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var negotiations = controller.getNegotiations(querySpec);
+        var negotiations = (List<?>) controller.getNegotiations(querySpec).getEntity();
 
-        assertThat(negotiations).hasSize(1).first().matches(d -> d.getId().equals(contractNegotiation.getId()));
+        assertThat(negotiations).isEqualTo(List.of(dto));
         verify(service).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(contractNegotiation, ContractNegotiationDto.class);
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
@@ -97,7 +97,7 @@ class ContractNegotiationApiControllerTest {
         when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
 
-        var negotiations = controller.getNegotiations(QuerySpecDto.Builder.newInstance().build());
+        var negotiations = (List<?>) controller.getNegotiations(QuerySpecDto.Builder.newInstance().build()).getEntity();
 
         assertThat(negotiations).hasSize(0);
         verify(transformerRegistry).transform(contractNegotiation, ContractNegotiationDto.class);
@@ -69,8 +69,13 @@ public class PolicyDefinitionServiceImpl implements PolicyDefinitionService {
         if (result.failed()) {
             return ServiceResult.badRequest(format("Error validating schema: %s", result.getFailureDetail()));
         }
-        return ServiceResult.success(transactionContext.execute(() ->
-                policyStore.findAll(query).collect(toList())));
+        return transactionContext.execute(() -> {
+            try {
+                return ServiceResult.success(policyStore.findAll(query).collect(toList()));
+            } catch (IllegalArgumentException e) {
+                return ServiceResult.badRequest(format("Error validating schema: %s", e.getMessage()));
+            }
+        });
     }
 
 
@@ -87,15 +92,17 @@ public class PolicyDefinitionServiceImpl implements PolicyDefinitionService {
             }
 
             var queryContractPolicyFilter = QuerySpec.Builder.newInstance().filter(contractFilter).build();
-            var contractDefinitionOnPolicy = contractDefinitionStore.findAll(queryContractPolicyFilter);
-            if (contractDefinitionOnPolicy.findAny().isPresent()) {
-                return ServiceResult.conflict(format("PolicyDefinition %s cannot be deleted as it is referenced by at least one contract definition", policyId));
+            try (var contractDefinitionOnPolicy = contractDefinitionStore.findAll(queryContractPolicyFilter)) {
+                if (contractDefinitionOnPolicy.findAny().isPresent()) {
+                    return ServiceResult.conflict(format("PolicyDefinition %s cannot be deleted as it is referenced by at least one contract definition", policyId));
+                }
             }
 
             var queryAccessPolicyFilter = QuerySpec.Builder.newInstance().filter(accessFilter).build();
-            var accessDefinitionOnPolicy = contractDefinitionStore.findAll(queryAccessPolicyFilter);
-            if (accessDefinitionOnPolicy.findAny().isPresent()) {
-                return ServiceResult.conflict(format("PolicyDefinition %s cannot be deleted as it is referenced by at least one contract definition", policyId));
+            try (var accessDefinitionOnPolicy = contractDefinitionStore.findAll(queryAccessPolicyFilter)) {
+                if (accessDefinitionOnPolicy.findAny().isPresent()) {
+                    return ServiceResult.conflict(format("PolicyDefinition %s cannot be deleted as it is referenced by at least one contract definition", policyId));
+                }
             }
 
             var deleted = policyStore.deleteById(policyId);
@@ -24,6 +24,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.api.datamanagement.transferprocess.model.TransferId;
 import org.eclipse.dataspaceconnector.api.datamanagement.transferprocess.model.TransferProcessDto;
 import org.eclipse.dataspaceconnector.api.datamanagement.transferprocess.model.TransferRequestDto;
@@ -31,9 +32,11 @@ import org.eclipse.dataspaceconnector.api.datamanagement.transferprocess.model.T
 import org.eclipse.dataspaceconnector.api.datamanagement.transferprocess.service.TransferProcessService;
 import org.eclipse.dataspaceconnector.api.query.QuerySpecDto;
 import org.eclipse.dataspaceconnector.api.transformer.DtoTransformerRegistry;
+import org.eclipse.dataspaceconnector.common.reflection.ReflectionUtil;
 import org.eclipse.dataspaceconnector.spi.exception.InvalidRequestException;
 import org.eclipse.dataspaceconnector.spi.exception.ObjectNotFoundException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
@@ -62,7 +65,7 @@ public class TransferProcessApiController implements TransferProcessApi {
 
     @GET
     @Override
-    public List<TransferProcessDto> getAllTransferProcesses(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getAllTransferProcesses(@Valid @BeanParam QuerySpecDto querySpecDto) {
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             throw new InvalidRequestException(result.getFailureMessages());
@@ -74,11 +77,14 @@ public class TransferProcessApiController implements TransferProcessApi {
         if (queryResult.failed()) {
             throw mapToException(queryResult, TransferProcess.class, null);
         }
-        return queryResult.getContent().stream()
+        var transferProcesses = List.copyOf(queryResult.getContent());
+        var dtos = transferProcesses.stream()
                 .map(tp -> transformerRegistry.transform(tp, TransferProcessDto.class))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
                 .collect(Collectors.toList());
+        var nextCursor = QueryCursor.next(spec, transferProcesses, TransferProcess::getId, tp -> ReflectionUtil.getFieldValueSilent(spec.getSortField(), tp));
+        return Response.ok(dtos).header(QuerySpecDto.NEXT_CURSOR_HEADER, nextCursor).build();
     }
 
     @GET
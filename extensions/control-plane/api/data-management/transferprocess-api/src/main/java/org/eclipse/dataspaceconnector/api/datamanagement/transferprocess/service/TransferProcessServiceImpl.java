@@ -67,7 +67,13 @@ public class TransferProcessServiceImpl implements TransferProcessService {
         if (result.failed()) {
             return ServiceResult.badRequest(format("Error validating schema: %s", result.getFailureDetail()));
         }
-        return ServiceResult.success(transactionContext.execute(() -> transferProcessStore.findAll(query).collect(toList())));
+        return transactionContext.execute(() -> {
+            try {
+                return ServiceResult.success(transferProcessStore.findAll(query).collect(toList()));
+            } catch (IllegalArgumentException e) {
+                return ServiceResult.badRequest(format("Error validating schema: %s", e.getMessage()));
+            }
+        });
     }
 
     @Override
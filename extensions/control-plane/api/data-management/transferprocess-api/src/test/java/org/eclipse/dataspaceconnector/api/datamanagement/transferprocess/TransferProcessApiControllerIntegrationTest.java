@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.api.datamanagement.transferprocess;
 
 import io.restassured.specification.RequestSpecification;
 import org.eclipse.dataspaceconnector.api.datamanagement.transferprocess.model.TransferRequestDto;
+import org.eclipse.dataspaceconnector.api.query.QuerySpecDto;
 import org.eclipse.dataspaceconnector.junit.extensions.EdcExtension;
 import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
@@ -35,7 +37,9 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferP
 import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.INITIAL;
 import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.IN_PROGRESS;
 import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates.PROVISIONING;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 @ExtendWith(EdcExtension.class)
 class TransferProcessApiControllerIntegrationTest {
@@ -67,6 +71,33 @@ class TransferProcessApiControllerIntegrationTest {
                 .body("size()", is(1));
     }
 
+    @Test
+    void getAllTransferProcesses_pagesWithCursor(TransferProcessStore store) {
+        IntStream.range(0, 5).forEach(i -> store.create(createTransferProcess("process" + i)));
+
+        var firstPage = baseRequest()
+                .get("/transferprocess?limit=3&sortField=id")
+                .then()
+                .statusCode(200)
+                .body("id", contains("process0", "process1", "process2"))
+                .extract().header(QuerySpecDto.NEXT_CURSOR_HEADER);
+
+        baseRequest()
+                .get("/transferprocess?limit=3&sortField=id&cursor=" + firstPage)
+                .then()
+                .statusCode(200)
+                .body("id", contains("process3", "process4"))
+                .header(QuerySpecDto.NEXT_CURSOR_HEADER, nullValue());
+    }
+
+    @Test
+    void getAll_invalidCursor() {
+        baseRequest()
+                .get("/transferprocess?cursor=invalid")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     void getAll_invalidQuery() {
         baseRequest()
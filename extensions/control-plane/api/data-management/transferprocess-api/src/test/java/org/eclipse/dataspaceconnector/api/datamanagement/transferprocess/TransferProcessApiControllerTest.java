@@ -75,9 +75,9 @@ class TransferProcessApiControllerTest {
         var querySpec = QuerySpecDto.Builder.newInstance().build();
         when(service.query(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
 
-        var transferProcesses = controller.getAllTransferProcesses(querySpec);
+        var transferProcesses = (List<?>) controller.getAllTransferProcesses(querySpec).getEntity();
 
-        assertThat(transferProcesses).containsExactly(dto);
+        assertThat(transferProcesses).isEqualTo(List.of(dto));
         verify(service).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
     }
@@ -90,7 +90,7 @@ class TransferProcessApiControllerTest {
         when(transformerRegistry.transform(isA(TransferProcess.class), eq(TransferProcessDto.class))).thenReturn(Result.failure("failure"));
         when(service.query(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
 
-        var transferProcesses = controller.getAllTransferProcesses(QuerySpecDto.Builder.newInstance().build());
+        var transferProcesses = (List<?>) controller.getAllTransferProcesses(QuerySpecDto.Builder.newInstance().build()).getEntity();
 
         assertThat(transferProcesses).isEmpty();
     }
@@ -103,6 +103,16 @@ class TransferProcessApiControllerTest {
         assertThatThrownBy(() -> controller.getAllTransferProcesses(QuerySpecDto.Builder.newInstance().build())).isInstanceOf(InvalidRequestException.class);
     }
 
+    @Test
+    void getAll_throwsExceptionIfSortFieldIsUnknown() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("unknown").build();
+        when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.query(querySpec)).thenReturn(ServiceResult.badRequest("Operand \"unknown\" cannot be mapped to SQL Schema"));
+
+        var querySpecDto = QuerySpecDto.Builder.newInstance().sortField("unknown").build();
+        assertThatThrownBy(() -> controller.getAllTransferProcesses(querySpecDto)).isInstanceOf(InvalidRequestException.class);
+    }
+
     @Test
     void getById() {
         String id = "tp-id";
@@ -37,6 +37,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.api.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.EXCLUDE;
 import static org.junit.jupiter.params.provider.EnumSource.Mode.INCLUDE;
 import static org.mockito.ArgumentMatchers.any;
@@ -80,6 +81,18 @@ class TransferProcessServiceImplTest {
         verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
     }
 
+    @Test
+    void query_shouldReturnBadRequest_whenStoreCannotTranslateQuery() {
+        var spec = QuerySpec.Builder.newInstance().sortField("unknown").build();
+        when(store.findAll(spec)).thenThrow(new IllegalArgumentException("Operand \"unknown\" cannot be mapped to SQL Schema"));
+
+        var result = service.query(spec);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(BAD_REQUEST);
+        assertThat(result.getFailureDetail()).contains("unknown");
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {
             "provisionedResourceSet.resources.hastoken=true", //wrong case
@@ -97,7 +97,9 @@ public class RemoteDataPlaneTransferClient implements DataPlaneTransferClient {
         var errorMsg = Optional.ofNullable(response.body())
                 .map(this::formatErrorMessage)
                 .orElse("null response body");
-        return StatusResult.failure(ResponseStatus.FATAL_ERROR, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
+        // the data plane responds with 503 when it is saturated, in which case the request can be sent again later
+        var status = response.code() == 503 ? ResponseStatus.ERROR_RETRY : ResponseStatus.FATAL_ERROR;
+        return StatusResult.failure(status, format("Transfer request failed with status code %s for request %s: %s", response.code(), requestId, errorMsg));
     }
 
     private String formatErrorMessage(ResponseBody body) {
@@ -15,6 +15,8 @@
 package org.eclipse.dataspaceconnector.transfer.dataplane.client;
 
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.client.DataPlaneTransferClient;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,7 +27,6 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.transfer.dataplane.TestFixtures.createDataFlowRequest;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -47,7 +48,6 @@ class EmbeddedDataPlaneTransferClientTest {
         var errorMsg = UUID.randomUUID().toString();
         var request = createDataFlowRequest();
         when(dataPlaneManagerMock.validate(any())).thenReturn(Result.failure(errorMsg));
-        doNothing().when(dataPlaneManagerMock).initiateTransfer(any());
 
         var result = client.transfer(request);
 
@@ -64,7 +64,7 @@ class EmbeddedDataPlaneTransferClientTest {
     void transferSuccess() {
         var request = createDataFlowRequest();
         when(dataPlaneManagerMock.validate(any())).thenReturn(Result.success(true));
-        doNothing().when(dataPlaneManagerMock).initiateTransfer(any());
+        when(dataPlaneManagerMock.initiateTransfer(any())).thenReturn(StatusResult.success());
 
         var result = client.transfer(request);
 
@@ -73,4 +73,16 @@ class EmbeddedDataPlaneTransferClientTest {
 
         assertThat(result.succeeded()).isTrue();
     }
+
+    @Test
+    void transferFailure_ifDataPlaneIsSaturated() {
+        var request = createDataFlowRequest();
+        when(dataPlaneManagerMock.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManagerMock.initiateTransfer(any())).thenReturn(StatusResult.failure(ResponseStatus.ERROR_RETRY, "saturated"));
+
+        var result = client.transfer(request);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
 }
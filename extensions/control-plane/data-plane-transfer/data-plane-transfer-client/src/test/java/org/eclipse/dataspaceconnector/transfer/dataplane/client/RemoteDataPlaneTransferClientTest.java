@@ -157,6 +157,27 @@ class RemoteDataPlaneTransferClientTest {
                 );
     }
 
+    @Test
+    void transferFailure_shouldReturnRetryableFailure_ifDataPlaneIsSaturated() throws MalformedURLException, JsonProcessingException {
+        var flowRequest = createDataFlowRequest();
+
+        // mock data plane selector
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+
+        // config data plane mock server
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        dataPlaneClientAndServer.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.SERVICE_UNAVAILABLE_503.code()));
+
+        var result = transferClient.transfer(flowRequest);
+
+        dataPlaneClientAndServer.verify(httpRequest, VerificationTimes.once());
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
     @Test
     void successTransfer() throws JsonProcessingException, MalformedURLException {
         var flowRequest = createDataFlowRequest();
@@ -15,13 +15,13 @@
 package org.eclipse.dataspaceconnector.transfer.dataplane.sync.proxy;
 
 import jakarta.ws.rs.core.HttpHeaders;
+import org.eclipse.dataspaceconnector.dataplane.spi.security.DataEncrypter;
 import org.eclipse.dataspaceconnector.spi.jwt.TokenGenerationService;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.proxy.DataPlaneTransferProxyCreationRequest;
 import org.eclipse.dataspaceconnector.transfer.dataplane.spi.proxy.DataPlaneTransferProxyReferenceService;
-import org.eclipse.dataspaceconnector.transfer.dataplane.spi.security.DataEncrypter;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -34,18 +34,31 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
 
 import static java.lang.String.format;
-import static java.util.Optional.ofNullable;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.readAll;
 
 public class SqlAssetIndex implements AssetIndex {
 
+    /**
+     * Maximum number of assets whose properties are fetched with a single statement.
+     */
+    private static final int PROPERTIES_BATCH_SIZE = 500;
+
+    private final Map<String, Class<?>> propertyTypes = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
     private final DataSourceRegistry dataSourceRegistry;
     private final String dataSourceName;
@@ -136,17 +149,58 @@ public class SqlAssetIndex implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         Objects.requireNonNull(querySpec);
 
-        return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
-
+        // the rows are streamed only in a transaction of the caller, as the connection is released when the outermost transaction ends
+        var streamed = transactionContext.isTransactionActive();
+        var rows = transactionContext.execute(() -> {
+            try {
                 var statement = assetStatements.createQuery(querySpec);
+                var assetRows = executeQuery(getConnection(), true, this::mapAssetRow, statement.getQueryAsString(), statement.getParameters());
+                return streamed ? assetRows : readAll(assetRows);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+
+        // rows are read and their properties fetched lazily, one batch of assets at a time, as the stream is consumed
+        var iterator = rows.iterator();
+        return Stream.generate(() -> nextBatch(iterator))
+                .takeWhile(batch -> !batch.isEmpty())
+                .flatMap(batch -> findAssets(batch).stream())
+                .onClose(rows::close);
+    }
+
+    /**
+     * Evaluates all the expressions with a single statement, then fetches the properties of every selected asset once,
+     * even if it is selected by several expressions.
+     */
+    @Override
+    public List<List<Asset>> batchQueryAssets(List<AssetSelectorExpression> expressions) {
+        Objects.requireNonNull(expressions);
+        if (expressions.isEmpty()) {
+            return List.of();
+        }
 
-                var ids = executeQuery(connection, this::mapAssetIds, statement.getQueryAsString(), statement.getParameters());
-                return ids.stream().map(this::findById);
+        var selectors = expressions.stream().map(AssetSelectorExpression::getCriteria).collect(Collectors.toList());
+        var rows = transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var statement = assetStatements.createBatchQuery(selectors);
+                return executeQuery(connection, this::mapSelectedAssetRow, statement.getQueryAsString(), statement.getParameters());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
+
+        var distinctRows = new ArrayList<>(rows.stream().collect(Collectors.toMap(row -> row.asset.id, row -> row.asset, (a, b) -> a, LinkedHashMap::new)).values());
+        var assets = new HashMap<String, Asset>();
+        for (var i = 0; i < distinctRows.size(); i += PROPERTIES_BATCH_SIZE) {
+            findAssets(distinctRows.subList(i, Math.min(i + PROPERTIES_BATCH_SIZE, distinctRows.size())))
+                    .forEach(asset -> assets.put(asset.getId(), asset));
+        }
+
+        var result = new ArrayList<List<Asset>>();
+        expressions.forEach(expression -> result.add(new ArrayList<>()));
+        rows.forEach(row -> result.get(row.selectorIndex).add(assets.get(row.asset.id)));
+        return result;
     }
 
     @Override
@@ -156,14 +210,14 @@ public class SqlAssetIndex implements AssetIndex {
         try (var connection = getConnection()) {
 
             return transactionContext.execute(() -> {
-                if (!existsById(assetId, connection)) {
+                var row = single(executeQuery(connection, this::mapAssetRow, assetStatements.getSelectAssetByIdTemplate(), assetId));
+                if (row == null) {
                     return null;
                 }
-                var ts = single(executeQuery(connection, resultSet -> resultSet.getLong(assetStatements.getCreatedAtColumn()), assetStatements.getSelectAssetByIdTemplate(), assetId));
                 var assetProperties = executeQuery(connection, this::mapPropertyResultSet, assetStatements.getFindPropertyByIdTemplate(), assetId).stream().collect(Collectors.toMap(
                         AbstractMap.SimpleImmutableEntry::getKey,
                         AbstractMap.SimpleImmutableEntry::getValue));
-                return Asset.Builder.newInstance().id(assetId).properties(assetProperties).createdAt(ofNullable(ts).orElse(0L)).build();
+                return Asset.Builder.newInstance().id(assetId).properties(assetProperties).createdAt(row.createdAt).build();
             });
 
         } catch (Exception e) {
@@ -191,6 +245,39 @@ public class SqlAssetIndex implements AssetIndex {
         }
     }
 
+    private static List<AssetRow> nextBatch(Iterator<AssetRow> rows) {
+        var batch = new ArrayList<AssetRow>(PROPERTIES_BATCH_SIZE);
+        while (batch.size() < PROPERTIES_BATCH_SIZE && rows.hasNext()) {
+            batch.add(rows.next());
+        }
+        return batch;
+    }
+
+    /**
+     * Builds the assets of the given rows, with the properties of all of them fetched by a single statement.
+     */
+    private List<Asset> findAssets(List<AssetRow> rows) {
+        return transactionContext.execute(() -> {
+            var ids = rows.stream().map(row -> row.id).toArray();
+            var stmt = format(assetStatements.getFindPropertiesByIdsTemplate(), String.join(",", Collections.nCopies(ids.length, "?")));
+            var properties = new HashMap<String, Map<String, Object>>();
+            // the property rows are grouped by asset as they are read, instead of being materialized first
+            try (var propertyRows = executeQuery(getConnection(), true, this::mapPropertyRow, stmt, ids)) {
+                propertyRows.forEach(property -> properties.computeIfAbsent(property.assetId, id -> new HashMap<>()).put(property.name, property.value));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+
+            return rows.stream()
+                    .map(row -> Asset.Builder.newInstance()
+                            .id(row.id)
+                            .properties(properties.getOrDefault(row.id, Map.of()))
+                            .createdAt(row.createdAt)
+                            .build())
+                    .collect(Collectors.toList());
+        });
+    }
+
     private int mapRowCount(ResultSet resultSet) throws SQLException {
         return resultSet.getInt(assetStatements.getCountVariableName());
     }
@@ -204,6 +291,19 @@ public class SqlAssetIndex implements AssetIndex {
         return new AbstractMap.SimpleImmutableEntry<>(name, fromPropertyValue(value, type));
     }
 
+    private AssetProperty mapPropertyRow(ResultSet resultSet) throws SQLException, ClassNotFoundException, JsonProcessingException {
+        var property = mapPropertyResultSet(resultSet);
+        return new AssetProperty(resultSet.getString(assetStatements.getPropertyAssetIdFkColumn()), property.getKey(), property.getValue());
+    }
+
+    private AssetRow mapAssetRow(ResultSet resultSet) throws SQLException {
+        return new AssetRow(resultSet.getString(assetStatements.getAssetIdColumn()), resultSet.getLong(assetStatements.getCreatedAtColumn()));
+    }
+
+    private SelectedAssetRow mapSelectedAssetRow(ResultSet resultSet) throws SQLException {
+        return new SelectedAssetRow(resultSet.getInt(assetStatements.getSelectorIndexColumn()), mapAssetRow(resultSet));
+    }
+
     @Nullable
     private <T> T single(List<T> list) {
         if (list.size() == 0) {
@@ -220,13 +320,25 @@ public class SqlAssetIndex implements AssetIndex {
      * {@code value.toString()} is returned.
      */
     private Object fromPropertyValue(String value, String type) throws ClassNotFoundException, JsonProcessingException {
-        var clazz = Class.forName(type);
+        var clazz = propertyType(type);
         if (clazz == String.class) {
             return value;
         }
         return objectMapper.readValue(value, clazz);
     }
 
+    /**
+     * Resolves the class of a property type, caching it as the same few types are used by the properties of all assets.
+     */
+    private Class<?> propertyType(String type) throws ClassNotFoundException {
+        var clazz = propertyTypes.get(type);
+        if (clazz == null) {
+            clazz = Class.forName(type);
+            propertyTypes.put(type, clazz);
+        }
+        return clazz;
+    }
+
     private boolean existsById(String assetId, Connection connection) {
         var assetCount = transactionContext.execute(() -> executeQuery(connection, this::mapRowCount, assetStatements.getCountAssetByIdClause(), assetId).iterator().next());
 
@@ -254,11 +366,39 @@ public class SqlAssetIndex implements AssetIndex {
                 .build();
     }
 
-    private String mapAssetIds(ResultSet resultSet) throws SQLException {
-        return resultSet.getString(assetStatements.getAssetIdColumn());
-    }
-
     private String toPropertyValue(Object value) throws JsonProcessingException {
         return value instanceof String ? value.toString() : objectMapper.writeValueAsString(value);
     }
+
+    private static class AssetRow {
+        private final String id;
+        private final long createdAt;
+
+        AssetRow(String id, long createdAt) {
+            this.id = id;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static class SelectedAssetRow {
+        private final int selectorIndex;
+        private final AssetRow asset;
+
+        SelectedAssetRow(int selectorIndex, AssetRow asset) {
+            this.selectorIndex = selectorIndex;
+            this.asset = asset;
+        }
+    }
+
+    private static class AssetProperty {
+        private final String assetId;
+        private final String name;
+        private final Object value;
+
+        AssetProperty(String assetId, String name, Object value) {
+            this.assetId = assetId;
+            this.name = name;
+            this.value = value;
+        }
+    }
 }
@@ -14,9 +14,12 @@
 
 package org.eclipse.dataspaceconnector.sql.assetindex.schema;
 
+import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.sql.translation.SqlQueryStatement;
 
+import java.util.List;
+
 /**
  * Defines queries used by the SqlAssetIndexServiceExtension.
  */
@@ -90,6 +93,13 @@ public interface AssetStatements {
         return "created_at";
     }
 
+    /**
+     * The column holding the index of the selector in batched queries.
+     */
+    default String getSelectorIndexColumn() {
+        return "selector_index";
+    }
+
     /**
      * INSERT clause for assets.
      */
@@ -115,6 +125,12 @@ public interface AssetStatements {
      */
     String getFindPropertyByIdTemplate();
 
+    /**
+     * SELECT clause for the properties of several assets. Contains a single {@code %s} placeholder for the list of
+     * parameter markers.
+     */
+    String getFindPropertiesByIdsTemplate();
+
     /**
      * SELECT clause for data addresses.
      */
@@ -154,6 +170,14 @@ public interface AssetStatements {
      */
     SqlQueryStatement createQuery(QuerySpec query);
 
+    /**
+     * Generates a single SQL query selecting the assets matched by each of the given lists of criteria. Every row
+     * contains the index of the list that selected it in the {@link #getSelectorIndexColumn()} column.
+     *
+     * @return A {@link SqlQueryStatement} that contains the SQL and statement parameters
+     */
+    SqlQueryStatement createBatchQuery(List<List<Criterion>> selectors);
+
     /**
      * Select single asset by ID
      */
@@ -16,12 +16,15 @@ package org.eclipse.dataspaceconnector.sql.assetindex.schema;
 
 
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.result.Result;
 import org.eclipse.dataspaceconnector.sql.dialect.BaseSqlDialect;
 import org.eclipse.dataspaceconnector.sql.translation.SqlConditionExpression;
 import org.eclipse.dataspaceconnector.sql.translation.SqlQueryStatement;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -69,6 +72,13 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 getPropertyAssetIdFkColumn());
     }
 
+    @Override
+    public String getFindPropertiesByIdsTemplate() {
+        return format("SELECT * FROM %s WHERE %s IN (%%s)",
+                getAssetPropertyTable(),
+                getPropertyAssetIdFkColumn());
+    }
+
     @Override
     public String getFindDataAddressByIdTemplate() {
         return format("SELECT * FROM %s WHERE %s = ?",
@@ -102,19 +112,48 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return BaseSqlDialect.getJsonCastOperator();
     }
 
+    /**
+     * Assets are sorted by the value of the property named by the sort field, which is joined from the property table.
+     * As the property values are stored as text, they are sorted as text, then by asset id. If the query has a cursor,
+     * a row value comparison seeks directly to the page.
+     */
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        var conditions = querySpec.getFilterExpression().stream().map(SqlConditionExpression::new).collect(Collectors.toList());
-        var results = conditions.stream().map(SqlConditionExpression::isValidExpression).collect(Collectors.toList());
-
-        if (results.stream().anyMatch(Result::failed)) {
-            var message = results.stream().flatMap(r -> r.getFailureMessages().stream()).collect(Collectors.joining(", "));
-            throw new IllegalArgumentException(message);
-        }
+        var conditions = toConditions(querySpec.getFilterExpression());
         var subSelects = conditions.stream().map(this::toSubSelect).collect(Collectors.toList());
+        var params = new ArrayList<Object>();
+
+        var select = getSelectAssetTemplate();
+        var sortField = querySpec.getSortField();
+        var direction = querySpec.getSortOrder() == SortOrder.DESC ? "DESC" : "ASC";
+        var orderBy = new ArrayList<String>();
+        if (sortField != null) {
+            select += format(" LEFT JOIN %s AS s ON s.%s = a.%s AND s.%s = ?", getAssetPropertyTable(), getPropertyAssetIdFkColumn(), getAssetIdColumn(), getAssetPropertyColumnName());
+            params.add(sortField);
+            orderBy.add(format("s.%s %s", getAssetPropertyColumnValue(), direction));
+        }
+        conditions.stream().flatMap(SqlConditionExpression::toStatementParameter).forEach(params::add);
+
+        if (querySpec.getCursor() != null) {
+            var cursor = QueryCursor.decode(querySpec.getCursor());
+            var operator = querySpec.getSortOrder() == SortOrder.DESC ? "<" : ">";
+            if (sortField != null) {
+                subSelects.add(format("(s.%s, a.%s) %s (?, ?)", getAssetPropertyColumnValue(), getAssetIdColumn(), operator));
+                params.add(cursor.getSortValue() != null ? cursor.getSortValue().toString() : null);
+            } else {
+                subSelects.add(format("a.%s %s ?", getAssetIdColumn(), operator));
+            }
+            params.add(cursor.getId());
+        }
+        // the asset id makes the order total, so that the pages do not overlap
+        if (!orderBy.isEmpty() || querySpec.getCursor() != null) {
+            orderBy.add(format("a.%s %s", getAssetIdColumn(), direction));
+        }
 
-        var query = getSelectAssetTemplate() + " " + concatSubSelects(subSelects);
-        var params = conditions.stream().flatMap(SqlConditionExpression::toStatementParameter).collect(Collectors.toList());
+        var query = select + " " + concatSubSelects(subSelects);
+        if (!orderBy.isEmpty()) {
+            query += " ORDER BY " + String.join(", ", orderBy);
+        }
 
         var stmt = new SqlQueryStatement(query);
         params.forEach(stmt::addParameter);
@@ -123,6 +162,25 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return stmt;
     }
 
+    @Override
+    public SqlQueryStatement createBatchQuery(List<List<Criterion>> selectors) {
+        var selects = new ArrayList<String>();
+        var params = new ArrayList<Object>();
+        for (var i = 0; i < selectors.size(); i++) {
+            var conditions = toConditions(selectors.get(i));
+            var subSelects = conditions.stream().map(this::toSubSelect).collect(Collectors.toList());
+            // the selector index is generated, not user input, so it can safely be inlined
+            selects.add(format("SELECT %d AS %s, a.* FROM %s AS a %s", i, getSelectorIndexColumn(), getAssetTable(), concatSubSelects(subSelects)));
+            conditions.stream().flatMap(SqlConditionExpression::toStatementParameter).forEach(params::add);
+        }
+
+        var stmt = new SqlQueryStatement(String.join(" UNION ALL ", selects));
+        params.forEach(stmt::addParameter);
+        stmt.addParameter(Integer.MAX_VALUE);
+        stmt.addParameter(0);
+        return stmt;
+    }
+
     @Override
     public String getSelectAssetByIdTemplate() {
         return format("SELECT * FROM %s WHERE %s=?", getAssetTable(), getAssetIdColumn());
@@ -138,6 +196,20 @@ public class BaseSqlDialectStatements implements AssetStatements {
         return format(" WHERE %s", String.join(" AND ", subSelects));
     }
 
+    /**
+     * Converts the criteria into condition expressions, throwing an {@link IllegalArgumentException} if any is invalid.
+     */
+    private List<SqlConditionExpression> toConditions(List<Criterion> criteria) {
+        var conditions = criteria.stream().map(SqlConditionExpression::new).collect(Collectors.toList());
+        var results = conditions.stream().map(SqlConditionExpression::isValidExpression).collect(Collectors.toList());
+
+        if (results.stream().anyMatch(Result::failed)) {
+            var message = results.stream().flatMap(r -> r.getFailureMessages().stream()).collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(message);
+        }
+        return conditions;
+    }
+
     /**
      * Converts a {@linkplain Criterion} into a dynamically assembled SELECT statement.
      */
@@ -176,6 +176,23 @@ abstract class AssetIndexTest {
         assertThat(assetsFound).usingRecursiveFieldByFieldElementComparator().containsExactly(asset);
     }
 
+    @Test
+    @DisplayName("Query assets with several selector expressions at once")
+    void batchQueryAssets() {
+        var assets = IntStream.rangeClosed(1, 3).mapToObj(i -> getAsset("id" + i)).collect(Collectors.toList());
+        assets.forEach(asset -> getAssetIndex().accept(asset, getDataAddress()));
+
+        var assetsFound = getAssetIndex().batchQueryAssets(List.of(
+                AssetSelectorExpression.Builder.newInstance().constraint(Asset.PROPERTY_ID, "in", List.of("id1", "id2")).build(),
+                AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_ID, "notexist").build(),
+                AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_ID, "id2").build()));
+
+        assertThat(assetsFound).hasSize(3);
+        assertThat(assetsFound.get(0)).extracting(Asset::getId).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(assetsFound.get(1)).isEmpty();
+        assertThat(assetsFound.get(2)).usingRecursiveFieldByFieldElementComparator().containsExactly(assets.get(1));
+    }
+
     @Test
     @DisplayName("Query assets with query spec")
     void queryAsset_querySpec() {
@@ -19,7 +19,9 @@ import org.eclipse.dataspaceconnector.common.util.junit.annotations.PostgresqlDb
 import org.eclipse.dataspaceconnector.common.util.postgres.PostgresqlLocalInstance;
 import org.eclipse.dataspaceconnector.policy.model.PolicyRegistrationTypes;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.transaction.NoopTransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
@@ -38,6 +40,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -132,6 +135,31 @@ class PostgresAssetIndexTest extends AssetIndexTest {
 
     }
 
+    @Test
+    void query_allAssets_spanningSeveralPropertyBatches() {
+        var allAssets = createAssets(1200);
+        var query = QuerySpec.Builder.newInstance().limit(2000).build();
+
+        assertThat(sqlAssetIndex.queryAssets(query)).hasSize(1200)
+                .usingRecursiveFieldByFieldElementComparator().containsExactlyInAnyOrderElementsOf(allAssets);
+    }
+
+    @Test
+    void query_withCursor() {
+        IntStream.range(0, 7).forEach(i -> sqlAssetIndex.accept(createAssetBuilder("id" + i).property("group", "group" + i % 2).build(), createDataAddress("test-type")));
+
+        var ids = new ArrayList<String>();
+        String cursor = null;
+        do {
+            var spec = QuerySpec.Builder.newInstance().sortField("group").sortOrder(SortOrder.DESC).limit(3).cursor(cursor).build();
+            var page = sqlAssetIndex.queryAssets(spec).collect(Collectors.toList());
+            page.forEach(asset -> ids.add(asset.getId()));
+            cursor = QueryCursor.next(spec, page, Asset::getId, asset -> asset.getProperty("group"));
+        } while (cursor != null);
+
+        assertThat(ids).containsExactly("id5", "id3", "id1", "id6", "id4", "id2", "id0");
+    }
+
     @Test
     void query_byAssetProperty_leftOperandNotExist() {
         createAssets(5);
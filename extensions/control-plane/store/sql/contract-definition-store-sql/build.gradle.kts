@@ -29,6 +29,7 @@ dependencies {
 
     testImplementation(project(":extensions:common:junit"))
     testImplementation(project(":core:common:policy-evaluator"))
+    testImplementation(project(":extensions:common:transaction:transaction-local"))
     testImplementation("org.assertj:assertj-core:${assertj}")
     testImplementation(testFixtures(project(":common:util")))
     testImplementation("org.postgresql:postgresql:${postgresVersion}")
@@ -41,6 +41,7 @@ import javax.sql.DataSource;
 
 import static java.lang.String.format;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.readAll;
 
 public class SqlContractDefinitionStore implements ContractDefinitionStore {
 
@@ -60,13 +61,15 @@ public class SqlContractDefinitionStore implements ContractDefinitionStore {
 
     @Override
     public @NotNull Stream<ContractDefinition> findAll(QuerySpec spec) {
+        // the rows are streamed only in a transaction of the caller, as the connection is released when the outermost transaction ends
+        var streamed = transactionContext.isTransactionActive();
         return transactionContext.execute(() -> {
             Objects.requireNonNull(spec);
 
-            try (var connection = getConnection()) {
+            try {
                 var queryStmt = statements.createQuery(spec);
-                var definitions = executeQuery(connection, this::mapResultSet, queryStmt.getQueryAsString(), queryStmt.getParameters());
-                return definitions.stream();
+                var definitions = executeQuery(getConnection(), true, this::mapResultSet, queryStmt.getQueryAsString(), queryStmt.getParameters());
+                return streamed ? definitions : readAll(definitions);
             } catch (SQLException exception) {
                 throw new EdcPersistenceException(exception);
             }
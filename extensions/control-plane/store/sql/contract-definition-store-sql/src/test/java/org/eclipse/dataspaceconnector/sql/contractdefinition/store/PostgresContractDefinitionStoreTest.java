@@ -19,15 +19,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.dataspaceconnector.common.util.junit.annotations.PostgresqlDbIntegrationTest;
 import org.eclipse.dataspaceconnector.common.util.postgres.PostgresqlLocalInstance;
 import org.eclipse.dataspaceconnector.policy.model.PolicyRegistrationTypes;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.transaction.NoopTransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
+import org.eclipse.dataspaceconnector.sql.SqlQueryExecutor;
 import org.eclipse.dataspaceconnector.sql.contractdefinition.store.schema.BaseSqlDialectStatements;
 import org.eclipse.dataspaceconnector.sql.contractdefinition.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.dataspaceconnector.transaction.local.LocalDataSourceRegistry;
+import org.eclipse.dataspaceconnector.transaction.local.LocalTransactionContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +69,8 @@ class PostgresContractDefinitionStoreTest extends ContractDefinitionStoreTest {
     private static final String POSTGRES_DATABASE = "itest";
     private TransactionContext transactionContext;
     private Connection connection;
+    private PGSimpleDataSource dataSource;
+    private TypeManager typeManager;
     private DataSourceRegistry dataSourceRegistry;
     private BaseSqlDialectStatements statements;
     private SqlContractDefinitionStore sqlContractDefinitionStore;
@@ -78,15 +86,15 @@ class PostgresContractDefinitionStoreTest extends ContractDefinitionStoreTest {
         dataSourceRegistry = mock(DataSourceRegistry.class);
 
 
-        var ds = new PGSimpleDataSource();
-        ds.setServerNames(new String[]{ "localhost" });
-        ds.setPortNumbers(new int[]{ 5432 });
-        ds.setUser(POSTGRES_USER);
-        ds.setPassword(POSTGRES_PASSWORD);
-        ds.setDatabaseName(POSTGRES_DATABASE);
+        dataSource = new PGSimpleDataSource();
+        dataSource.setServerNames(new String[]{ "localhost" });
+        dataSource.setPortNumbers(new int[]{ 5432 });
+        dataSource.setUser(POSTGRES_USER);
+        dataSource.setPassword(POSTGRES_PASSWORD);
+        dataSource.setDatabaseName(POSTGRES_DATABASE);
 
         // do not actually close
-        connection = spy(ds.getConnection());
+        connection = spy(dataSource.getConnection());
         doNothing().when(connection).close();
 
         var datasourceMock = mock(DataSource.class);
@@ -94,10 +102,10 @@ class PostgresContractDefinitionStoreTest extends ContractDefinitionStoreTest {
         when(dataSourceRegistry.resolve(DATASOURCE_NAME)).thenReturn(datasourceMock);
 
         statements = new PostgresDialectStatements();
-        TypeManager manager = new TypeManager();
+        typeManager = new TypeManager();
 
-        manager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
-        sqlContractDefinitionStore = new SqlContractDefinitionStore(dataSourceRegistry, DATASOURCE_NAME, transactionContext, statements, manager);
+        typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+        sqlContractDefinitionStore = new SqlContractDefinitionStore(dataSourceRegistry, DATASOURCE_NAME, transactionContext, statements, typeManager);
         var schema = Files.readString(Paths.get("./docs/schema.sql"));
         try {
             transactionContext.execute(() -> {
@@ -129,6 +137,50 @@ class PostgresContractDefinitionStoreTest extends ContractDefinitionStoreTest {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    @DisplayName("Stream consumed after the transaction of the query has ended")
+    void findAll_consumedWithoutOuterTransaction() {
+        var localTransactionContext = new LocalTransactionContext(mock(Monitor.class));
+        var localDataSourceRegistry = new LocalDataSourceRegistry(localTransactionContext);
+        localDataSourceRegistry.register(DATASOURCE_NAME, dataSource);
+        var store = new SqlContractDefinitionStore(localDataSourceRegistry, DATASOURCE_NAME, localTransactionContext, statements, typeManager);
+        // more rows than fetched at once, so that the driver reads from the connection while the stream is consumed
+        var size = SqlQueryExecutor.DEFAULT_FETCH_SIZE + 1;
+        store.save(getContractDefinitions(size));
+
+        var definitions = store.findAll(QuerySpec.max());
+
+        assertThat(definitions).hasSize(size);
+    }
+
+    @Test
+    @DisplayName("Stream consumed in an outer transaction")
+    void findAll_consumedInOuterTransaction() {
+        var localTransactionContext = new LocalTransactionContext(mock(Monitor.class));
+        var localDataSourceRegistry = new LocalDataSourceRegistry(localTransactionContext);
+        localDataSourceRegistry.register(DATASOURCE_NAME, dataSource);
+        var store = new SqlContractDefinitionStore(localDataSourceRegistry, DATASOURCE_NAME, localTransactionContext, statements, typeManager);
+        var size = SqlQueryExecutor.DEFAULT_FETCH_SIZE + 1;
+        store.save(getContractDefinitions(size));
+
+        var count = localTransactionContext.execute(() -> store.findAll(QuerySpec.max()).count());
+
+        assertThat(count).isEqualTo(size);
+    }
+
+    @Test
+    void findAll_sortedByIdAfterCursor() {
+        sqlContractDefinitionStore.save(getContractDefinitions(5));
+
+        var spec = QuerySpec.Builder.newInstance()
+                .sortField("id")
+                .cursor(new QueryCursor("id1", "id1").encode())
+                .limit(2)
+                .build();
+
+        assertThat(sqlContractDefinitionStore.findAll(spec)).extracting(ContractDefinition::getId).containsExactly("id2", "id3");
+    }
+
     @Test
     void find_queryBySelectorExpression_left() {
         var definitionsExpected = getContractDefinitions(20);
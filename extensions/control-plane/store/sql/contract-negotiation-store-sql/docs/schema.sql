@@ -76,5 +76,9 @@ CREATE INDEX IF NOT EXISTS contract_negotiation_correlationid_index
 CREATE UNIQUE INDEX IF NOT EXISTS contract_negotiation_id_uindex
     ON edc_contract_negotiation (id);
 
+-- serves the state machine polling (nextForState): rows of one state are read in the order of their state timestamp
+CREATE INDEX IF NOT EXISTS contract_negotiation_state_index
+    ON edc_contract_negotiation (state, state_timestamp);
+
 CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
     ON edc_contract_agreement (agr_id);
\ No newline at end of file
@@ -17,6 +17,8 @@ package org.eclipse.dataspaceconnector.sql.contractnegotiation.store;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.observe.Observable;
+import org.eclipse.dataspaceconnector.spi.observe.ObservableImpl;
 import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
@@ -34,15 +36,19 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeBatch;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.readAll;
 
 /**
  * SQL-based implementation of the {@link ContractNegotiationStore}
@@ -56,6 +62,7 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final Observable<Runnable> stateChangeListeners = new ObservableImpl<>();
 
     public SqlContractNegotiationStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, TypeManager manager, ContractNegotiationStatements statements, String connectorId, Clock clock) {
         typeManager = manager;
@@ -104,20 +111,59 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
     @Override
     public void save(ContractNegotiation negotiation) {
         var id = negotiation.getId();
-        transactionContext.execute(() -> {
+        var stateChanged = transactionContext.execute(() -> {
             try (var connection = getConnection()) {
                 var existing = findInternal(connection, id);
                 if (existing == null) {
                     insert(connection, negotiation);
+                    return true;
                 } else {
                     leaseContext.withConnection(connection).breakLease(id);
                     update(connection, id, negotiation);
+                    return existing.getState() != negotiation.getState();
                 }
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
 
+        if (stateChanged) {
+            notifyStateChanged();
+        }
+    }
+
+    /**
+     * Saves multiple negotiations using JDBC batches, so that the number of round trips to the database does not depend
+     * on the number of negotiations. Contract agreements are still stored one by one.
+     */
+    @Override
+    public void saveAll(List<ContractNegotiation> negotiations) {
+        if (negotiations.isEmpty()) {
+            return;
+        }
+        var stateChanged = transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var ids = negotiations.stream().map(ContractNegotiation::getId).collect(Collectors.toList());
+                var existing = findByIds(connection, ids).stream().collect(Collectors.toMap(ContractNegotiation::getId, Function.identity()));
+
+                negotiations.stream().map(ContractNegotiation::getContractAgreement).filter(Objects::nonNull).forEach(this::upsertAgreement);
+
+                var inserted = negotiations.stream().filter(n -> !existing.containsKey(n.getId())).collect(Collectors.toList());
+                executeBatch(connection, statements.getInsertNegotiationTemplate(), inserted.stream().map(this::insertArguments).collect(Collectors.toList()));
+
+                var updated = negotiations.stream().filter(n -> existing.containsKey(n.getId())).collect(Collectors.toList());
+                leaseContext.withConnection(connection).breakLeases(updated.stream().map(ContractNegotiation::getId).collect(Collectors.toList()));
+                executeBatch(connection, statements.getUpdateNegotiationTemplate(), updated.stream().map(n -> updateArguments(n.getId(), n)).collect(Collectors.toList()));
+
+                return !inserted.isEmpty() || updated.stream().anyMatch(n -> existing.get(n.getId()).getState() != n.getState());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+
+        if (stateChanged) {
+            notifyStateChanged();
+        }
     }
 
     @Override
@@ -151,10 +197,13 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
 
     @Override
     public @NotNull Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec) {
+        // the rows are streamed only in a transaction of the caller, as the connection is released when the outermost transaction ends
+        var streamed = transactionContext.isTransactionActive();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try {
                 var statement = statements.createNegotiationsQuery(querySpec);
-                return executeQuery(connection, this::mapContractNegotiation, statement.getQueryAsString(), statement.getParameters()).stream();
+                var negotiations = executeQuery(getConnection(), true, this::mapContractNegotiation, statement.getQueryAsString(), statement.getParameters());
+                return streamed ? negotiations : readAll(negotiations);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -163,12 +212,12 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
 
     @Override
     public @NotNull Stream<ContractAgreement> getAgreementsForDefinitionId(String definitionId) {
+        var streamed = transactionContext.isTransactionActive();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try {
                 var stmt = statements.getFindContractAgreementByDefinitionIdTemplate();
-
-                var contractNegotiation = executeQuery(connection, this::mapContractAgreement, stmt, definitionId + ":%");
-                return contractNegotiation.stream();
+                var agreements = executeQuery(getConnection(), true, this::mapContractAgreement, stmt, definitionId + ":%");
+                return streamed ? agreements : readAll(agreements);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -177,16 +226,31 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
 
     @Override
     public @NotNull Stream<ContractAgreement> queryAgreements(QuerySpec querySpec) {
+        var streamed = transactionContext.isTransactionActive();
         return transactionContext.execute(() -> {
-            try (var connection = getConnection()) {
+            try {
                 var statement = statements.createAgreementsQuery(querySpec);
-                return executeQuery(connection, this::mapContractAgreement, statement.getQueryAsString(), statement.getParameters()).stream();
+                var agreements = executeQuery(getConnection(), true, this::mapContractAgreement, statement.getQueryAsString(), statement.getParameters());
+                return streamed ? agreements : readAll(agreements);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    @Override
+    public void registerStateChangeListener(Runnable listener) {
+        stateChangeListeners.registerListener(listener);
+    }
+
+    /**
+     * Notifies the listeners once the transaction the store call joined is committed, so that the processing they
+     * trigger sees the change.
+     */
+    private void notifyStateChanged() {
+        transactionContext.registerSynchronization(() -> stateChangeListeners.invokeForEach(Runnable::run));
+    }
+
     @Override
     public @NotNull List<ContractNegotiation> nextForState(int state, int max) {
         return transactionContext.execute(() -> {
@@ -194,7 +258,8 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
                 var stmt = statements.getNextForStateTemplate();
                 var negotiations = executeQuery(connection, this::mapContractNegotiation, stmt, state, clock.millis(), max);
 
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                var ids = negotiations.stream().map(ContractNegotiation::getId).collect(Collectors.toList());
+                leaseContext.withConnection(connection).acquireLeases(ids);
                 return negotiations;
 
             } catch (SQLException e) {
@@ -210,6 +275,11 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
         return single(contractNegotiation);
     }
 
+    private List<ContractNegotiation> findByIds(Connection connection, List<String> ids) {
+        var stmt = format(statements.getFindByIdsTemplate(), String.join(",", Collections.nCopies(ids.size(), "?")));
+        return executeQuery(connection, this::mapContractNegotiation, stmt, ids.toArray());
+    }
+
     private void update(Connection connection, String negotiationId, ContractNegotiation updatedValues) {
         var stmt = statements.getUpdateNegotiationTemplate();
 
@@ -217,7 +287,11 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
             upsertAgreement(updatedValues.getContractAgreement());
         }
 
-        executeQuery(connection, stmt,
+        executeQuery(connection, stmt, updateArguments(negotiationId, updatedValues));
+    }
+
+    private Object[] updateArguments(String negotiationId, ContractNegotiation updatedValues) {
+        return new Object[]{
                 updatedValues.getState(),
                 updatedValues.getStateCount(),
                 updatedValues.getStateTimestamp(),
@@ -226,20 +300,24 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
                 toJson(updatedValues.getTraceContext()),
                 ofNullable(updatedValues.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
                 updatedValues.getUpdatedAt(),
-                negotiationId);
+                negotiationId
+        };
     }
 
     private void insert(Connection connection, ContractNegotiation negotiation) {
         // store negotiation
-        String agrId = null;
         var agreement = negotiation.getContractAgreement();
         if (agreement != null) {
-            agrId = agreement.getId();
             upsertAgreement(agreement);
         }
 
         var stmt = statements.getInsertNegotiationTemplate();
-        executeQuery(connection, stmt, negotiation.getId(),
+        executeQuery(connection, stmt, insertArguments(negotiation));
+    }
+
+    private Object[] insertArguments(ContractNegotiation negotiation) {
+        return new Object[]{
+                negotiation.getId(),
                 negotiation.getCorrelationId(),
                 negotiation.getCounterPartyId(),
                 negotiation.getCounterPartyAddress(),
@@ -249,13 +327,12 @@ public class SqlContractNegotiationStore implements ContractNegotiationStore {
                 negotiation.getStateCount(),
                 negotiation.getStateTimestamp(),
                 negotiation.getErrorDetail(),
-                agrId,
+                ofNullable(negotiation.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
                 toJson(negotiation.getContractOffers()),
                 toJson(negotiation.getTraceContext()),
                 negotiation.getCreatedAt(),
-                negotiation.getUpdatedAt());
-
-
+                negotiation.getUpdatedAt()
+        };
     }
 
     private void upsertAgreement(ContractAgreement contractAgreement) {
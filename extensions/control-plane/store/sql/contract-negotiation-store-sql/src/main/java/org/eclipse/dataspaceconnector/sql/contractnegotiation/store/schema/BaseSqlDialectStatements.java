@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.sql.contractnegotiation.store.schema;
 
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.sql.SqlTemplateCache;
 import org.eclipse.dataspaceconnector.sql.dialect.BaseSqlDialect;
 import org.eclipse.dataspaceconnector.sql.translation.SqlQueryStatement;
 
@@ -23,76 +24,98 @@ import static java.lang.String.format;
 /**
  * Provides statements required by the ContractNegotiationStore in generic SQL, that is not specific to a particular
  * database. This class is abstract, because there are some statements that cannot be expressed in a generic way.
+ * Templates are formatted on first use and then cached.
  */
 public class BaseSqlDialectStatements implements ContractNegotiationStatements {
+
+    private final SqlTemplateCache templates = new SqlTemplateCache();
+
     @Override
     public String getFindTemplate() {
-        return format("SELECT * FROM %s LEFT OUTER JOIN %s ON %s.%s = %s.%s WHERE %s.%s = ?;", getContractNegotiationTable(), getContractAgreementTable(),
-                getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementTable(), getContractAgreementIdColumn(), getContractNegotiationTable(), getIdColumn());
+        return templates.get("getFindTemplate", () -> format("SELECT * FROM %s LEFT OUTER JOIN %s ON %s.%s = %s.%s WHERE %s.%s = ?;", getContractNegotiationTable(), getContractAgreementTable(),
+                getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementTable(), getContractAgreementIdColumn(), getContractNegotiationTable(), getIdColumn()));
+    }
+
+    @Override
+    public String getFindByIdsTemplate() {
+        return templates.get("getFindByIdsTemplate", () -> format("SELECT * FROM %s LEFT OUTER JOIN %s ON %s.%s = %s.%s WHERE %s.%s IN (%%s);", getContractNegotiationTable(), getContractAgreementTable(),
+                getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementTable(), getContractAgreementIdColumn(), getContractNegotiationTable(), getIdColumn()));
     }
 
     @Override
     public String getFindContractAgreementTemplate() {
-        return format("SELECT * FROM %s where %s=?;", getContractAgreementTable(), getContractAgreementIdColumn());
+        return templates.get("getFindContractAgreementTemplate", () -> format("SELECT * FROM %s where %s=?;", getContractAgreementTable(), getContractAgreementIdColumn()));
     }
 
     @Override
     public String getFindContractAgreementByDefinitionIdTemplate() {
-        return format("SELECT * FROM %s where %s LIKE ?", getContractAgreementTable(), getContractAgreementIdColumn());
+        return templates.get("getFindContractAgreementByDefinitionIdTemplate", () -> format("SELECT * FROM %s where %s LIKE ?", getContractAgreementTable(), getContractAgreementIdColumn()));
     }
 
     @Override
     public String getUpdateNegotiationTemplate() {
-        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?%s, %s=?, %s=? WHERE id = ?;",
+        return templates.get("getUpdateNegotiationTemplate", () -> format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?%s, %s=?, %s=? WHERE id = ?;",
                 getContractNegotiationTable(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
-                getErrorDetailColumn(), getContractOffersColumn(), getFormatJsonOperator(), getTraceContextColumn(), getFormatJsonOperator(), getContractAgreementIdFkColumn(), getUpdatedAtColumn());
+                getErrorDetailColumn(), getContractOffersColumn(), getFormatJsonOperator(), getTraceContextColumn(), getFormatJsonOperator(), getContractAgreementIdFkColumn(), getUpdatedAtColumn()));
     }
 
     @Override
     public String getInsertNegotiationTemplate() {
-        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s)\n" +
+        return templates.get("getInsertNegotiationTemplate", () -> format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s)\n" +
                         "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?%s, ?%s, ?, ?); ",
                 getContractNegotiationTable(), getIdColumn(), getCorrelationIdColumn(), getCounterPartyIdColumn(), getCounterPartyAddressColumn(), getTypeColumn(), getProtocolColumn(), getStateColumn(), getStateCountColumn(),
                 getStateTimestampColumn(), getErrorDetailColumn(), getContractAgreementIdFkColumn(), getContractOffersColumn(), getTraceContextColumn(), getCreatedAtColumn(), getUpdatedAtColumn(), getFormatJsonOperator(), getFormatJsonOperator()
-        );
+        ));
     }
 
     @Override
     public String getDeleteTemplate() {
-        return format("DELETE FROM %s WHERE %s = ? AND %s IS NULL;", getContractNegotiationTable(), getIdColumn(), getContractAgreementIdFkColumn());
+        return templates.get("getDeleteTemplate", () -> format("DELETE FROM %s WHERE %s = ? AND %s IS NULL;", getContractNegotiationTable(), getIdColumn(), getContractAgreementIdFkColumn()));
     }
 
+    /**
+     * Selects the oldest negotiations in a state that are not leased, or whose lease has expired. The lease is joined on
+     * its primary key, so that the query walks the (state, state timestamp) index and stops at the limit.
+     */
     @Override
     public String getNextForStateTemplate() {
-        return format("SELECT * FROM %s\n" +
-                "WHERE %s=?\n" +
-                "  AND (%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))\n" +
-                "LIMIT ?;", getContractNegotiationTable(), getStateColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
+        return templates.get("getNextForStateTemplate", () -> format("SELECT %s.* FROM %s\n" +
+                        "LEFT OUTER JOIN %s l ON %s.%s = l.%s\n" +
+                        "WHERE %s.%s=?\n" +
+                        "  AND (l.%s IS NULL OR ? > (l.%s + l.%s))\n" +
+                        "ORDER BY %s.%s ASC\n" +
+                        "LIMIT ? %s;", getContractNegotiationTable(), getContractNegotiationTable(),
+                getLeaseTableName(), getContractNegotiationTable(), getLeaseIdColumn(), getLeaseIdColumn(),
+                getContractNegotiationTable(), getStateColumn(),
+                getLeaseIdColumn(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                getContractNegotiationTable(), getStateTimestampColumn(),
+                getNextForStateLockClause()));
     }
 
     @Override
     public String getSelectFromAgreementsTemplate() {
         // todo: add WHERE ... AND ... ORDER BY... statements here
-        return format("SELECT * FROM %s", getContractAgreementTable());
+        return templates.get("getSelectFromAgreementsTemplate", () -> format("SELECT * FROM %s", getContractAgreementTable()));
     }
 
     @Override
     public String getInsertAgreementTemplate() {
-        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?, ?%s);",
+        return templates.get("getInsertAgreementTemplate", () -> format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?, ?%s);",
                 getContractAgreementTable(), getContractAgreementIdColumn(), getProviderAgentColumn(), getConsumerAgentColumn(),
-                getSigningDateColumn(), getStartDateColumn(), getEndDateColumn(), getAssetIdColumn(), getPolicyColumn(), getFormatJsonOperator());
+                getSigningDateColumn(), getStartDateColumn(), getEndDateColumn(), getAssetIdColumn(), getPolicyColumn(), getFormatJsonOperator()));
     }
 
     @Override
     public String getUpdateAgreementTemplate() {
-        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?, %s=?, %s=?%s WHERE %s =?",
+        return templates.get("getUpdateAgreementTemplate", () -> format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?, %s=?, %s=?%s WHERE %s =?",
                 getContractAgreementTable(), getProviderAgentColumn(), getConsumerAgentColumn(), getSigningDateColumn(),
-                getStartDateColumn(), getEndDateColumn(), getAssetIdColumn(), getPolicyColumn(), getFormatJsonOperator(), getContractAgreementIdColumn());
+                getStartDateColumn(), getEndDateColumn(), getAssetIdColumn(), getPolicyColumn(), getFormatJsonOperator(), getContractAgreementIdColumn()));
     }
 
     @Override
     public String getSelectNegotiationsTemplate() {
-        return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
+        return templates.get("getSelectNegotiationsTemplate", () -> format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s",
+                getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn()));
     }
 
     @Override
@@ -117,24 +140,38 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getDeleteLeaseTemplate() {
-        return format("DELETE FROM %s WHERE %s=?", getLeaseTableName(), getLeaseIdColumn());
+        return templates.get("getDeleteLeaseTemplate", () -> format("DELETE FROM %s WHERE %s=?", getLeaseTableName(), getLeaseIdColumn()));
     }
 
     @Override
     public String getInsertLeaseTemplate() {
-        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?);",
-                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+        return templates.get("getInsertLeaseTemplate", () -> format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?);",
+                getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn()));
     }
 
     @Override
     public String getUpdateLeaseTemplate() {
-        return format("UPDATE %s SET %s=? WHERE %s = ?;", getContractNegotiationTable(), getLeaseIdColumn(), getIdColumn());
+        return templates.get("getUpdateLeaseTemplate", () -> format("UPDATE %s SET %s=? WHERE %s = ?;", getContractNegotiationTable(), getLeaseIdColumn(), getIdColumn()));
     }
 
     @Override
     public String getFindLeaseByEntityTemplate() {
-        return format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
-                getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
+        return templates.get("getFindLeaseByEntityTemplate", () -> format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
+                getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn()));
+    }
+
+    @Override
+    public String getFindLeasesByEntitiesTemplate() {
+        return templates.get("getFindLeasesByEntitiesTemplate", () -> format("SELECT l.*, e.%s AS %s FROM %s l JOIN %s e ON e.%s = l.%s WHERE e.%s IN (%%s)",
+                getIdColumn(), getLeasedEntityIdColumn(), getLeaseTableName(), getContractNegotiationTable(), getLeaseIdColumn(), getLeaseIdColumn(), getIdColumn()));
+    }
+
+    /**
+     * Clause appended to the next-for-state query to lock the selected rows until the end of the transaction.
+     * Empty by default.
+     */
+    protected String getNextForStateLockClause() {
+        return "";
     }
 
     /**
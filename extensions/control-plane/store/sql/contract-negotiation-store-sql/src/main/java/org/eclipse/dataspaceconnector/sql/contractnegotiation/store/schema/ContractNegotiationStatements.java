@@ -25,6 +25,12 @@ import org.eclipse.dataspaceconnector.sql.translation.SqlQueryStatement;
 public interface ContractNegotiationStatements extends LeaseStatements {
     String getFindTemplate();
 
+    /**
+     * Selects the negotiations with the given ids. Contains a single {@code %s} placeholder for the list of parameter
+     * markers.
+     */
+    String getFindByIdsTemplate();
+
     String getFindContractAgreementTemplate();
 
     String getFindContractAgreementByDefinitionIdTemplate();
@@ -23,6 +23,7 @@ import org.eclipse.dataspaceconnector.sql.translation.TranslationMapping;
  */
 class ContractNegotiationMapping extends TranslationMapping {
     private static final String FIELD_ID = "id";
+    private static final String FIELD_CREATED_TIMESTAMP = "createdAt";
     private static final String FIELD_CORRELATION_ID = "correlationId";
     private static final String FIELD_COUNTER_PARTY_ID = "counterPartyId";
     private static final String FIELD_COUNTERPARTY_ADDRESS = "counterPartyAddress";
@@ -39,6 +40,7 @@ class ContractNegotiationMapping extends TranslationMapping {
     ContractNegotiationMapping(ContractNegotiationStatements statements) {
         // cannot use Map.of(), because that only accepts 10 pairs
         add(FIELD_ID, statements.getIdColumn());
+        add(FIELD_CREATED_TIMESTAMP, statements.getCreatedAtColumn());
         add(FIELD_CORRELATION_ID, statements.getCorrelationIdColumn());
         add(FIELD_COUNTER_PARTY_ID, statements.getCounterPartyIdColumn());
         add(FIELD_COUNTERPARTY_ADDRESS, statements.getCounterPartyAddressColumn());
@@ -20,6 +20,8 @@ import org.eclipse.dataspaceconnector.sql.contractnegotiation.store.schema.Contr
 import org.eclipse.dataspaceconnector.sql.dialect.PostgresDialect;
 import org.eclipse.dataspaceconnector.sql.translation.SqlQueryStatement;
 
+import static java.lang.String.format;
+
 /**
  * Concrete implementation of the {@link ContractNegotiationStatements} for Postgres. Uses a mapping tree
  * ({@link org.eclipse.dataspaceconnector.sql.translation.TranslationMapping} to generate queries.
@@ -41,6 +43,14 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return new SqlQueryStatement(selectStmt, querySpec, new ContractAgreementMapping(this));
     }
 
+    /**
+     * Rows that are being leased by a concurrent transaction are skipped instead of being leased twice.
+     */
+    @Override
+    protected String getNextForStateLockClause() {
+        return format("FOR UPDATE OF %s SKIP LOCKED", getContractNegotiationTable());
+    }
+
     /**
      * Overridable operator to convert strings to JSON. For postgres, this is the "::json" operator
      */
@@ -38,6 +38,10 @@ import static org.eclipse.dataspaceconnector.sql.contractnegotiation.TestFunctio
 import static org.eclipse.dataspaceconnector.sql.contractnegotiation.TestFunctions.createContractBuilder;
 import static org.eclipse.dataspaceconnector.sql.contractnegotiation.TestFunctions.createNegotiation;
 import static org.eclipse.dataspaceconnector.sql.contractnegotiation.TestFunctions.createNegotiationBuilder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 abstract class ContractNegotiationStoreTest {
     protected static final String CONNECTOR_NAME = "test-connector";
@@ -220,6 +224,31 @@ abstract class ContractNegotiationStoreTest {
         assertThatThrownBy(() -> getContractNegotiationStore().save(newNegotiation)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void saveAll_shouldUpdateExistingAndCreateNew() {
+        var builder = createNegotiationBuilder("id1");
+        getContractNegotiationStore().save(builder.build());
+        getLeaseUtil().leaseEntity("id1", CONNECTOR_NAME);
+        var updated = builder.stateCount(420).state(800).build();
+        var created = createNegotiation("id2", createContract("test-agreement"));
+
+        getContractNegotiationStore().saveAll(List.of(updated, created));
+
+        assertThat(getContractNegotiationStore().find("id1")).usingRecursiveComparison().isEqualTo(updated);
+        assertThat(getContractNegotiationStore().find("id2")).usingRecursiveComparison().isEqualTo(created);
+        assertThat(getContractNegotiationStore().findContractAgreement("test-agreement")).isNotNull();
+        assertThat(getLeaseUtil().isLeased("id1", CONNECTOR_NAME)).isFalse();
+    }
+
+    @Test
+    void saveAll_leasedByOther_shouldThrowException() {
+        var negotiation = createNegotiation("id1");
+        getContractNegotiationStore().save(negotiation);
+        getLeaseUtil().leaseEntity("id1", "someone-else");
+
+        assertThatThrownBy(() -> getContractNegotiationStore().saveAll(List.of(negotiation))).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     @DisplayName("Should persist the agreement when a negotiation is updated")
     void update_addsAgreement_shouldPersist() {
@@ -466,6 +495,20 @@ abstract class ContractNegotiationStoreTest {
 
     }
 
+    @Test
+    @DisplayName("nextForState: verify that the oldest entities are returned first")
+    void nextForState_shouldReturnOldestFirst() {
+        var negotiations = IntStream
+                .range(0, 10)
+                .mapToObj(i -> createNegotiationBuilder(String.valueOf(i)).stateTimestamp(100L - i).build())
+                .collect(Collectors.toList());
+        negotiations.forEach(getContractNegotiationStore()::save);
+
+        var batch = getContractNegotiationStore().nextForState(ContractNegotiationStates.REQUESTED.code(), 3);
+
+        assertThat(batch).extracting(ContractNegotiation::getId).containsExactly("9", "8", "7");
+    }
+
     @Test
     @DisplayName("nextForState: verify that only non-leased entities are returned")
     void nextForState_withLeasedEntity() {
@@ -560,6 +603,23 @@ abstract class ContractNegotiationStoreTest {
         assertThat(getContractNegotiationStore().queryAgreements(QuerySpec.Builder.newInstance().offset(5).limit(100).build())).hasSize(5);
     }
 
+    @Test
+    void stateChangeListener_shouldBeNotifiedOnlyWhenStateChanges() {
+        var listener = mock(Runnable.class);
+        getContractNegotiationStore().registerStateChangeListener(listener);
+        var negotiation = createNegotiation("test-negotiation");
+
+        getContractNegotiationStore().save(negotiation);
+        verify(listener).run();
+
+        getContractNegotiationStore().save(negotiation);
+        verifyNoMoreInteractions(listener);
+
+        negotiation.transitionDeclining();
+        getContractNegotiationStore().save(negotiation);
+        verify(listener, times(2)).run();
+    }
+
     protected abstract SqlContractNegotiationStore getContractNegotiationStore();
 
     protected abstract LeaseUtil getLeaseUtil();
@@ -40,6 +40,7 @@ import java.util.stream.Stream;
 import javax.sql.DataSource;
 
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.readAll;
 
 public class SqlPolicyDefinitionStore implements PolicyDefinitionStore {
 
@@ -69,11 +70,16 @@ public class SqlPolicyDefinitionStore implements PolicyDefinitionStore {
         Objects.requireNonNull(querySpec);
         var queryStatement = statements.createQuery(querySpec);
 
-        try (var connection = getConnection()) {
-            return executeQuery(connection, this::mapResultSet, queryStatement.getQueryAsString(), queryStatement.getParameters()).stream();
-        } catch (Exception exception) {
-            throw new EdcPersistenceException(exception);
-        }
+        // the rows are streamed only in a transaction of the caller, as the connection is released when the outermost transaction ends
+        var streamed = transactionContext.isTransactionActive();
+        return transactionContext.execute(() -> {
+            try {
+                var policies = executeQuery(getConnection(), true, this::mapResultSet, queryStatement.getQueryAsString(), queryStatement.getParameters());
+                return streamed ? policies : readAll(policies);
+            } catch (SQLException exception) {
+                throw new EdcPersistenceException(exception);
+            }
+        });
     }
 
     @Override
@@ -15,10 +15,12 @@
 plugins {
     `java-library`
     `maven-publish`
+    id("me.champeau.jmh")
 }
 
 val assertj: String by project
 val awaitility: String by project
+val h2Version: String by project
 val postgresVersion: String by project
 
 dependencies {
@@ -37,6 +39,13 @@ dependencies {
     testImplementation(testFixtures(project(":common:util")))
     testImplementation("org.postgresql:postgresql:${postgresVersion}")
 
+    jmhImplementation(project(":extensions:common:sql:pool:apache-commons-pool-sql"))
+    jmhImplementation(project(":extensions:common:transaction:transaction-local"))
+    jmhImplementation("com.h2database:h2:${h2Version}")
+}
+
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
 }
 
 publishing {
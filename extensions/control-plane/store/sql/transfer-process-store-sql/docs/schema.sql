@@ -51,6 +51,10 @@ COMMENT ON COLUMN edc_transfer_process.deprovisioned_resources IS 'List of depro
 CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_id_uindex
     ON edc_transfer_process (transferprocess_id);
 
+-- serves the state machine polling (nextForState): rows of one state are read in the order of their state timestamp
+CREATE INDEX IF NOT EXISTS transfer_process_state_index
+    ON edc_transfer_process (state, state_time_stamp);
+
 CREATE TABLE IF NOT EXISTS edc_data_request
 (
     datarequest_id      VARCHAR NOT NULL
@@ -82,6 +86,9 @@ COMMENT ON COLUMN edc_data_request.transfer_type IS 'TransferType serialized as
 CREATE UNIQUE INDEX IF NOT EXISTS data_request_id_uindex
     ON edc_data_request (datarequest_id);
 
+CREATE INDEX IF NOT EXISTS data_request_transfer_process_id_index
+    ON edc_data_request (transfer_process_id);
+
 CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
 
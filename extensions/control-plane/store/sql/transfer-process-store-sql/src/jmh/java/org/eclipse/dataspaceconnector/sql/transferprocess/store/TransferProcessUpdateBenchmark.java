@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.sql.transferprocess.store;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.eclipse.dataspaceconnector.sql.datasource.ConnectionFactoryDataSource;
+import org.eclipse.dataspaceconnector.sql.datasource.ConnectionPoolDataSource;
+import org.eclipse.dataspaceconnector.sql.dialect.BaseSqlDialect;
+import org.eclipse.dataspaceconnector.sql.pool.commons.CommonsConnectionPool;
+import org.eclipse.dataspaceconnector.sql.pool.commons.CommonsConnectionPoolConfig;
+import org.eclipse.dataspaceconnector.sql.transferprocess.store.schema.BaseSqlDialectStatements;
+import org.eclipse.dataspaceconnector.transaction.local.LocalDataSourceRegistry;
+import org.eclipse.dataspaceconnector.transaction.local.LocalTransactionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one update round trip of the transfer process store ({@code find}, then {@code UPDATE} of the process and
+ * of its data request, in one transaction), as the state machine executes it on every state transition. Runs against
+ * an in-memory H2 database, through the local transaction context and a commons connection pool, like a runtime does.
+ * <p>
+ * The {@code statementCacheSize} parameter compares the data source with (64) and without (0) prepared statement
+ * cache. Run with {@code ./gradlew :extensions:control-plane:store:sql:transfer-process-store-sql:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TransferProcessUpdateBenchmark {
+
+    private static final String DATASOURCE_NAME = "transferprocess";
+    private static final String JDBC_URL = "jdbc:h2:mem:transfer_process_benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+    private static final String SCHEMA = "docs/schema.sql";
+
+    @Param({ "0", "64" })
+    private int statementCacheSize;
+
+    private Connection keepAlive;
+    private CommonsConnectionPool connectionPool;
+    private SqlTransferProcessStore store;
+    private TransferProcess process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        keepAlive = DriverManager.getConnection(JDBC_URL);
+        try (var statement = keepAlive.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute(Files.readString(Path.of(SCHEMA)));
+        }
+
+        var config = CommonsConnectionPoolConfig.Builder.newInstance()
+                .testConnectionOnBorrow(false)
+                .testConnectionOnReturn(false)
+                .build();
+        connectionPool = new CommonsConnectionPool(new ConnectionFactoryDataSource(this::createConnection), config);
+
+        var transactionContext = new LocalTransactionContext(new Monitor() { });
+        var dataSourceRegistry = new LocalDataSourceRegistry(transactionContext);
+        dataSourceRegistry.register(DATASOURCE_NAME, new ConnectionPoolDataSource(connectionPool, statementCacheSize));
+
+        store = new SqlTransferProcessStore(dataSourceRegistry, DATASOURCE_NAME, transactionContext, new TypeManager().getMapper(),
+                new H2DialectStatements(), "benchmark", Clock.systemUTC());
+
+        process = createTransferProcess();
+        store.create(process);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connectionPool.close();
+        keepAlive.close();
+    }
+
+    /**
+     * Transitions the process to its current state, which updates its state count and timestamp, and stores it.
+     */
+    @Benchmark
+    public TransferProcess update() {
+        process.transitionInProgress();
+        store.update(process);
+        return process;
+    }
+
+    private Connection createConnection() {
+        try {
+            return DriverManager.getConnection(JDBC_URL);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static TransferProcess createTransferProcess() {
+        var dataRequest = DataRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId("benchmark-process")
+                .connectorAddress("http://provider")
+                .protocol("ids-multipart")
+                .connectorId("provider")
+                .assetId("asset")
+                .contractId("contract")
+                .dataDestination(DataAddress.Builder.newInstance().type("benchmark").build())
+                .build();
+        return TransferProcess.Builder.newInstance()
+                .id("benchmark-process")
+                .type(TransferProcess.Type.CONSUMER)
+                .state(TransferProcessStates.IN_PROGRESS.code())
+                .dataRequest(dataRequest)
+                .build();
+    }
+
+    /**
+     * H2 counterpart of the Postgres statements: JSON values are converted with {@code FORMAT JSON}.
+     */
+    private static class H2DialectStatements extends BaseSqlDialectStatements {
+        @Override
+        public String getFormatAsJsonOperator() {
+            return BaseSqlDialect.getJsonCastOperator();
+        }
+    }
+}
@@ -18,6 +18,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.observe.Observable;
+import org.eclipse.dataspaceconnector.spi.observe.ObservableImpl;
 import org.eclipse.dataspaceconnector.spi.persistence.EdcPersistenceException;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
@@ -39,13 +41,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
 
 import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeBatch;
 import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.executeQuery;
+import static org.eclipse.dataspaceconnector.sql.SqlQueryExecutor.readAll;
 
 /**
  * Implementation of the {@link TransferProcessStore} based on SQL.
@@ -59,6 +65,7 @@ public class SqlTransferProcessStore implements TransferProcessStore {
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
     private final Clock clock;
+    private final Observable<Runnable> stateChangeListeners = new ObservableImpl<>();
 
     public SqlTransferProcessStore(DataSourceRegistry dataSourceRegistry, String datasourceName, TransactionContext transactionContext, ObjectMapper objectMapper, TransferProcessStoreStatements statements, String leaseHolderName, Clock clock) {
         this.dataSourceRegistry = dataSourceRegistry;
@@ -81,7 +88,8 @@ public class SqlTransferProcessStore implements TransferProcessStore {
 
                 var tmpResult = executeQuery(conn, this::mapTransferProcess, stmt, state, now, max);
                 list.addAll(tmpResult);
-                list.forEach(t -> leaseContext.by(leaseHolderName).withConnection(conn).acquireLease(t.getId()));
+                var ids = list.stream().map(TransferProcess::getId).collect(Collectors.toList());
+                leaseContext.by(leaseHolderName).withConnection(conn).acquireLeases(ids);
 
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -94,8 +102,11 @@ public class SqlTransferProcessStore implements TransferProcessStore {
     @Override
     public @Nullable TransferProcess find(String id) {
         return transactionContext.execute(() -> {
-            var q = QuerySpec.Builder.newInstance().filter("id = " + id).build();
-            return single(findAll(q).collect(Collectors.toList()));
+            try (var conn = getConnection()) {
+                return single(findByIds(conn, List.of(id)));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
         });
     }
 
@@ -122,14 +133,20 @@ public class SqlTransferProcessStore implements TransferProcessStore {
         if (process.getDataRequest() == null) {
             throw new IllegalArgumentException("Cannot store TransferProcess without a DataRequest");
         }
-        transactionContext.execute(() -> {
-            if (find(process.getId()) != null) {
-                update(process);
+        var stateChanged = transactionContext.execute(() -> {
+            var existing = find(process.getId());
+            if (existing != null) {
+                updateInternal(process, existing);
+                return existing.getState() != process.getState();
             } else {
                 insert(process);
+                return true;
             }
         });
 
+        if (stateChanged) {
+            notifyStateChanged();
+        }
     }
 
     /**
@@ -140,21 +157,63 @@ public class SqlTransferProcessStore implements TransferProcessStore {
      */
     @Override
     public void update(TransferProcess process) {
-        transactionContext.execute(() -> {
-            String id = process.getId();
-            var existing = find(id);
+        var stateChanged = transactionContext.execute(() -> {
+            var existing = find(process.getId());
 
             if (existing == null) {
                 insert(process);
+                return true;
             } else {
-                try (var conn = getConnection()) {
-                    leaseContext.by(leaseHolderName).withConnection(conn).breakLease(id);
-                    update(conn, process, existing.getDataRequest().getId());
-                } catch (SQLException e) {
-                    throw new EdcPersistenceException(e);
-                }
+                updateInternal(process, existing);
+                return existing.getState() != process.getState();
+            }
+        });
+
+        if (stateChanged) {
+            notifyStateChanged();
+        }
+    }
+
+    /**
+     * Creates or updates multiple {@link TransferProcess}es using JDBC batches, so that the number of round trips to
+     * the database does not depend on the number of processes.
+     *
+     * @param processes The TransferProcesses to store.
+     * @throws IllegalArgumentException if any TransferProcess does not have a {@link DataRequest}.
+     */
+    @Override
+    public void updateAll(List<TransferProcess> processes) {
+        if (processes.isEmpty()) {
+            return;
+        }
+        if (processes.stream().anyMatch(p -> p.getDataRequest() == null)) {
+            throw new IllegalArgumentException("Cannot store TransferProcess without a DataRequest");
+        }
+        var stateChanged = transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                var ids = processes.stream().map(TransferProcess::getId).collect(Collectors.toList());
+                var existing = findByIds(conn, ids).stream().collect(Collectors.toMap(TransferProcess::getId, Function.identity()));
+
+                var inserted = processes.stream().filter(p -> !existing.containsKey(p.getId())).collect(Collectors.toList());
+                executeBatch(conn, statements.getInsertStatement(), inserted.stream().map(this::insertArguments).collect(Collectors.toList()));
+                executeBatch(conn, statements.getInsertDataRequestTemplate(), inserted.stream().map(p -> insertDataRequestArguments(p.getId(), p.getDataRequest())).collect(Collectors.toList()));
+
+                var updated = processes.stream().filter(p -> existing.containsKey(p.getId())).collect(Collectors.toList());
+                leaseContext.by(leaseHolderName).withConnection(conn).breakLeases(updated.stream().map(TransferProcess::getId).collect(Collectors.toList()));
+                executeBatch(conn, statements.getUpdateTransferProcessTemplate(), updated.stream().map(this::updateArguments).collect(Collectors.toList()));
+                executeBatch(conn, statements.getUpdateDataRequestTemplate(), updated.stream()
+                        .map(p -> updateDataRequestArguments(p.getDataRequest(), existing.get(p.getId()).getDataRequest().getId()))
+                        .collect(Collectors.toList()));
+
+                return !inserted.isEmpty() || updated.stream().anyMatch(p -> existing.get(p.getId()).getState() != p.getState());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
             }
         });
+
+        if (stateChanged) {
+            notifyStateChanged();
+        }
     }
 
     @Override
@@ -182,16 +241,32 @@ public class SqlTransferProcessStore implements TransferProcessStore {
 
     @Override
     public Stream<TransferProcess> findAll(QuerySpec querySpec) {
+        // the rows are streamed only in a transaction of the caller, as the connection is released when the outermost transaction ends
+        var streamed = transactionContext.isTransactionActive();
         return transactionContext.execute(() -> {
-            try (var conn = getConnection()) {
+            try {
                 var statement = statements.createQuery(querySpec);
-                return executeQuery(conn, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters()).stream().distinct();
+                var processes = executeQuery(getConnection(), true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters()).distinct();
+                return streamed ? processes : readAll(processes);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
     }
 
+    @Override
+    public void registerStateChangeListener(Runnable listener) {
+        stateChangeListeners.registerListener(listener);
+    }
+
+    /**
+     * Notifies the listeners once the transaction the store call joined is committed, so that the processing they
+     * trigger sees the change.
+     */
+    private void notifyStateChanged() {
+        transactionContext.registerSynchronization(() -> stateChangeListeners.invokeForEach(Runnable::run));
+    }
+
     public DataRequest mapDataRequest(ResultSet resultSet) throws SQLException {
         return DataRequest.Builder.newInstance()
                 .id(resultSet.getString("edc_data_request_id"))
@@ -208,9 +283,26 @@ public class SqlTransferProcessStore implements TransferProcessStore {
                 .build();
     }
 
+    private void updateInternal(TransferProcess process, TransferProcess existing) {
+        try (var conn = getConnection()) {
+            leaseContext.by(leaseHolderName).withConnection(conn).breakLease(process.getId());
+            update(conn, process, existing.getDataRequest().getId());
+        } catch (SQLException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+
     private void update(Connection conn, TransferProcess process, String existingDataRequestId) {
         var updateStmt = statements.getUpdateTransferProcessTemplate();
-        executeQuery(conn, updateStmt, process.getState(),
+        executeQuery(conn, updateStmt, updateArguments(process));
+
+        var newDr = process.getDataRequest();
+        updateDataRequest(conn, newDr, existingDataRequestId);
+    }
+
+    private Object[] updateArguments(TransferProcess process) {
+        return new Object[]{
+                process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
                 toJson(process.getTraceContext()),
@@ -220,16 +312,18 @@ public class SqlTransferProcessStore implements TransferProcessStore {
                 toJson(process.getContentDataAddress()),
                 toJson(process.getDeprovisionedResources()),
                 process.getUpdatedAt(),
-                process.getId());
-
-        var newDr = process.getDataRequest();
-        updateDataRequest(conn, newDr, existingDataRequestId);
+                process.getId()
+        };
     }
 
     private void updateDataRequest(Connection conn, DataRequest dataRequest, String existingDataRequestId) {
         var updateDrStmt = statements.getUpdateDataRequestTemplate();
 
-        executeQuery(conn, updateDrStmt,
+        executeQuery(conn, updateDrStmt, updateDataRequestArguments(dataRequest, existingDataRequestId));
+    }
+
+    private Object[] updateDataRequestArguments(DataRequest dataRequest, String existingDataRequestId) {
+        return new Object[]{
                 dataRequest.getId(),
                 dataRequest.getProcessId(),
                 dataRequest.getConnectorAddress(),
@@ -241,7 +335,13 @@ public class SqlTransferProcessStore implements TransferProcessStore {
                 dataRequest.isManagedResources(),
                 toJson(dataRequest.getProperties()),
                 toJson(dataRequest.getTransferType()),
-                existingDataRequestId);
+                existingDataRequestId
+        };
+    }
+
+    private List<TransferProcess> findByIds(Connection conn, List<String> ids) {
+        var stmt = format(statements.getFindByIdsTemplate(), String.join(",", Collections.nCopies(ids.size(), "?")));
+        return executeQuery(conn, this::mapTransferProcess, stmt, ids.toArray());
     }
 
     /**
@@ -266,19 +366,7 @@ public class SqlTransferProcessStore implements TransferProcessStore {
                 // insert TransferProcess
                 var insertTpStatement = statements.getInsertStatement();
 
-                executeQuery(conn, insertTpStatement, process.getId(),
-                        process.getState(),
-                        process.getStateCount(),
-                        process.getStateTimestamp(),
-                        process.getCreatedAt(),
-                        process.getUpdatedAt(),
-                        toJson(process.getTraceContext()),
-                        process.getErrorDetail(),
-                        toJson(process.getResourceManifest()),
-                        toJson(process.getProvisionedResourceSet()),
-                        toJson(process.getContentDataAddress()),
-                        process.getType().toString(),
-                        toJson(process.getDeprovisionedResources()));
+                executeQuery(conn, insertTpStatement, insertArguments(process));
 
                 //insert DataRequest
                 var dr = process.getDataRequest();
@@ -291,9 +379,31 @@ public class SqlTransferProcessStore implements TransferProcessStore {
         });
     }
 
+    private Object[] insertArguments(TransferProcess process) {
+        return new Object[]{
+                process.getId(),
+                process.getState(),
+                process.getStateCount(),
+                process.getStateTimestamp(),
+                process.getCreatedAt(),
+                process.getUpdatedAt(),
+                toJson(process.getTraceContext()),
+                process.getErrorDetail(),
+                toJson(process.getResourceManifest()),
+                toJson(process.getProvisionedResourceSet()),
+                toJson(process.getContentDataAddress()),
+                process.getType().toString(),
+                toJson(process.getDeprovisionedResources())
+        };
+    }
+
     private void insertDataRequest(String processId, DataRequest dr, Connection conn) {
         var insertDrStmt = statements.getInsertDataRequestTemplate();
-        executeQuery(conn, insertDrStmt,
+        executeQuery(conn, insertDrStmt, insertDataRequestArguments(processId, dr));
+    }
+
+    private Object[] insertDataRequestArguments(String processId, DataRequest dr) {
+        return new Object[]{
                 dr.getId(),
                 dr.getProcessId(),
                 dr.getConnectorAddress(),
@@ -305,7 +415,8 @@ public class SqlTransferProcessStore implements TransferProcessStore {
                 toJson(dr.getTransferType()),
                 processId,
                 dr.getProtocol(),
-                dr.isManagedResources());
+                dr.isManagedResources()
+        };
     }
 
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
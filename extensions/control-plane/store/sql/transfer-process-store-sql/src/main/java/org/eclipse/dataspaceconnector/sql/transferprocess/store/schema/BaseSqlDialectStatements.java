@@ -15,112 +15,144 @@
 package org.eclipse.dataspaceconnector.sql.transferprocess.store.schema;
 
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.sql.SqlTemplateCache;
 import org.eclipse.dataspaceconnector.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.dataspaceconnector.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
 
 /**
- * Postgres-specific variants and implementations of the statements required for the TransferProcessStore
+ * Postgres-specific variants and implementations of the statements required for the TransferProcessStore.
+ * Templates are formatted on first use and then cached, as the store requests them on every call.
  */
 public abstract class BaseSqlDialectStatements implements TransferProcessStoreStatements {
 
     private static final String DELETE_STATEMENT = "DELETE FROM %s WHERE %s = ?;";
 
+    private final SqlTemplateCache templates = new SqlTemplateCache();
+
     @Override
     public String getDeleteLeaseTemplate() {
-        return format(DELETE_STATEMENT, getLeaseTableName(), getLeaseIdColumn());
+        return templates.get("getDeleteLeaseTemplate", () -> format(DELETE_STATEMENT, getLeaseTableName(), getLeaseIdColumn()));
     }
 
     @Override
     public String getInsertLeaseTemplate() {
-        return format("INSERT INTO %s (%s, %s, %s, %s)" +
-                "VALUES (?,?,?,?);", getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn());
+        return templates.get("getInsertLeaseTemplate", () -> format("INSERT INTO %s (%s, %s, %s, %s)" +
+                "VALUES (?,?,?,?);", getLeaseTableName(), getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn()));
     }
 
     @Override
     public String getUpdateLeaseTemplate() {
-        return format("UPDATE %s SET %s=? WHERE %s = ?;", getTransferProcessTableName(), getLeaseIdColumn(), getIdColumn());
+        return templates.get("getUpdateLeaseTemplate", () -> format("UPDATE %s SET %s=? WHERE %s = ?;", getTransferProcessTableName(), getLeaseIdColumn(), getIdColumn()));
     }
 
     @Override
     public String getFindLeaseByEntityTemplate() {
-        return format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
-                getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
+        return templates.get("getFindLeaseByEntityTemplate", () -> format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
+                getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn()));
+    }
+
+    @Override
+    public String getFindLeasesByEntitiesTemplate() {
+        return templates.get("getFindLeasesByEntitiesTemplate", () -> format("SELECT l.*, e.%s AS %s FROM %s l JOIN %s e ON e.%s = l.%s WHERE e.%s IN (%%s)",
+                getIdColumn(), getLeasedEntityIdColumn(), getLeaseTableName(), getTransferProcessTableName(), getLeaseIdColumn(), getLeaseIdColumn(), getIdColumn()));
     }
 
     @Override
     public String getInsertStatement() {
-        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?%s, ?, ?%s, ?%s, ?%s, ?, ?%s);",
+        return templates.get("getInsertStatement", () -> format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?%s, ?, ?%s, ?%s, ?%s, ?, ?%s);",
                 // keys
                 getTransferProcessTableName(), getIdColumn(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
                 getCreatedAtColumn(), getUpdatedAtColumn(),
                 getTraceContextColumn(), getErrorDetailColumn(), getResourceManifestColumn(),
                 getProvisionedResourcesetColumn(), getContentDataAddressColumn(), getTypeColumn(), getDeprovisionedResourcesColumn(),
                 // values
-                getFormatAsJsonOperator(), getFormatAsJsonOperator(), getFormatAsJsonOperator(), getFormatAsJsonOperator(), getFormatAsJsonOperator());
+                getFormatAsJsonOperator(), getFormatAsJsonOperator(), getFormatAsJsonOperator(), getFormatAsJsonOperator(), getFormatAsJsonOperator()));
     }
 
     @Override
     public String getProcessIdForTransferIdTemplate() {
-        return format("SELECT * FROM %s WHERE %s.%s = (SELECT %s FROM %s WHERE %s.%s = ?);",
+        return templates.get("getProcessIdForTransferIdTemplate", () -> format("SELECT * FROM %s WHERE %s.%s = (SELECT %s FROM %s WHERE %s.%s = ?);",
                 getTransferProcessTableName(), getTransferProcessTableName(),
                 getIdColumn(), getTransferProcessIdFkColumn(),
-                getDataRequestTable(), getDataRequestTable(), getProcessIdColumn());
+                getDataRequestTable(), getDataRequestTable(), getProcessIdColumn()));
     }
 
     @Override
     public String getDeleteTransferProcessTemplate() {
-        return format(DELETE_STATEMENT, getTransferProcessTableName(), getIdColumn());
+        return templates.get("getDeleteTransferProcessTemplate", () -> format(DELETE_STATEMENT, getTransferProcessTableName(), getIdColumn()));
     }
 
+    /**
+     * Selects the oldest processes in a state that are not leased, or whose lease has expired. The lease is joined on its
+     * primary key, so that the query walks the (state, state timestamp) index and stops at the limit instead of scanning
+     * all expired leases.
+     */
     @Override
     public String getNextForStateTemplate() {
-        return format("SELECT *, dr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s dr ON %s.%s = dr.transfer_process_id " +
-                        "WHERE %s=? " +
-                        "AND (%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s)))) " +
-                        "ORDER BY %s ASC LIMIT ? ;",
-                getDataRequestIdColumn(), getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(), getStateColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
-                getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(), getStateTimestampColumn());
+        return templates.get("getNextForStateTemplate", () -> format("SELECT %s.*, dr.*, dr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s dr ON %s.%s = dr.transfer_process_id " +
+                        "LEFT OUTER JOIN %s l ON %s.%s = l.%s " +
+                        "WHERE %s.%s=? " +
+                        "AND (l.%s IS NULL OR ? > (l.%s + l.%s)) " +
+                        "ORDER BY %s.%s ASC LIMIT ? %s;",
+                getTransferProcessTableName(), getDataRequestIdColumn(), getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(),
+                getLeaseTableName(), getTransferProcessTableName(), getLeaseIdColumn(), getLeaseIdColumn(),
+                getTransferProcessTableName(), getStateColumn(),
+                getLeaseIdColumn(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                getTransferProcessTableName(), getStateTimestampColumn(), getNextForStateLockClause()));
     }
 
     @Override
     public String getUpdateTransferProcessTemplate() {
-        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?%s, %s=?, %s=?%s, %s=?%s, %s=?%s, %s=?%s, %s=? WHERE %s=?",
+        return templates.get("getUpdateTransferProcessTemplate", () -> format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?%s, %s=?, %s=?%s, %s=?%s, %s=?%s, %s=?%s, %s=? WHERE %s=?",
                 getTransferProcessTableName(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
                 getTraceContextColumn(), getFormatAsJsonOperator(), getErrorDetailColumn(),
                 getResourceManifestColumn(), getFormatAsJsonOperator(), getProvisionedResourcesetColumn(), getFormatAsJsonOperator(),
-                getContentDataAddressColumn(), getFormatAsJsonOperator(), getDeprovisionedResourcesColumn(), getFormatAsJsonOperator(), getUpdatedAtColumn(), getIdColumn());
+                getContentDataAddressColumn(), getFormatAsJsonOperator(), getDeprovisionedResourcesColumn(), getFormatAsJsonOperator(), getUpdatedAtColumn(), getIdColumn()));
     }
 
     @Override
     public String getInsertDataRequestTemplate() {
-        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s)" +
+        return templates.get("getInsertDataRequestTemplate", () -> format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s)" +
                         "VALUES (?, ?, ?, ?, ?, ?, ?%s, ?%s, ?%s, ?, ?, ?);",
                 getDataRequestTable(), getDataRequestIdColumn(), getProcessIdColumn(), getConnectorAddressColumn(), getConnectorIdColumn(),
                 getAssetIdColumn(), getContractIdColumn(), getDataDestinationColumn(),
                 getPropertiesColumn(),
                 getTransferTypeColumn(), getTransferProcessIdFkColumn(), getProtocolColumn(), getManagedResourcesColumn(),
-                getFormatAsJsonOperator(), getFormatAsJsonOperator(), getFormatAsJsonOperator());
+                getFormatAsJsonOperator(), getFormatAsJsonOperator(), getFormatAsJsonOperator()));
     }
 
     @Override
     public String getSelectTemplate() {
-        return String.format("SELECT *, edr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s edr on %s.%s = edr.%s", getDataRequestIdColumn(),
-                getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(), getProcessIdColumn());
+        return templates.get("getSelectTemplate", () -> format("SELECT *, edr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s edr on %s.%s = edr.%s", getDataRequestIdColumn(),
+                getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(), getProcessIdColumn()));
+    }
+
+    @Override
+    public String getFindByIdsTemplate() {
+        return templates.get("getFindByIdsTemplate", () -> format("%s WHERE %s.%s IN (%%s)", getSelectTemplate(), getTransferProcessTableName(), getIdColumn()));
     }
 
     @Override
     public String getUpdateDataRequestTemplate() {
-        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?, %s=?%s, %s=?%s WHERE %s=?",
+        return templates.get("getUpdateDataRequestTemplate", () -> format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?, %s=?%s, %s=?%s WHERE %s=?",
                 getDataRequestTable(),
                 getDataRequestIdColumn(), getProcessIdColumn(), getConnectorAddressColumn(), getProtocolColumn(), getConnectorIdColumn(), getAssetIdColumn(), getContractIdColumn(),
                 getDataDestinationColumn(), getFormatAsJsonOperator(), getManagedResourcesColumn(), getPropertiesColumn(), getFormatAsJsonOperator(), getTransferTypeColumn(), getFormatAsJsonOperator(),
-                getDataRequestIdColumn());
+                getDataRequestIdColumn()));
     }
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this));
     }
+
+    /**
+     * Clause appended to the next-for-state query to lock the selected rows until the end of the transaction.
+     * Empty by default.
+     */
+    protected String getNextForStateLockClause() {
+        return "";
+    }
 }
\ No newline at end of file
@@ -38,6 +38,12 @@ public interface TransferProcessStoreStatements extends LeaseStatements {
 
     String getSelectTemplate();
 
+    /**
+     * Selects the transfer processes with the given ids. Contains a single {@code %s} placeholder for the list of
+     * parameter markers.
+     */
+    String getFindByIdsTemplate();
+
     String getUpdateDataRequestTemplate();
 
     default String getIdColumn() {
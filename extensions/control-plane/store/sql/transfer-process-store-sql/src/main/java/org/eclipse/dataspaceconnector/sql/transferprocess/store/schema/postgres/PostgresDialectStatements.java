@@ -36,6 +36,14 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return PostgresDialect.getJsonCastOperator();
     }
 
+    /**
+     * Rows that are being leased by a concurrent transaction are skipped instead of being leased twice.
+     */
+    @Override
+    protected String getNextForStateLockClause() {
+        return format("FOR UPDATE OF %s SKIP LOCKED", getTransferProcessTableName());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
@@ -22,7 +22,9 @@ import org.eclipse.dataspaceconnector.common.util.junit.annotations.PostgresqlDb
 import org.eclipse.dataspaceconnector.common.util.postgres.PostgresqlLocalInstance;
 import org.eclipse.dataspaceconnector.policy.model.PolicyRegistrationTypes;
 import org.eclipse.dataspaceconnector.spi.query.Criterion;
+import org.eclipse.dataspaceconnector.spi.query.QueryCursor;
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.query.SortOrder;
 import org.eclipse.dataspaceconnector.spi.transaction.NoopTransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.TransactionContext;
 import org.eclipse.dataspaceconnector.spi.transaction.datasource.DataSourceRegistry;
@@ -32,6 +34,8 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResou
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResourceSet;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceDefinition;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceManifest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferType;
 import org.eclipse.dataspaceconnector.sql.lease.LeaseUtil;
 import org.eclipse.dataspaceconnector.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
@@ -47,8 +51,10 @@ import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.sql.DataSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -63,7 +69,9 @@ import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @PostgresqlDbIntegrationTest
@@ -77,6 +85,8 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTest {
     private DataSourceRegistry dataSourceRegistry;
     private LeaseUtil leaseUtil;
     private SqlTransferProcessStore store;
+    private PostgresDialectStatements sqlStatements;
+    private TypeManager manager;
 
     @BeforeAll
     static void prepare() {
@@ -104,8 +114,8 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTest {
         when(datasourceMock.getConnection()).thenReturn(connection);
         when(dataSourceRegistry.resolve(DATASOURCE_NAME)).thenReturn(datasourceMock);
 
-        PostgresDialectStatements sqlStatements = new PostgresDialectStatements();
-        TypeManager manager = new TypeManager();
+        sqlStatements = new PostgresDialectStatements();
+        manager = new TypeManager();
         manager.registerTypes(TestResourceDef.class, TestProvisionedResource.class);
 
         leaseUtil = new LeaseUtil(transactionContext, this::getConnection, sqlStatements, Clock.systemUTC());
@@ -123,6 +133,27 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTest {
         }
     }
 
+    @Test
+    void stateChangeListener_shouldBeNotifiedWhenTheTransactionIsCommitted() {
+        var synchronizations = new ArrayList<TransactionContext.TransactionSynchronization>();
+        var deferringContext = new NoopTransactionContext() {
+            @Override
+            public void registerSynchronization(TransactionSynchronization synchronization) {
+                synchronizations.add(synchronization);
+            }
+        };
+        var deferringStore = new SqlTransferProcessStore(dataSourceRegistry, DATASOURCE_NAME, deferringContext, manager.getMapper(), sqlStatements, "test-connector", Clock.systemUTC());
+        var listener = mock(Runnable.class);
+        deferringStore.registerStateChangeListener(listener);
+
+        deferringStore.create(createTransferProcess("id1"));
+
+        verify(listener, never()).run();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.get(0).afterCommit();
+        verify(listener).run();
+    }
+
     @Test
     void find() {
         var t = createTransferProcess("id1");
@@ -142,6 +173,22 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTest {
         assertThat(store.findAll(QuerySpec.none())).isEmpty();
     }
 
+    @Test
+    void findAll_withCursor() {
+        IntStream.range(0, 7).forEach(i -> store.create(createTransferProcess("id" + i, i % 2 == 0 ? TransferProcessStates.INITIAL : TransferProcessStates.IN_PROGRESS)));
+
+        var ids = new ArrayList<String>();
+        String cursor = null;
+        do {
+            var spec = QuerySpec.Builder.newInstance().sortField("state").sortOrder(SortOrder.DESC).limit(3).cursor(cursor).build();
+            var page = store.findAll(spec).collect(Collectors.toList());
+            page.forEach(tp -> ids.add(tp.getId()));
+            cursor = QueryCursor.next(spec, page, TransferProcess::getId, TransferProcess::getState);
+        } while (cursor != null);
+
+        assertThat(ids).containsExactly("id5", "id3", "id1", "id6", "id4", "id2", "id0");
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
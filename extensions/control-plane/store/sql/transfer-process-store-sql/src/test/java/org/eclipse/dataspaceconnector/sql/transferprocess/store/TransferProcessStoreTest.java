@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.sql.transferprocess.store;
 
 import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceManifest;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
 import org.eclipse.dataspaceconnector.sql.lease.LeaseUtil;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -34,6 +36,10 @@ import static org.eclipse.dataspaceconnector.sql.transferprocess.store.TestFunct
 import static org.eclipse.dataspaceconnector.sql.transferprocess.store.TestFunctions.createTransferProcess;
 import static org.eclipse.dataspaceconnector.sql.transferprocess.store.TestFunctions.createTransferProcessBuilder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 abstract class TransferProcessStoreTest {
     protected static final String CONNECTOR_NAME = "test-connector";
@@ -93,6 +99,35 @@ abstract class TransferProcessStoreTest {
                 .doesNotContainAnyElementsOf(leasedTp);
     }
 
+    @Test
+    void nextForState_shouldReturnItemsWithExpiredLease() throws InterruptedException {
+        var state = TransferProcessStates.IN_PROGRESS;
+        var all = IntStream.range(0, 3)
+                .mapToObj(i -> createTransferProcess("id" + i, state))
+                .peek(getTransferProcessStore()::create)
+                .collect(Collectors.toList());
+        all.forEach(tp -> getLeaseUtil().leaseEntity(tp.getId(), CONNECTOR_NAME, Duration.ofMillis(10)));
+
+        Thread.sleep(50);
+
+        assertThat(getTransferProcessStore().nextForState(state.code(), 10))
+                .hasSize(3)
+                .extracting(TransferProcess::getId)
+                .allMatch(id -> getLeaseUtil().isLeased(id, CONNECTOR_NAME));
+    }
+
+    @Test
+    void nextForState_shouldReturnOldestFirst() {
+        var state = TransferProcessStates.IN_PROGRESS;
+        IntStream.range(0, 10)
+                .mapToObj(i -> createTransferProcessBuilder("id" + i).state(state.code()).stateTimestamp(100L - i).build())
+                .forEach(getTransferProcessStore()::create);
+
+        assertThat(getTransferProcessStore().nextForState(state.code(), 3))
+                .extracting(TransferProcess::getId)
+                .containsExactly("id9", "id8", "id7");
+    }
+
     @Test
     void nextForState_noFreeItem_shouldReturnEmpty() {
         var state = TransferProcessStates.IN_PROGRESS;
@@ -297,6 +332,32 @@ abstract class TransferProcessStoreTest {
 
     }
 
+    @Test
+    void updateAll_shouldUpdateExistingAndCreateNew() {
+        var existing = createTransferProcess("id1", TransferProcessStates.INITIAL);
+        getTransferProcessStore().create(existing);
+        getLeaseUtil().leaseEntity(existing.getId(), CONNECTOR_NAME);
+        existing.transitionProvisioning(ResourceManifest.Builder.newInstance().build());
+        var created = createTransferProcess("id2", TransferProcessStates.INITIAL);
+
+        getTransferProcessStore().updateAll(List.of(existing, created));
+
+        assertThat(getTransferProcessStore().find("id1")).usingRecursiveComparison().isEqualTo(existing);
+        assertThat(getTransferProcessStore().find("id2")).usingRecursiveComparison().isEqualTo(created);
+        assertThat(getLeaseUtil().isLeased("id1", CONNECTOR_NAME)).isFalse();
+    }
+
+    @Test
+    void updateAll_leasedByOther_shouldThrowException() {
+        var t1 = createTransferProcess("id1");
+        getTransferProcessStore().create(t1);
+        getLeaseUtil().leaseEntity(t1.getId(), "someone");
+        var t2 = createTransferProcess("id2");
+        getTransferProcessStore().create(t2);
+
+        assertThatThrownBy(() -> getTransferProcessStore().updateAll(List.of(t1, t2))).isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     void delete() {
         var t1 = createTransferProcess("id1");
@@ -420,6 +481,23 @@ abstract class TransferProcessStoreTest {
                 .containsOnly(t2.getDataRequest());
     }
 
+    @Test
+    void stateChangeListener_shouldBeNotifiedOnlyWhenStateChanges() {
+        var listener = mock(Runnable.class);
+        getTransferProcessStore().registerStateChangeListener(listener);
+        var t1 = createTransferProcess("id1", TransferProcessStates.INITIAL);
+
+        getTransferProcessStore().create(t1);
+        verify(listener).run();
+
+        getTransferProcessStore().update(t1);
+        verifyNoMoreInteractions(listener);
+
+        t1.transitionProvisioning(ResourceManifest.Builder.newInstance().build());
+        getTransferProcessStore().update(t1);
+        verify(listener, times(2)).run();
+    }
+
     protected abstract SqlTransferProcessStore getTransferProcessStore();
 
     protected abstract LeaseUtil getLeaseUtil();
@@ -13,8 +13,10 @@
  *
  */
 
+val bouncycastleVersion: String by project
 val httpMockServer: String by project
 val jerseyVersion: String by project
+val nimbusVersion: String by project
 val okHttpVersion: String by project
 val restAssured: String by project
 val rsApi: String by project
@@ -28,9 +30,13 @@ plugins {
 dependencies {
     api(project(":spi:common:web-spi"))
     implementation(project(":spi:data-plane:data-plane-spi"))
+    implementation(project(":core:common:jwt-core"))
 
     implementation("com.squareup.okhttp3:okhttp:${okHttpVersion}")
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
+    implementation("com.nimbusds:nimbus-jose-jwt:${nimbusVersion}")
+    // Note: nimbus requires bouncycastle for parsing PEM encoded keys
+    implementation("org.bouncycastle:bcpkix-jdk15on:${bouncycastleVersion}")
 
     testImplementation(project(":extensions:common:http"))
     testImplementation(project(":extensions:common:junit"))
@@ -14,20 +14,38 @@
 
 package org.eclipse.dataspaceconnector.dataplane.api;
 
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.RSAKey;
 import okhttp3.OkHttpClient;
 import org.eclipse.dataspaceconnector.dataplane.api.controller.DataPlaneControlApiController;
 import org.eclipse.dataspaceconnector.dataplane.api.controller.DataPlanePublicApiController;
+import org.eclipse.dataspaceconnector.dataplane.api.validation.CachingTokenValidationClient;
+import org.eclipse.dataspaceconnector.dataplane.api.validation.LocalTokenValidationClient;
 import org.eclipse.dataspaceconnector.dataplane.api.validation.TokenValidationClientImpl;
+import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.dataspaceconnector.dataplane.spi.security.DataEncrypter;
+import org.eclipse.dataspaceconnector.dataplane.spi.security.NoopDataEncrypter;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.WebService;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import static java.lang.String.format;
+
 /**
  * This extension provides the Data Plane API:
  * - Control API: set of endpoints to trigger/monitor/cancel data transfers that should be accessible only from the Control Plane.
@@ -37,6 +55,21 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @EdcSetting
     private static final String CONTROL_PLANE_VALIDATION_ENDPOINT = "edc.dataplane.token.validation.endpoint";
 
+    @EdcSetting
+    private static final String TOKEN_VALIDATION_CACHE_SIZE = "edc.dataplane.token.validation.cache.size";
+    private static final int DEFAULT_TOKEN_VALIDATION_CACHE_SIZE = 1000;
+
+    @EdcSetting
+    private static final String TOKEN_VALIDATION_CACHE_TTL_SECONDS = "edc.dataplane.token.validation.cache.ttl.seconds";
+    private static final long DEFAULT_TOKEN_VALIDATION_CACHE_TTL_SECONDS = 60;
+
+    @EdcSetting
+    private static final String PUBLIC_API_THREADS = "edc.dataplane.api.public.threads";
+    private static final int DEFAULT_PUBLIC_API_THREADS = 20;
+
+    @EdcSetting
+    private static final String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.dataplane.token.validation.public.key.alias";
+
     private static final String CONTROL = "control";
     private static final String PUBLIC = "public";
 
@@ -49,6 +82,17 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Inject
     private OkHttpClient httpClient;
 
+    @Inject
+    private Vault vault;
+
+    @Inject
+    private Clock clock;
+
+    @Inject(required = false)
+    private DataEncrypter dataEncrypter;
+
+    private ExecutorService executorService;
+
     @Override
     public String name() {
         return "Data Plane API";
@@ -57,20 +101,71 @@ public class DataPlaneApiExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
-        var typeManager = context.getTypeManager();
 
-        var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
+        var tokenValidationClient = createTokenValidationClient(context);
 
-        var tokenValidationClient = new TokenValidationClientImpl(httpClient, validationEndpoint, typeManager.getMapper(), monitor);
-
-        var executorService = context.getService(ExecutorInstrumentation.class)
-                .instrument(Executors.newSingleThreadExecutor(), DataPlanePublicApiController.class.getSimpleName());
+        // the requests are queued once all the threads are busy streaming responses
+        var threads = context.getSetting(PUBLIC_API_THREADS, DEFAULT_PUBLIC_API_THREADS);
+        executorService = context.getService(ExecutorInstrumentation.class)
+                .instrument(Executors.newFixedThreadPool(threads), DataPlanePublicApiController.class.getSimpleName());
 
         webService.registerResource(CONTROL, new DataPlaneControlApiController(dataPlaneManager));
 
         var publicApiController = new DataPlanePublicApiController(dataPlaneManager, tokenValidationClient, monitor, executorService);
         webService.registerResource(PUBLIC, publicApiController);
     }
-}
 
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates the client validating the tokens received on the public API: the remote validation server by default, or
+     * a local verification with the public key of the control plane if its alias is configured. Validated tokens are
+     * cached unless the cache size is set to 0.
+     */
+    private TokenValidationClient createTokenValidationClient(ServiceExtensionContext context) {
+        var monitor = context.getMonitor();
+        var mapper = context.getTypeManager().getMapper();
+
+        TokenValidationClient client;
+        var publicKeyAlias = context.getSetting(TOKEN_VERIFIER_PUBLIC_KEY_ALIAS, null);
+        if (publicKeyAlias != null) {
+            var publicKeyPem = vault.resolveSecret(publicKeyAlias);
+            Objects.requireNonNull(publicKeyPem, "Failed to resolve public key secret with alias: " + publicKeyAlias);
+            if (dataEncrypter == null) {
+                monitor.warning(format("No %s registered, data addresses contained in tokens are expected to be unencrypted", DataEncrypter.class.getSimpleName()));
+            }
+            var encrypter = dataEncrypter != null ? dataEncrypter : new NoopDataEncrypter();
+            client = new LocalTokenValidationClient(parsePublicKey(publicKeyPem), encrypter, mapper, clock);
+        } else {
+            var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
+            client = new TokenValidationClientImpl(httpClient, validationEndpoint, mapper, monitor);
+        }
+
+        var cacheSize = context.getSetting(TOKEN_VALIDATION_CACHE_SIZE, DEFAULT_TOKEN_VALIDATION_CACHE_SIZE);
+        if (cacheSize <= 0) {
+            return client;
+        }
+        var cacheTtl = Duration.ofSeconds(context.getSetting(TOKEN_VALIDATION_CACHE_TTL_SECONDS, DEFAULT_TOKEN_VALIDATION_CACHE_TTL_SECONDS));
+        return new CachingTokenValidationClient(client, clock, cacheSize, cacheTtl);
+    }
 
+    private static PublicKey parsePublicKey(String pem) {
+        try {
+            var jwk = JWK.parseFromPEMEncodedObjects(pem);
+            if (jwk instanceof RSAKey) {
+                return jwk.toRSAKey().toPublicKey();
+            } else if (jwk instanceof ECKey) {
+                return jwk.toECKey().toPublicKey();
+            } else {
+                throw new EdcException(format("Public key algorithm %s is not supported", jwk.getAlgorithm()));
+            }
+        } catch (JOSEException e) {
+            throw new EdcException(e);
+        }
+    }
+}
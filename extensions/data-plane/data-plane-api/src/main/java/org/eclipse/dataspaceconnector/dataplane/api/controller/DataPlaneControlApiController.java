@@ -26,9 +26,12 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.dataspaceconnector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 
 import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.internalErrors;
+import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.unavailableErrors;
 import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.validationError;
 import static org.eclipse.dataspaceconnector.dataplane.api.response.ResponseFunctions.validationErrors;
 
@@ -48,8 +51,14 @@ public class DataPlaneControlApiController implements DataPlaneControlApi {
         // TODO token authentication
         var result = dataPlaneManager.validate(request);
         if (result.succeeded()) {
-            dataPlaneManager.initiateTransfer(request);
-            response.resume(Response.ok().build());
+            var initiateResult = dataPlaneManager.initiateTransfer(request);
+            if (initiateResult.succeeded()) {
+                response.resume(Response.ok().build());
+            } else if (initiateResult.getFailure().status() == ResponseStatus.ERROR_RETRY) {
+                response.resume(unavailableErrors(initiateResult.getFailureMessages()));
+            } else {
+                response.resume(internalErrors(initiateResult.getFailureMessages()));
+            }
         } else {
             var resp = result.getFailureMessages().isEmpty() ?
                     validationError(format("Failed to validate request: %s", request.getId())) :
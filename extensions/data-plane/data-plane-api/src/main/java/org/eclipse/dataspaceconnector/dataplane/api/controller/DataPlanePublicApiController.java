@@ -31,12 +31,10 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
-import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.OutputStreamDataSink;
 import org.eclipse.dataspaceconnector.spi.exception.NotAuthorizedException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
 
-import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -140,14 +138,22 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return;
         }
 
-        var stream = new ByteArrayOutputStream();
-        var sink = new OutputStreamDataSink(stream, executorService, monitor);
+        var sink = new StreamingResponseDataSink(response, executorService, monitor);
 
         dataPlaneManager.transfer(sink, dataFlowRequest)
                 .whenComplete((result, throwable) -> {
+                    if (!response.isSuspended()) {
+                        // data is already being streamed, the outcome can no longer be reported to the client
+                        if (throwable != null) {
+                            monitor.severe(format("Failed to stream data for request with id: %s", dataFlowRequest.getId()), throwable);
+                        } else if (result.failed()) {
+                            monitor.severe(format("Failed to stream data for request with id: %s: %s", dataFlowRequest.getId(), join(", ", result.getFailureMessages())));
+                        }
+                        return;
+                    }
                     if (throwable == null) {
                         if (result.succeeded()) {
-                            response.resume(Response.ok(stream.toString()).build());
+                            response.resume(Response.ok().build());
                         } else {
                             response.resume(internalErrors(result.getFailureMessages()));
                         }
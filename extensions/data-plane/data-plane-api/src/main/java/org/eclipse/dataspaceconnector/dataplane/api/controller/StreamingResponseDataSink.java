@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.controller;
+
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.CompletionCallback;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.OutputStreamDataSink;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.response.StatusResult;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.ERROR_RETRY;
+
+/**
+ * Streams the source data as the body of an {@link AsyncResponse}.
+ * The response is resumed as soon as the source parts are opened, with the content type of the source, and the data is
+ * written through an {@link OutputStreamDataSink} directly to the response stream, so the payload is never held in memory
+ * and a slow client slows down the read of the source. The parts of a multi-part source are written one after the
+ * other, as they share the response stream.
+ * The returned future completes when the whole content has been written or the response processing terminated.
+ */
+public class StreamingResponseDataSink implements DataSink {
+    private final AsyncResponse response;
+    private final ExecutorService executorService;
+    private final Monitor monitor;
+
+    public StreamingResponseDataSink(AsyncResponse response, ExecutorService executorService, Monitor monitor) {
+        this.response = response;
+        this.executorService = executorService;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> transfer(DataSource source) {
+        List<DataSource.Part> parts;
+        try (var partStream = source.openPartStream()) {
+            parts = partStream.collect(toList());
+        } catch (Exception e) {
+            monitor.severe("Error processing data transfer request", e);
+            return CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "Error processing data transfer request"));
+        }
+
+        var result = new CompletableFuture<StatusResult<Void>>();
+        response.register((CompletionCallback) throwable -> {
+            if (!result.isDone()) {
+                parts.forEach(this::closeQuietly);
+                result.complete(StatusResult.failure(ERROR_RETRY, "Response terminated before the data was transferred"));
+            }
+        });
+
+        StreamingOutput output = outputStream -> {
+            var sink = new OutputStreamDataSink(outputStream, executorService, monitor);
+            var transferResult = StatusResult.success();
+            for (var part : parts) {
+                if (transferResult.succeeded()) {
+                    transferResult = sink.transfer(() -> Stream.of(part)).join();
+                } else {
+                    closeQuietly(part);
+                }
+            }
+            result.complete(transferResult);
+            if (transferResult.failed()) {
+                // the status has already been sent, the response can only be aborted
+                throw new IOException(String.join(", ", transferResult.getFailureMessages()));
+            }
+        };
+
+        var mediaType = parts.size() == 1 ? parts.get(0).mediaType() : DataSource.Part.DEFAULT_MEDIA_TYPE;
+        response.resume(Response.ok(output, mediaType).build());
+        return result;
+    }
+
+    private void closeQuietly(DataSource.Part part) {
+        try {
+            part.close();
+        } catch (Exception e) {
+            monitor.debug("Error closing part " + part.name() + ": " + e.getMessage());
+        }
+    }
+}
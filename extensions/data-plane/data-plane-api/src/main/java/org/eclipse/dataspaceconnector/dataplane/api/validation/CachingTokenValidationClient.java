@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.validation;
+
+import org.eclipse.dataspaceconnector.core.jwt.TokenCache;
+import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Caches the {@link DataAddress} returned by a {@link TokenValidationClient} for successfully validated tokens.
+ * Entries never outlive the token {@code exp} claim nor the configured time-to-live, and the least recently used
+ * entries are evicted once the maximum size is reached. Tokens without an expiration date and failed validations are
+ * never cached.
+ */
+public class CachingTokenValidationClient implements TokenValidationClient {
+
+    private final TokenValidationClient delegate;
+    private final TokenCache<DataAddress> cache;
+
+    public CachingTokenValidationClient(TokenValidationClient delegate, Clock clock, int maxSize, Duration timeToLive) {
+        this.delegate = delegate;
+        this.cache = new TokenCache<>(clock, maxSize, timeToLive);
+    }
+
+    @Override
+    public Result<DataAddress> call(String token) {
+        var cached = cache.get(token, null);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
+        var result = delegate.call(token);
+        if (result.succeeded()) {
+            cache.put(token, null, result.getContent());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
+import org.eclipse.dataspaceconnector.dataplane.spi.security.DataEncrypter;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+
+import java.security.Key;
+import java.text.ParseException;
+import java.time.Clock;
+
+import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.dataplane.spi.DataPlaneConstants.DATA_ADDRESS;
+
+/**
+ * Validates the token locally, by verifying its signature with the public key of the control plane and its expiration
+ * date, then decrypts the {@link DataAddress} contained in its claims. This avoids a call to the control plane for every
+ * request, but the validation rules of the control plane that require its state (e.g. contract validity) are not applied.
+ */
+public class LocalTokenValidationClient implements TokenValidationClient {
+
+    private final Key publicKey;
+    private final DataEncrypter dataEncrypter;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+
+    public LocalTokenValidationClient(Key publicKey, DataEncrypter dataEncrypter, ObjectMapper mapper, Clock clock) {
+        this.publicKey = publicKey;
+        this.dataEncrypter = dataEncrypter;
+        this.mapper = mapper;
+        this.clock = clock;
+    }
+
+    @Override
+    public Result<DataAddress> call(String token) {
+        try {
+            var signedJwt = SignedJWT.parse(token);
+            var verifier = new DefaultJWSVerifierFactory().createJWSVerifier(signedJwt.getHeader(), publicKey);
+            if (!signedJwt.verify(verifier)) {
+                return Result.failure("Token verification failed");
+            }
+
+            var claims = signedJwt.getJWTClaimsSet();
+            var expiration = claims.getExpirationTime();
+            if (expiration == null) {
+                return Result.failure("Missing expiration time in token");
+            }
+            if (!clock.instant().isBefore(expiration.toInstant())) {
+                return Result.failure("Token has expired");
+            }
+
+            var encryptedDataAddress = claims.getClaim(DATA_ADDRESS);
+            if (!(encryptedDataAddress instanceof String)) {
+                return Result.failure(format("Missing claim `%s` in token", DATA_ADDRESS));
+            }
+            return Result.success(mapper.readValue(dataEncrypter.decrypt((String) encryptedDataAddress), DataAddress.class));
+        } catch (ParseException e) {
+            return Result.failure("Failed to decode token");
+        } catch (JOSEException e) {
+            return Result.failure("Failed to verify token: " + e.getMessage());
+        } catch (JsonProcessingException e) {
+            return Result.failure("Failed to read data address from token: " + e.getMessage());
+        }
+    }
+}
@@ -21,6 +21,7 @@ import io.restassured.http.ContentType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.OutputStreamDataSinkFactory;
 import org.eclipse.dataspaceconnector.junit.extensions.EdcExtension;
 import org.eclipse.dataspaceconnector.spi.response.ResponseStatus;
@@ -45,9 +46,13 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.model.MediaType;
 import org.mockserver.verify.VerificationTimes;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static io.restassured.RestAssured.given;
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
@@ -116,6 +121,7 @@ class DataPlaneApiIntegrationTest {
                 .build();
 
         when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(StatusResult.success());
 
         given().port(CONTROL_API_PORT)
                 .when()
@@ -128,6 +134,29 @@ class DataPlaneApiIntegrationTest {
         verify(dataPlaneManager).initiateTransfer(isA(DataFlowRequest.class));
     }
 
+    @Test
+    void controlApi_should_returnServiceUnavailable_if_dataPlaneIsSaturated() {
+        var errorMsg = "test error message";
+        var flowRequest = DataFlowRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(testDestAddress())
+                .destinationDataAddress(testDestAddress())
+                .build();
+
+        when(dataPlaneManager.validate(isA(DataFlowRequest.class))).thenReturn(Result.success(Boolean.TRUE));
+        when(dataPlaneManager.initiateTransfer(isA(DataFlowRequest.class))).thenReturn(StatusResult.failure(ResponseStatus.ERROR_RETRY, errorMsg));
+
+        given().port(CONTROL_API_PORT)
+                .when()
+                .contentType(ContentType.JSON)
+                .body(flowRequest)
+                .post("/control/transfer")
+                .then()
+                .statusCode(Response.Status.SERVICE_UNAVAILABLE.getStatusCode())
+                .body("errors", CoreMatchers.equalTo(List.of(errorMsg)));
+    }
+
     @Test
     void controlApi_should_returnBadRequest_if_requestIsInValid() {
         var errorMsg = "test error message";
@@ -286,6 +315,72 @@ class DataPlaneApiIntegrationTest {
                 });
     }
 
+    @Test
+    void publicApi_should_streamBinaryDataWithSourceContentType() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        var content = new byte[256 * 1024];
+        new Random().nextBytes(content);
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenAnswer(invocation -> {
+                    DataSink sink = invocation.getArgument(0);
+                    return sink.transfer(() -> Stream.of(new TestPart(content, "image/png")));
+                });
+
+        var body = given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .contentType("image/png")
+                .extract().asByteArray();
+
+        assertThat(body).isEqualTo(content);
+    }
+
+    @Test
+    void publicApi_should_streamPartsOneAfterTheOther() throws JsonProcessingException {
+        var token = UUID.randomUUID().toString();
+        var first = new byte[256 * 1024];
+        var second = new byte[256 * 1024];
+        new Random().nextBytes(first);
+        new Random().nextBytes(second);
+        tokenValidationServer.when(new HttpRequest().withHeader(AUTHORIZATION, token), once())
+                .respond(new HttpResponse()
+                        .withStatusCode(200)
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(MAPPER.writeValueAsString(testDestAddress()))
+                );
+        when(dataPlaneManager.validate(any())).thenReturn(Result.success(true));
+        when(dataPlaneManager.transfer(any(DataSink.class), any()))
+                .thenAnswer(invocation -> {
+                    DataSink sink = invocation.getArgument(0);
+                    return sink.transfer(() -> Stream.of(new TestPart(first, "image/png"), new TestPart(second, "image/png")));
+                });
+
+        var body = given()
+                .port(PUBLIC_API_PORT)
+                .header(AUTHORIZATION, token)
+                .when()
+                .get("/public/any")
+                .then()
+                .statusCode(Response.Status.OK.getStatusCode())
+                .extract().asByteArray();
+
+        var expected = new byte[first.length + second.length];
+        System.arraycopy(first, 0, expected, 0, first.length);
+        System.arraycopy(second, 0, expected, first.length, second.length);
+        assertThat(body).isEqualTo(expected);
+    }
+
     private DataAddress testDestAddress() {
         return DataAddress.Builder.newInstance().type("test").build();
     }
@@ -297,4 +392,29 @@ class DataPlaneApiIntegrationTest {
             context.registerService(DataPlaneManager.class, dataPlaneManager);
         }
     }
+
+    private static class TestPart implements DataSource.Part {
+        private final byte[] content;
+        private final String mediaType;
+
+        TestPart(byte[] content, String mediaType) {
+            this.content = content;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public String mediaType() {
+            return mediaType;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(content);
+        }
+    }
 }
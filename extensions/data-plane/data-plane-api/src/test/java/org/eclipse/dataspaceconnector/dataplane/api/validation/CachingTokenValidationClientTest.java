@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.validation;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataspaceconnector.dataplane.spi.api.TokenValidationClient;
+import org.eclipse.dataspaceconnector.spi.result.Result;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingTokenValidationClientTest {
+
+    private static final Instant NOW = Instant.now();
+    private static final byte[] SECRET = UUID.randomUUID().toString().repeat(2).getBytes();
+
+    private final TokenValidationClient delegate = mock(TokenValidationClient.class);
+    private final DataAddress address = DataAddress.Builder.newInstance().type("test").build();
+
+    @BeforeEach
+    void setUp() {
+        when(delegate.call(any())).thenReturn(Result.success(address));
+    }
+
+    @Test
+    void call_shouldCacheValidatedToken() throws Exception {
+        var client = new CachingTokenValidationClient(delegate, Clock.fixed(NOW, ZoneOffset.UTC), 10, Duration.ofMinutes(5));
+        var token = createToken(NOW.plusSeconds(60));
+
+        assertThat(client.call(token).getContent()).isEqualTo(address);
+        assertThat(client.call(token).getContent()).isEqualTo(address);
+
+        verify(delegate, times(1)).call(token);
+    }
+
+    @Test
+    void call_shouldNotServeEntryAfterTokenExpiration() throws Exception {
+        var now = new AtomicReference<>(NOW);
+        var clock = clock(now);
+        var client = new CachingTokenValidationClient(delegate, clock, 10, Duration.ofMinutes(5));
+        var token = createToken(NOW.plusSeconds(60));
+
+        client.call(token);
+        now.set(NOW.plusSeconds(30));
+        client.call(token);
+        now.set(NOW.plusSeconds(61));
+        client.call(token);
+
+        verify(delegate, times(2)).call(token);
+    }
+
+    @Test
+    void call_shouldNotServeEntryAfterTimeToLive() throws Exception {
+        var now = new AtomicReference<>(NOW);
+        var clock = clock(now);
+        var client = new CachingTokenValidationClient(delegate, clock, 10, Duration.ofSeconds(10));
+        var token = createToken(NOW.plusSeconds(60));
+
+        client.call(token);
+        now.set(NOW.plusSeconds(5));
+        client.call(token);
+        now.set(NOW.plusSeconds(11));
+        client.call(token);
+
+        verify(delegate, times(2)).call(token);
+    }
+
+    @Test
+    void call_shouldNotCacheFailures() throws Exception {
+        var client = new CachingTokenValidationClient(delegate, Clock.fixed(NOW, ZoneOffset.UTC), 10, Duration.ofMinutes(5));
+        var token = createToken(NOW.plusSeconds(60));
+        when(delegate.call(token)).thenReturn(Result.failure("invalid"));
+
+        assertThat(client.call(token).failed()).isTrue();
+        assertThat(client.call(token).failed()).isTrue();
+
+        verify(delegate, times(2)).call(token);
+    }
+
+    @Test
+    void call_shouldNotCacheTokenWithoutExpiration() {
+        var client = new CachingTokenValidationClient(delegate, Clock.fixed(NOW, ZoneOffset.UTC), 10, Duration.ofMinutes(5));
+        var token = "opaque-token";
+
+        client.call(token);
+        client.call(token);
+
+        verify(delegate, times(2)).call(token);
+    }
+
+    @Test
+    void call_shouldEvictLeastRecentlyUsedEntries() throws Exception {
+        var client = new CachingTokenValidationClient(delegate, Clock.fixed(NOW, ZoneOffset.UTC), 2, Duration.ofMinutes(5));
+        var first = createToken(NOW.plusSeconds(60));
+        var second = createToken(NOW.plusSeconds(61));
+        var third = createToken(NOW.plusSeconds(62));
+
+        client.call(first);
+        client.call(second);
+        client.call(first);
+        client.call(third);
+        client.call(first);
+        client.call(second);
+
+        verify(delegate, times(1)).call(first);
+        verify(delegate, times(2)).call(second);
+        verify(delegate, times(1)).call(third);
+    }
+
+    private String createToken(Instant expiration) throws Exception {
+        var claims = new JWTClaimsSet.Builder()
+                .jwtID(UUID.randomUUID().toString())
+                .expirationTime(Date.from(expiration))
+                .build();
+        var jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        jwt.sign(new MACSigner(SECRET));
+        return jwt.serialize();
+    }
+
+    private Clock clock(AtomicReference<Instant> now) {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        return clock;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.api.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.dataspaceconnector.dataplane.spi.security.DataEncrypter;
+import org.eclipse.dataspaceconnector.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.dataplane.spi.DataPlaneConstants.DATA_ADDRESS;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalTokenValidationClientTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Instant NOW = Instant.now();
+
+    private final DataEncrypter encrypter = mock(DataEncrypter.class);
+    private RSAKey key;
+    private LocalTokenValidationClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        key = new RSAKeyGenerator(2048).generate();
+        client = new LocalTokenValidationClient(key.toPublicKey(), encrypter, MAPPER, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void call_shouldReturnDecryptedDataAddress() throws Exception {
+        var address = DataAddress.Builder.newInstance().type("test").property("foo", "bar").build();
+        when(encrypter.decrypt("encrypted")).thenReturn(MAPPER.writeValueAsString(address));
+
+        var result = client.call(createToken(key, NOW.plusSeconds(60), "encrypted"));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getType()).isEqualTo("test");
+        assertThat(result.getContent().getProperty("foo")).isEqualTo("bar");
+    }
+
+    @Test
+    void call_shouldFail_ifSignedWithAnotherKey() throws Exception {
+        var result = client.call(createToken(new RSAKeyGenerator(2048).generate(), NOW.plusSeconds(60), "encrypted"));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("Token verification failed");
+    }
+
+    @Test
+    void call_shouldFail_ifTokenExpired() throws Exception {
+        when(encrypter.decrypt(anyString())).thenReturn("{}");
+
+        var result = client.call(createToken(key, NOW.minusSeconds(1), "encrypted"));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("Token has expired");
+    }
+
+    @Test
+    void call_shouldFail_ifDataAddressClaimIsMissing() throws Exception {
+        var result = client.call(createToken(key, NOW.plusSeconds(60), null));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("Missing claim `dad` in token");
+    }
+
+    @Test
+    void call_shouldFail_ifTokenCannotBeParsed() {
+        var result = client.call("not-a-jwt");
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("Failed to decode token");
+    }
+
+    private String createToken(RSAKey signingKey, Instant expiration, String encryptedDataAddress) throws Exception {
+        var claims = new JWTClaimsSet.Builder()
+                .expirationTime(Date.from(expiration))
+                .claim(DATA_ADDRESS, encryptedDataAddress)
+                .build();
+        var jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner(signingKey.toPrivateKey()));
+        return jwt.serialize();
+    }
+}
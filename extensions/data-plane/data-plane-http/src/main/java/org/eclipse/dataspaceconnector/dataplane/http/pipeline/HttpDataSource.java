@@ -17,19 +17,27 @@ package org.eclipse.dataspaceconnector.dataplane.http.pipeline;
 
 import dev.failsafe.RetryPolicy;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static dev.failsafe.Failsafe.with;
 import static java.lang.String.format;
 
+/**
+ * Streams the body of an HTTP response. The response is kept open until the part stream is read or the part is closed.
+ * If the endpoint accepts byte ranges, the part supports random access through ranged GET requests.
+ */
 public class HttpDataSource implements DataSource {
+    private static final int PARTIAL_CONTENT = 206;
+
     private String name;
     private HttpRequestParams params;
     private String requestId;
@@ -42,20 +50,26 @@ public class HttpDataSource implements DataSource {
     }
 
     private HttpPart getPart() {
-        try (var response = with(retryPolicy).get(() -> httpClient.newCall(params.toRequest()).execute())) {
-            var body = response.body();
-            var stringBody = body != null ? body.string() : null;
-            if (stringBody == null) {
-                throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
-            }
-            if (response.isSuccessful()) {
-                return new HttpPart(name, stringBody.getBytes());
-            } else {
-                throw new EdcException(format("Received code transferring HTTP data for request %s: %s - %s. %s", requestId, response.code(), response.message(), stringBody));
+        var request = params.toRequest();
+        var response = execute(request);
+        var body = response.body();
+        if (body == null) {
+            response.close();
+            throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
+        }
+        if (!response.isSuccessful()) {
+            try (response) {
+                throw new EdcException(format("Received code transferring HTTP data for request %s: %s - %s. %s", requestId, response.code(), response.message(), body.string()));
+            } catch (IOException e) {
+                throw new EdcException(e);
             }
-        } catch (IOException e) {
-            throw new EdcException(e);
         }
+        var randomAccess = "GET".equals(request.method()) && "bytes".equalsIgnoreCase(response.header("Accept-Ranges")) && body.contentLength() >= 0;
+        return new HttpPart(request, response, randomAccess);
+    }
+
+    private Response execute(Request request) {
+        return with(retryPolicy).get(() -> httpClient.newCall(request).execute());
     }
 
     private HttpDataSource() {
@@ -105,13 +119,15 @@ public class HttpDataSource implements DataSource {
         }
     }
 
-    private static class HttpPart implements Part {
-        private final String name;
-        private final byte[] content;
+    private class HttpPart implements Part {
+        private final Request request;
+        private final Response response;
+        private final boolean randomAccess;
 
-        HttpPart(String name, byte[] content) {
-            this.name = name;
-            this.content = content;
+        HttpPart(Request request, Response response, boolean randomAccess) {
+            this.request = request;
+            this.response = response;
+            this.randomAccess = randomAccess;
         }
 
         @Override
@@ -121,13 +137,50 @@ public class HttpDataSource implements DataSource {
 
         @Override
         public long size() {
-            return content.length;
+            return Objects.requireNonNull(response.body()).contentLength();
         }
 
+        @Override
+        public String mediaType() {
+            return Optional.ofNullable(response.header("Content-Type")).orElse(DEFAULT_MEDIA_TYPE);
+        }
+
+        /**
+         * Returns the response body stream, closing it releases the response.
+         */
         @Override
         public InputStream openStream() {
-            return new ByteArrayInputStream(content);
+            return Objects.requireNonNull(response.body()).byteStream();
         }
 
+        @Override
+        public boolean supportsRandomAccess() {
+            return randomAccess;
+        }
+
+        @Override
+        public byte[] read(long offset, long bytes) {
+            if (!randomAccess) {
+                throw new UnsupportedOperationException("Random access not supported");
+            }
+            var rangeRequest = request.newBuilder()
+                    .header("Range", format("bytes=%d-%d", offset, offset + bytes - 1))
+                    .build();
+            try (var rangeResponse = execute(rangeRequest)) {
+                var body = rangeResponse.body();
+                if (rangeResponse.code() != PARTIAL_CONTENT || body == null) {
+                    throw new EdcException(format("Received code transferring HTTP data range %d-%d for request %s: %s - %s",
+                            offset, offset + bytes - 1, requestId, rangeResponse.code(), rangeResponse.message()));
+                }
+                return body.bytes();
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
     }
 }
@@ -36,8 +36,8 @@ public class NonChunkedTransferRequestBody extends RequestBody {
     private final String contentType;
 
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
-        try {
-            this.bytes = contentSupplier.get().readAllBytes();
+        try (var is = contentSupplier.get()) {
+            this.bytes = is.readAllBytes();
         } catch (IOException e) {
             //do nothing
         }
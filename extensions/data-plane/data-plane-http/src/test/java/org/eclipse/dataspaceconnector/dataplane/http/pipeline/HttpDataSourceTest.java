@@ -21,6 +21,9 @@ import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +34,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static okhttp3.Protocol.HTTP_1_1;
@@ -96,6 +100,75 @@ class HttpDataSourceTest {
         verify(params).toRequest();
     }
 
+    @Test
+    void verifyResponseIsStreamedAndClosedWithThePartStream() throws IOException {
+        var content = "Test content";
+        var closed = new AtomicBoolean();
+        var source = new Buffer().writeUtf8(content);
+        var responseBody = ResponseBody.create(Okio.buffer(new ForwardingSource(source) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        }), MediaType.parse("text/plain"), content.length());
+        var params = mock(HttpRequestParams.class);
+        when(params.toRequest()).thenReturn(new Request.Builder().url(url).get().build());
+        var dataSource = defaultBuilder(new CustomInterceptor(200, responseBody, "Test message")).params(params).build();
+
+        var part = dataSource.openPartStream().findFirst().orElseThrow();
+
+        assertThat(closed).isFalse();
+        assertThat(part.size()).isEqualTo(content.length());
+        try (var is = part.openStream()) {
+            assertThat(new String(is.readAllBytes())).isEqualTo(content);
+        }
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void verifyRangedReadWhenServerAcceptsRanges() {
+        var content = "0123456789";
+        var requests = new ArrayList<Request>();
+        Interceptor interceptor = chain -> {
+            requests.add(chain.request());
+            var range = chain.request().header("Range");
+            var builder = new Response.Builder().request(chain.request()).protocol(HTTP_1_1).message("ok").header("Accept-Ranges", "bytes");
+            if (range == null) {
+                return builder.code(200).body(ResponseBody.create(content, MediaType.parse("text/plain"))).build();
+            }
+            var bounds = range.substring("bytes=".length()).split("-");
+            var partial = content.substring(Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) + 1);
+            return builder.code(206).body(ResponseBody.create(partial, MediaType.parse("text/plain"))).build();
+        };
+        var params = mock(HttpRequestParams.class);
+        when(params.toRequest()).thenReturn(new Request.Builder().url(url).get().build());
+        var dataSource = defaultBuilder(interceptor).params(params).build();
+
+        try (var part = dataSource.openPartStream().findFirst().orElseThrow()) {
+            assertThat(part.supportsRandomAccess()).isTrue();
+            assertThat(part.size()).isEqualTo(content.length());
+            assertThat(new String(part.read(3, 4))).isEqualTo("3456");
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).header("Range")).isEqualTo("bytes=3-6");
+    }
+
+    @Test
+    void verifyNoRandomAccessWhenServerDoesNotAcceptRanges() {
+        var params = mock(HttpRequestParams.class);
+        when(params.toRequest()).thenReturn(new Request.Builder().url(url).get().build());
+        var interceptor = new CustomInterceptor(200, ResponseBody.create("content", MediaType.parse("text/plain")), "Test message");
+        var dataSource = defaultBuilder(interceptor).params(params).build();
+
+        var part = dataSource.openPartStream().findFirst().orElseThrow();
+
+        assertThat(part.supportsRandomAccess()).isFalse();
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> part.read(0, 1));
+    }
+
     private HttpDataSource.Builder defaultBuilder(Interceptor interceptor) {
         var retryPolicy = RetryPolicy.builder().withMaxAttempts(1).build();
         var httpClient = testOkHttpClient().newBuilder().addInterceptor(interceptor).build();
@@ -16,15 +16,36 @@ package org.eclipse.dataspaceconnector.aws.dataplane.s3;
 
 import org.eclipse.dataspaceconnector.aws.s3.core.AwsClientProvider;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.system.ExecutorInstrumentation;
 import org.eclipse.dataspaceconnector.spi.system.Inject;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import static java.lang.String.format;
+
 public class DataPlaneS3Extension implements ServiceExtension {
 
+    @EdcSetting(value = "The size in MB of the chunks uploaded as parts of a multipart upload, between 5 and 2047")
+    private static final String SINK_CHUNK_SIZE_MB = "edc.dataplane.aws.sink.chunk.size.mb";
+    private static final int DEFAULT_SINK_CHUNK_SIZE_MB = S3DataSinkFactory.DEFAULT_CHUNK_SIZE_MB;
+    // S3 requires parts of at least 5 MB, and chunks are buffered in byte arrays, which caps them below the 5 GB S3 limit
+    private static final int MIN_SINK_CHUNK_SIZE_MB = 5;
+    private static final int MAX_SINK_CHUNK_SIZE_MB = 2047;
+
+    @EdcSetting(value = "The maximum number of parts of the same object uploaded concurrently")
+    private static final String SINK_MAX_CONCURRENT_UPLOADS = "edc.dataplane.aws.sink.max.concurrent.uploads";
+    private static final int DEFAULT_SINK_MAX_CONCURRENT_UPLOADS = 4;
+
+    @EdcSetting(value = "The number of threads uploading the parts of all the objects written to S3")
+    private static final String SINK_UPLOAD_THREADS = "edc.dataplane.aws.sink.upload.threads";
+    private static final int DEFAULT_SINK_UPLOAD_THREADS = 16;
+
     @Inject
     private PipelineService pipelineService;
 
@@ -34,6 +55,12 @@ public class DataPlaneS3Extension implements ServiceExtension {
     @Inject
     private Vault vault;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService executorService;
+    private ExecutorService uploadExecutor;
+
     @Override
     public String name() {
         return "Data Plane S3 Storage";
@@ -41,14 +68,40 @@ public class DataPlaneS3Extension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var executorService = Executors.newFixedThreadPool(10); // TODO make configurable
+        executorService = executorInstrumentation.instrument(Executors.newFixedThreadPool(10), "S3DataSink"); // TODO make configurable
 
         var monitor = context.getMonitor();
 
         var sourceFactory = new S3DataSourceFactory(awsClientProvider);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new S3DataSinkFactory(awsClientProvider, executorService, monitor, vault, context.getTypeManager());
+        var chunkSizeBytes = chunkSizeBytes(context.getSetting(SINK_CHUNK_SIZE_MB, DEFAULT_SINK_CHUNK_SIZE_MB));
+        var maxConcurrentUploads = context.getSetting(SINK_MAX_CONCURRENT_UPLOADS, DEFAULT_SINK_MAX_CONCURRENT_UPLOADS);
+        // uploads run on their own pool, as the transfers block on them from the sink executor
+        var uploadThreads = context.getSetting(SINK_UPLOAD_THREADS, DEFAULT_SINK_UPLOAD_THREADS);
+        uploadExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(uploadThreads), "S3DataSinkUpload");
+        var sinkFactory = new S3DataSinkFactory(awsClientProvider, executorService, uploadExecutor, chunkSizeBytes, maxConcurrentUploads,
+                monitor, vault, context.getTypeManager());
         pipelineService.registerFactory(sinkFactory);
     }
+
+    /**
+     * Converts the chunk size setting to bytes, rejecting the sizes that S3 or the chunk buffers cannot handle.
+     */
+    static int chunkSizeBytes(int chunkSizeMb) {
+        if (chunkSizeMb < MIN_SINK_CHUNK_SIZE_MB || chunkSizeMb > MAX_SINK_CHUNK_SIZE_MB) {
+            throw new EdcException(format("The %s setting must be between %s and %s, was %s", SINK_CHUNK_SIZE_MB, MIN_SINK_CHUNK_SIZE_MB, MAX_SINK_CHUNK_SIZE_MB, chunkSizeMb));
+        }
+        return Math.toIntExact(chunkSizeMb * 1024L * 1024L);
+    }
+
+    @Override
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+        if (uploadExecutor != null) {
+            uploadExecutor.shutdownNow();
+        }
+    }
 }
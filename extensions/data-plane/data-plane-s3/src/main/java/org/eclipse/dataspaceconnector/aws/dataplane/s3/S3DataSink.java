@@ -16,10 +16,12 @@ package org.eclipse.dataspaceconnector.aws.dataplane.s3;
 
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.ParallelSink;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.response.StatusResult;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -27,61 +29,75 @@ import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
-import java.nio.ByteBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.dataspaceconnector.spi.response.ResponseStatus.FATAL_ERROR;
 
+/**
+ * Writes the parts as multipart uploads. Chunks are read into a pool of reusable buffers and uploaded on the upload
+ * executor, keeping up to {@code maxConcurrentUploads} {@code uploadPart} calls in flight for each object. The multipart
+ * upload is aborted if any of its chunks fails. An empty part is written with a single put, as S3 rejects multipart
+ * uploads without parts.
+ */
 class S3DataSink extends ParallelSink {
 
     private S3Client client;
     private String bucketName;
     private String keyName;
     private int chunkSize;
+    private int maxConcurrentUploads = 1;
+    private Executor uploadExecutor = Runnable::run;
 
     private S3DataSink() {}
 
     @Override
     protected StatusResult<Void> transferParts(List<DataSource.Part> parts) {
         for (var part : parts) {
-            try (var input = part.openStream()) {
+            try (var input = new PushbackInputStream(part.openStream())) {
 
-                var partNumber = 1;
-                var completedParts = new ArrayList<CompletedPart>();
+                var first = input.read();
+                if (first == -1) {
+                    client.putObject(PutObjectRequest.builder().bucket(bucketName).key(keyName).build(), RequestBody.empty());
+                    continue;
+                }
+                input.unread(first);
 
                 var uploadId = client.createMultipartUpload(CreateMultipartUploadRequest.builder()
                         .bucket(bucketName)
                         .key(keyName)
                         .build()).uploadId();
 
-                while (true) {
-                    var bytesChunk = input.readNBytes(chunkSize);
-
-                    if (bytesChunk.length < 1) {
-                        break;
-                    }
-
-                    completedParts.add(CompletedPart.builder().partNumber(partNumber)
-                            .eTag(client.uploadPart(UploadPartRequest.builder()
-                                .bucket(bucketName)
-                                .key(keyName)
-                                .uploadId(uploadId)
-                                .partNumber(partNumber)
-                                .build(), RequestBody.fromByteBuffer(ByteBuffer.wrap(bytesChunk))).eTag()).build());
-                    partNumber++;
-                }
+                try {
+                    var completedParts = uploadChunks(input, uploadId);
 
-                client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
-                        .bucket(bucketName)
-                        .key(keyName)
-                        .uploadId(uploadId)
-                        .multipartUpload(CompletedMultipartUpload.builder()
-                            .parts(completedParts)
-                            .build())
-                        .build());
+                    client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                            .bucket(bucketName)
+                            .key(keyName)
+                            .uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder()
+                                .parts(completedParts)
+                                .build())
+                            .build());
+                } catch (Exception e) {
+                    abort(uploadId);
+                    throw e;
+                }
 
+            } catch (CompletionException e) {
+                return uploadFailure(e.getCause() instanceof Exception ? (Exception) e.getCause() : e, keyName);
             } catch (Exception e) {
                 return uploadFailure(e, keyName);
             }
@@ -90,6 +106,61 @@ class S3DataSink extends ParallelSink {
         return StatusResult.success();
     }
 
+    /**
+     * Reads the input chunk by chunk and uploads every chunk as soon as it is read. Reading blocks while all the
+     * buffers are in use, which bounds both the memory and the number of in-flight uploads, and stops as soon as an
+     * upload has failed.
+     */
+    private List<CompletedPart> uploadChunks(InputStream input, String uploadId) throws IOException {
+        var buffers = new BufferPool(maxConcurrentUploads, chunkSize);
+        var uploads = new ArrayList<CompletableFuture<CompletedPart>>();
+        var failed = new AtomicBoolean();
+        var partNumber = 1;
+
+        while (!failed.get()) {
+            var buffer = buffers.acquire();
+            var length = input.readNBytes(buffer, 0, chunkSize);
+
+            if (length < 1) {
+                buffers.release(buffer);
+                break;
+            }
+
+            var number = partNumber++;
+            uploads.add(CompletableFuture.supplyAsync(() -> uploadPart(uploadId, number, buffer, length), uploadExecutor)
+                    .whenComplete((completedPart, throwable) -> {
+                        buffers.release(buffer);
+                        if (throwable != null) {
+                            failed.set(true);
+                        }
+                    }));
+        }
+
+        return uploads.stream().map(CompletableFuture::join).collect(toList());
+    }
+
+    private CompletedPart uploadPart(String uploadId, int partNumber, byte[] buffer, int length) {
+        var etag = client.uploadPart(UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(keyName)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .build(), RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)).eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(etag).build();
+    }
+
+    private void abort(String uploadId) {
+        try {
+            client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(keyName)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            monitor.warning(format("Error aborting the multipart upload %s of the %s object on the %s bucket: %s", uploadId, keyName, bucketName, e.getMessage()));
+        }
+    }
+
     @Override
     protected StatusResult<Void> complete() {
         var completeKeyName = keyName + ".complete";
@@ -140,7 +211,60 @@ class S3DataSink extends ParallelSink {
             return this;
         }
 
+        public Builder maxConcurrentUploads(int maxConcurrentUploads) {
+            sink.maxConcurrentUploads = maxConcurrentUploads;
+            return this;
+        }
+
+        public Builder uploadExecutor(Executor uploadExecutor) {
+            sink.uploadExecutor = uploadExecutor;
+            return this;
+        }
+
         @Override
-        protected void validate() {}
+        protected void validate() {
+            if (sink.maxConcurrentUploads < 1) {
+                throw new IllegalArgumentException("maxConcurrentUploads must be at least 1");
+            }
+        }
+    }
+
+    /**
+     * Pool of chunk buffers, allocated lazily up to the pool size and reused once released.
+     */
+    private static class BufferPool {
+        private final BlockingQueue<byte[]> available;
+        private final int bufferSize;
+        private final int size;
+        private int allocated;
+
+        BufferPool(int size, int bufferSize) {
+            this.available = new ArrayBlockingQueue<>(size);
+            this.bufferSize = bufferSize;
+            this.size = size;
+        }
+
+        byte[] acquire() {
+            var buffer = available.poll();
+            if (buffer != null) {
+                return buffer;
+            }
+            synchronized (this) {
+                if (allocated < size) {
+                    allocated++;
+                    return new byte[bufferSize];
+                }
+            }
+            try {
+                return available.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EdcException(e);
+            }
+        }
+
+        void release(byte[] buffer) {
+            available.offer(buffer);
+        }
     }
 }
@@ -33,6 +33,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 import software.amazon.awssdk.services.s3.S3Client;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import static org.eclipse.dataspaceconnector.aws.s3.core.S3BucketSchema.ACCESS_KEY_ID;
@@ -42,19 +43,31 @@ import static org.eclipse.dataspaceconnector.aws.s3.core.S3BucketSchema.SECRET_A
 
 public class S3DataSinkFactory implements DataSinkFactory {
 
-    private static final int CHUNK_SIZE_IN_BYTES = 1024 * 1024 * 500; // 500MB chunk size
+    public static final int DEFAULT_CHUNK_SIZE_MB = 50;
+    public static final int DEFAULT_CHUNK_SIZE_BYTES = 1024 * 1024 * DEFAULT_CHUNK_SIZE_MB;
 
     private final ValidationRule<DataAddress> validation = new S3DataAddressValidationRule();
     private final ValidationRule<DataAddress> credentialsValidation = new S3DataAddressCredentialsValidationRule();
     private final AwsClientProvider clientProvider;
     private final ExecutorService executorService;
+    private final Executor uploadExecutor;
+    private final int chunkSizeBytes;
+    private final int maxConcurrentUploads;
     private final Monitor monitor;
     private Vault vault;
     private TypeManager typeManager;
 
     public S3DataSinkFactory(AwsClientProvider clientProvider, ExecutorService executorService, Monitor monitor, Vault vault, TypeManager typeManager) {
+        this(clientProvider, executorService, Runnable::run, DEFAULT_CHUNK_SIZE_BYTES, 1, monitor, vault, typeManager);
+    }
+
+    public S3DataSinkFactory(AwsClientProvider clientProvider, ExecutorService executorService, Executor uploadExecutor, int chunkSizeBytes,
+                             int maxConcurrentUploads, Monitor monitor, Vault vault, TypeManager typeManager) {
         this.clientProvider = clientProvider;
         this.executorService = executorService;
+        this.uploadExecutor = uploadExecutor;
+        this.chunkSizeBytes = chunkSizeBytes;
+        this.maxConcurrentUploads = maxConcurrentUploads;
         this.monitor = monitor;
         this.vault = vault;
         this.typeManager = typeManager;
@@ -100,7 +113,9 @@ public class S3DataSinkFactory implements DataSinkFactory {
             .executorService(executorService)
             .monitor(monitor)
             .client(client)
-            .chunkSizeBytes(CHUNK_SIZE_IN_BYTES)
+            .chunkSizeBytes(chunkSizeBytes)
+            .maxConcurrentUploads(maxConcurrentUploads)
+            .uploadExecutor(uploadExecutor)
             .build();
     }
 
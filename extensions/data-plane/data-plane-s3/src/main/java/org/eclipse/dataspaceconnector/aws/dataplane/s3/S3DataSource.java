@@ -22,6 +22,8 @@ import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import java.io.InputStream;
 import java.util.stream.Stream;
 
+import static java.lang.String.format;
+
 class S3DataSource implements DataSource {
 
     private String bucketName;
@@ -62,6 +64,21 @@ class S3DataSource implements DataSource {
             var request = GetObjectRequest.builder().key(keyName).bucket(bucketName).build();
             return client.getObject(request);
         }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        /**
+         * Reads the segment with a ranged GET, so that segments of the same object can be downloaded in parallel.
+         */
+        @Override
+        public byte[] read(long offset, long bytes) {
+            var range = format("bytes=%d-%d", offset, offset + bytes - 1);
+            var request = GetObjectRequest.builder().key(keyName).bucket(bucketName).range(range).build();
+            return client.getObjectAsBytes(request).asByteArray();
+        }
     }
 
     public static class Builder {
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.aws.dataplane.s3;
 
 import org.eclipse.dataspaceconnector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.dataspaceconnector.junit.extensions.EdcExtension;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.UUID;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 @ExtendWith(EdcExtension.class)
 class DataPlaneS3ExtensionTest {
@@ -39,4 +41,16 @@ class DataPlaneS3ExtensionTest {
 
         assertThat(result.succeeded()).isTrue();
     }
+
+    @Test
+    void chunkSizeBytes_shouldBeComputedWithoutOverflow() {
+        assertThat(DataPlaneS3Extension.chunkSizeBytes(5)).isEqualTo(5 * 1024 * 1024);
+        assertThat(DataPlaneS3Extension.chunkSizeBytes(2047)).isEqualTo(2047 * 1024 * 1024);
+    }
+
+    @Test
+    void chunkSizeBytes_shouldRejectSizesOutOfRange() {
+        assertThatThrownBy(() -> DataPlaneS3Extension.chunkSizeBytes(4)).isInstanceOf(EdcException.class);
+        assertThatThrownBy(() -> DataPlaneS3Extension.chunkSizeBytes(2048)).isInstanceOf(EdcException.class);
+    }
 }
\ No newline at end of file
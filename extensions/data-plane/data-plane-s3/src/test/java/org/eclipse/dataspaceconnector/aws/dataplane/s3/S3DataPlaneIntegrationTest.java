@@ -106,6 +106,61 @@ public class S3DataPlaneIntegrationTest extends AbstractS3Test {
         assertThat(getObject(key + ".complete")).succeedsWithin(5, SECONDS);
     }
 
+    @Test
+    void shouldCopyLargeObjectUploadingChunksConcurrently() {
+        var body = UUID.randomUUID().toString().repeat(12 * 1024 * 1024 / 36);
+        var key = UUID.randomUUID().toString();
+        putStringOnBucket(sourceBucketName, key, body);
+
+        var chunkSize = 5 * 1024 * 1024;
+        var sinkFactory = new S3DataSinkFactory(clientProvider, Executors.newSingleThreadExecutor(), Executors.newCachedThreadPool(), chunkSize, 3,
+                mock(Monitor.class), mock(Vault.class), new TypeManager());
+        var sourceFactory = new S3DataSourceFactory(clientProvider);
+        var request = DataFlowRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(s3Address(sourceBucketName, key))
+                .destinationDataAddress(s3Address(destinationBucketName, key))
+                .build();
+
+        var transferResult = sinkFactory.createSink(request).transfer(sourceFactory.createSource(request));
+
+        assertThat(transferResult).succeedsWithin(30, SECONDS);
+        assertThat(getObject(key)).succeedsWithin(5, SECONDS)
+                .extracting(ResponseBytes::asUtf8String)
+                .isEqualTo(body);
+    }
+
+    @Test
+    void sourceShouldReadRanges() throws Exception {
+        var body = "0123456789";
+        var key = UUID.randomUUID().toString();
+        putStringOnBucket(sourceBucketName, key, body);
+        var request = DataFlowRequest.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .processId(UUID.randomUUID().toString())
+                .sourceDataAddress(s3Address(sourceBucketName, key))
+                .destinationDataAddress(s3Address(destinationBucketName, key))
+                .build();
+
+        try (var part = new S3DataSourceFactory(clientProvider).createSource(request).openPartStream().findFirst().orElseThrow()) {
+            assertThat(part.supportsRandomAccess()).isTrue();
+            assertThat(part.size()).isEqualTo(body.length());
+            assertThat(new String(part.read(3, 4))).isEqualTo("3456");
+        }
+    }
+
+    private DataAddress s3Address(String bucketName, String key) {
+        return DataAddress.Builder.newInstance()
+                .type(S3BucketSchema.TYPE)
+                .keyName(key)
+                .property(BUCKET_NAME, bucketName)
+                .property(S3BucketSchema.REGION, REGION)
+                .property(ACCESS_KEY_ID, getCredentials().accessKeyId())
+                .property(SECRET_ACCESS_KEY, getCredentials().secretAccessKey())
+                .build();
+    }
+
     private CompletableFuture<ResponseBytes<GetObjectResponse>> getObject(String key) {
         var getObjectRequest = GetObjectRequest.builder().bucket(destinationBucketName).key(key).build();
         return clientProvider.s3AsyncClient(REGION)
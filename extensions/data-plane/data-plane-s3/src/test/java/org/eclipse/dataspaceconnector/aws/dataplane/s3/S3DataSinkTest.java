@@ -23,7 +23,9 @@ import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -34,12 +36,14 @@ import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import java.io.ByteArrayInputStream;
 import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.dataspaceconnector.aws.dataplane.s3.TestFunctions.createRequest;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -105,6 +109,70 @@ public class S3DataSinkTest {
         assertThat(completeMultipartUploadRequest.multipartUpload().parts()).hasSize(2);
     }
 
+    @Test
+    void transferParts_emptyPart_putsEmptyObject() {
+        var result = dataSink.transferParts(List.of(new InputStreamDataSource(KEY_NAME, new ByteArrayInputStream(new byte[0]))));
+
+        assertThat(result.succeeded()).isTrue();
+        var putObjectRequestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3ClientMock).putObject(putObjectRequestCaptor.capture(), any(RequestBody.class));
+        assertThat(putObjectRequestCaptor.getValue().bucket()).isEqualTo(BUCKET_NAME);
+        assertThat(putObjectRequestCaptor.getValue().key()).isEqualTo(KEY_NAME);
+        verify(s3ClientMock, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        verify(s3ClientMock, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void transferParts_uploadsChunksConcurrently() {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        when(s3ClientMock.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            UploadPartRequest request = invocation.getArgument(0);
+            return UploadPartResponse.builder().eTag(ETAG + request.partNumber()).build();
+        });
+        var sink = S3DataSink.Builder.newInstance()
+                .bucketName(BUCKET_NAME)
+                .keyName(KEY_NAME)
+                .client(s3ClientMock)
+                .requestId(createRequest(S3BucketSchema.TYPE).build().getId())
+                .executorService(Executors.newFixedThreadPool(2))
+                .monitor(mock(Monitor.class))
+                .chunkSizeBytes(10)
+                .maxConcurrentUploads(3)
+                .uploadExecutor(Executors.newCachedThreadPool())
+                .build();
+
+        var result = sink.transferParts(List.of(new InputStreamDataSource(KEY_NAME, new ByteArrayInputStream(new byte[95]))));
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(maxInFlight.get()).isBetween(2, 3);
+        verify(s3ClientMock).completeMultipartUpload(completeMultipartUploadRequestCaptor.capture());
+        var parts = completeMultipartUploadRequestCaptor.getValue().multipartUpload().parts();
+        assertThat(parts).hasSize(10);
+        assertThat(parts).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(parts).allSatisfy(part -> assertThat(part.eTag()).isEqualTo(ETAG + part.partNumber()));
+    }
+
+    @Test
+    void transferParts_abortsMultipartUpload_whenChunkUploadFails() {
+        when(s3ClientMock.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag(ETAG).build())
+                .thenThrow(SdkException.builder().message("an error").build());
+
+        var result = dataSink.transferParts(
+                List.of(new InputStreamDataSource(KEY_NAME,
+                        new ByteArrayInputStream("content bigger than 50 bytes chunk size so that it gets chunked and uploaded as a multipart upload"
+                                .getBytes(UTF_8)))));
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).allSatisfy(message -> assertThat(message).contains("an error"));
+        verify(s3ClientMock).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3ClientMock, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
     @Test
     void complete_succeedIfPutObjectSucceeds() {
         when(s3ClientMock.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
@@ -118,6 +118,7 @@ include(":extensions:control-plane:provision:http-provisioner")
 include(":extensions:common:sql:lease-sql")
 include(":extensions:common:sql:common-sql")
 include(":extensions:common:sql:pool:apache-commons-pool-sql")
+include(":extensions:common:sql:pool:concurrent-pool-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
 include(":extensions:control-plane:store:sql:asset-index-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
@@ -18,6 +18,8 @@ import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +42,21 @@ public interface AssetIndex extends AssetLoader, DataAddressResolver {
      */
     Stream<Asset> queryAssets(AssetSelectorExpression expression);
 
+    /**
+     * Returns the {@link Asset} objects that are selected by each of the expressions. The default implementation calls
+     * {@link #queryAssets(AssetSelectorExpression)} for every expression, implementations backed by a remote store should
+     * evaluate them with as few round trips as possible.
+     *
+     * @param expressions The selector expressions, see {@link #queryAssets(AssetSelectorExpression)}.
+     * @return One list of assets per expression, in the same order as the expressions. Never null.
+     * @throws NullPointerException if the list is null
+     */
+    default List<List<Asset>> batchQueryAssets(List<AssetSelectorExpression> expressions) {
+        return expressions.stream()
+                .map(expression -> queryAssets(expression).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Finds all assets that are covered by a specific {@link QuerySpec}. Results are always sorted. If no {@link QuerySpec#getSortField()}
      * is specified, results are not explicitly sorted.
@@ -15,6 +15,8 @@
 
 package org.eclipse.dataspaceconnector.spi.command;
 
+import org.eclipse.dataspaceconnector.spi.observe.Observable;
+import org.eclipse.dataspaceconnector.spi.observe.ObservableImpl;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -28,6 +30,7 @@ import java.util.concurrent.BlockingQueue;
 public class BoundedCommandQueue<C extends Command> implements CommandQueue<C> {
 
     private final BlockingQueue<C> queue;
+    private final Observable<Runnable> enqueueListeners = new ObservableImpl<>();
 
     public BoundedCommandQueue(int bound) {
         queue = new ArrayBlockingQueue<>(bound);
@@ -37,6 +40,7 @@ public class BoundedCommandQueue<C extends Command> implements CommandQueue<C> {
     public void enqueue(C element) {
         //add will throw an IllegalStateException if the queue exceeds its capacity
         queue.add(element);
+        enqueueListeners.invokeForEach(Runnable::run);
     }
 
     @Nullable
@@ -62,6 +66,11 @@ public class BoundedCommandQueue<C extends Command> implements CommandQueue<C> {
         return queue.peek();
     }
 
+    @Override
+    public void registerEnqueueListener(Runnable listener) {
+        enqueueListeners.registerListener(listener);
+    }
+
     public int size() {
         return queue.size();
     }
@@ -55,4 +55,13 @@ public interface CommandQueue<C extends Command> {
      */
     @Nullable
     C peek();
+
+    /**
+     * Registers a listener that gets notified every time an element is enqueued. This permits a state machine to process
+     * commands immediately instead of waiting for its next polling iteration.
+     *
+     * @param listener the listener to be notified.
+     */
+    default void registerEnqueueListener(Runnable listener) {
+    }
 }
@@ -9,23 +9,33 @@
  *
  *  Contributors:
  *       Microsoft Corporation - initial API and implementation
+ *       Amadeus - keyset of the previous range
  *
  */
 
 package org.eclipse.dataspaceconnector.spi.message;
 
+import java.util.List;
+
 /**
  * Represents a particular section of a collection of items.
  */
 public class Range {
     public static final String FROM = "from";
     public static final String TO = "to";
+    public static final String AFTER = "after";
     private final int from;
     private final int to;
+    private final List<String> after;
 
     public Range(int from, int to) {
+        this(from, to, List.of());
+    }
+
+    public Range(int from, int to, List<String> after) {
         this.from = from;
         this.to = to;
+        this.after = List.copyOf(after);
     }
 
     /**
@@ -43,11 +53,21 @@ public class Range {
         return from;
     }
 
+    /**
+     * The sort key of the last item of the previous range, empty if there is none. If it is set, the range is counted
+     * from the item following it rather than from the start of the collection, so that the items of the previous
+     * ranges do not need to be enumerated again. The components of the key depend on the collection.
+     */
+    public List<String> getAfter() {
+        return after;
+    }
+
     @Override
     public String toString() {
         return "Range{" +
                 "from " + from +
                 ", to " + to +
+                (after.isEmpty() ? "" : ", after " + after) +
                 '}';
     }
 }
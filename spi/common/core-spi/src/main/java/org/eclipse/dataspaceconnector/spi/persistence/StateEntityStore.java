@@ -46,4 +46,16 @@ public interface StateEntityStore<T> {
     @NotNull
     List<T> nextForState(int state, int max);
 
+    /**
+     * Registers a listener that gets notified when an entity becomes eligible for processing, e.g. because it has been
+     * created or it transitioned to a new state. This permits a state machine to wake up immediately instead of waiting
+     * for its next polling iteration.
+     * <p>
+     * Implementors that are not able to detect these changes can ignore the listener: state machines will still poll the store.
+     *
+     * @param listener the listener to be notified.
+     */
+    default void registerStateChangeListener(Runnable listener) {
+    }
+
 }
@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Position of a page in a result set sorted by {@link QuerySpec#getSortField()} and then by id (keyset pagination).
+ * Stores break ties on the sort field with the id, so that the order is total and the page boundaries are stable.
+ * It holds the sort value and the id of the last item of the previous page, and the next page starts with the items
+ * that sort after it. Unlike an offset, a cursor lets the store seek directly to the page instead of reading and
+ * discarding all the preceding items, and it is not affected by items being inserted in the preceding pages.
+ * <p>
+ * Clients only see the {@link #encode() encoded} form, which must be considered opaque. The sort field must not be
+ * {@code null} on any item, items with a {@code null} sort value are skipped when a cursor is used.
+ */
+public class QueryCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Object sortValue;
+    private final String id;
+
+    public QueryCursor(@Nullable Object sortValue, String id) {
+        this.sortValue = sortValue instanceof Enum ? ((Enum<?>) sortValue).name() : sortValue;
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Decodes a cursor obtained from {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static QueryCursor decode(String cursor) {
+        try {
+            var values = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), List.class);
+            if (values.size() != 2 || !(values.get(1) instanceof String)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new QueryCursor(values.get(0), (String) values.get(1));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Returns the encoded cursor of the page following the given one, or {@code null} if the page is the last one, i.e.
+     * it contains fewer items than the limit of the query, or if the query has no sort field: the first page of a query
+     * without a sort field is not ordered, so the following pages cannot be told apart from it.
+     *
+     * @param querySpec the query the page was obtained with.
+     * @param page the items of the page, in order.
+     * @param id function returning the id of an item.
+     * @param sortValue function returning the value of the sort field of an item.
+     */
+    @Nullable
+    public static <T> String next(QuerySpec querySpec, List<T> page, Function<T, String> id, Function<T, Object> sortValue) {
+        if (querySpec.getSortField() == null || page.isEmpty() || page.size() < querySpec.getLimit()) {
+            return null;
+        }
+        var last = page.get(page.size() - 1);
+        return new QueryCursor(sortValue.apply(last), id.apply(last)).encode();
+    }
+
+    /**
+     * Compares two sort values like they are sorted in memory: numbers by value whatever their type, enums with the
+     * name held by a cursor as that constant, values of the same type by their natural order, and other values by their
+     * string representation.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static int compareValues(Object value1, Object value2) {
+        if (value1 instanceof Number && value2 instanceof Number) {
+            return new BigDecimal(value1.toString()).compareTo(new BigDecimal(value2.toString()));
+        }
+        if (value1 instanceof Enum && value2 instanceof String) {
+            return ((Enum) value1).compareTo(Enum.valueOf(((Enum) value1).getDeclaringClass(), (String) value2));
+        }
+        if (value1 instanceof String && value2 instanceof Enum) {
+            return -compareValues(value2, value1);
+        }
+        if (value1 instanceof Comparable && value2 != null && value1.getClass() == value2.getClass()) {
+            return ((Comparable) value1).compareTo(value2);
+        }
+        return String.valueOf(value1).compareTo(String.valueOf(value2));
+    }
+
+    @Nullable
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Whether an item sorts after the position of this cursor.
+     *
+     * @param itemSortValue the value of the sort field of the item, ignored if the query has no sort field.
+     * @param itemId the id of the item.
+     * @param sorted whether the query has a sort field.
+     * @param sortOrder the sort order of the query.
+     */
+    public boolean precedes(@Nullable Object itemSortValue, String itemId, boolean sorted, SortOrder sortOrder) {
+        int comparison = 0;
+        if (sorted) {
+            if (itemSortValue == null || sortValue == null) {
+                return false;
+            }
+            comparison = compareValues(itemSortValue, sortValue);
+        }
+        if (comparison == 0) {
+            comparison = itemId.compareTo(id);
+        }
+        return sortOrder == SortOrder.DESC ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe string.
+     */
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(new Object[]{ sortValue, id }));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot encode cursor with sort value " + sortValue, e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QueryCursor that = (QueryCursor) o;
+        return Objects.equals(sortValue, that.sortValue) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortValue, id);
+    }
+}
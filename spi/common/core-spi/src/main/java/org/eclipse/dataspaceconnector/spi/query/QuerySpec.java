@@ -34,6 +34,7 @@ public class QuerySpec {
     private List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private String cursor;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -50,9 +51,18 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * The encoded {@link QueryCursor} of the page to return, or {@code null} to return the page at the offset. When a
+     * cursor is set, the results are sorted by the sort field (if any) and then by id, and the offset is applied after
+     * the cursor.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, cursor);
     }
 
     @Override
@@ -64,7 +74,8 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) &&
+                Objects.equals(cursor, querySpec.cursor);
     }
 
     @Override
@@ -75,6 +86,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", cursor=" + cursor +
                 '}';
     }
 
@@ -140,7 +152,9 @@ public class QuerySpec {
         }
 
         public Builder sortOrder(SortOrder sortOrder) {
-            querySpec.sortOrder = sortOrder;
+            if (sortOrder != null) {
+                querySpec.sortOrder = sortOrder;
+            }
             return this;
         }
 
@@ -149,6 +163,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder cursor(String cursor) {
+            querySpec.cursor = cursor;
+            return this;
+        }
+
         public Builder equalsAsContains(boolean equalsAsContains) {
             this.equalsAsContains = equalsAsContains;
             return this;
@@ -161,6 +180,9 @@ public class QuerySpec {
             if (querySpec.limit <= 0) {
                 throw new IllegalArgumentException("limit");
             }
+            if (querySpec.cursor != null) {
+                QueryCursor.decode(querySpec.cursor);
+            }
             return querySpec;
         }
 
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.spi.query;
 
 import org.eclipse.dataspaceconnector.common.reflection.ReflectionUtil;
 
+import java.util.Comparator;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -28,6 +29,8 @@ import static org.eclipse.dataspaceconnector.common.reflection.ReflectionUtil.pr
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String ID_FIELD = "id";
+
     private final Class<T> typeParameterClass;
 
     /**
@@ -43,6 +46,7 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
      * Applies sorting. When sort field is not found returns empty stream.
+     * Sorts the objects with the same sort value by their {@code id} field. Applies the cursor, if any.
      * Applies offset and limit on the query result.
      *
      * @param stream stream to be queried.
@@ -59,13 +63,32 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
         // sort
         var sortField = spec.getSortField();
+        var isAscending = spec.getSortOrder() == SortOrder.ASC;
+        var hasId = ReflectionUtil.getFieldRecursive(typeParameterClass, ID_FIELD) != null;
+
+        // if the sort field doesn't exist on the object -> return empty
+        if (sortField != null && ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+            return Stream.empty();
+        }
 
-        if (sortField != null) {
-            // if the sort field doesn't exist on the object -> return empty
-            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+        // seek to the cursor
+        if (spec.getCursor() != null) {
+            // if the object has no id -> return empty
+            if (!hasId) {
                 return Stream.empty();
             }
-            var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
+            var cursor = QueryCursor.decode(spec.getCursor());
+            filteredStream = filteredStream.filter(item -> cursor.precedes(sortField != null ? ReflectionUtil.getFieldValueSilent(sortField, item) : null,
+                    idOf(item), sortField != null, spec.getSortOrder()));
+        }
+
+        if (sortField != null || spec.getCursor() != null) {
+            Comparator<T> comparator = sortField != null ? propertyComparator(isAscending, sortField) : (item1, item2) -> 0;
+            // the id makes the order total, so that the pages do not overlap
+            if (hasId) {
+                Comparator<T> idComparator = Comparator.comparing(this::idOf);
+                comparator = comparator.thenComparing(isAscending ? idComparator : idComparator.reversed());
+            }
             filteredStream = filteredStream.sorted(comparator);
         }
 
@@ -73,6 +96,10 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private String idOf(T item) {
+        return String.valueOf(ReflectionUtil.<Object>getFieldValueSilent(ID_FIELD, item));
+    }
+
     private Predicate<T> toPredicate(Criterion criterion) {
         BaseCriterionToPredicateConverter<T> predicateConverter = new BaseCriterionToPredicateConverter<>() {
             @Override
@@ -22,6 +22,9 @@ import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class BoundedCommandQueueTest {
 
@@ -48,6 +51,26 @@ class BoundedCommandQueueTest {
     }
 
 
+    @Test
+    void enqueue_shouldNotifyListeners() {
+        var listener = mock(Runnable.class);
+        queue.registerEnqueueListener(listener);
+
+        queue.enqueue(new TestCommand());
+
+        verify(listener).run();
+    }
+
+    @Test
+    void enqueue_queueFull_shouldNotNotifyListeners() {
+        IntStream.range(0, 3).forEach(i -> queue.enqueue(new TestCommand()));
+        var listener = mock(Runnable.class);
+        queue.registerEnqueueListener(listener);
+
+        assertThatThrownBy(() -> queue.enqueue(new TestCommand())).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(listener);
+    }
+
     @Test
     void dequeueSingle_onEmptyQueue_shouldNotBlock() {
         assertThat(queue.dequeue()).isNull();
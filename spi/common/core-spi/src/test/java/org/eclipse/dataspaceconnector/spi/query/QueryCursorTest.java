@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCursorTest {
+
+    @Test
+    void encodeAndDecode() {
+        var cursor = new QueryCursor(1234567890123L, "id:1");
+
+        var decoded = QueryCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSortValue()).isEqualTo(1234567890123L);
+        assertThat(decoded.getId()).isEqualTo("id:1");
+    }
+
+    @Test
+    void encode_enumAsName() {
+        var cursor = QueryCursor.decode(new QueryCursor(SortOrder.DESC, "id").encode());
+
+        assertThat(cursor.getSortValue()).isEqualTo("DESC");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "invalid", "e30", "WyJ2YWx1ZSJd" })
+    void decode_invalid(String cursor) {
+        assertThatThrownBy(() -> QueryCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_notString() {
+        var cursor = Base64.getUrlEncoder().encodeToString("[1, 2]".getBytes());
+
+        assertThatThrownBy(() -> QueryCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void next_fullPage() {
+        var spec = QuerySpec.Builder.newInstance().sortField("length").limit(2).build();
+
+        var next = QueryCursor.next(spec, List.of("a", "bb"), Function.identity(), String::length);
+
+        assertThat(QueryCursor.decode(next)).isEqualTo(new QueryCursor(2, "bb"));
+    }
+
+    @Test
+    void next_lastPage() {
+        var spec = QuerySpec.Builder.newInstance().sortField("length").limit(3).build();
+
+        assertThat(QueryCursor.next(spec, List.of("a", "b"), Function.identity(), String::length)).isNull();
+        assertThat(QueryCursor.next(spec, List.<String>of(), Function.identity(), String::length)).isNull();
+    }
+
+    @Test
+    void next_notSorted() {
+        var spec = QuerySpec.Builder.newInstance().limit(2).build();
+
+        assertThat(QueryCursor.next(spec, List.of("a", "bb"), Function.identity(), String::length)).isNull();
+    }
+
+    @Test
+    void compareValues_enumWithName() {
+        assertThat(QueryCursor.compareValues(SortOrder.ASC, "DESC")).isNegative();
+        assertThat(QueryCursor.compareValues("ASC", SortOrder.ASC)).isZero();
+    }
+
+    @Test
+    void precedes() {
+        var cursor = new QueryCursor(10, "b");
+
+        assertThat(cursor.precedes(10L, "c", true, SortOrder.ASC)).isTrue();
+        assertThat(cursor.precedes(11, "a", true, SortOrder.ASC)).isTrue();
+        assertThat(cursor.precedes(10, "b", true, SortOrder.ASC)).isFalse();
+        assertThat(cursor.precedes(9, "c", true, SortOrder.ASC)).isFalse();
+        assertThat(cursor.precedes(9, "c", true, SortOrder.DESC)).isTrue();
+        assertThat(cursor.precedes(null, "c", true, SortOrder.ASC)).isFalse();
+        assertThat(cursor.precedes(null, "c", false, SortOrder.ASC)).isTrue();
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.spi.query;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -100,6 +101,32 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_cursor() {
+        var items = Stream.concat(
+                IntStream.range(0, 5).mapToObj(i -> new FakeItem(i, "Bob")),
+                IntStream.range(5, 10).mapToObj(i -> new FakeItem(i, "Alice"))).collect(Collectors.toList());
+
+        var result = new ArrayList<FakeItem>();
+        String cursor = null;
+        do {
+            var spec = QuerySpec.Builder.newInstance().sortField("name").limit(3).cursor(cursor).build();
+            var page = queryResolver.query(items.stream(), spec).collect(Collectors.toList());
+            result.addAll(page);
+            cursor = QueryCursor.next(spec, page, item -> String.valueOf(item.getId()), FakeItem::getName);
+        } while (cursor != null);
+
+        assertThat(result).extracting(FakeItem::getId).containsExactly(5, 6, 7, 8, 9, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void verifyQuery_cursorDesc() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        QuerySpec spec = QuerySpec.Builder.newInstance().sortOrder(SortOrder.DESC).cursor(new QueryCursor(null, "7").encode()).limit(2).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(6, 5);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
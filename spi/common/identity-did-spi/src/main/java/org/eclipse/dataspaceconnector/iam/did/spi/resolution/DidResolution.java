@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.iam.did.spi.resolution;
+
+import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A resolved DID document, together with the time for which it may be cached as indicated by its source (e.g. the
+ * {@code Cache-Control} header of a Web DID).
+ */
+public class DidResolution {
+    private final DidDocument document;
+    private final Duration maxAge;
+
+    public DidResolution(@NotNull DidDocument document, @Nullable Duration maxAge) {
+        this.document = document;
+        this.maxAge = maxAge;
+    }
+
+    @NotNull
+    public DidDocument getDocument() {
+        return document;
+    }
+
+    /**
+     * Returns the time for which the document may be cached, {@link Duration#ZERO} if it must not be cached, or null
+     * if the source did not say.
+     */
+    @Nullable
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+}
@@ -35,4 +35,13 @@ public interface DidResolver {
     @NotNull
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves the DID document, together with the time for which it may be cached. Resolvers that know about the
+     * cacheability of the documents they return should override this method.
+     */
+    @NotNull
+    default Result<DidResolution> resolveDocument(String didKey) {
+        return resolve(didKey).map(document -> new DidResolution(document, null));
+    }
+
 }
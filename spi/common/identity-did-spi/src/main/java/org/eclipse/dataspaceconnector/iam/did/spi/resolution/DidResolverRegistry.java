@@ -32,4 +32,11 @@ public interface DidResolverRegistry {
      */
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves a DID document based on the DID method, together with the time for which it may be cached.
+     */
+    default Result<DidResolution> resolveDocument(String didKey) {
+        return resolve(didKey).map(document -> new DidResolution(document, null));
+    }
+
 }
@@ -36,6 +36,26 @@ public interface TransactionContext {
      */
     <T> T execute(ResultTransactionBlock<T> block);
 
+    /**
+     * Returns true if a transaction is active on the current thread, i.e. if a block executed now joins a transaction
+     * that outlives it.
+     * <p>
+     * Implementations that do not support transactions return false.
+     */
+    default boolean isTransactionActive() {
+        return false;
+    }
+
+    /**
+     * Registers a synchronization that is called once the current transaction has been committed, it is not called if
+     * the transaction is rolled back. If no transaction is active, the synchronization is called immediately.
+     * <p>
+     * Implementations that do not support transactions call the synchronization immediately.
+     */
+    default void registerSynchronization(TransactionSynchronization synchronization) {
+        synchronization.afterCommit();
+    }
+
     /**
      * Defines a block of transactional code.
      */
@@ -56,4 +76,13 @@ public interface TransactionContext {
     interface ResultTransactionBlock<T> {
         T execute();
     }
+
+    /**
+     * Callback invoked when a transaction has been committed, e.g. to notify other components about changes that are
+     * visible only once committed.
+     */
+    @FunctionalInterface
+    interface TransactionSynchronization {
+        void afterCommit();
+    }
 }
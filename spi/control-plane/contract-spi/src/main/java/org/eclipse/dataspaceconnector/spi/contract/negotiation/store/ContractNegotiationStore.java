@@ -22,6 +22,7 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.Cont
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -54,6 +55,14 @@ public interface ContractNegotiationStore extends StateEntityStore<ContractNegot
      */
     void save(ContractNegotiation negotiation);
 
+    /**
+     * Persists multiple contract negotiations, with the same semantics as {@link #save(ContractNegotiation)}.
+     * Implementations can override it to store them more efficiently than one by one.
+     */
+    default void saveAll(List<ContractNegotiation> negotiations) {
+        negotiations.forEach(this::save);
+    }
+
     /**
      * Removes a contract negotiation for the given id.
      */
@@ -21,6 +21,8 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDe
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Comparator;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -39,6 +41,20 @@ public interface ContractDefinitionService {
     @NotNull
     Stream<ContractDefinition> definitionsFor(ParticipantAgent agent, Range range);
 
+    /**
+     * Returns the definitions for the given participant agent that match the filter, ordered by id and starting at the
+     * definition with the given id, or at the first one if it is null. The filter is applied before the access policies
+     * are evaluated, and implementations should read the definitions and evaluate their access policies as the stream is
+     * consumed, so that the definitions that are not needed are neither read nor evaluated.
+     */
+    @NotNull
+    default Stream<ContractDefinition> definitionsFor(ParticipantAgent agent, @Nullable String fromId, Predicate<ContractDefinition> filter) {
+        return definitionsFor(agent, new Range(0, Integer.MAX_VALUE))
+                .filter(definition -> fromId == null || definition.getId().compareTo(fromId) >= 0)
+                .filter(filter)
+                .sorted(Comparator.comparing(ContractDefinition::getId));
+    }
+
     /**
      * Returns a contract definition for the agent associated with the given contract definition id. If the definition
      * does not exist or the agent is not authorized, the result will indicate the request is invalid.
@@ -27,6 +27,11 @@ public interface ContractOfferService {
 
     /**
      * Resolves contract offers.
+     * <p>
+     * The key of a contract offer, passed in {@link Range#getAfter()} to return the offers following it, is made of the
+     * id of the offer and the id of its asset.
+     *
+     * @throws IllegalArgumentException if the key of the range is malformed.
      */
     @NotNull
     Stream<ContractOffer> queryContractOffers(ContractOfferQuery query, Range range);
@@ -24,12 +24,6 @@ public interface DataPlaneTransferConstants {
      */
     String HTTP_PROXY = "HttpProxy";
 
-    /**
-     * Claim of the token used in input of Data Plane public API containing the address of the
-     * data source as an encrypted string.
-     */
-    String DATA_ADDRESS = "dad";
-
     /**
      * Claim of the token used in input of Data Plane public API containing the contract id.
      */
@@ -19,6 +19,7 @@ import org.eclipse.dataspaceconnector.spi.query.QuerySpec;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -48,6 +49,13 @@ public interface TransferProcessStore extends StateEntityStore<TransferProcess>
      */
     void update(TransferProcess process);
 
+    /**
+     * Updates multiple transfer processes. Implementations can override it to store them more efficiently than one by one.
+     */
+    default void updateAll(List<TransferProcess> processes) {
+        processes.forEach(this::update);
+    }
+
     /**
      * Deletes a transfer process.
      */
@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.dataplane.spi;
+
+/**
+ * Constants shared by the Data Plane and the components issuing the tokens it accepts.
+ */
+public interface DataPlaneConstants {
+    /**
+     * Claim of the token used in input of Data Plane public API containing the address of the
+     * data source as an encrypted string.
+     */
+    String DATA_ADDRESS = "dad";
+}
@@ -35,8 +35,11 @@ public interface DataPlaneManager {
 
     /**
      * Initiates a transfer for the data flow request. This method is non-blocking with respect to processing the request.
+     *
+     * @return a failure with {@link org.eclipse.dataspaceconnector.spi.response.ResponseStatus#ERROR_RETRY} if the request
+     *         could not be accepted because the data plane is saturated, in which case it can be submitted again later.
      */
-    void initiateTransfer(DataFlowRequest dataRequest);
+    StatusResult<Void> initiateTransfer(DataFlowRequest dataRequest);
 
     /**
      * Performs a data transfer using the supplied data source.
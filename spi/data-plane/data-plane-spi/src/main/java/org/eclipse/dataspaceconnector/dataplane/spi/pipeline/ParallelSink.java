@@ -68,10 +68,19 @@ public abstract class ParallelSink implements DataSink {
 
     @NotNull
     private CompletableFuture<StatusResult<Void>> processPartsAsync(List<DataSource.Part> parts, TraceCarrier traceCarrier) {
-        Supplier<StatusResult<Void>> supplier = () -> transferParts(parts);
+        Supplier<StatusResult<Void>> supplier = () -> {
+            try {
+                return transferParts(parts);
+            } finally {
+                parts.forEach(this::closeQuietly);
+            }
+        };
         return supplyAsync(telemetry.contextPropagationMiddleware(supplier, traceCarrier), executorService);
     }
 
+    /**
+     * Transfers the parts, they are closed by the sink once this method returns, so implementations do not need to.
+     */
     protected abstract StatusResult<Void> transferParts(List<DataSource.Part> parts);
 
     /**
@@ -85,6 +94,14 @@ public abstract class ParallelSink implements DataSink {
         return StatusResult.success();
     }
 
+    private void closeQuietly(DataSource.Part part) {
+        try {
+            part.close();
+        } catch (Exception e) {
+            monitor.debug("Error closing part " + part.name() + ": " + e.getMessage());
+        }
+    }
+
     protected abstract static class Builder<B extends Builder<B, T>, T extends ParallelSink> {
         protected T sink;
 
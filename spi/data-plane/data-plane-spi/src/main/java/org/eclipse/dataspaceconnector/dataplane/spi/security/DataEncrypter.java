@@ -12,7 +12,7 @@
  *
  */
 
-package org.eclipse.dataspaceconnector.transfer.dataplane.spi.security;
+package org.eclipse.dataspaceconnector.dataplane.spi.security;
 
 /**
  * Interface for encryption/decryption of sensible data.
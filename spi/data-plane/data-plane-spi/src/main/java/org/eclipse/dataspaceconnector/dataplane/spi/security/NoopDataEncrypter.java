@@ -12,9 +12,7 @@
  *
  */
 
-package org.eclipse.dataspaceconnector.transfer.dataplane.sync.security;
-
-import org.eclipse.dataspaceconnector.transfer.dataplane.spi.security.DataEncrypter;
+package org.eclipse.dataspaceconnector.dataplane.spi.security;
 
 /**
  * No-op implementation of {@link DataEncrypter}.
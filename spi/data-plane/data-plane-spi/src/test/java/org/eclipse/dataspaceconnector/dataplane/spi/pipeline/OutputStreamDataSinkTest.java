@@ -22,10 +22,13 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class OutputStreamDataSinkTest {
     private ExecutorService executor;
@@ -44,6 +47,17 @@ class OutputStreamDataSinkTest {
         assertThat(stream.toByteArray()).isEqualTo(data);
     }
 
+    @Test
+    void transfer_shouldClosePartsOnceTransferred() throws Exception {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream("bar".getBytes()));
+        var dataSink = new OutputStreamDataSink(new ByteArrayOutputStream(), executor, monitor);
+
+        dataSink.transfer(() -> Stream.of(part)).get(30, SECONDS);
+
+        verify(part).close();
+    }
+
     @BeforeEach
     void setUp() {
         executor = Executors.newFixedThreadPool(2);
@@ -37,9 +37,18 @@ public class CacheConfiguration {
     static final String NUM_CRAWLER_SETTING = "edc.catalog.cache.partition.num.crawlers";
     @EdcSetting("The initial delay for the cache crawler engine")
     static final String EXECUTION_PLAN_DELAY_SECONDS = "edc.catalog.cache.execution.delay.seconds";
+    @EdcSetting("The number of times a node is crawled again after a failure, before it is skipped until the next crawl run")
+    static final String MAX_RETRIES_SETTING = "edc.catalog.cache.crawler.max.retries";
+    @EdcSetting("The delay before the first retry of a failed crawl. It doubles with every retry, and a random jitter is applied")
+    static final String RETRY_DELAY_SECONDS = "edc.catalog.cache.crawler.retry.delay.seconds";
+    @EdcSetting("The maximum delay between two retries of a failed crawl")
+    static final String RETRY_MAX_DELAY_SECONDS = "edc.catalog.cache.crawler.retry.max.delay.seconds";
     private static final int DEFAULT_EXECUTION_PERIOD_SECONDS = 60;
     private static final int LOW_EXECUTION_PERIOD_SECONDS_THRESHOLD = 10;
     private static final int DEFAULT_NUMBER_OF_CRAWLERS = 2;
+    private static final int DEFAULT_MAX_RETRIES = 7;
+    private static final int DEFAULT_RETRY_DELAY_SECONDS = 5;
+    private static final int DEFAULT_RETRY_MAX_DELAY_SECONDS = 60;
 
     private final ServiceExtensionContext context;
 
@@ -51,6 +60,22 @@ public class CacheConfiguration {
         return context.getSetting(NUM_CRAWLER_SETTING, DEFAULT_NUMBER_OF_CRAWLERS);
     }
 
+    public int getMaxRetries() {
+        return context.getSetting(MAX_RETRIES_SETTING, DEFAULT_MAX_RETRIES);
+    }
+
+    public Duration getRetryDelay() {
+        return Duration.ofSeconds(context.getSetting(RETRY_DELAY_SECONDS, DEFAULT_RETRY_DELAY_SECONDS));
+    }
+
+    public Duration getRetryMaxDelay() {
+        return Duration.ofSeconds(context.getSetting(RETRY_MAX_DELAY_SECONDS, DEFAULT_RETRY_MAX_DELAY_SECONDS));
+    }
+
+    public Duration getExecutionPeriod() {
+        return Duration.ofSeconds(context.getSetting(EXECUTION_PLAN_PERIOD_SECONDS, DEFAULT_EXECUTION_PERIOD_SECONDS));
+    }
+
     public ExecutionPlan getExecutionPlan() {
         var periodSeconds = context.getSetting(EXECUTION_PLAN_PERIOD_SECONDS, DEFAULT_EXECUTION_PERIOD_SECONDS);
         var setting = context.getSetting(EXECUTION_PLAN_DELAY_SECONDS, null);
@@ -30,6 +30,17 @@ public interface FederatedCacheStore {
      */
     void save(ContractOffer asset);
 
+    /**
+     * Saves the complete catalog of a node. Stores may replace the {@link ContractOffer}s previously saved for the node
+     * in one step, the default implementation saves them one by one.
+     *
+     * @param originator     The node the catalog comes from
+     * @param contractOffers All the offers of the node's catalog
+     */
+    default void saveAll(String originator, Collection<ContractOffer> contractOffers) {
+        contractOffers.forEach(this::save);
+    }
+
     /**
      * Queries the store for {@link ContractOffer}s
      *
@@ -19,6 +19,8 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -49,6 +51,13 @@ class CacheConfigurationTest {
         verify(monitorMock).warning(startsWith("An execution period of 9 seconds is very low "));
     }
 
+    @Test
+    void getExecutionPeriod() {
+        when(context.getSetting(eq(CacheConfiguration.EXECUTION_PLAN_PERIOD_SECONDS), eq(60))).thenReturn(30);
+
+        assertThat(configuration.getExecutionPeriod()).isEqualTo(Duration.ofSeconds(30));
+    }
+
     @Test
     void getNumCrawlers() {
         configuration.getNumCrawlers();
@@ -56,4 +65,15 @@ class CacheConfigurationTest {
         when(context.getSetting(eq(CacheConfiguration.NUM_CRAWLER_SETTING), eq(2))).thenReturn(9);
         assertThat(configuration.getNumCrawlers()).isEqualTo(9);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getRetrySettings() {
+        when(context.getSetting(eq(CacheConfiguration.MAX_RETRIES_SETTING), eq(7))).thenReturn(3);
+        when(context.getSetting(eq(CacheConfiguration.RETRY_DELAY_SECONDS), eq(5))).thenReturn(1);
+        when(context.getSetting(eq(CacheConfiguration.RETRY_MAX_DELAY_SECONDS), eq(60))).thenReturn(30);
+
+        assertThat(configuration.getMaxRetries()).isEqualTo(3);
+        assertThat(configuration.getRetryDelay()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(configuration.getRetryMaxDelay()).isEqualTo(Duration.ofSeconds(30));
+    }
+}
@@ -14,6 +14,7 @@
 
 plugins {
     `java-library`
+    id("me.champeau.jmh")
 }
 val postgresVersion: String by project
 
@@ -23,4 +24,12 @@ dependencies {
     implementation(project(":extensions:common:sql:pool:apache-commons-pool-sql"))
     implementation(project(":extensions:common:transaction:transaction-local"))
     implementation("org.postgresql:postgresql:${postgresVersion}")
+
+    jmhImplementation(project(":extensions:control-plane:store:sql:contract-negotiation-store-sql"))
+    jmhImplementation(project(":extensions:control-plane:store:sql:transfer-process-store-sql"))
+    jmhImplementation(testFixtures(project(":common:util")))
+}
+
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
 }
@@ -50,6 +50,7 @@ dependencies {
 
     testCompileOnly(project(":system-tests:runtimes:file-transfer-provider"))
     testCompileOnly(project(":system-tests:runtimes:file-transfer-consumer"))
+    testCompileOnly(project(":system-tests:e2e-transfer-test:data-plane"))
 }
 
 tasks.withType<Test> {
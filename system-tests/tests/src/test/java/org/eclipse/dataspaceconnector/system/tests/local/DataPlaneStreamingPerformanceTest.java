@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system.tests.local;
+
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.dataspaceconnector.common.util.junit.annotations.EndToEndTest;
+import org.eclipse.dataspaceconnector.common.util.junit.annotations.PerformanceTest;
+import org.eclipse.dataspaceconnector.junit.extensions.EdcRuntimeExtension;
+import org.eclipse.dataspaceconnector.spi.monitor.ConsoleMonitor;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.HttpDataAddress;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.system.tests.local.DataPlaneStreamingSimulation.BACKEND_PORT;
+import static org.eclipse.dataspaceconnector.system.tests.local.DataPlaneStreamingSimulation.DATA_PLANE_CONTROL_PATH;
+import static org.eclipse.dataspaceconnector.system.tests.local.DataPlaneStreamingSimulation.DATA_PLANE_CONTROL_PORT;
+import static org.eclipse.dataspaceconnector.system.tests.local.DataPlaneStreamingSimulation.DATA_PLANE_PUBLIC_PATH;
+import static org.eclipse.dataspaceconnector.system.tests.local.DataPlaneStreamingSimulation.DATA_PLANE_PUBLIC_PORT;
+import static org.eclipse.dataspaceconnector.system.tests.local.DataPlaneStreamingSimulation.DESCRIPTION;
+import static org.eclipse.dataspaceconnector.system.tests.local.DataPlaneStreamingSimulation.PAYLOAD_SIZE;
+import static org.eclipse.dataspaceconnector.system.tests.utils.GatlingUtils.runGatling;
+
+/**
+ * Runs the {@link DataPlaneStreamingSimulation} against a data plane pulling a large binary payload from a backend,
+ * and reports the peak heap usage observed during the run.
+ */
+@EndToEndTest
+@PerformanceTest
+public class DataPlaneStreamingPerformanceTest {
+
+    private static final String BACKEND_URL = "http://localhost:" + BACKEND_PORT;
+    private static final Monitor MONITOR = new ConsoleMonitor(DataPlaneStreamingPerformanceTest.class.getSimpleName(), ConsoleMonitor.Level.INFO);
+
+    @RegisterExtension
+    protected static EdcRuntimeExtension dataPlane = new EdcRuntimeExtension(
+            ":system-tests:e2e-transfer-test:data-plane",
+            "data-plane",
+            Map.of(
+                    "web.http.public.port", String.valueOf(DATA_PLANE_PUBLIC_PORT),
+                    "web.http.public.path", DATA_PLANE_PUBLIC_PATH,
+                    "web.http.control.port", String.valueOf(DATA_PLANE_CONTROL_PORT),
+                    "web.http.control.path", DATA_PLANE_CONTROL_PATH,
+                    "edc.dataplane.token.validation.endpoint", BACKEND_URL + "/token"));
+
+    private static HttpServer backend;
+
+    @BeforeAll
+    static void startBackend() throws IOException {
+        var sourceAddress = HttpDataAddress.Builder.newInstance().baseUrl(BACKEND_URL + "/data").build();
+        var tokenResponse = new TypeManager().writeValueAsString(sourceAddress).getBytes(StandardCharsets.UTF_8);
+        var chunk = new byte[64 * 1024];
+
+        backend = HttpServer.create(new InetSocketAddress(BACKEND_PORT), 0);
+        backend.setExecutor(Executors.newCachedThreadPool());
+        backend.createContext("/token", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, tokenResponse.length);
+            try (var body = exchange.getResponseBody()) {
+                body.write(tokenResponse);
+            }
+        });
+        backend.createContext("/data", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, PAYLOAD_SIZE);
+            try (var body = exchange.getResponseBody()) {
+                for (long written = 0; written < PAYLOAD_SIZE; written += chunk.length) {
+                    body.write(chunk, 0, (int) Math.min(chunk.length, PAYLOAD_SIZE - written));
+                }
+            }
+        });
+        backend.start();
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop(0);
+    }
+
+    @Test
+    void pullLargePayloads() {
+        var memory = ManagementFactory.getMemoryMXBean();
+        var baseline = memory.getHeapMemoryUsage().getUsed();
+        var peak = new AtomicLong(baseline);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max), 0, 50, TimeUnit.MILLISECONDS);
+
+        try {
+            runGatling(DataPlaneStreamingSimulation.class, DESCRIPTION);
+        } finally {
+            sampler.shutdownNow();
+        }
+
+        MONITOR.info(format("Payload size: %d MB, heap baseline: %d MB, heap peak: %d MB", PAYLOAD_SIZE >> 20, baseline >> 20, peak.get() >> 20));
+    }
+}
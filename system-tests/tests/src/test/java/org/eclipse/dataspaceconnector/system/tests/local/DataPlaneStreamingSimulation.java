@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2022 Amadeus
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Amadeus - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system.tests.local;
+
+import io.gatling.javaapi.core.Simulation;
+
+import static io.gatling.javaapi.core.CoreDsl.atOnceUsers;
+import static io.gatling.javaapi.core.CoreDsl.bodyLength;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+import static io.netty.handler.codec.http.HttpHeaderNames.AUTHORIZATION;
+import static org.eclipse.dataspaceconnector.common.configuration.ConfigurationFunctions.propOrEnv;
+import static org.eclipse.dataspaceconnector.junit.testfixtures.TestUtils.getFreePort;
+
+/**
+ * Pulls large payloads through the data plane public API, to measure the throughput of the streamed responses.
+ */
+public class DataPlaneStreamingSimulation extends Simulation {
+
+    public static final int DATA_PLANE_PUBLIC_PORT = getFreePort();
+    public static final int DATA_PLANE_CONTROL_PORT = getFreePort();
+    public static final String DATA_PLANE_PUBLIC_PATH = "/public";
+    public static final String DATA_PLANE_CONTROL_PATH = "/control";
+    public static final int BACKEND_PORT = getFreePort();
+    public static final long PAYLOAD_SIZE = Long.parseLong(propOrEnv("payload.size.mb", "100")) * 1024 * 1024;
+    public static final String DESCRIPTION = "[Data plane streaming] Pull large payloads through the data plane public API";
+
+    private static final int REPEAT = Integer.parseInt(propOrEnv("repeat", "1"));
+    private static final int AT_ONCE_USERS = Integer.parseInt(propOrEnv("at.once.users", "5"));
+    private static final int MAX_RESPONSE_TIME = Integer.parseInt(propOrEnv("max.response.time", "60000"));
+
+    public DataPlaneStreamingSimulation() {
+        setUp(scenario(DESCRIPTION)
+                .repeat(REPEAT)
+                .on(exec(http("Pull data")
+                        .get("/data")
+                        .header(AUTHORIZATION.toString(), "test-token")
+                        .check(status().is(200))
+                        .check(bodyLength().is((int) PAYLOAD_SIZE))))
+                .injectOpen(atOnceUsers(AT_ONCE_USERS)))
+                .protocols(http.baseUrl("http://localhost:" + DATA_PLANE_PUBLIC_PORT + DATA_PLANE_PUBLIC_PATH))
+                .assertions(
+                        global().successfulRequests().percent().is(100.0),
+                        global().responseTime().max().lt(MAX_RESPONSE_TIME)
+                );
+    }
+}